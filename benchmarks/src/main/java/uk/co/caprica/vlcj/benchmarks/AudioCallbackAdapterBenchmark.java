@@ -0,0 +1,82 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Memory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.co.caprica.vlcj.player.directaudio.DefaultAudioCallbackAdapter;
+import uk.co.caprica.vlcj.player.directaudio.DirectAudioPlayer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for copying decoded audio samples from native memory in {@link DefaultAudioCallbackAdapter}.
+ * <p>
+ * Samples are signed 16-bit stereo, the sample counts correspond to typical block sizes delivered by the native
+ * library.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AudioCallbackAdapterBenchmark {
+
+    private static final int BLOCK_SIZE = 4;
+
+    @Param({"441", "1024", "4096"})
+    public int sampleCount;
+
+    private Memory samples;
+
+    private DefaultAudioCallbackAdapter adapter;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        samples = new Memory(sampleCount * BLOCK_SIZE);
+        for (int i = 0; i < sampleCount * BLOCK_SIZE; i++) {
+            samples.setByte(i, (byte) i);
+        }
+        adapter = new DefaultAudioCallbackAdapter(BLOCK_SIZE) {
+            @Override
+            protected void onPlay(DirectAudioPlayer mediaPlayer, byte[] data, int sampleCount, long pts) {
+                blackhole.consume(data);
+            }
+        };
+    }
+
+    @Benchmark
+    public void play() {
+        adapter.play(null, samples, sampleCount, 0);
+    }
+
+}
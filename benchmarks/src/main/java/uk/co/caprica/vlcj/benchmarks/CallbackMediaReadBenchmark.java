@@ -0,0 +1,106 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Memory;
+import com.sun.jna.ptr.LongByReference;
+import com.sun.jna.ptr.PointerByReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.caprica.vlcj.binding.support.size_t;
+import uk.co.caprica.vlcj.callbackmedia.DefaultCallbackMedia;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reads of {@link DefaultCallbackMedia} via the native read callback, from an in-memory source so that
+ * only the cost of the callback and the copy into native memory is measured.
+ * <p>
+ * The native library typically requests reads of 32KB or more.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackMediaReadBenchmark {
+
+    @Param({"4096", "32768", "1048576"})
+    public int readSize;
+
+    private DefaultCallbackMedia media;
+
+    private Memory buffer;
+
+    private size_t length;
+
+    @Setup
+    public void setup() {
+        final byte[] source = new byte[readSize];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = (byte) i;
+        }
+        media = new DefaultCallbackMedia(false, readSize) {
+            @Override
+            protected int onRead(byte[] buffer, int bufferSize) {
+                System.arraycopy(source, 0, buffer, 0, bufferSize);
+                return bufferSize;
+            }
+
+            @Override
+            protected long onGetSize() {
+                return 0;
+            }
+
+            @Override
+            protected boolean onOpen() {
+                return true;
+            }
+
+            @Override
+            protected boolean onSeek(long offset) {
+                return false;
+            }
+
+            @Override
+            protected void onClose() {
+            }
+        };
+        buffer = new Memory(readSize);
+        length = new size_t(readSize);
+        media.getOpen().open(media.getOpaque(), new PointerByReference(), new LongByReference());
+    }
+
+    @Benchmark
+    public size_t read() {
+        return media.getRead().read(media.getOpaque(), buffer, length);
+    }
+
+}
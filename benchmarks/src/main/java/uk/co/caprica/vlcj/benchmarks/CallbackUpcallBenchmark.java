@@ -0,0 +1,205 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Callback;
+import com.sun.jna.CallbackReference;
+import com.sun.jna.Function;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_play_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_display_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_lock_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_player_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_unlock_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_video_format_cb;
+import uk.co.caprica.vlcj.player.direct.BufferFormat;
+import uk.co.caprica.vlcj.player.direct.DefaultDirectMediaPlayer;
+import uk.co.caprica.vlcj.player.direct.DirectMediaPlayer;
+import uk.co.caprica.vlcj.player.direct.RenderCallback;
+import uk.co.caprica.vlcj.player.directaudio.AudioCallbackAdapter;
+import uk.co.caprica.vlcj.player.directaudio.DefaultDirectAudioPlayer;
+import uk.co.caprica.vlcj.player.directaudio.DirectAudioPlayer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the overhead of the native callbacks invoked for each video frame and each block of audio samples.
+ * <p>
+ * The real media player callbacks are invoked through their native function pointers, exactly as LibVLC would invoke
+ * them, so the JNA callback marshalling is included. The application callbacks do nothing.
+ * <p>
+ * Invoking a native function pointer from Java has its own cost, "emptyUpcall" invokes a callback that does nothing in
+ * the same way, and should be subtracted from the other results to give the cost of the callbacks themselves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackUpcallBenchmark {
+
+    private final Memory planes = new Memory(3 * Native.POINTER_SIZE);
+
+    private final Memory samples = new Memory(4096);
+
+    private libvlc_video_format_cb setupCallback;
+
+    private libvlc_lock_callback_t lockCallback;
+
+    private libvlc_unlock_callback_t unlockCallback;
+
+    private libvlc_display_callback_t displayCallback;
+
+    private libvlc_audio_play_cb playCallback;
+
+    private final libvlc_display_callback_t emptyCallback = new libvlc_display_callback_t() {
+        @Override
+        public void display(Pointer opaque, Pointer picture) {
+        }
+    };
+
+    private Function lock;
+
+    private Function unlock;
+
+    private Function display;
+
+    private Function play;
+
+    private Function empty;
+
+    private Object[] lockArgs;
+
+    private Object[] unlockArgs;
+
+    private Object[] displayArgs;
+
+    private Object[] playArgs;
+
+    private DefaultDirectMediaPlayer videoPlayer;
+
+    private DefaultDirectAudioPlayer audioPlayer;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        StubLibVlc stub = new StubLibVlc() {
+            @Override
+            protected Object onInvoke(String name, Object[] args) {
+                if ("libvlc_media_player_new".equals(name)) {
+                    libvlc_media_player_t mediaPlayer = new libvlc_media_player_t();
+                    mediaPlayer.setPointer(new Memory(Native.POINTER_SIZE));
+                    return mediaPlayer;
+                } else if ("libvlc_video_set_format_callbacks".equals(name)) {
+                    setupCallback = (libvlc_video_format_cb) args[1];
+                } else if ("libvlc_video_set_callbacks".equals(name)) {
+                    lockCallback = (libvlc_lock_callback_t) args[1];
+                    unlockCallback = (libvlc_unlock_callback_t) args[2];
+                    displayCallback = (libvlc_display_callback_t) args[3];
+                } else if ("libvlc_audio_set_callbacks".equals(name)) {
+                    playCallback = (libvlc_audio_play_cb) args[1];
+                }
+                return null;
+            }
+        };
+        libvlc_instance_t instance = new libvlc_instance_t();
+        videoPlayer = new DefaultDirectMediaPlayer(stub.libvlc(), instance, "RV32", 1280, 720, 1280 * 4, new RenderCallback() {
+            @Override
+            public void display(DirectMediaPlayer mediaPlayer, ByteBuffer[] nativeBuffers, BufferFormat bufferFormat) {
+                blackhole.consume(nativeBuffers);
+            }
+        }, false);
+        audioPlayer = new DefaultDirectAudioPlayer(stub.libvlc(), instance, "S16N", 44100, 2, new AudioCallbackAdapter() {
+            @Override
+            public void play(DirectAudioPlayer mediaPlayer, Pointer samples, int sampleCount, long pts) {
+                blackhole.consume(samples);
+            }
+        });
+        formatVideo();
+        lock = function(lockCallback);
+        unlock = function(unlockCallback);
+        display = function(displayCallback);
+        play = function(playCallback);
+        empty = function(emptyCallback);
+        lockArgs = new Object[] {null, planes};
+        unlockArgs = new Object[] {null, null, planes};
+        displayArgs = new Object[] {null, null};
+        playArgs = new Object[] {null, samples, 1024, 0L};
+    }
+
+    @TearDown
+    public void tearDown() {
+        videoPlayer.release();
+        audioPlayer.release();
+    }
+
+    @Benchmark
+    public void emptyUpcall() {
+        empty.invokeVoid(displayArgs);
+    }
+
+    @Benchmark
+    public void videoFrame() {
+        lock.invokePointer(lockArgs);
+        unlock.invokeVoid(unlockArgs);
+        display.invokeVoid(displayArgs);
+    }
+
+    @Benchmark
+    public void audioBlock() {
+        play.invokeVoid(playArgs);
+    }
+
+    private void formatVideo() {
+        Memory chroma = new Memory(4);
+        Memory pitches = new Memory(3 * 4);
+        Memory lines = new Memory(3 * 4);
+        setupCallback.format(reference(new Memory(Native.POINTER_SIZE)), reference(chroma), new IntByReference(1280), new IntByReference(720), reference(pitches), reference(lines));
+    }
+
+    private static PointerByReference reference(Pointer pointer) {
+        PointerByReference result = new PointerByReference();
+        result.setPointer(pointer);
+        return result;
+    }
+
+    private static Function function(Callback callback) {
+        return Function.getFunction(CallbackReference.getFunctionPointer(callback));
+    }
+
+}
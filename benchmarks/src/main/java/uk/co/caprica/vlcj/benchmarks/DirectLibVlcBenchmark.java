@@ -0,0 +1,121 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Native;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.caprica.vlcj.binding.DirectLibVlc;
+import uk.co.caprica.vlcj.binding.LibVlc;
+import uk.co.caprica.vlcj.binding.RuntimeUtil;
+import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_player_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_stats_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
+import uk.co.caprica.vlcj.discovery.NativeDiscovery;
+import uk.co.caprica.vlcj.factory.NativeMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the per-call cost of the frequently polled native functions, with the interface mapping compared to
+ * the direct mapping provided by {@link DirectLibVlc}.
+ * <p>
+ * Unlike the other benchmarks this one needs LibVLC, the native functions are cheap accessors so the results are
+ * dominated by the cost of the binding rather than the native code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirectLibVlcBenchmark {
+
+    @Param({"INTERFACE", "DIRECT"})
+    public NativeMapping mapping;
+
+    private LibVlc libvlc;
+
+    private boolean direct;
+
+    private libvlc_instance_t instance;
+
+    private libvlc_media_player_t mediaPlayer;
+
+    private libvlc_media_t media;
+
+    private libvlc_media_stats_t stats;
+
+    @Setup
+    public void setup() {
+        new NativeDiscovery().discover();
+        String libraryName = RuntimeUtil.getLibVlcLibraryName();
+        libvlc = Native.load(libraryName, LibVlc.class);
+        direct = mapping == NativeMapping.DIRECT && DirectLibVlc.enable(libvlc, libraryName);
+        instance = libvlc.libvlc_new(0, new String[0]);
+        mediaPlayer = libvlc.libvlc_media_player_new(instance);
+        media = libvlc.libvlc_media_new_location(instance, "file:///dev/null");
+        stats = new libvlc_media_stats_t();
+    }
+
+    @TearDown
+    public void tearDown() {
+        libvlc.libvlc_media_release(media);
+        libvlc.libvlc_media_player_release(mediaPlayer);
+        libvlc.libvlc_release(instance);
+    }
+
+    @Benchmark
+    public long getTime() {
+        return direct ? DirectLibVlc.libvlc_media_player_get_time(mediaPlayer) : libvlc.libvlc_media_player_get_time(mediaPlayer);
+    }
+
+    @Benchmark
+    public float getPosition() {
+        return direct ? DirectLibVlc.libvlc_media_player_get_position(mediaPlayer) : libvlc.libvlc_media_player_get_position(mediaPlayer);
+    }
+
+    @Benchmark
+    public int isPlaying() {
+        return direct ? DirectLibVlc.libvlc_media_player_is_playing(mediaPlayer) : libvlc.libvlc_media_player_is_playing(mediaPlayer);
+    }
+
+    @Benchmark
+    public int getState() {
+        return direct ? DirectLibVlc.libvlc_media_player_get_state(mediaPlayer) : libvlc.libvlc_media_player_get_state(mediaPlayer);
+    }
+
+    @Benchmark
+    public int getStats() {
+        return direct ? DirectLibVlc.libvlc_media_get_stats(media, stats) : libvlc.libvlc_media_get_stats(media, stats);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Memory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+import uk.co.caprica.vlcj.player.MediaPlayerEventListener;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEvent;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventDispatcher;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decoding native media player events.
+ * <p>
+ * "structure" reads the native event via a JNA structure and creates an event object, "decode" creates the event object
+ * directly from native memory, and "dispatch" notifies a listener directly from native memory without creating any
+ * object.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MediaPlayerEventFactoryBenchmark {
+
+    @Param({"libvlc_MediaPlayerTimeChanged", "libvlc_MediaPlayerBuffering", "libvlc_MediaPlayerVout", "libvlc_MediaPlayerPlaying"})
+    public libvlc_event_e eventType;
+
+    private Memory event;
+
+    private int type;
+
+    private List<MediaPlayerEventListener> listeners;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        type = eventType.intValue();
+        event = new Memory(libvlc_event_t.SIZE);
+        event.clear();
+        event.setInt(libvlc_event_t.TYPE_OFFSET, type);
+        event.setLong(libvlc_event_t.U_OFFSET, 12345L);
+        listeners = Collections.<MediaPlayerEventListener>singletonList(new MediaPlayerEventAdapter() {
+            @Override
+            public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+                blackhole.consume(newTime);
+            }
+
+            @Override
+            public void buffering(MediaPlayer mediaPlayer, float newCache) {
+                blackhole.consume(newCache);
+            }
+
+            @Override
+            public void videoOutput(MediaPlayer mediaPlayer, int newCount) {
+                blackhole.consume(newCount);
+            }
+        });
+    }
+
+    @Benchmark
+    public MediaPlayerEvent structure() {
+        return MediaPlayerEventFactory.createEvent(null, new libvlc_event_t(event));
+    }
+
+    @Benchmark
+    public MediaPlayerEvent decode() {
+        return MediaPlayerEventFactory.createEvent(null, type, event);
+    }
+
+    @Benchmark
+    public boolean dispatch() {
+        return MediaPlayerEventDispatcher.dispatchEvent(null, type, event, listeners);
+    }
+
+}
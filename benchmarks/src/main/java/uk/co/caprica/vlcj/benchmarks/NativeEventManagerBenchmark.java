@@ -0,0 +1,164 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.co.caprica.vlcj.binding.LibVlc;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_manager_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
+import uk.co.caprica.vlcj.eventmanager.DefaultEventMetrics;
+import uk.co.caprica.vlcj.eventmanager.EventNotification;
+import uk.co.caprica.vlcj.eventmanager.NativeEventManager;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+import uk.co.caprica.vlcj.player.MediaPlayerEventListener;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventDispatcher;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the {@link NativeEventManager} dispatch of a native event to listeners, from the native callback to the
+ * last listener returning.
+ * <p>
+ * The time changed event takes the allocation-free primitive path, the media changed event takes the structure path,
+ * and the "monitored" variants have event metrics enabled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeEventManagerBenchmark {
+
+    @Param({"1", "8"})
+    public int listenerCount;
+
+    private BenchmarkEventManager eventManager;
+
+    private Memory timeChanged;
+
+    private Memory mediaChanged;
+
+    private Blackhole blackhole;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        eventManager = new BenchmarkEventManager(new StubLibVlc() {}.libvlc());
+        for (int i = 0; i < listenerCount; i++) {
+            eventManager.addEventListener(new BenchmarkListener());
+        }
+        timeChanged = new Memory(libvlc_event_t.SIZE);
+        timeChanged.clear();
+        timeChanged.setInt(libvlc_event_t.TYPE_OFFSET, libvlc_event_e.libvlc_MediaPlayerTimeChanged.intValue());
+        timeChanged.setLong(libvlc_event_t.U_OFFSET, 123456L);
+        mediaChanged = new Memory(libvlc_event_t.SIZE);
+        mediaChanged.clear();
+        mediaChanged.setInt(libvlc_event_t.TYPE_OFFSET, libvlc_event_e.libvlc_MediaPlayerMediaChanged.intValue());
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventManager.release();
+    }
+
+    @Benchmark
+    public void timeChanged() {
+        eventManager.setEventMetrics(null);
+        eventManager.replayNativeEvent(timeChanged);
+    }
+
+    @Benchmark
+    public void mediaChanged() {
+        eventManager.setEventMetrics(null);
+        eventManager.replayNativeEvent(mediaChanged);
+    }
+
+    @Benchmark
+    public void timeChangedMonitored() {
+        eventManager.setEventMetrics(eventManager.metrics);
+        eventManager.replayNativeEvent(timeChanged);
+    }
+
+    /**
+     * Media player event manager equivalent, with no media player.
+     */
+    private static final class BenchmarkEventManager extends NativeEventManager<MediaPlayer, MediaPlayerEventListener> {
+
+        private final DefaultEventMetrics metrics = new DefaultEventMetrics();
+
+        private BenchmarkEventManager(LibVlc libvlc) {
+            super(libvlc, null, libvlc_event_e.libvlc_MediaPlayerMediaChanged, libvlc_event_e.libvlc_MediaPlayerChapterChanged, "benchmark-events");
+        }
+
+        @Override
+        protected libvlc_event_manager_t onGetEventManager(LibVlc libvlc, MediaPlayer eventObject) {
+            return null;
+        }
+
+        @Override
+        protected EventNotification<MediaPlayerEventListener> onCreateEvent(LibVlc libvlc, libvlc_event_t event, MediaPlayer eventObject) {
+            return MediaPlayerEventFactory.createEvent(eventObject, event);
+        }
+
+        @Override
+        protected EventNotification<MediaPlayerEventListener> onDecodeEvent(LibVlc libvlc, int type, Pointer event, MediaPlayer eventObject) {
+            return MediaPlayerEventFactory.createEvent(eventObject, type, event);
+        }
+
+        @Override
+        protected boolean onDispatchEvent(int type, Pointer event, MediaPlayer eventObject, List<MediaPlayerEventListener> listeners) {
+            return MediaPlayerEventDispatcher.dispatchEvent(eventObject, type, event, listeners);
+        }
+    }
+
+    private final class BenchmarkListener extends MediaPlayerEventAdapter {
+
+        @Override
+        public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+            blackhole.consume(newTime);
+        }
+
+        @Override
+        public void mediaChanged(MediaPlayer mediaPlayer, libvlc_media_t media) {
+            blackhole.consume(media);
+        }
+    }
+
+}
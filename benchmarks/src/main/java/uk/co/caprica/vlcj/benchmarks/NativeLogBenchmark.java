@@ -0,0 +1,126 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Memory;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.co.caprica.vlcj.binding.internal.libvlc_log_cb;
+import uk.co.caprica.vlcj.enums.LogLevel;
+import uk.co.caprica.vlcj.log.LogEventListener;
+import uk.co.caprica.vlcj.log.NativeLog;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for formatting and dispatching a native log message in {@link NativeLog}, from the native log callback to
+ * the listener, and for rejecting messages by log level and by module before they are formatted.
+ * <p>
+ * The message format has no conversions, so the native argument list is just an empty (zeroed) block large enough for
+ * a platform va_list - the C library still copies it - but the message is formatted by the native C library exactly
+ * as a real message would be.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeLogBenchmark {
+
+    private final Memory format = StubLibVlc.nativeString("using video decoder module \"avcodec\" for stream 0 with 4 threads");
+
+    private final Memory module = StubLibVlc.nativeString("avcodec");
+
+    private final Memory file = StubLibVlc.nativeString("modules/codec/avcodec/video.c");
+
+    private final Memory name = StubLibVlc.nativeString("decoder");
+
+    private final Memory vaList = new Memory(64);
+
+    private NativeLog nativeLog;
+
+    private libvlc_log_cb callback;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        vaList.clear();
+        nativeLog = new NativeLog(new StubLibVlc() {
+            @Override
+            protected Object onInvoke(String function, Object[] args) {
+                if ("libvlc_log_set".equals(function)) {
+                    callback = (libvlc_log_cb) args[1];
+                } else if ("libvlc_log_get_context".equals(function)) {
+                    ((PointerByReference) args[1]).setValue(module);
+                    ((PointerByReference) args[2]).setValue(file);
+                    ((IntByReference) args[3]).setValue(123);
+                } else if ("libvlc_log_get_object".equals(function)) {
+                    ((PointerByReference) args[1]).setValue(name);
+                    ((IntByReference) args[3]).setValue(1);
+                }
+                return null;
+            }
+        }.libvlc(), null);
+        nativeLog.setLevel(LogLevel.DEBUG);
+        nativeLog.addLogListener(new LogEventListener() {
+            @Override
+            public void log(LogLevel level, String module, String file, Integer line, String name, String header, Integer id, String message) {
+                blackhole.consume(message);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        nativeLog.release();
+    }
+
+    @Benchmark
+    public void logged() {
+        callback.log(null, LogLevel.DEBUG.intValue(), null, format, vaList);
+    }
+
+    @Benchmark
+    public void filtered() {
+        nativeLog.setLevel(LogLevel.ERROR);
+        callback.log(null, LogLevel.DEBUG.intValue(), null, format, vaList);
+        nativeLog.setLevel(LogLevel.DEBUG);
+    }
+
+    @Benchmark
+    public void moduleFiltered() {
+        nativeLog.setModuleLevel("avcodec", LogLevel.ERROR);
+        callback.log(null, LogLevel.DEBUG.intValue(), null, format, vaList);
+        nativeLog.removeModuleLevel("avcodec");
+    }
+
+}
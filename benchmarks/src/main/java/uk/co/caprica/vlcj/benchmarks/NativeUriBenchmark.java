@@ -0,0 +1,59 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.caprica.vlcj.binding.NativeUri;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link NativeUri#encodeUri(String)}, invoked for every MRL passed to the native library.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeUriBenchmark {
+
+    /**
+     * Plain ASCII URL (the common case, no encoding), local file with Unicode characters (encoded), URL with Unicode
+     * characters (not encoded).
+     */
+    @Param({"http://www.example.com/videos/trailer.mp4", "/home/user/Vid\u00e9os/d\u00e9j\u00e0 vu.mkv", "http://www.example.com/vid\u00e9os/d\u00e9j\u00e0.mp4"})
+    public String mrl;
+
+    @Benchmark
+    public String encodeUri() {
+        return NativeUri.encodeUri(mrl);
+    }
+
+}
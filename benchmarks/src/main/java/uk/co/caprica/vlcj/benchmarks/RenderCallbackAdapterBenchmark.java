@@ -0,0 +1,88 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.co.caprica.vlcj.player.direct.BufferFormat;
+import uk.co.caprica.vlcj.player.direct.DirectMediaPlayer;
+import uk.co.caprica.vlcj.player.direct.RenderCallbackAdapter;
+import uk.co.caprica.vlcj.player.direct.format.RV32BufferFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for copying a rendered RV32 video frame from native memory in {@link RenderCallbackAdapter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderCallbackAdapterBenchmark {
+
+    @Param({"640x360", "1280x720", "1920x1080"})
+    public String size;
+
+    private ByteBuffer[] nativeBuffers;
+
+    private BufferFormat bufferFormat;
+
+    private RenderCallbackAdapter adapter;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        bufferFormat = new RV32BufferFormat(width, height);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4).order(ByteOrder.nativeOrder());
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) buffer.position());
+        }
+        buffer.clear();
+        nativeBuffers = new ByteBuffer[] {buffer};
+        adapter = new RenderCallbackAdapter(new int[width * height]) {
+            @Override
+            protected void onDisplay(DirectMediaPlayer mediaPlayer, int[] rgbBuffer) {
+                blackhole.consume(rgbBuffer);
+            }
+        };
+    }
+
+    @Benchmark
+    public void display() {
+        adapter.display(null, nativeBuffers, bufferFormat);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Memory;
+import uk.co.caprica.vlcj.binding.LibVlc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Base class for stub native library implementations used by benchmarks that do not need LibVLC.
+ * <p>
+ * Sub-classes implement only the functions needed by a particular benchmark, every other function does nothing and
+ * returns a zero or <code>null</code> value.
+ */
+public abstract class StubLibVlc implements InvocationHandler {
+
+    /**
+     * Create a native library instance that delegates to this stub.
+     *
+     * @return native library
+     */
+    public final LibVlc libvlc() {
+        return (LibVlc) Proxy.newProxyInstance(LibVlc.class.getClassLoader(), new Class<?>[] {LibVlc.class}, this);
+    }
+
+    @Override
+    public final Object invoke(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class) {
+            if ("equals".equals(method.getName())) {
+                return proxy == args[0];
+            } else if ("hashCode".equals(method.getName())) {
+                return System.identityHashCode(proxy);
+            } else {
+                return getClass().getSimpleName();
+            }
+        }
+        Object result = onInvoke(method.getName(), args);
+        return result != null ? result : defaultValue(method.getReturnType());
+    }
+
+    /**
+     * Invoke a stubbed native function.
+     *
+     * @param name name of the function
+     * @param args function arguments, may be <code>null</code>
+     * @return function result, or <code>null</code> for the default value for the return type
+     */
+    protected Object onInvoke(String name, Object[] args) {
+        return null;
+    }
+
+    /**
+     * Allocate native memory containing a NUL-terminated string.
+     *
+     * @param value string value
+     * @return native memory
+     */
+    public static Memory nativeString(String value) {
+        byte[] bytes = value.getBytes();
+        Memory memory = new Memory(bytes.length + 1);
+        memory.write(0, bytes, 0, bytes.length);
+        memory.setByte(bytes.length, (byte) 0);
+        return memory;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0.0f;
+        } else if (type == boolean.class) {
+            return false;
+        } else {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.benchmarks;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.ptr.PointerByReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.caprica.vlcj.binding.LibVlc;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_track_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_track_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_track_u;
+import uk.co.caprica.vlcj.binding.internal.libvlc_subtitle_track_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_video_track_t;
+import uk.co.caprica.vlcj.enums.TrackType;
+import uk.co.caprica.vlcj.media.InfoService;
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.model.TrackInfo;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decoding native track information, via {@link InfoService#tracks(TrackType...)}.
+ * <p>
+ * The native track array is synthesised in native memory, one video track, two audio tracks and two subtitle tracks -
+ * a typical film.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrackInformationBenchmark {
+
+    private final libvlc_media_t media = new libvlc_media_t();
+
+    private libvlc_media_track_t[] tracks;
+
+    private Memory trackArray;
+
+    private InfoService info;
+
+    @Setup
+    public void setup() {
+        tracks = new libvlc_media_track_t[] {
+            videoTrack(0, 1920, 1080),
+            audioTrack(1, "en"),
+            audioTrack(2, "fr"),
+            subtitleTrack(3, "en"),
+            subtitleTrack(4, "fr")
+        };
+        trackArray = new Memory((long) tracks.length * Native.POINTER_SIZE);
+        for (int i = 0; i < tracks.length; i++) {
+            trackArray.setPointer((long) i * Native.POINTER_SIZE, tracks[i].getPointer());
+        }
+        LibVlc libvlc = new StubLibVlc() {
+            @Override
+            protected Object onInvoke(String name, Object[] args) {
+                if ("libvlc_media_tracks_get".equals(name)) {
+                    ((PointerByReference) args[1]).setValue(trackArray);
+                    return tracks.length;
+                } else if ("libvlc_media_get_codec_description".equals(name)) {
+                    return "H264 - MPEG-4 AVC (part 10)";
+                } else {
+                    return null;
+                }
+            }
+        }.libvlc();
+        info = new Media(libvlc, media).info();
+    }
+
+    @Benchmark
+    public List<? extends TrackInfo> allTracks() {
+        return info.tracks();
+    }
+
+    @Benchmark
+    public List<? extends TrackInfo> videoTracks() {
+        return info.tracks(TrackType.VIDEO);
+    }
+
+    private static libvlc_media_track_t videoTrack(int id, int width, int height) {
+        libvlc_media_track_t track = track(id, TrackType.VIDEO, "und");
+        track.u.setType(libvlc_video_track_t.class);
+        track.u.video.i_width = width;
+        track.u.video.i_height = height;
+        track.u.video.i_sar_num = 1;
+        track.u.video.i_sar_den = 1;
+        track.u.video.i_frame_rate_num = 24000;
+        track.u.video.i_frame_rate_den = 1001;
+        track.write();
+        return track;
+    }
+
+    private static libvlc_media_track_t audioTrack(int id, String language) {
+        libvlc_media_track_t track = track(id, TrackType.AUDIO, language);
+        track.u.setType(libvlc_audio_track_t.class);
+        track.u.audio.i_channels = 6;
+        track.u.audio.i_rate = 48000;
+        track.write();
+        return track;
+    }
+
+    private static libvlc_media_track_t subtitleTrack(int id, String language) {
+        libvlc_media_track_t track = track(id, TrackType.TEXT, language);
+        track.u.setType(libvlc_subtitle_track_t.class);
+        track.u.subtitle.psz_encoding = StubLibVlc.nativeString("UTF-8");
+        track.write();
+        return track;
+    }
+
+    private static libvlc_media_track_t track(int id, TrackType type, String language) {
+        libvlc_media_track_t track = new libvlc_media_track_t();
+        track.i_codec = 0x34363248;
+        track.i_original_fourcc = 0x34363248;
+        track.i_id = id;
+        track.i_type = type.intValue();
+        track.i_bitrate = 128000;
+        track.psz_language = StubLibVlc.nativeString(language);
+        track.psz_description = StubLibVlc.nativeString("Track " + id);
+        track.u = new libvlc_media_track_u.ByReference();
+        return track;
+    }
+
+}
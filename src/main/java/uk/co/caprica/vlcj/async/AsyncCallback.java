@@ -0,0 +1,49 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.async;
+
+/**
+ * Specification for a component that is notified when an {@link AsyncResult} completes.
+ * <p>
+ * Notifications are generally raised on a native event thread, so implementations must return quickly, must never
+ * block, and must not call back into the native library.
+ *
+ * @param <T> type of result
+ */
+public interface AsyncCallback<T> {
+
+    /**
+     * The operation completed successfully.
+     *
+     * @param result result
+     */
+    void completed(T result);
+
+    /**
+     * The operation failed, timed out or was cancelled.
+     * <p>
+     * A time-out is reported by a {@link java.util.concurrent.TimeoutException}, and cancellation by a
+     * {@link java.util.concurrent.CancellationException}.
+     *
+     * @param cause cause of the failure
+     */
+    void failed(Throwable cause);
+
+}
@@ -0,0 +1,334 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The pending result of an asynchronous operation.
+ * <p>
+ * A result is completed exactly once, either with a value or with a failure. Completion is usually triggered by a native
+ * event, so no thread is consumed while waiting - unless an application chooses to block via {@link #get()}.
+ * <p>
+ * Callbacks may be added via {@link #addCallback(AsyncCallback)}. A callback added after completion is invoked
+ * immediately on the calling thread, otherwise it is invoked on whichever thread completes the result - generally a
+ * native event thread.
+ * <p>
+ * A time-out may be set via {@link #timeout(long, TimeUnit)}, and a pending result may be cancelled via
+ * {@link #cancel(boolean)} - in both cases the component that would have completed the result stops waiting for it.
+ *
+ * @param <T> type of result
+ */
+public class AsyncResult<T> implements Future<T> {
+
+    /**
+     * Lazily created scheduler used for time-outs, a single daemon thread shared by all results.
+     */
+    private static ScheduledExecutorService timeoutScheduler;
+
+    /**
+     * Flag tracking whether or not this result is complete.
+     */
+    private boolean done;
+
+    /**
+     * Result value, if completed successfully.
+     */
+    private T value;
+
+    /**
+     * Cause of failure, if completed unsuccessfully.
+     */
+    private Throwable failure;
+
+    /**
+     * Callbacks waiting for completion, <code>null</code> once complete.
+     */
+    private List<AsyncCallback<? super T>> callbacks = new ArrayList<AsyncCallback<? super T>>(2);
+
+    /**
+     * Pending time-out, if any.
+     */
+    private ScheduledFuture<?> timeoutFuture;
+
+    /**
+     * Task for the pending time-out, if any.
+     */
+    private TimeoutTask timeoutTask;
+
+    /**
+     * Create a result that is already complete.
+     *
+     * @param value result value
+     * @param <T> type of result
+     * @return completed result
+     */
+    public static <T> AsyncResult<T> completed(T value) {
+        AsyncResult<T> result = new AsyncResult<T>();
+        result.complete(value);
+        return result;
+    }
+
+    /**
+     * Create a result that has already failed.
+     *
+     * @param cause cause of failure
+     * @param <T> type of result
+     * @return failed result
+     */
+    public static <T> AsyncResult<T> failed(Throwable cause) {
+        AsyncResult<T> result = new AsyncResult<T>();
+        result.fail(cause);
+        return result;
+    }
+
+    /**
+     * Complete this result successfully.
+     *
+     * @param value result value
+     * @return <code>true</code> if this invocation completed the result; <code>false</code> if it was already complete
+     */
+    public final boolean complete(T value) {
+        return finish(value, null);
+    }
+
+    /**
+     * Complete this result unsuccessfully.
+     *
+     * @param cause cause of failure
+     * @return <code>true</code> if this invocation completed the result; <code>false</code> if it was already complete
+     */
+    public final boolean fail(Throwable cause) {
+        if (cause == null) {
+            throw new IllegalArgumentException("Cause must not be null");
+        }
+        return finish(null, cause);
+    }
+
+    /**
+     * Fail this result with a {@link TimeoutException} if it has not completed within the given time.
+     *
+     * @param timeout time-out
+     * @param unit unit of the time-out
+     * @return this result
+     */
+    public final AsyncResult<T> timeout(long timeout, TimeUnit unit) {
+        synchronized (this) {
+            if (!done) {
+                cancelTimeout();
+                timeoutTask = new TimeoutTask(this);
+                timeoutFuture = timeoutScheduler().schedule(timeoutTask, timeout, unit);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Add a callback to be notified when this result completes.
+     *
+     * @param callback callback
+     * @return this result
+     */
+    public final AsyncResult<T> addCallback(AsyncCallback<? super T> callback) {
+        synchronized (this) {
+            if (!done) {
+                callbacks.add(callback);
+                return this;
+            }
+        }
+        notifyCallback(callback);
+        return this;
+    }
+
+    /**
+     * Cancel this result.
+     * <p>
+     * Cancellation completes the result with a {@link CancellationException}. The operation itself is cancelled only
+     * where the native library supports it, in all cases the component stops waiting for the result.
+     *
+     * @param mayInterruptIfRunning ignored, there is never a thread to interrupt
+     * @return <code>true</code> if the result was cancelled; <code>false</code> if it was already complete
+     */
+    @Override
+    public final boolean cancel(boolean mayInterruptIfRunning) {
+        return fail(new CancellationException());
+    }
+
+    @Override
+    public final synchronized boolean isCancelled() {
+        return failure instanceof CancellationException;
+    }
+
+    @Override
+    public final synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public final synchronized T get() throws InterruptedException, ExecutionException {
+        while (!done) {
+            wait();
+        }
+        return value();
+    }
+
+    @Override
+    public final synchronized T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!done) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return value();
+    }
+
+    /**
+     * Template method invoked exactly once when this result completes, for any reason, before callbacks are notified.
+     * <p>
+     * This can be used to stop waiting for, or to cancel, the operation that would have completed the result.
+     */
+    protected void onDone() {
+    }
+
+    private T value() throws ExecutionException {
+        if (failure == null) {
+            return value;
+        } else if (failure instanceof CancellationException) {
+            throw (CancellationException) failure;
+        } else {
+            throw new ExecutionException(failure);
+        }
+    }
+
+    private boolean finish(T value, Throwable failure) {
+        List<AsyncCallback<? super T>> callbacks;
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+            this.done = true;
+            this.value = value;
+            this.failure = failure;
+            callbacks = this.callbacks;
+            this.callbacks = null;
+            cancelTimeout();
+            notifyAll();
+        }
+        onDone();
+        for (AsyncCallback<? super T> callback : callbacks) {
+            notifyCallback(callback);
+        }
+        return true;
+    }
+
+    /**
+     * Cancel the pending time-out, if any.
+     * <p>
+     * The scheduler keeps a cancelled task queued until its time-out would have expired, so the task is also detached
+     * from this result - otherwise the result, and its callbacks, would be kept in memory until then.
+     * <p>
+     * Must be invoked while holding the lock on this result.
+     */
+    private void cancelTimeout() {
+        if (timeoutFuture != null) {
+            timeoutTask.result = null;
+            timeoutFuture.cancel(false);
+            timeoutTask = null;
+            timeoutFuture = null;
+        }
+    }
+
+    private void notifyCallback(AsyncCallback<? super T> callback) {
+        T value;
+        Throwable failure;
+        synchronized (this) {
+            value = this.value;
+            failure = this.failure;
+        }
+        if (failure == null) {
+            callback.completed(value);
+        } else {
+            callback.failed(failure);
+        }
+    }
+
+    private static synchronized ScheduledExecutorService timeoutScheduler() {
+        if (timeoutScheduler == null) {
+            timeoutScheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "vlcj-async-timeout");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return timeoutScheduler;
+    }
+
+    /**
+     * Task that fails a result with a {@link TimeoutException}.
+     */
+    private static final class TimeoutTask implements Runnable {
+
+        /**
+         * Result to fail, <code>null</code> once the time-out has been cancelled.
+         */
+        private volatile AsyncResult<?> result;
+
+        private TimeoutTask(AsyncResult<?> result) {
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            AsyncResult<?> result = this.result;
+            if (result != null) {
+                result.fail(new TimeoutException());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(60);
+        sb.append(getClass().getSimpleName()).append('[');
+        synchronized (this) {
+            sb.append("done=").append(done).append(',');
+            sb.append("value=").append(value).append(',');
+            sb.append("failure=").append(failure).append(']');
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.async;
+
+import uk.co.caprica.vlcj.executor.SharedExecutors;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pending asynchronous results for a single component, multiplexed through one event listener.
+ * <p>
+ * However many results are pending, only a single event listener is registered with the component - and only while at
+ * least one result is pending, so no native events are requested when nothing is waiting for them.
+ * <p>
+ * A result is removed when it completes, for any reason. Results usually complete on a native event thread, where it is
+ * not possible to remove event listeners without risking a dead-lock, so the listener is removed later on another
+ * thread.
+ * <p>
+ * Results must not be added from a native event thread.
+ *
+ * @param <R> type of result
+ */
+public abstract class PendingResults<R extends AsyncResult<?>> {
+
+    /**
+     * Pending results, in the order they were added.
+     */
+    private final List<R> results = new CopyOnWriteArrayList<R>();
+
+    /**
+     * Lock guarding the event listener registration.
+     */
+    private final Object registrationLock = new Object();
+
+    /**
+     * Task used to update the event listener registration after a result is removed.
+     */
+    private final Runnable updateRegistrationTask = new Runnable() {
+        @Override
+        public void run() {
+            updateRegistration();
+        }
+    };
+
+    /**
+     * Flag tracking whether or not the event listener is currently registered.
+     */
+    private boolean registered;
+
+    /**
+     * Add a pending result.
+     * <p>
+     * The event listener is guaranteed to be registered when this method returns, so the operation that will complete
+     * the result can then be safely started.
+     *
+     * @param result result
+     */
+    public final void add(R result) {
+        results.add(result);
+        updateRegistration();
+    }
+
+    /**
+     * Remove a result, usually because it completed.
+     *
+     * @param result result
+     */
+    public final void remove(R result) {
+        if (results.remove(result) && results.isEmpty()) {
+            SharedExecutors.defaultExecutor().execute(updateRegistrationTask);
+        }
+    }
+
+    /**
+     * Get the pending results, in the order they were added.
+     * <p>
+     * The returned list is safe to iterate while results are being added and removed.
+     *
+     * @return results
+     */
+    public final List<R> results() {
+        return results;
+    }
+
+    /**
+     * Cancel all pending results.
+     */
+    public final void cancelAll() {
+        for (R result : results) {
+            result.cancel(false);
+        }
+    }
+
+    private void updateRegistration() {
+        synchronized (registrationLock) {
+            boolean wanted = !results.isEmpty();
+            if (wanted != registered) {
+                if (wanted) {
+                    onRegister();
+                } else {
+                    onUnregister();
+                }
+                registered = wanted;
+            }
+        }
+    }
+
+    /**
+     * Template method invoked to register the event listener.
+     */
+    protected abstract void onRegister();
+
+    /**
+     * Template method invoked to remove the event listener.
+     */
+    protected abstract void onUnregister();
+
+}
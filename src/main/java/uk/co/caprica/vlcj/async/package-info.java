@@ -0,0 +1,8 @@
+/**
+ * Asynchronous programming framework.
+ * <p>
+ * This is the non-blocking counterpart to the synchronous framework in {@link uk.co.caprica.vlcj.condition}: instead of
+ * parking a thread until a component reaches some state, an {@link uk.co.caprica.vlcj.async.AsyncResult} is returned
+ * immediately and completed later from the native event that signals the state was reached.
+ */
+package uk.co.caprica.vlcj.async;
@@ -0,0 +1,111 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.binding;
+
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_player_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_stats_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
+
+import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * JNA direct mapping of the most frequently polled native library functions.
+ * <p>
+ * With the regular interface mapping (see {@link Native#load(String, Class)}) every native call goes through a
+ * {@link java.lang.reflect.Proxy}, a reflective method lookup and generic argument conversion. That is negligible for
+ * most functions, but some functions are polled many times a second by applications (e.g. to update a position slider
+ * or playback status for many media players), and for those the overhead of the interface mapping dominates the cost of
+ * the native call itself.
+ * <p>
+ * Only those functions are declared here. The services that poll them invoke them directly if direct mapping has been
+ * {@link #enable(LibVlc, String) enabled} for their native library instance, every other function is always invoked
+ * via the regular {@link LibVlc} interface mapping.
+ * <p>
+ * Direct mapping is registered once per JVM, against a single native library. It can only be enabled for a native
+ * library with that same name, for any other the interface mapping is used.
+ */
+public final class DirectLibVlc {
+
+    /**
+     * Name of the native library the direct functions are registered against, <code>null</code> if not yet registered.
+     */
+    private static String registeredLibraryName;
+
+    /**
+     * Native library instances for which direct mapping is enabled.
+     */
+    private static final Map<LibVlc, Boolean> enabled = Collections.synchronizedMap(new WeakHashMap<LibVlc, Boolean>());
+
+    private DirectLibVlc() {
+    }
+
+    /**
+     * Enable direct mapping for a native library instance.
+     *
+     * @param libvlc native library instance
+     * @param libraryName name of the native library, e.g. from {@link RuntimeUtil#getLibVlcLibraryName()}
+     * @return <code>true</code> if direct mapping is enabled; <code>false</code> if the direct functions are already registered against a different native library, or could not be registered
+     */
+    public static synchronized boolean enable(LibVlc libvlc, String libraryName) {
+        if (registeredLibraryName == null) {
+            try {
+                Native.register(DirectLibVlc.class, NativeLibrary.getInstance(libraryName));
+            }
+            catch (UnsatisfiedLinkError e) {
+                return false;
+            }
+            registeredLibraryName = libraryName;
+        }
+        if (registeredLibraryName.equals(libraryName)) {
+            enabled.put(libvlc, Boolean.TRUE);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Is direct mapping enabled for a native library instance?
+     *
+     * @param libvlc native library instance
+     * @return <code>true</code> if the functions declared here may be used instead of those of the native library instance; <code>false</code> otherwise
+     */
+    public static boolean isEnabled(LibVlc libvlc) {
+        return enabled.containsKey(libvlc);
+    }
+
+    // The functions below must have the same signatures as those in LibVlc, see there for their documentation
+
+    public static native int libvlc_media_get_stats(libvlc_media_t p_md, libvlc_media_stats_t p_stats);
+
+    public static native int libvlc_media_player_is_playing(libvlc_media_player_t p_mi);
+
+    public static native long libvlc_media_player_get_time(libvlc_media_player_t p_mi);
+
+    public static native float libvlc_media_player_get_position(libvlc_media_player_t p_mi);
+
+    public static native int libvlc_media_player_get_state(libvlc_media_player_t p_mi);
+
+}
@@ -26,6 +26,8 @@ import com.sun.jna.Native;
 import com.sun.jna.NativeLong;
 import com.sun.jna.Platform;
 import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
+import uk.co.caprica.vlcj.binding.support.size_t;
 
 /**
  * Minimal interface to the standard "C" library.
@@ -56,6 +58,20 @@ public interface LibC extends Library {
      */
     int vsnprintf(ByteBuffer str, int size, String format, Pointer args);
 
+    /**
+     * Format a string with a variable arguments list into a fixed size buffer.
+     * <p>
+     * This is the same as {@link #vsnprintf(ByteBuffer, int, String, Pointer)} but with the buffer and the format string
+     * in native memory, avoiding any conversion.
+     *
+     * @param str buffer
+     * @param size capacity of the buffer, including space for a null terminator
+     * @param format native format string
+     * @param args format arguments
+     * @return length of the formatted string, which may exceed the capacity of the buffer, or less than zero on error
+     */
+    int vsnprintf(Pointer str, int size, Pointer format, Pointer args);
+
     /**
      * Locks (pins) parts of virtual address space into RAM so it can not be swapped out.
      *
@@ -98,6 +114,17 @@ public interface LibC extends Library {
      */
     int unsetenv(String name);
 
+    /**
+     * Get the value of an environment variable.
+     * <p>
+     * Unlike System#getenv, this does reflect changes made by {@link #setenv(String, String, int)} and
+     * {@link #_putenv(String)}.
+     *
+     * @param name name of environment variable
+     * @return value of the environment variable, or <code>null</code> if it is not set
+     */
+    String getenv(String name);
+
     /**
      * Get the current process id.
      * <p>
@@ -121,4 +148,47 @@ public interface LibC extends Library {
      * @return zero on success, non-zero on error
      */
     int _putenv(String envstring);
+
+    /**
+     * Allocate aligned memory.
+     * <p>
+     * The memory must be freed by {@link #free(Pointer)}.
+     * <p>
+     * <em>Not available on Windows.</em>
+     *
+     * @param memptr pointer to receive the address of the allocated memory
+     * @param alignment alignment, must be a power of two and a multiple of the pointer size
+     * @param size size of memory to allocate
+     * @return zero on success, otherwise an error code (<code>errno</code> is not set)
+     */
+    int posix_memalign(PointerByReference memptr, size_t alignment, size_t size);
+
+    /**
+     * Free memory.
+     *
+     * @param ptr address of the memory to free
+     */
+    void free(Pointer ptr);
+
+    /**
+     * Closest Windows equivalent to {@link #posix_memalign(PointerByReference, size_t, size_t)}.
+     * <p>
+     * The memory must be freed by {@link #_aligned_free(Pointer)}.
+     * <p>
+     * <em>Only available on Windows.</em>
+     *
+     * @param size size of memory to allocate
+     * @param alignment alignment, must be a power of two
+     * @return address of the allocated memory, or <code>null</code> on error
+     */
+    Pointer _aligned_malloc(size_t size, size_t alignment);
+
+    /**
+     * Free memory allocated by {@link #_aligned_malloc(size_t, size_t)}.
+     * <p>
+     * <em>Only available on Windows.</em>
+     *
+     * @param ptr address of the memory to free
+     */
+    void _aligned_free(Pointer ptr);
 }
@@ -28,10 +28,11 @@ import com.sun.jna.Pointer;
 public interface libvlc_callback_t extends Callback {
 
     /**
+     * The native event is passed as a pointer rather than as a structure so that decoding can be deferred, or avoided
+     * altogether, by the receiver - in particular for high frequency events no structure instance need be created.
      *
-     *
-     * @param event event
+     * @param event native event, see {@link libvlc_event_t}
      * @param userData user-data pointer
      */
-    void callback(libvlc_event_t event, Pointer userData);
+    void callback(Pointer event, Pointer userData);
 }
@@ -36,6 +36,24 @@ public class libvlc_event_t extends Structure {
      */
     private static final List<String> FIELD_ORDER = Collections.unmodifiableList(Arrays.asList("type", "obj", "u"));
 
+    /**
+     * Offset of the event type within the native structure.
+     */
+    public static final int TYPE_OFFSET = 0;
+
+    /**
+     * Offset of the event-specific union within the native structure.
+     * <p>
+     * This enables primitive event values to be read directly from native memory without creating and reading a
+     * structure instance for each event.
+     */
+    public static final int U_OFFSET = new libvlc_event_t().fieldOffset("u");
+
+    /**
+     * Size of the native structure.
+     */
+    public static final int SIZE = new libvlc_event_t().size();
+
     /**
      * @see libvlc_event_e
      */
@@ -51,6 +69,22 @@ public class libvlc_event_t extends Structure {
      */
     public libvlc_event_u u;
 
+    /**
+     * Create a new empty event structure.
+     */
+    public libvlc_event_t() {
+    }
+
+    /**
+     * Create an event structure from native memory.
+     *
+     * @param pointer native event
+     */
+    public libvlc_event_t(Pointer pointer) {
+        super(pointer);
+        read();
+    }
+
     @Override
     protected List<String> getFieldOrder() {
         return FIELD_ORDER;
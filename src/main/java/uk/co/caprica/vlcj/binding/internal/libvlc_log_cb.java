@@ -32,6 +32,9 @@ public interface libvlc_log_cb extends Callback {
      * Callback prototype for LibVLC log message handler.
      * <p>
      * <em>Log message handlers <b>must</b> be thread-safe.</em>
+     * <p>
+     * The context and format string are declared as plain pointers, rather than as a libvlc_log_t and a String, since
+     * this callback may be invoked very frequently and plain pointers avoid JNA creating new objects for them each time.
      *
      * @param data data pointer as given to libvlc_log_set()
      * @param level message level {@link LogLevel}
@@ -39,5 +42,5 @@ public interface libvlc_log_cb extends Callback {
      * @param format printf() format string (as defined by ISO C11)
      * @param args variable argument list for the format
      */
-    void log(Pointer data, int level, libvlc_log_t ctx, String format, Pointer args);
+    void log(Pointer data, int level, Pointer ctx, Pointer format, Pointer args);
 }
@@ -40,6 +40,9 @@ import java.io.IOException;
  * <p>
  * In most cases it is likely preferable to deal instead with a Java byte array buffer, for this
  * purpose the {@link DefaultCallbackMedia} sub-class should be used instead of this class.
+ * <p>
+ * Optionally, a {@link CallbackMediaMetrics} component can be set to record metrics for the open, read, seek and close
+ * operations, see {@link #setMetrics(CallbackMediaMetrics)}. When no metrics component is set there is no overhead.
  */
 public abstract class AbstractCallbackMedia implements CallbackMedia {
 
@@ -90,6 +93,18 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
      */
     private final Pointer opaque;
 
+    /**
+     * Optional component used to record metrics, may be <code>null</code>.
+     */
+    private volatile CallbackMediaMetrics metrics;
+
+    /**
+     * Current offset within the media, used to calculate seek distances.
+     * <p>
+     * This is only ever accessed by the native media callback threads.
+     */
+    private long offset;
+
     /**
      * Create a new media instance.
      *
@@ -113,6 +128,26 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
         return seekable;
     }
 
+    /**
+     * Set the component used to record metrics for this media.
+     * <p>
+     * Metrics can be set, changed or removed at any time, including while the media is playing.
+     *
+     * @param metrics metrics component, or <code>null</code> to stop recording metrics
+     */
+    public final void setMetrics(CallbackMediaMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get the component used to record metrics for this media.
+     *
+     * @return metrics component, may be <code>null</code>
+     */
+    public final CallbackMediaMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Get the size of the media, if known.
      *
@@ -161,8 +196,15 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
 
         @Override
         public int open(Pointer opaque, PointerByReference datap, LongByReference sizep) {
+            CallbackMediaMetrics metrics = AbstractCallbackMedia.this.metrics;
+            long start = metrics != null ? System.nanoTime() : 0;
+            offset = 0;
             sizep.setValue(onGetSize());
-            return onOpen() ? SUCCESS : ERROR;
+            boolean opened = onOpen();
+            if (metrics != null) {
+                metrics.opened(opened, System.nanoTime() - start);
+            }
+            return opened ? SUCCESS : ERROR;
         }
     }
 
@@ -173,12 +215,24 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
 
         @Override
         public size_t read(Pointer opaque, Pointer buf, size_t len) {
+            CallbackMediaMetrics metrics = AbstractCallbackMedia.this.metrics;
+            long start = metrics != null ? System.nanoTime() : 0;
+            int requested = len.intValue();
             int result;
             try {
-                int bytesRead = onRead(buf, len.intValue());
+                int bytesRead = onRead(buf, requested);
+                if (bytesRead > 0) {
+                    offset += bytesRead;
+                }
+                if (metrics != null) {
+                    metrics.read(requested, bytesRead, System.nanoTime() - start);
+                }
                 result = bytesRead >= 0 ? bytesRead : END_OF_STREAM;
             }
             catch (IOException e) {
+                if (metrics != null) {
+                    metrics.readFailed(requested, System.nanoTime() - start);
+                }
                 result = ERROR;
             }
             return new size_t(result);
@@ -192,7 +246,15 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
 
         @Override
         public int seek(Pointer opaque, long offset) {
-            return onSeek(offset) ? SUCCESS : ERROR;
+            boolean seeked = onSeek(offset);
+            CallbackMediaMetrics metrics = AbstractCallbackMedia.this.metrics;
+            if (metrics != null) {
+                metrics.seeked(offset, Math.abs(offset - AbstractCallbackMedia.this.offset), seeked);
+            }
+            if (seeked) {
+                AbstractCallbackMedia.this.offset = offset;
+            }
+            return seeked ? SUCCESS : ERROR;
         }
     }
 
@@ -204,6 +266,10 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
         @Override
         public void close(Pointer opaque) {
             onClose();
+            CallbackMediaMetrics metrics = AbstractCallbackMedia.this.metrics;
+            if (metrics != null) {
+                metrics.closed();
+            }
         }
     }
 
@@ -0,0 +1,72 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.callbackmedia;
+
+/**
+ * Specification for a component that records metrics for {@link CallbackMedia}.
+ * <p>
+ * All of these methods are invoked on native media callback threads, implementations must therefore be thread-safe,
+ * must execute quickly and should not allocate memory.
+ * <p>
+ * All durations are measured in nanoseconds.
+ *
+ * @see DefaultCallbackMediaMetrics
+ */
+public interface CallbackMediaMetrics {
+
+    /**
+     * The media was opened.
+     *
+     * @param success <code>true</code> if the media was opened; <code>false</code> if it was not
+     * @param nanos time taken to open the media
+     */
+    void opened(boolean success, long nanos);
+
+    /**
+     * Media data was read.
+     *
+     * @param requested number of bytes requested by the native media player
+     * @param bytesRead number of bytes actually read, or -1 if the end of the stream was reached
+     * @param nanos time taken to read the data
+     */
+    void read(int requested, int bytesRead, long nanos);
+
+    /**
+     * A media read failed with an error.
+     *
+     * @param requested number of bytes requested by the native media player
+     * @param nanos time taken before the read failed
+     */
+    void readFailed(int requested, long nanos);
+
+    /**
+     * The media was seeked.
+     *
+     * @param offset requested offset within the media
+     * @param distance absolute distance, in bytes, from the previous offset
+     * @param success <code>true</code> if the seek was successful; <code>false</code> on error
+     */
+    void seeked(long offset, long distance, boolean success);
+
+    /**
+     * The media was closed.
+     */
+    void closed();
+}
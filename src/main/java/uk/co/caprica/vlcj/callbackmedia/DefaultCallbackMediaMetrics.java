@@ -0,0 +1,272 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.callbackmedia;
+
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default implementation of {@link CallbackMediaMetrics} that accumulates simple counters and a read latency histogram.
+ * <p>
+ * Values can be read at any time, including while the media is playing.
+ * <p>
+ * A "short" read is one that returned fewer bytes than were requested, but more than zero. A "zero" read is one that
+ * returned no bytes at all without reaching the end of the stream.
+ * <p>
+ * A single instance may be shared by multiple media if aggregate figures are wanted.
+ */
+public class DefaultCallbackMediaMetrics implements CallbackMediaMetrics {
+
+    private final AtomicLong openCount = new AtomicLong();
+
+    private final AtomicLong openFailures = new AtomicLong();
+
+    private final AtomicLong lastOpenNanos = new AtomicLong();
+
+    private final AtomicLong readCount = new AtomicLong();
+
+    private final AtomicLong bytesRead = new AtomicLong();
+
+    private final AtomicLong shortReads = new AtomicLong();
+
+    private final AtomicLong zeroReads = new AtomicLong();
+
+    private final AtomicLong endOfStreamReads = new AtomicLong();
+
+    private final AtomicLong readFailures = new AtomicLong();
+
+    private final AtomicLong seekCount = new AtomicLong();
+
+    private final AtomicLong seekFailures = new AtomicLong();
+
+    private final AtomicLong seekDistance = new AtomicLong();
+
+    private final AtomicLong closeCount = new AtomicLong();
+
+    private final LatencyHistogram openLatency = new LatencyHistogram();
+
+    private final LatencyHistogram readLatency = new LatencyHistogram();
+
+    @Override
+    public void opened(boolean success, long nanos) {
+        openCount.incrementAndGet();
+        if (!success) {
+            openFailures.incrementAndGet();
+        }
+        lastOpenNanos.set(nanos);
+        openLatency.record(nanos);
+    }
+
+    @Override
+    public void read(int requested, int bytesRead, long nanos) {
+        readCount.incrementAndGet();
+        readLatency.record(nanos);
+        if (bytesRead > 0) {
+            this.bytesRead.addAndGet(bytesRead);
+            if (bytesRead < requested) {
+                shortReads.incrementAndGet();
+            }
+        } else if (bytesRead == 0) {
+            zeroReads.incrementAndGet();
+        } else {
+            endOfStreamReads.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void readFailed(int requested, long nanos) {
+        readCount.incrementAndGet();
+        readFailures.incrementAndGet();
+        readLatency.record(nanos);
+    }
+
+    @Override
+    public void seeked(long offset, long distance, boolean success) {
+        seekCount.incrementAndGet();
+        if (success) {
+            seekDistance.addAndGet(distance);
+        } else {
+            seekFailures.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void closed() {
+        closeCount.incrementAndGet();
+    }
+
+    /**
+     * Get the number of times the media was opened.
+     *
+     * @return open count
+     */
+    public final long openCount() {
+        return openCount.get();
+    }
+
+    /**
+     * Get the number of times the media failed to open.
+     *
+     * @return open failure count
+     */
+    public final long openFailures() {
+        return openFailures.get();
+    }
+
+    /**
+     * Get the time taken by the most recent open.
+     *
+     * @return open latency, in nanoseconds
+     */
+    public final long lastOpenNanos() {
+        return lastOpenNanos.get();
+    }
+
+    /**
+     * Get the open latency histogram.
+     *
+     * @return histogram
+     */
+    public final LatencyHistogram openLatency() {
+        return openLatency;
+    }
+
+    /**
+     * Get the number of reads, including failed reads.
+     *
+     * @return read count
+     */
+    public final long readCount() {
+        return readCount.get();
+    }
+
+    /**
+     * Get the total number of bytes read.
+     *
+     * @return byte count
+     */
+    public final long bytesRead() {
+        return bytesRead.get();
+    }
+
+    /**
+     * Get the number of reads that returned fewer bytes than were requested.
+     *
+     * @return short read count
+     */
+    public final long shortReads() {
+        return shortReads.get();
+    }
+
+    /**
+     * Get the number of reads that returned no bytes without reaching the end of the stream.
+     *
+     * @return zero read count
+     */
+    public final long zeroReads() {
+        return zeroReads.get();
+    }
+
+    /**
+     * Get the number of reads that reported the end of the stream.
+     *
+     * @return end-of-stream read count
+     */
+    public final long endOfStreamReads() {
+        return endOfStreamReads.get();
+    }
+
+    /**
+     * Get the number of reads that failed with an error.
+     *
+     * @return read failure count
+     */
+    public final long readFailures() {
+        return readFailures.get();
+    }
+
+    /**
+     * Get the read latency histogram.
+     *
+     * @return histogram
+     */
+    public final LatencyHistogram readLatency() {
+        return readLatency;
+    }
+
+    /**
+     * Get the number of seeks, including failed seeks.
+     *
+     * @return seek count
+     */
+    public final long seekCount() {
+        return seekCount.get();
+    }
+
+    /**
+     * Get the number of seeks that failed.
+     *
+     * @return seek failure count
+     */
+    public final long seekFailures() {
+        return seekFailures.get();
+    }
+
+    /**
+     * Get the total absolute distance, in bytes, of all successful seeks.
+     *
+     * @return seek distance
+     */
+    public final long seekDistance() {
+        return seekDistance.get();
+    }
+
+    /**
+     * Get the number of times the media was closed.
+     *
+     * @return close count
+     */
+    public final long closeCount() {
+        return closeCount.get();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(300);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("openCount=").append(openCount()).append(',');
+        sb.append("openFailures=").append(openFailures()).append(',');
+        sb.append("lastOpenNanos=").append(lastOpenNanos()).append(',');
+        sb.append("readCount=").append(readCount()).append(',');
+        sb.append("bytesRead=").append(bytesRead()).append(',');
+        sb.append("shortReads=").append(shortReads()).append(',');
+        sb.append("zeroReads=").append(zeroReads()).append(',');
+        sb.append("endOfStreamReads=").append(endOfStreamReads()).append(',');
+        sb.append("readFailures=").append(readFailures()).append(',');
+        sb.append("readLatency=").append(readLatency()).append(',');
+        sb.append("seekCount=").append(seekCount()).append(',');
+        sb.append("seekFailures=").append(seekFailures()).append(',');
+        sb.append("seekDistance=").append(seekDistance()).append(',');
+        sb.append("closeCount=").append(closeCount()).append(']');
+        return sb.toString();
+    }
+
+}
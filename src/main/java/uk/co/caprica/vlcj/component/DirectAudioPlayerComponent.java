@@ -19,12 +19,21 @@
 
 package uk.co.caprica.vlcj.component;
 
+import uk.co.caprica.vlcj.discovery.NativeDiscovery;
+import uk.co.caprica.vlcj.factory.FactoryMode;
 import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
+import uk.co.caprica.vlcj.factory.NativeMapping;
 import uk.co.caprica.vlcj.player.directaudio.AudioCallback;
 import uk.co.caprica.vlcj.player.directaudio.DirectAudioPlayer;
 
 /**
  * Encapsulation of a direct audio player.
+ * <p>
+ * If no media player factory is supplied, the component creates its own {@link FactoryMode#DEFAULT} factory. A
+ * {@link FactoryMode#HEADLESS} factory avoids loading AWT, Swing and X11, it can be chosen with
+ * {@link Spec#withFactoryMode(FactoryMode)} or by supplying a headless factory. On Linux, no default factory (e.g. one
+ * used by an {@link EmbeddedMediaPlayerComponent}) can be created after a headless factory, so an application that
+ * needs both must create its default factory first.
  */
 public class DirectAudioPlayerComponent extends DirectAudioPlayerComponentBase implements MediaPlayerComponent {
 
@@ -55,8 +64,12 @@ public class DirectAudioPlayerComponent extends DirectAudioPlayerComponentBase i
     }
 
     public DirectAudioPlayerComponent(MediaPlayerFactory mediaPlayerFactory, String format, int rate, int channels, AudioCallback audioCallback) {
+        this(mediaPlayerFactory, FactoryMode.DEFAULT, format, rate, channels, audioCallback);
+    }
+
+    private DirectAudioPlayerComponent(MediaPlayerFactory mediaPlayerFactory, FactoryMode factoryMode, String format, int rate, int channels, AudioCallback audioCallback) {
         this.ownFactory = mediaPlayerFactory == null;
-        this.mediaPlayerFactory = initMediaPlayerFactory(mediaPlayerFactory);
+        this.mediaPlayerFactory = initMediaPlayerFactory(mediaPlayerFactory, factoryMode);
 
         this.mediaPlayer = this.mediaPlayerFactory.mediaPlayers().newDirectAudioPlayer(format, rate, channels, audioCallback != null ? audioCallback : this);
         this.mediaPlayer.events().addMediaPlayerEventListener(this);
@@ -80,12 +93,12 @@ public class DirectAudioPlayerComponent extends DirectAudioPlayerComponentBase i
     }
 
     public DirectAudioPlayerComponent(Spec spec) {
-        this(spec.factory, spec.format, spec.rate, spec.channels, spec.audioCallback);
+        this(spec.factory, spec.factoryMode, spec.format, spec.rate, spec.channels, spec.audioCallback);
     }
 
-    private MediaPlayerFactory initMediaPlayerFactory(MediaPlayerFactory mediaPlayerFactory) {
+    private MediaPlayerFactory initMediaPlayerFactory(MediaPlayerFactory mediaPlayerFactory, FactoryMode factoryMode) {
         if (mediaPlayerFactory == null) {
-            mediaPlayerFactory = new MediaPlayerFactory(DEFAULT_FACTORY_ARGUMENTS);
+            mediaPlayerFactory = new MediaPlayerFactory(new NativeDiscovery(), NativeMapping.INTERFACE, factoryMode, DEFAULT_FACTORY_ARGUMENTS);
         }
         return mediaPlayerFactory;
     }
@@ -20,6 +20,7 @@
 package uk.co.caprica.vlcj.component;
 
 import com.sun.jna.Pointer;
+import uk.co.caprica.vlcj.factory.FactoryMode;
 import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
 import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
 import uk.co.caprica.vlcj.player.directaudio.AudioCallback;
@@ -38,6 +39,7 @@ abstract class DirectAudioPlayerComponentBase extends MediaPlayerEventAdapter im
         protected int rate;
         protected int channels;
         protected AudioCallback audioCallback;
+        protected FactoryMode factoryMode = FactoryMode.DEFAULT;
 
         public Spec withFactory(MediaPlayerFactory factory) {
             this.factory = factory;
@@ -56,6 +58,21 @@ abstract class DirectAudioPlayerComponentBase extends MediaPlayerEventAdapter im
             return this;
         }
 
+        /**
+         * Set the mode of the factory the component creates if no factory is supplied, the default is
+         * {@link FactoryMode#DEFAULT}.
+         * <p>
+         * On Linux, once a {@link FactoryMode#HEADLESS} factory has been created no {@link FactoryMode#DEFAULT} factory
+         * can be created, so only choose a headless factory if the application never embeds video.
+         *
+         * @param factoryMode factory mode
+         * @return this spec
+         */
+        public Spec withFactoryMode(FactoryMode factoryMode) {
+            this.factoryMode = factoryMode;
+            return this;
+        }
+
         private Spec(){
         }
 
@@ -25,7 +25,7 @@ package uk.co.caprica.vlcj.condition;
 @SuppressWarnings("serial")
 public final class BeforeConditionAbortedException extends RuntimeException {
 
-    BeforeConditionAbortedException() {
+    public BeforeConditionAbortedException() {
     }
 
 }
@@ -25,7 +25,7 @@ package uk.co.caprica.vlcj.condition;
 @SuppressWarnings("serial")
 public final class UnexpectedErrorConditionException extends RuntimeException {
 
-    UnexpectedErrorConditionException() {
+    public UnexpectedErrorConditionException() {
     }
 
 }
@@ -26,7 +26,7 @@ package uk.co.caprica.vlcj.condition;
 @SuppressWarnings("serial")
 public final class UnexpectedFinishedConditionException extends RuntimeException {
 
-    UnexpectedFinishedConditionException() {
+    public UnexpectedFinishedConditionException() {
     }
 
 }
@@ -0,0 +1,46 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.discovery;
+
+/**
+ * Enumeration of the phases of native discovery, used to report how long each phase took.
+ */
+public enum DiscoveryPhase {
+
+    /**
+     * Reading, validating and writing the discovery cache.
+     */
+    CACHE,
+
+    /**
+     * Searching for the directory containing the native library.
+     */
+    SEARCH,
+
+    /**
+     * Setting the native plugin path.
+     */
+    PLUGIN_PATH,
+
+    /**
+     * Verifying the discovered native library by loading it and creating a native library instance.
+     */
+    VERIFY
+
+}
@@ -2,12 +2,18 @@ package uk.co.caprica.vlcj.discovery;
 
 import com.sun.jna.Native;
 import com.sun.jna.NativeLibrary;
+import uk.co.caprica.vlcj.binding.LibC;
 import uk.co.caprica.vlcj.binding.LibVlc;
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
 import uk.co.caprica.vlcj.discovery.strategy.*;
 import uk.co.caprica.vlcj.binding.RuntimeUtil;
 import uk.co.caprica.vlcj.version.LibVlcVersion;
 
+import java.io.File;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Native library discovery component.
  * <p>
@@ -23,6 +29,13 @@ import uk.co.caprica.vlcj.version.LibVlcVersion;
  * This behaviour is by design, as is always trying the discovery first whether or not this "default" library loading
  * would work - since it is possible that a client application does not actually want to prioritise the default library
  * load (e.g. different version of VLC if multiple are installed).
+ * <p>
+ * Verifying that a discovered native library actually works is relatively expensive, since it requires a native
+ * library instance to be created and released. A {@link NativeDiscoveryCache} can be used to remember a successful
+ * discovery so that subsequent discoveries can skip both the search and the verification - the default discovery
+ * uses the default cache if the {@value NativeDiscoveryCache#CACHE_FILE_PROPERTY} system property is set.
+ * <p>
+ * The time taken by each phase of the discovery is available via {@link #timings()}.
  */
 public class NativeDiscovery {
 
@@ -56,13 +69,44 @@ public class NativeDiscovery {
      */
     private final NativeDiscoveryStrategy[] discoveryStrategies;
 
+    /**
+     * Discovery cache, may be <code>null</code>.
+     */
+    private final NativeDiscoveryCache cache;
+
+    /**
+     * Time taken by each phase of the most recent discovery, in nanoseconds.
+     */
+    private final Map<DiscoveryPhase, Long> timings = new EnumMap<DiscoveryPhase, Long>(DiscoveryPhase.class);
+
+    /**
+     * Flag if the most recent discovery used the cache.
+     */
+    private boolean fromCache;
+
+    /**
+     * Version of the discovered native library, if known.
+     */
+    private String version;
+
     /**
      *
      *
      * @param discoveryStrategies
      */
     public NativeDiscovery(NativeDiscoveryStrategy... discoveryStrategies) {
+        this(System.getProperty(NativeDiscoveryCache.CACHE_FILE_PROPERTY) != null ? NativeDiscoveryCache.defaultCache() : null, discoveryStrategies);
+    }
+
+    /**
+     * Create a native discovery component that uses a cache.
+     *
+     * @param cache discovery cache, or <code>null</code> to not use a cache
+     * @param discoveryStrategies strategy implementations, or none for the default strategies
+     */
+    public NativeDiscovery(NativeDiscoveryCache cache, NativeDiscoveryStrategy... discoveryStrategies) {
         this.discoveryStrategies = discoveryStrategies.length > 0 ? discoveryStrategies : DEFAULT_STRATEGIES;
+        this.cache = cache;
     }
 
     /**
@@ -78,15 +122,32 @@ public class NativeDiscovery {
         if (alreadyFound) {
             return true;
         } else {
+            timings.clear();
+            fromCache = false;
+            version = null;
+            if (cache != null && discoverFromCache()) {
+                alreadyFound = true;
+                return true;
+            }
             for (NativeDiscoveryStrategy discoveryStrategy : discoveryStrategies) {
                 if (discoveryStrategy.supported()) {
+                    long start = System.nanoTime();
                     String path = discoveryStrategy.discover();
+                    addTiming(DiscoveryPhase.SEARCH, start);
                     if (path != null) {
                         if (discoveryStrategy.onFound(path)) {
                             NativeLibrary.addSearchPath(RuntimeUtil.getLibVlcLibraryName(), path);
                         }
+                        start = System.nanoTime();
                         tryPluginPath(path, discoveryStrategy);
-                        if (tryLoadingLibrary()) {
+                        addTiming(DiscoveryPhase.PLUGIN_PATH, start);
+                        start = System.nanoTime();
+                        version = tryLoadingLibrary();
+                        addTiming(DiscoveryPhase.VERIFY, start);
+                        if (version != null) {
+                            if (cache != null) {
+                                writeCache(path, discoveryStrategy);
+                            }
                             onFound(path, discoveryStrategy);
                             alreadyFound = true;
                             return true;
@@ -104,6 +165,92 @@ public class NativeDiscovery {
         }
     }
 
+    /**
+     * Get the time taken by each phase of the most recent discovery.
+     * <p>
+     * Phases that were not needed (e.g. the search, if the cache was used) are not present.
+     *
+     * @return time taken by each phase, in nanoseconds
+     */
+    public final Map<DiscoveryPhase, Long> timings() {
+        return Collections.unmodifiableMap(new EnumMap<DiscoveryPhase, Long>(timings));
+    }
+
+    /**
+     * Did the most recent discovery use the cached result of an earlier discovery?
+     *
+     * @return <code>true</code> if the cache was used; <code>false</code> otherwise
+     */
+    public final boolean fromCache() {
+        return fromCache;
+    }
+
+    /**
+     * Get the version of the discovered native library.
+     *
+     * @return version, or <code>null</code> if the native library was not discovered, or if the version is not known
+     */
+    public final String version() {
+        return version;
+    }
+
+    /**
+     * Try to use the cached result of an earlier discovery.
+     * <p>
+     * The cached result is only used if the strategy that found the native library is also used by this component.
+     *
+     * @return <code>true</code> if the cached result was used; <code>false</code> otherwise
+     */
+    private boolean discoverFromCache() {
+        long start = System.nanoTime();
+        NativeDiscoveryCache.Entry entry = cache.read(RuntimeUtil.getLibVlcLibraryName());
+        NativeDiscoveryStrategy discoveryStrategy = entry != null ? cachedStrategy(entry.strategy) : null;
+        addTiming(DiscoveryPhase.CACHE, start);
+        if (discoveryStrategy != null) {
+            if (discoveryStrategy.onFound(entry.path)) {
+                NativeLibrary.addSearchPath(RuntimeUtil.getLibVlcLibraryName(), entry.path);
+            }
+            start = System.nanoTime();
+            tryPluginPath(entry.path, discoveryStrategy);
+            addTiming(DiscoveryPhase.PLUGIN_PATH, start);
+            fromCache = true;
+            version = entry.version;
+            onFound(entry.path, discoveryStrategy);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private NativeDiscoveryStrategy cachedStrategy(String className) {
+        for (NativeDiscoveryStrategy discoveryStrategy : discoveryStrategies) {
+            if (discoveryStrategy.getClass().getName().equals(className) && discoveryStrategy.supported()) {
+                return discoveryStrategy;
+            }
+        }
+        return null;
+    }
+
+    private void writeCache(String path, NativeDiscoveryStrategy discoveryStrategy) {
+        long start = System.nanoTime();
+        // The library was loaded when it was verified, so this does not load it again
+        File libraryFile = NativeLibrary.getInstance(RuntimeUtil.getLibVlcLibraryName()).getFile();
+        if (libraryFile != null) {
+            String pluginPath = LibC.INSTANCE.getenv(PLUGIN_ENV_NAME);
+            if (pluginPath != null && (pluginPath.length() == 0 || !new File(pluginPath).isDirectory())) {
+                pluginPath = null;
+            }
+            cache.write(RuntimeUtil.getLibVlcLibraryName(), new NativeDiscoveryCache.Entry(discoveryStrategy.getClass().getName(), path, pluginPath, version), libraryFile);
+        }
+        addTiming(DiscoveryPhase.CACHE, start);
+    }
+
+    private void addTiming(DiscoveryPhase phase, long start) {
+        long elapsed = System.nanoTime() - start;
+        Long previous = timings.get(phase);
+        timings.put(phase, previous != null ? previous + elapsed : elapsed);
+    }
+
     /**
      *
      *
@@ -123,9 +270,11 @@ public class NativeDiscovery {
     }
 
     /**
+     * Try to load the native library and create a native library instance.
      *
+     * @return version of the native library, or <code>null</code> if it could not be loaded or is not supported
      */
-    private boolean tryLoadingLibrary() {
+    private String tryLoadingLibrary() {
         try {
             LibVlc libvlc = Native.load(RuntimeUtil.getLibVlcLibraryName(), LibVlc.class);
             libvlc_instance_t instance = libvlc.libvlc_new(0, new String[0]);
@@ -133,13 +282,13 @@ public class NativeDiscovery {
                 libvlc.libvlc_release(instance);
                 LibVlcVersion version = new LibVlcVersion(libvlc);
                 if (version.isSupported()) {
-                    return true;
+                    return version.getVersion().version();
                 }
             }
         }
         catch (UnsatisfiedLinkError e) {
         }
-        return false;
+        return null;
     }
 
     protected void onFound(String path, NativeDiscoveryStrategy strategy) {
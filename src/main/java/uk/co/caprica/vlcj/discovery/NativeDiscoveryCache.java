@@ -0,0 +1,254 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.discovery;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+
+/**
+ * Persistent cache of the result of a successful native discovery.
+ * <p>
+ * Verifying a discovered native library requires creating (and releasing) a native library instance, and this loads
+ * the native plugins - this is expensive, and is repeated when the media player factory creates its own instance. When
+ * the cache is valid, discovery re-uses the cached location and does not create this extra instance.
+ * <p>
+ * The cached result is keyed by the location, size and modification time of the native library file and the
+ * modification time of the plugin directory, so the cache is invalidated if VLC is upgraded, moved or removed, or if
+ * plugins are added or removed. The cache is also invalidated if the discovery strategy that found the native library
+ * is no longer being used, or if the native library name or the JVM architecture changes.
+ * <p>
+ * If the cache is somehow stale without being invalidated, it can be cleared by {@link #clear()}.
+ * <p>
+ * The cache is a simple properties file, by default "discovery.properties" in a ".vlcj" directory in the user home
+ * directory. A different location can be given either when creating the cache, or by setting the
+ * {@value #CACHE_FILE_PROPERTY} system property (which also enables the cache for the default {@link NativeDiscovery}).
+ * <p>
+ * Failures to read or write the cache are ignored, discovery simply proceeds without it.
+ */
+public final class NativeDiscoveryCache {
+
+    /**
+     * Name of the system property used to set the location of the cache file.
+     */
+    public static final String CACHE_FILE_PROPERTY = "vlcj.discovery.cache";
+
+    /**
+     * Format of the cache file, changed whenever the content changes incompatibly.
+     */
+    private static final String FORMAT = "1";
+
+    private static final String KEY_FORMAT         = "format";
+    private static final String KEY_ARCH           = "arch";
+    private static final String KEY_LIBRARY_NAME   = "library.name";
+    private static final String KEY_STRATEGY       = "strategy";
+    private static final String KEY_PATH           = "path";
+    private static final String KEY_LIBRARY_FILE   = "library.file";
+    private static final String KEY_LIBRARY_LENGTH = "library.length";
+    private static final String KEY_LIBRARY_MTIME  = "library.mtime";
+    private static final String KEY_PLUGIN_PATH    = "plugin.path";
+    private static final String KEY_PLUGIN_MTIME   = "plugin.mtime";
+    private static final String KEY_VERSION        = "version";
+
+    /**
+     * Cache file.
+     */
+    private final File file;
+
+    /**
+     * Create a discovery cache.
+     *
+     * @param file cache file
+     */
+    public NativeDiscoveryCache(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Create a discovery cache using the default cache file.
+     * <p>
+     * The default cache file is given by the {@value #CACHE_FILE_PROPERTY} system property if it is set, otherwise it
+     * is "discovery.properties" in a ".vlcj" directory in the user home directory.
+     *
+     * @return discovery cache
+     */
+    public static NativeDiscoveryCache defaultCache() {
+        String fileName = System.getProperty(CACHE_FILE_PROPERTY);
+        if (fileName != null && fileName.length() > 0) {
+            return new NativeDiscoveryCache(new File(fileName));
+        } else {
+            return new NativeDiscoveryCache(new File(new File(System.getProperty("user.home"), ".vlcj"), "discovery.properties"));
+        }
+    }
+
+    /**
+     * Get the cache file.
+     *
+     * @return cache file
+     */
+    public File file() {
+        return file;
+    }
+
+    /**
+     * Clear the cache.
+     */
+    public void clear() {
+        file.delete();
+    }
+
+    /**
+     * Read the cache.
+     *
+     * @param libraryName name of the native library
+     * @return cached discovery result, or <code>null</code> if there is no valid cached result
+     */
+    Entry read(String libraryName) {
+        Properties properties = new Properties();
+        try {
+            InputStream in = new FileInputStream(file);
+            try {
+                properties.load(in);
+            }
+            finally {
+                in.close();
+            }
+        }
+        catch (IOException e) {
+            return null;
+        }
+        if (!FORMAT.equals(properties.getProperty(KEY_FORMAT)) ||
+            !arch().equals(properties.getProperty(KEY_ARCH)) ||
+            !libraryName.equals(properties.getProperty(KEY_LIBRARY_NAME))) {
+            return null;
+        }
+        String strategy = properties.getProperty(KEY_STRATEGY);
+        String path = properties.getProperty(KEY_PATH);
+        String libraryFile = properties.getProperty(KEY_LIBRARY_FILE);
+        if (strategy == null || path == null || libraryFile == null || !new File(path).isDirectory()) {
+            return null;
+        }
+        File library = new File(libraryFile);
+        if (!library.isFile() ||
+            !String.valueOf(library.length()).equals(properties.getProperty(KEY_LIBRARY_LENGTH)) ||
+            !String.valueOf(library.lastModified()).equals(properties.getProperty(KEY_LIBRARY_MTIME))) {
+            return null;
+        }
+        String pluginPath = properties.getProperty(KEY_PLUGIN_PATH);
+        if (pluginPath != null) {
+            File plugins = new File(pluginPath);
+            if (!plugins.isDirectory() || !String.valueOf(plugins.lastModified()).equals(properties.getProperty(KEY_PLUGIN_MTIME))) {
+                return null;
+            }
+        }
+        return new Entry(strategy, path, pluginPath, properties.getProperty(KEY_VERSION));
+    }
+
+    /**
+     * Write the cache.
+     *
+     * @param libraryName name of the native library
+     * @param entry discovery result
+     * @param libraryFile native library file
+     */
+    void write(String libraryName, Entry entry, File libraryFile) {
+        Properties properties = new Properties();
+        properties.setProperty(KEY_FORMAT, FORMAT);
+        properties.setProperty(KEY_ARCH, arch());
+        properties.setProperty(KEY_LIBRARY_NAME, libraryName);
+        properties.setProperty(KEY_STRATEGY, entry.strategy);
+        properties.setProperty(KEY_PATH, entry.path);
+        properties.setProperty(KEY_LIBRARY_FILE, libraryFile.getAbsolutePath());
+        properties.setProperty(KEY_LIBRARY_LENGTH, String.valueOf(libraryFile.length()));
+        properties.setProperty(KEY_LIBRARY_MTIME, String.valueOf(libraryFile.lastModified()));
+        if (entry.pluginPath != null) {
+            properties.setProperty(KEY_PLUGIN_PATH, entry.pluginPath);
+            properties.setProperty(KEY_PLUGIN_MTIME, String.valueOf(new File(entry.pluginPath).lastModified()));
+        }
+        if (entry.version != null) {
+            properties.setProperty(KEY_VERSION, entry.version);
+        }
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (directory != null) {
+                directory.mkdirs();
+            }
+            // Write to a temporary file first so a concurrent reader never sees a partially written cache
+            File tempFile = new File(file.getPath() + ".tmp");
+            OutputStream out = new FileOutputStream(tempFile);
+            try {
+                properties.store(out, "vlcj native discovery cache");
+            }
+            finally {
+                out.close();
+            }
+            if (!tempFile.renameTo(file)) {
+                file.delete();
+                if (!tempFile.renameTo(file)) {
+                    tempFile.delete();
+                }
+            }
+        }
+        catch (IOException e) {
+            // The cache is only an optimisation
+        }
+    }
+
+    private static String arch() {
+        return System.getProperty("os.arch") + "/" + System.getProperty("sun.arch.data.model");
+    }
+
+    /**
+     * A cached discovery result.
+     */
+    static final class Entry {
+
+        /**
+         * Class name of the discovery strategy that found the native library.
+         */
+        final String strategy;
+
+        /**
+         * Directory containing the native library.
+         */
+        final String path;
+
+        /**
+         * Plugin directory, may be <code>null</code>.
+         */
+        final String pluginPath;
+
+        /**
+         * Version of the native library, may be <code>null</code>.
+         */
+        final String version;
+
+        Entry(String strategy, String path, String pluginPath, String version) {
+            this.strategy   = strategy;
+            this.path       = path;
+            this.pluginPath = pluginPath;
+            this.version    = version;
+        }
+    }
+
+}
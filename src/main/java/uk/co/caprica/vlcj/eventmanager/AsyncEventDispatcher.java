@@ -0,0 +1,312 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.eventmanager;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Dispatches events to listeners asynchronously, via a bounded queue drained in order by a single task at a time on an
+ * {@link Executor}.
+ * <p>
+ * This decouples listeners from the native event thread - a slow listener no longer delays the delivery of native
+ * events, and listeners may safely call back into LibVLC.
+ * <p>
+ * High frequency events may be <em>coalesced</em>: if another such event of the same type arrives before the queued one is
+ * dispatched it simply replaces the queued value - so listeners see only the latest value. A coalesced event is never
+ * moved ahead of an event queued after it though, so once any other event is queued, the next coalesced value is queued
+ * behind it - e.g. a time changed event raised after a stopped event is always dispatched after it.
+ * <p>
+ * When the queue is full, <em>droppable</em> events are discarded. All other events, which must include any event
+ * signifying a state transition, are always queued even if this means exceeding the capacity - such events are
+ * infrequent so the queue still remains bounded in practice.
+ * <p>
+ * The counters exposed here are updated lock-free and may be read at any time from any thread.
+ *
+ * @param <L> type of the event listener
+ */
+public final class AsyncEventDispatcher<L> {
+
+    /**
+     * Maximum number of events to dispatch before yielding the executor thread to other tasks.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * Executor used to drain the queue.
+     */
+    private final Executor executor;
+
+    /**
+     * Queue capacity, beyond which droppable events are discarded.
+     */
+    private final int capacity;
+
+    /**
+     * Queued events.
+     */
+    private final Queue<Entry<L>> queue = new ConcurrentLinkedQueue<Entry<L>>();
+
+    /**
+     * Queued token that may still accept a new value, for each coalesced event slot.
+     * <p>
+     * A queued entry for a coalesced event is only a token holding the latest value, the token is closed to new values
+     * when it is dispatched or when any other event is queued after it.
+     */
+    private final AtomicReferenceArray<Entry<L>> pending;
+
+    /**
+     * Flag tracking whether or not a drain task is currently scheduled or running.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Task that drains the queue.
+     */
+    private final Runnable drainTask = new DrainTask();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+
+    private final AtomicLong dispatchedCount = new AtomicLong();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Create a dispatcher.
+     *
+     * @param executor executor used to drain the queue
+     * @param capacity queue capacity
+     * @param slots number of slots available for coalesced events
+     */
+    AsyncEventDispatcher(Executor executor, int capacity, int slots) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.executor = executor;
+        this.capacity = capacity;
+        this.pending = new AtomicReferenceArray<Entry<L>>(slots);
+    }
+
+    /**
+     * Get the queue capacity.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the number of events currently queued.
+     *
+     * @return queue depth
+     */
+    public int queueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Get the highest number of events ever queued at the same time.
+     *
+     * @return peak queue depth
+     */
+    public int peakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    /**
+     * Get the number of events dispatched to listeners.
+     *
+     * @return dispatched event count
+     */
+    public long dispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    /**
+     * Get the number of droppable events discarded because the queue was full.
+     *
+     * @return dropped event count
+     */
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Get the number of coalesced events that were replaced by a later value before they could be dispatched.
+     *
+     * @return coalesced event count
+     */
+    public long coalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Queue an event for dispatch.
+     *
+     * @param slot slot for a coalesced event, or -1 if the event is not coalesced
+     * @param event event to dispatch
+     * @param listeners listeners to notify
+     * @param droppable <code>true</code> if the event may be discarded when the queue is full
+     */
+    void dispatch(int slot, EventNotification<L> event, List<L> listeners, boolean droppable) {
+        Entry<L> entry = new Entry<L>(event, listeners);
+        if (slot >= 0) {
+            for (;;) {
+                Entry<L> token = pending.get(slot);
+                if (token != null) {
+                    Entry<L> value = token.value.get();
+                    // A null value means the token has already been dispatched
+                    if (value != null && token.value.compareAndSet(value, entry)) {
+                        coalescedCount.incrementAndGet();
+                        return;
+                    }
+                }
+                Entry<L> newToken = new Entry<L>(entry);
+                if (pending.compareAndSet(slot, token, newToken)) {
+                    entry = newToken;
+                    break;
+                }
+            }
+        } else {
+            if (droppable && queueDepth.get() >= capacity) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            // Close the queued coalesced tokens, later values must be dispatched after this event
+            for (int i = 0; i < pending.length(); i++) {
+                if (pending.get(i) != null) {
+                    pending.set(i, null);
+                }
+            }
+        }
+        queue.offer(entry);
+        int depth = queueDepth.incrementAndGet();
+        int peak;
+        while (depth > (peak = peakQueueDepth.get()) && !peakQueueDepth.compareAndSet(peak, depth)) {
+        }
+        schedule();
+    }
+
+    /**
+     * Discard all queued events.
+     */
+    void clear() {
+        Entry<L> entry;
+        while ((entry = queue.poll()) != null) {
+            queueDepth.decrementAndGet();
+        }
+        for (int i = 0; i < pending.length(); i++) {
+            pending.set(i, null);
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(drainTask);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(120);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("capacity=").append(capacity).append(',');
+        sb.append("queueDepth=").append(queueDepth()).append(',');
+        sb.append("peakQueueDepth=").append(peakQueueDepth()).append(',');
+        sb.append("dispatchedCount=").append(dispatchedCount()).append(',');
+        sb.append("droppedCount=").append(droppedCount()).append(',');
+        sb.append("coalescedCount=").append(coalescedCount()).append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Task that drains the queue, dispatching each event to its listeners.
+     * <p>
+     * Only one drain task is ever scheduled or running at a time, so events are always dispatched in order. The task
+     * reschedules itself rather than running indefinitely so that it does not monopolise a shared executor.
+     */
+    private class DrainTask implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                Entry<L> entry;
+                for (int i = 0; i < BATCH_SIZE && (entry = queue.poll()) != null; i++) {
+                    queueDepth.decrementAndGet();
+                    if (entry.value != null) {
+                        entry = entry.value.getAndSet(null);
+                    }
+                    List<L> listeners = entry.listeners;
+                    for (int j = 0; j < listeners.size(); j++) {
+                        entry.event.notify(listeners.get(j));
+                    }
+                    dispatchedCount.incrementAndGet();
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+
+    /**
+     * A queued event, or a token holding the latest value for a coalesced event.
+     *
+     * @param <L> type of the event listener
+     */
+    private static final class Entry<L> {
+
+        private final EventNotification<L> event;
+
+        private final List<L> listeners;
+
+        /**
+         * Latest value, only for a token - set to <code>null</code> when the token is dispatched.
+         */
+        private final AtomicReference<Entry<L>> value;
+
+        private Entry(EventNotification<L> event, List<L> listeners) {
+            this.event = event;
+            this.listeners = listeners;
+            this.value = null;
+        }
+
+        private Entry(Entry<L> value) {
+            this.event = null;
+            this.listeners = null;
+            this.value = new AtomicReference<Entry<L>>(value);
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.eventmanager;
+
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Default implementation of {@link EventMetrics} that accumulates per-event-type counts and dispatch latencies, and
+ * per-listener latencies.
+ * <p>
+ * Values can be read at any time, either directly or via JMX (see {@link DefaultEventMetricsMBean}).
+ * <p>
+ * Recording does not allocate except the first time a particular event type or listener is seen.
+ * <p>
+ * A single instance may be shared by multiple event managers if aggregate figures are wanted.
+ */
+public class DefaultEventMetrics implements EventMetrics, DefaultEventMetricsMBean {
+
+    /**
+     * Upper bound (exclusive) of the native event types that are recorded individually, this covers every range of
+     * native events.
+     */
+    private static final int EVENT_TYPE_LIMIT = 0x800;
+
+    private final AtomicLong eventCount = new AtomicLong();
+
+    private final AtomicLongArray eventCounts = new AtomicLongArray(EVENT_TYPE_LIMIT);
+
+    private final AtomicReferenceArray<LatencyHistogram> dispatchLatency = new AtomicReferenceArray<LatencyHistogram>(EVENT_TYPE_LIMIT);
+
+    private final LatencyHistogram syntheticDispatchLatency = new LatencyHistogram();
+
+    private final ConcurrentMap<Object, LatencyHistogram> listenerLatency = new ConcurrentHashMap<Object, LatencyHistogram>();
+
+    @Override
+    public void eventReceived(int type) {
+        eventCount.incrementAndGet();
+        if (type >= 0 && type < EVENT_TYPE_LIMIT) {
+            eventCounts.incrementAndGet(type);
+        }
+    }
+
+    @Override
+    public void eventDispatched(int type, long nanos) {
+        if (type >= 0 && type < EVENT_TYPE_LIMIT) {
+            LatencyHistogram histogram = dispatchLatency.get(type);
+            if (histogram == null) {
+                LatencyHistogram newHistogram = new LatencyHistogram();
+                // A concurrent reset may clear the slot at any time, so never use a value from the slot without
+                // checking it
+                while ((histogram = dispatchLatency.get(type)) == null) {
+                    if (dispatchLatency.compareAndSet(type, null, newHistogram)) {
+                        histogram = newHistogram;
+                        break;
+                    }
+                }
+            }
+            histogram.record(nanos);
+        } else {
+            syntheticDispatchLatency.record(nanos);
+        }
+    }
+
+    @Override
+    public void listenerNotified(Object listener, int type, long nanos) {
+        LatencyHistogram histogram = listenerLatency.get(listener);
+        if (histogram == null) {
+            LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = listenerLatency.putIfAbsent(listener, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        histogram.record(nanos);
+    }
+
+    @Override
+    public void listenerRemoved(Object listener) {
+        listenerLatency.remove(listener);
+    }
+
+    /**
+     * Get the number of native events received of a particular type.
+     *
+     * @param type native event type
+     * @return event count
+     */
+    public final long eventCount(int type) {
+        return type >= 0 && type < EVENT_TYPE_LIMIT ? eventCounts.get(type) : 0;
+    }
+
+    /**
+     * Get the latencies for dispatching events of a particular type on the native event thread.
+     *
+     * @param type native event type, or -1 for synthetic events
+     * @return latency histogram, or <code>null</code> if no such event has been dispatched
+     */
+    public final LatencyHistogram dispatchLatency(int type) {
+        return type >= 0 && type < EVENT_TYPE_LIMIT ? dispatchLatency.get(type) : syntheticDispatchLatency;
+    }
+
+    /**
+     * Get the latencies for each listener on the native event thread.
+     *
+     * @return unmodifiable map of latency histograms, keyed by listener
+     */
+    public final Map<Object, LatencyHistogram> listenerLatency() {
+        return Collections.unmodifiableMap(listenerLatency);
+    }
+
+    @Override
+    public final long getEventCount() {
+        return eventCount.get();
+    }
+
+    @Override
+    public final long getMaxDispatchNanos() {
+        long result = syntheticDispatchLatency.maxNanos();
+        for (int i = 0; i < EVENT_TYPE_LIMIT; i++) {
+            LatencyHistogram histogram = dispatchLatency.get(i);
+            if (histogram != null) {
+                result = Math.max(result, histogram.maxNanos());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public final long getMaxListenerNanos() {
+        long result = 0;
+        for (LatencyHistogram histogram : listenerLatency.values()) {
+            result = Math.max(result, histogram.maxNanos());
+        }
+        return result;
+    }
+
+    @Override
+    public final int getListenerCount() {
+        return listenerLatency.size();
+    }
+
+    @Override
+    public final String[] getEventTypeSummaries() {
+        List<String> result = new ArrayList<String>();
+        for (int i = 0; i < EVENT_TYPE_LIMIT; i++) {
+            long count = eventCounts.get(i);
+            if (count > 0) {
+                libvlc_event_e event = libvlc_event_e.event(i);
+                StringBuilder sb = new StringBuilder(100);
+                sb.append(event != null ? event.name() : Integer.toHexString(i)).append(' ');
+                sb.append("count=").append(count);
+                LatencyHistogram histogram = dispatchLatency.get(i);
+                if (histogram != null) {
+                    sb.append(' ').append(histogram);
+                }
+                result.add(sb.toString());
+            }
+        }
+        if (syntheticDispatchLatency.count() > 0) {
+            result.add("synthetic " + syntheticDispatchLatency);
+        }
+        return result.toArray(new String[result.size()]);
+    }
+
+    @Override
+    public final String[] getListenerSummaries() {
+        List<String> result = new ArrayList<String>(listenerLatency.size());
+        for (Map.Entry<Object, LatencyHistogram> entry : listenerLatency.entrySet()) {
+            result.add(entry.getKey().getClass().getName() + ' ' + entry.getValue());
+        }
+        return result.toArray(new String[result.size()]);
+    }
+
+    @Override
+    public void reset() {
+        eventCount.set(0);
+        for (int i = 0; i < EVENT_TYPE_LIMIT; i++) {
+            eventCounts.set(i, 0);
+            dispatchLatency.set(i, null);
+        }
+        syntheticDispatchLatency.reset();
+        listenerLatency.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(100);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("eventCount=").append(getEventCount()).append(',');
+        sb.append("listenerCount=").append(getListenerCount()).append(',');
+        sb.append("maxDispatchNanos=").append(getMaxDispatchNanos()).append(',');
+        sb.append("maxListenerNanos=").append(getMaxListenerNanos()).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.eventmanager;
+
+/**
+ * Management interface for {@link DefaultEventMetrics}, enabling the metrics to be read via JMX.
+ * <p>
+ * For example:
+ * <pre>
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName("uk.co.caprica.vlcj:type=EventMetrics,name=player1"));
+ * </pre>
+ */
+public interface DefaultEventMetricsMBean {
+
+    /**
+     * Get the total number of native events received.
+     *
+     * @return event count
+     */
+    long getEventCount();
+
+    /**
+     * Get the longest time taken to dispatch an event to all of its listeners on the native event thread.
+     *
+     * @return maximum dispatch time, in nanoseconds
+     */
+    long getMaxDispatchNanos();
+
+    /**
+     * Get the longest time taken by any single listener on the native event thread.
+     *
+     * @return maximum listener time, in nanoseconds
+     */
+    long getMaxListenerNanos();
+
+    /**
+     * Get the number of listeners for which metrics are currently held.
+     *
+     * @return listener count
+     */
+    int getListenerCount();
+
+    /**
+     * Get a summary line for each event type that has been received.
+     *
+     * @return event type summaries
+     */
+    String[] getEventTypeSummaries();
+
+    /**
+     * Get a summary line for each listener for which metrics are currently held.
+     *
+     * @return listener summaries
+     */
+    String[] getListenerSummaries();
+
+    /**
+     * Reset all metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.eventmanager;
+
+/**
+ * Specification for a component that records metrics for a {@link NativeEventManager}.
+ * <p>
+ * These methods are invoked on native event threads, implementations must therefore be thread-safe, must execute
+ * quickly and should not allocate memory.
+ * <p>
+ * Native event types are the values of {@link uk.co.caprica.vlcj.binding.internal.libvlc_event_e}, synthetic events
+ * (those not generated by the native library) are reported with an event type of -1.
+ * <p>
+ * All durations are measured in nanoseconds.
+ *
+ * @see DefaultEventMetrics
+ */
+public interface EventMetrics {
+
+    /**
+     * A native event was received.
+     *
+     * @param type event type
+     */
+    void eventReceived(int type);
+
+    /**
+     * An event was dispatched to all of its listeners on the native event thread.
+     *
+     * @param type event type
+     * @param nanos total time taken to notify the listeners
+     */
+    void eventDispatched(int type, long nanos);
+
+    /**
+     * A single listener was notified of an event on the native event thread.
+     *
+     * @param listener listener
+     * @param type event type
+     * @param nanos time taken by the listener
+     */
+    void listenerNotified(Object listener, int type, long nanos);
+
+    /**
+     * A listener was removed, any metrics kept for it may be discarded.
+     *
+     * @param listener listener
+     */
+    void listenerRemoved(Object listener);
+}
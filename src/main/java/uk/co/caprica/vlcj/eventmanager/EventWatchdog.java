@@ -0,0 +1,132 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.eventmanager;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Watchdog for listeners that take too long on the native event thread.
+ * <p>
+ * A listener that exceeds the budget is reported to the {@link SlowListenerHandler}, and may be quarantined - a
+ * quarantined listener is no longer notified on the native event thread, instead its events are queued and dispatched
+ * on an executor so that it can no longer delay native event delivery to other listeners.
+ * <p>
+ * Each quarantined listener has its own bounded queue, coalescing and dropping events exactly as for asynchronous
+ * dispatch, so a listener that can not keep up with high frequency events can not grow its queue without limit.
+ *
+ * @param <L> type of the event listener
+ */
+final class EventWatchdog<L> {
+
+    /**
+     * Queue capacity for each quarantined listener, beyond which droppable events are discarded.
+     */
+    static final int QUARANTINE_CAPACITY = 256;
+
+    /**
+     * Time budget for a listener, in nanoseconds.
+     */
+    private final long budgetNanos;
+
+    /**
+     * Flag tracking whether or not slow listeners are quarantined.
+     */
+    private final boolean quarantine;
+
+    /**
+     * Optional handler notified of slow listeners.
+     */
+    private final SlowListenerHandler handler;
+
+    /**
+     * Executor used to dispatch events to quarantined listeners.
+     */
+    private final Executor executor;
+
+    /**
+     * Number of slots available for coalesced events.
+     */
+    private final int slots;
+
+    /**
+     * Quarantined listeners, each with its own dispatcher.
+     */
+    private final ConcurrentMap<L, AsyncEventDispatcher<L>> quarantined = new ConcurrentHashMap<L, AsyncEventDispatcher<L>>();
+
+    EventWatchdog(long budgetNanos, boolean quarantine, SlowListenerHandler handler, Executor executor, int slots) {
+        this.budgetNanos = budgetNanos;
+        this.quarantine = quarantine;
+        this.handler = handler;
+        this.executor = executor;
+        this.slots = slots;
+    }
+
+    boolean isQuarantined(L listener) {
+        return !quarantined.isEmpty() && quarantined.containsKey(listener);
+    }
+
+    /**
+     * Dispatch an event to a quarantined listener.
+     *
+     * @param slot slot for a coalesced event, or -1 if the event is not coalesced
+     * @param event event to dispatch
+     * @param listener listener to notify
+     * @param droppable <code>true</code> if the event may be discarded when the queue is full
+     */
+    void dispatchQuarantined(int slot, EventNotification<L> event, L listener, boolean droppable) {
+        AsyncEventDispatcher<L> dispatcher = quarantined.get(listener);
+        if (dispatcher != null) {
+            dispatcher.dispatch(slot, event, Collections.singletonList(listener), droppable);
+        }
+    }
+
+    void checkBudget(L listener, int type, long nanos) {
+        if (nanos > budgetNanos) {
+            boolean quarantinedNow = quarantine && quarantined.putIfAbsent(listener, new AsyncEventDispatcher<L>(executor, QUARANTINE_CAPACITY, slots)) == null;
+            if (handler != null) {
+                handler.budgetExceeded(listener, type, nanos, quarantinedNow);
+            }
+        }
+    }
+
+    Set<L> quarantined() {
+        return new HashSet<L>(quarantined.keySet());
+    }
+
+    void remove(L listener) {
+        AsyncEventDispatcher<L> dispatcher = quarantined.remove(listener);
+        if (dispatcher != null) {
+            dispatcher.clear();
+        }
+    }
+
+    void clear() {
+        for (AsyncEventDispatcher<L> dispatcher : quarantined.values()) {
+            dispatcher.clear();
+        }
+        quarantined.clear();
+    }
+
+}
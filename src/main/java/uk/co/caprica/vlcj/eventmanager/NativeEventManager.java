@@ -27,14 +27,39 @@ import uk.co.caprica.vlcj.binding.internal.libvlc_callback_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_manager_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+import uk.co.caprica.vlcj.executor.SharedExecutors;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Common implementation for a component that deals with a native LibVlc event manager.
  * <p>
- * Native events will only be delivered if there is at least one event listener.
+ * Listeners may be registered either for all of the native events handled by this component, or for only a specific
+ * set of native events.
+ * <p>
+ * The native callback is attached only for those native events that at least one listener is interested in, and is
+ * attached or detached incrementally for each native event as listeners are added and removed. This is important for
+ * high frequency events, like media player time and position changes, since every native event that is attached must
+ * cross from native code to Java and be decoded, whether any listener is interested in it or not.
+ * <p>
+ * The native library holds a lock on its event manager while it invokes event callbacks, and that same lock is needed to
+ * attach or detach an event - so if listeners are added or removed by an event handler (as for example conditions do)
+ * the native attach and detach are deferred to another thread. The listeners themselves are always updated immediately.
+ * <p>
+ * By default listeners are notified synchronously on the native event thread. Optionally, events may instead be
+ * dispatched asynchronously via an {@link AsyncEventDispatcher}, see {@link #enableAsyncDispatch(Executor, int)}.
+ * <p>
+ * Optionally, the time listeners spend on the native event thread may be recorded, see
+ * {@link #setEventMetrics(EventMetrics)}, and listeners that exceed a time budget may be reported and quarantined, see
+ * {@link #enableWatchdog(long, TimeUnit, boolean, SlowListenerHandler, Executor)}. When neither is enabled, the cost is
+ * a single volatile read per event.
  *
  * @param <E> type of the event object
  * @param <L> type of the event listener
@@ -67,25 +92,75 @@ abstract public class NativeEventManager<E,L> {
     private final String callbackName;
 
     /**
-     * Collection of registered event listeners.
+     * Collection of registered event listeners, together with the native events each is interested in.
      * <p>
      * A copy-on-write collection is used to defend against listeners being added/removed whilst the native thread is
      * dispatching an event to already registered listeners.
      */
-    private final List<L> eventListenerList = new CopyOnWriteArrayList<L>();
+    private final List<Registration<L>> registrationList = new CopyOnWriteArrayList<Registration<L>>();
+
+    /**
+     * Native events that currently have the native callback attached, indexed by native event type relative to the
+     * first event.
+     * <p>
+     * Guarded by the native lock.
+     */
+    private final boolean[] attached;
+
+    /**
+     * Snapshot of the listeners interested in each native event, indexed by native event type relative to the first
+     * event.
+     * <p>
+     * This is rebuilt whenever the registered listeners change so that dispatching a native event requires no search.
+     */
+    private volatile List<L>[] eventListeners;
+
+    /**
+     * Snapshot of all registered listeners, used to dispatch synthetic events.
+     */
+    private volatile List<L> allListeners = Collections.emptyList();
+
+    /**
+     * Asynchronous event dispatcher, <code>null</code> if listeners are notified synchronously.
+     */
+    private volatile AsyncEventDispatcher<L> asyncDispatcher;
+
+    /**
+     * Optional event metrics.
+     */
+    private volatile EventMetrics eventMetrics;
+
+    /**
+     * Optional slow listener watchdog.
+     */
+    private volatile EventWatchdog<L> watchdog;
+
+    /**
+     * Optional native event recorder.
+     */
+    private volatile NativeEventRecorder eventRecorder;
 
     /**
      * Native event callback.
+     * <p>
+     * This is only created when the first native event is attached.
+     * <p>
+     * Guarded by the native lock.
      */
     private EventCallback callback;
 
     /**
-     * Flag tracking if the native event manager callback is active or not.
+     * Lock used to serialise native attach and detach, this is separate from the lock guarding the listeners since a
+     * native event thread may need the latter while the former is waiting on the native event manager.
+     */
+    private final Object nativeLock = new Object();
+
+    /**
+     * Thread currently executing the native event callback, if any.
      * <p>
-     * It is only registered if there is at least one active event listener, and care must be taken not to de-register
-     * more than once.
+     * The native library only ever dispatches one event at a time for any one event manager.
      */
-    private boolean callbackRegistered;
+    private volatile Thread callbackThread;
 
     /**
      * Create a new component to manage native events.
@@ -102,65 +177,335 @@ abstract public class NativeEventManager<E,L> {
         this.firstEvent = firstEvent;
         this.lastEvent = lastEvent;
         this.callbackName = callbackName;
+        this.attached = new boolean[lastEvent.intValue() - firstEvent.intValue() + 1];
+        this.eventListeners = newListenerArray(attached.length);
     }
 
     /**
-     * Add a component to be notified of media events.
+     * Add a component to be notified of all events.
      *
      * @param listener component to notify
      */
     public final void addEventListener(L listener) {
-        if (listener != null) {
-            eventListenerList.add(listener);
-            addNativeEventListener();
-        } else {
-            throw new IllegalArgumentException("Listener must not be null");
+        addRegistration(listener, null);
+    }
+
+    /**
+     * Add a component to be notified of only specific events.
+     * <p>
+     * The native callback will only be attached for those events that at least one listener is interested in.
+     * <p>
+     * Synthetic events, i.e. those not generated by the native library, are always dispatched to all listeners.
+     *
+     * @param listener component to notify
+     * @param events native events the listener is interested in, at least one event must be specified
+     */
+    public final void addEventListener(L listener, libvlc_event_e... events) {
+        if (events == null || events.length == 0) {
+            throw new IllegalArgumentException("At least one event must be specified");
+        }
+        boolean[] interest = new boolean[attached.length];
+        for (libvlc_event_e event : events) {
+            if (event.intValue() < firstEvent.intValue() || event.intValue() > lastEvent.intValue()) {
+                throw new IllegalArgumentException("Event " + event + " is not handled by this event manager");
+            }
+            interest[event.intValue() - firstEvent.intValue()] = true;
         }
+        addRegistration(listener, interest);
     }
 
     /**
-     * Remove a component that was previously interested in notifications of media events.
+     * Remove a component that was previously interested in notifications of events.
      *
      * @param listener component to stop notifying
      */
     public final void removeEventListener(L listener) {
-        eventListenerList.remove(listener);
-        removeNativeEventListener();
+        synchronized (this) {
+            for (Registration<L> registration : registrationList) {
+                if (registration.listener.equals(listener)) {
+                    registrationList.remove(registration);
+                    break;
+                }
+            }
+            updateListeners();
+        }
+        updateNativeEvents();
+        EventMetrics metrics = eventMetrics;
+        if (metrics != null) {
+            metrics.listenerRemoved(listener);
+        }
+        EventWatchdog<L> watchdog = this.watchdog;
+        if (watchdog != null) {
+            watchdog.remove(listener);
+        }
     }
 
     /**
-     * Register a call-back to receive media native events.
+     * Remove all components that were previously interested in notifications of events, other than those retained.
+     * <p>
+     * This is equivalent to removing each listener in turn, but the native events are updated only once.
+     *
+     * @param retained components to keep notifying
      */
-    private void addNativeEventListener() {
-        if (!callbackRegistered && !eventListenerList.isEmpty()) {
-            callbackRegistered = true;
-            callback = new EventCallback();
-            libvlc_event_manager_t mediaEventManager = onGetEventManager(libvlc, eventObject);
-            for (libvlc_event_e event : libvlc_event_e.values()) {
-                if (event.intValue() >= firstEvent.intValue() && event.intValue() <= lastEvent.intValue()) {
-                    libvlc.libvlc_event_attach(mediaEventManager, event.intValue(), callback, null);
+    public final void removeEventListeners(Collection<?> retained) {
+        List<L> removed = new ArrayList<L>();
+        synchronized (this) {
+            for (Registration<L> registration : registrationList) {
+                if (!retained.contains(registration.listener)) {
+                    registrationList.remove(registration);
+                    removed.add(registration.listener);
                 }
             }
+            if (removed.isEmpty()) {
+                return;
+            }
+            updateListeners();
+        }
+        updateNativeEvents();
+        EventMetrics metrics = eventMetrics;
+        EventWatchdog<L> watchdog = this.watchdog;
+        for (L listener : removed) {
+            if (metrics != null) {
+                metrics.listenerRemoved(listener);
+            }
+            if (watchdog != null) {
+                watchdog.remove(listener);
+            }
+        }
+    }
+
+    /**
+     * Dispatch events to listeners asynchronously rather than on the native event thread.
+     * <p>
+     * Events are queued and subsequently dispatched, in order, by a single task at a time running on the executor. Since
+     * listeners no longer run on the native event thread they may call back into LibVLC.
+     * <p>
+     * Events already queued by a previously enabled dispatcher will still be dispatched.
+     *
+     * @param executor executor used to dispatch events
+     * @param capacity queue capacity, beyond which droppable events are discarded
+     * @return dispatcher, this can be used to monitor the queue
+     */
+    public final synchronized AsyncEventDispatcher<L> enableAsyncDispatch(Executor executor, int capacity) {
+        asyncDispatcher = new AsyncEventDispatcher<L>(executor, capacity, attached.length);
+        return asyncDispatcher;
+    }
+
+    /**
+     * Revert to dispatching events to listeners synchronously on the native event thread.
+     * <p>
+     * Events already queued will still be dispatched asynchronously.
+     */
+    public final synchronized void disableAsyncDispatch() {
+        asyncDispatcher = null;
+    }
+
+    /**
+     * Get the asynchronous event dispatcher.
+     *
+     * @return dispatcher, or <code>null</code> if events are dispatched synchronously
+     */
+    public final AsyncEventDispatcher<L> asyncDispatcher() {
+        return asyncDispatcher;
+    }
+
+    /**
+     * Record metrics for events dispatched by this component.
+     * <p>
+     * While metrics are recorded, listeners are timed individually so events are always decoded into an event object
+     * rather than being dispatched directly from native memory.
+     *
+     * @param eventMetrics metrics, or <code>null</code> to stop recording
+     */
+    public final void setEventMetrics(EventMetrics eventMetrics) {
+        this.eventMetrics = eventMetrics;
+    }
+
+    /**
+     * Get the event metrics.
+     *
+     * @return metrics, or <code>null</code> if metrics are not being recorded
+     */
+    public final EventMetrics eventMetrics() {
+        return eventMetrics;
+    }
+
+    /**
+     * Watch for listeners that take longer than a time budget to handle an event on the native event thread.
+     * <p>
+     * A listener that exceeds the budget is reported to the handler, if there is one. If quarantine is enabled, that
+     * listener is also moved off the native event thread - its subsequent events are queued and dispatched, in order, on
+     * the executor. A quarantined listener is no longer timed. Each quarantined listener has its own bounded queue, with
+     * events coalesced and dropped as for {@link #enableAsyncDispatch(Executor, int) asynchronous dispatch}.
+     * <p>
+     * The budget can only be checked after a listener returns, so this does not help with a listener that blocks
+     * indefinitely.
+     * <p>
+     * Events dispatched asynchronously (see {@link #enableAsyncDispatch(Executor, int)}) are not watched.
+     *
+     * @param budget time budget for a single listener to handle a single event
+     * @param unit unit of the budget
+     * @param quarantine <code>true</code> to quarantine listeners that exceed the budget; <code>false</code> to only report them
+     * @param handler handler notified of listeners that exceed the budget, may be <code>null</code>
+     * @param executor executor used to dispatch events to quarantined listeners
+     */
+    public final synchronized void enableWatchdog(long budget, TimeUnit unit, boolean quarantine, SlowListenerHandler handler, Executor executor) {
+        if (watchdog != null) {
+            watchdog.clear();
+        }
+        watchdog = new EventWatchdog<L>(unit.toNanos(budget), quarantine, handler, executor, attached.length);
+    }
+
+    /**
+     * Stop watching for slow listeners.
+     * <p>
+     * Any quarantined listeners revert to being notified on the native event thread.
+     */
+    public final synchronized void disableWatchdog() {
+        if (watchdog != null) {
+            watchdog.clear();
+            watchdog = null;
+        }
+    }
+
+    /**
+     * Get the listeners currently quarantined by the watchdog.
+     *
+     * @return copy of the quarantined listeners, empty if the watchdog is not enabled
+     */
+    public final Set<L> quarantinedListeners() {
+        EventWatchdog<L> watchdog = this.watchdog;
+        return watchdog != null ? watchdog.quarantined() : Collections.<L>emptySet();
+    }
+
+    /**
+     * Record the native events received by this component.
+     * <p>
+     * Every native event that is attached is recorded, whether or not any listener is interested in it. The recording
+     * can subsequently be replayed via {@link NativeEventReplayer}.
+     *
+     * @param eventRecorder recorder, or <code>null</code> to stop recording
+     */
+    public final void setEventRecorder(NativeEventRecorder eventRecorder) {
+        this.eventRecorder = eventRecorder;
+    }
+
+    /**
+     * Add a new listener registration.
+     *
+     * @param listener component to notify
+     * @param interest flags for each native event the listener is interested in, or <code>null</code> for all events
+     */
+    private void addRegistration(L listener, boolean[] interest) {
+        if (listener != null) {
+            synchronized (this) {
+                registrationList.add(new Registration<L>(listener, interest));
+                updateListeners();
+            }
+            updateNativeEvents();
+        } else {
+            throw new IllegalArgumentException("Listener must not be null");
         }
     }
 
     /**
-     * De-register the call-back used to receive native media events.
+     * Rebuild the listener snapshots.
+     * <p>
+     * The snapshots are always rebuilt before the native events are updated so that a newly attached native event will
+     * always find its listeners.
      */
-    private void removeNativeEventListener() {
-        if (callbackRegistered && eventListenerList.isEmpty()) {
-            callbackRegistered = false;
-            libvlc_event_manager_t mediaEventManager = onGetEventManager(libvlc, eventObject);
-            for (libvlc_event_e event : libvlc_event_e.values()) {
-                if (event.intValue() >= firstEvent.intValue() && event.intValue() <= lastEvent.intValue()) {
-                    libvlc.libvlc_event_detach(mediaEventManager, event.intValue(), callback, null);
+    private synchronized void updateListeners() {
+        List<L>[] newEventListeners = newListenerArray(attached.length);
+        List<L> newAllListeners = new ArrayList<L>(registrationList.size());
+        for (int i = 0; i < attached.length; i++) {
+            newEventListeners[i] = new ArrayList<L>(2);
+        }
+        for (Registration<L> registration : registrationList) {
+            newAllListeners.add(registration.listener);
+            for (int i = 0; i < attached.length; i++) {
+                if (registration.isInterested(i)) {
+                    newEventListeners[i].add(registration.listener);
                 }
             }
+        }
+        this.eventListeners = newEventListeners;
+        this.allListeners = newAllListeners;
+    }
+
+    /**
+     * Attach the native callback for each native event that now has at least one interested listener and detach it for
+     * each native event that no longer has any.
+     * <p>
+     * If this is invoked on the native event callback thread, the update is deferred to another thread.
+     */
+    private void updateNativeEvents() {
+        if (Thread.currentThread() == callbackThread) {
+            SharedExecutors.defaultExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    updateNativeEvents();
+                }
+            });
+        } else {
+            synchronized (nativeLock) {
+                attachNativeEvents();
+            }
+        }
+    }
+
+    private void attachNativeEvents() {
+        List<L>[] eventListeners = this.eventListeners;
+        libvlc_event_manager_t eventManager = null;
+        for (int i = 0; i < attached.length; i++) {
+            boolean wanted = !eventListeners[i].isEmpty() || isEventRequired(firstEvent.intValue() + i);
+            if (wanted != attached[i]) {
+                libvlc_event_e event = libvlc_event_e.event(firstEvent.intValue() + i);
+                if (event != null) {
+                    if (eventManager == null) {
+                        eventManager = onGetEventManager(libvlc, eventObject);
+                    }
+                    if (wanted) {
+                        if (callback == null) {
+                            callback = new EventCallback();
+                        }
+                        libvlc.libvlc_event_attach(eventManager, event.intValue(), callback, null);
+                    } else {
+                        libvlc.libvlc_event_detach(eventManager, event.intValue(), callback, null);
+                    }
+                }
+                attached[i] = wanted;
+            }
+        }
+        if (callback != null && !isAnyAttached()) {
             callback.release();
             callback = null;
         }
     }
 
+    /**
+     * Re-evaluate which native events must be attached.
+     * <p>
+     * An implementation that overrides {@link #isEventRequired(int)} must invoke this whenever the result of that method
+     * may have changed.
+     */
+    protected final void refreshNativeEvents() {
+        updateNativeEvents();
+    }
+
+    /**
+     * Is the native callback currently attached for any native event?
+     *
+     * @return <code>true</code> if at least one native event is attached; <code>false</code> otherwise
+     */
+    private boolean isAnyAttached() {
+        for (boolean value : attached) {
+            if (value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Raise a new event (dispatch it to listeners).
      * <p>
@@ -168,23 +513,196 @@ abstract public class NativeEventManager<E,L> {
      * block.
      * <p>
      * It is also generally <em>forbidden</em> for an event handler to call back into LibVLC.
+     * <p>
+     * This method is used to raise synthetic events, so the event is dispatched to all listeners irrespective of the
+     * native events they registered for.
      *
      * @param event event to raise, may be <code>null</code> and if so will be ignored
      */
     public final void raiseEvent(EventNotification<L> event) {
-        if (event != null && !eventListenerList.isEmpty()) {
-            for (L listener : eventListenerList) {
-                 event.notify(listener);
+        if (event != null) {
+            AsyncEventDispatcher<L> async = asyncDispatcher;
+            if (async == null) {
+                if (eventMetrics == null && watchdog == null) {
+                    notifyListeners(event, allListeners);
+                } else {
+                    notifyListenersMonitored(-1, event, allListeners);
+                }
+            } else {
+                async.dispatch(-1, event, allListeners, false);
             }
         }
     }
 
+    /**
+     * Raise a new native event, dispatching it only to those listeners that are interested in it.
+     * <p>
+     * When dispatching synchronously, the native event is first offered to
+     * {@link #onDispatchEvent(int, Pointer, Object, List)} so that it can be dispatched directly from native memory, only
+     * if that declines is an event object created.
+     *
+     * @param event native event
+     */
+    private void raiseNativeEvent(Pointer event) {
+        int type = event.getInt(libvlc_event_t.TYPE_OFFSET);
+        int index = type - firstEvent.intValue();
+        if (index >= 0 && index < attached.length) {
+            EventMetrics metrics = eventMetrics;
+            if (metrics != null) {
+                metrics.eventReceived(type);
+            }
+            NativeEventRecorder recorder = eventRecorder;
+            if (recorder != null) {
+                recorder.record(type, event, isPrimitiveEvent(type));
+            }
+            onNativeEvent(type, event, eventObject);
+            List<L> listeners = eventListeners[index];
+            if (!listeners.isEmpty()) {
+                AsyncEventDispatcher<L> async = asyncDispatcher;
+                if (async == null) {
+                    if (metrics == null && watchdog == null) {
+                        if (!onDispatchEvent(type, event, eventObject, listeners)) {
+                            EventNotification<L> notification = onDecodeEvent(libvlc, type, event, eventObject);
+                            if (notification != null) {
+                                notifyListeners(notification, listeners);
+                            }
+                        }
+                    } else {
+                        // Listeners are timed individually, so they can not be dispatched directly from native memory
+                        EventNotification<L> notification = onDecodeEvent(libvlc, type, event, eventObject);
+                        if (notification != null) {
+                            notifyListenersMonitored(type, notification, listeners);
+                        }
+                    }
+                } else {
+                    // The native memory is gone once this method returns, so an event object is always needed
+                    EventNotification<L> notification = onDecodeEvent(libvlc, type, event, eventObject);
+                    if (notification != null) {
+                        async.dispatch(isCoalescedEvent(type) ? index : -1, notification, listeners, isDroppableEvent(type));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Raise a native event replayed from a recording, exactly as if it had been received from the native library.
+     * <p>
+     * This is used by {@link NativeEventReplayer}, and may be used to drive the event pipeline without the native library,
+     * e.g. for benchmarks.
+     *
+     * @param event native event, laid out as a native <code>libvlc_event_t</code>
+     */
+    public final void replayNativeEvent(Pointer event) {
+        Thread previousThread = callbackThread;
+        callbackThread = Thread.currentThread();
+        try {
+            raiseNativeEvent(event);
+        }
+        finally {
+            callbackThread = previousThread;
+        }
+    }
+
+    /**
+     * Notify listeners of an event.
+     *
+     * @param event event
+     * @param listeners listeners to notify
+     */
+    private void notifyListeners(EventNotification<L> event, List<L> listeners) {
+        for (int i = 0; i < listeners.size(); i++) {
+            event.notify(listeners.get(i));
+        }
+    }
+
+    /**
+     * Notify listeners of an event, timing each listener and recording metrics and checking the time budget as needed.
+     *
+     * @param type event type, or -1 for a synthetic event
+     * @param event event
+     * @param listeners listeners to notify
+     */
+    private void notifyListenersMonitored(int type, EventNotification<L> event, List<L> listeners) {
+        EventMetrics metrics = eventMetrics;
+        EventWatchdog<L> watchdog = this.watchdog;
+        long dispatchStart = System.nanoTime();
+        for (int i = 0; i < listeners.size(); i++) {
+            L listener = listeners.get(i);
+            if (watchdog != null && watchdog.isQuarantined(listener)) {
+                boolean nativeEvent = type >= 0;
+                watchdog.dispatchQuarantined(nativeEvent && isCoalescedEvent(type) ? type - firstEvent.intValue() : -1, event, listener, nativeEvent && isDroppableEvent(type));
+                continue;
+            }
+            long start = System.nanoTime();
+            event.notify(listener);
+            long nanos = System.nanoTime() - start;
+            if (metrics != null) {
+                metrics.listenerNotified(listener, type, nanos);
+            }
+            if (watchdog != null) {
+                watchdog.checkBudget(listener, type, nanos);
+            }
+        }
+        if (metrics != null) {
+            metrics.eventDispatched(type, System.nanoTime() - dispatchStart);
+        }
+    }
+
     /**
      * Release this component.
      */
     public final void release() {
-        eventListenerList.clear();
-        removeNativeEventListener();
+        synchronized (this) {
+            if (asyncDispatcher != null) {
+                asyncDispatcher.clear();
+                asyncDispatcher = null;
+            }
+            if (watchdog != null) {
+                watchdog.clear();
+                watchdog = null;
+            }
+            registrationList.clear();
+            updateListeners();
+        }
+        updateNativeEvents();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<L>[] newListenerArray(int size) {
+        List<L>[] result = (List<L>[]) new List<?>[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = Collections.emptyList();
+        }
+        return result;
+    }
+
+    /**
+     * A registered listener, with the native events it is interested in.
+     *
+     * @param <L> type of the event listener
+     */
+    private static final class Registration<L> {
+
+        /**
+         * Listener.
+         */
+        private final L listener;
+
+        /**
+         * Flags for each native event the listener is interested in, indexed relative to the first event, or
+         * <code>null</code> if the listener is interested in all events.
+         */
+        private final boolean[] interest;
+
+        private Registration(L listener, boolean[] interest) {
+            this.listener = listener;
+            this.interest = interest;
+        }
+
+        private boolean isInterested(int index) {
+            return interest == null || interest[index];
+        }
     }
 
     /**
@@ -200,8 +718,14 @@ abstract public class NativeEventManager<E,L> {
         }
 
         @Override
-        public void callback(libvlc_event_t event, Pointer userData) {
-            raiseEvent(onCreateEvent(libvlc, event, eventObject));
+        public void callback(Pointer event, Pointer userData) {
+            callbackThread = Thread.currentThread();
+            try {
+                raiseNativeEvent(event);
+            }
+            finally {
+                callbackThread = null;
+            }
         }
 
         private void release() {
@@ -228,4 +752,110 @@ abstract public class NativeEventManager<E,L> {
      */
     protected abstract EventNotification<L> onCreateEvent(LibVlc libvlc, libvlc_event_t event, E eventObject);
 
+    /**
+     * Dispatch a native event directly to listeners, without creating an event object.
+     * <p>
+     * This is an optional optimisation for high frequency events - an implementation reads whatever primitive values
+     * it needs directly from native memory (using the offsets declared by {@link libvlc_event_t}) and invokes the
+     * listeners itself. No allocation should be performed.
+     * <p>
+     * The native memory is only valid for the duration of this method.
+     * <p>
+     * The default implementation declines to dispatch any event.
+     *
+     * @param type native event type
+     * @param event native event
+     * @param eventObject component that generated the event
+     * @param listeners listeners interested in the event, this list must not be modified
+     * @return <code>true</code> if the event was dispatched; <code>false</code> if an event object must be created
+     */
+    protected boolean onDispatchEvent(int type, Pointer event, E eventObject, List<L> listeners) {
+        return false;
+    }
+
+    /**
+     * Is a native event required irrespective of whether any listener registered with this component is interested in
+     * it?
+     * <p>
+     * This enables an implementation to manage its own specialised listeners, notifying them from
+     * {@link #onNativeEvent(int, Pointer, Object)}. The default implementation requires no events.
+     *
+     * @param type native event type
+     * @return <code>true</code> if the native event must be attached; <code>false</code> otherwise
+     */
+    protected boolean isEventRequired(int type) {
+        return false;
+    }
+
+    /**
+     * Handle a native event before it is dispatched to the registered listeners.
+     * <p>
+     * This is invoked on the native event thread for every attached native event, irrespective of whether events are
+     * dispatched asynchronously. The native memory is only valid for the duration of this method. No allocation should
+     * be performed.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param type native event type
+     * @param event native event
+     * @param eventObject component that generated the event
+     */
+    protected void onNativeEvent(int type, Pointer event, E eventObject) {
+    }
+
+    /**
+     * Create an event directly from native memory.
+     * <p>
+     * An implementation may override this to avoid reading a native structure for events that carry only primitive
+     * values. The default implementation reads the native structure and delegates to
+     * {@link #onCreateEvent(LibVlc, libvlc_event_t, Object)}.
+     *
+     * @param libvlc native library
+     * @param type native event type
+     * @param event native event
+     * @param eventObject component that generated the event
+     * @return event, or <code>null</code> if the event could not be handled
+     */
+    protected EventNotification<L> onDecodeEvent(LibVlc libvlc, int type, Pointer event, E eventObject) {
+        return onCreateEvent(libvlc, new libvlc_event_t(event), eventObject);
+    }
+
+    /**
+     * Should an event of a particular type be coalesced when dispatching asynchronously?
+     * <p>
+     * Only the latest value of a coalesced event is dispatched, this is appropriate for high frequency events that
+     * report a current value, like a time or position. The default implementation coalesces nothing.
+     *
+     * @param type native event type
+     * @return <code>true</code> if the event should be coalesced; <code>false</code> otherwise
+     */
+    protected boolean isCoalescedEvent(int type) {
+        return false;
+    }
+
+    /**
+     * May an event of a particular type be dropped when dispatching asynchronously and the queue is full?
+     * <p>
+     * Events signifying a state transition must never be dropped. The default implementation drops nothing.
+     *
+     * @param type native event type
+     * @return <code>true</code> if the event may be dropped; <code>false</code> otherwise
+     */
+    protected boolean isDroppableEvent(int type) {
+        return false;
+    }
+
+    /**
+     * Does the payload of a native event consist only of primitive values?
+     * <p>
+     * Only such events can be recorded in full and subsequently replayed, any native pointer in a payload would be
+     * meaningless later. The default implementation conservatively assumes no event is primitive.
+     *
+     * @param type native event type
+     * @return <code>true</code> if the payload contains no native pointers; <code>false</code> otherwise
+     */
+    protected boolean isPrimitiveEvent(int type) {
+        return false;
+    }
+
 }
@@ -0,0 +1,190 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.eventmanager;
+
+import com.sun.jna.Pointer;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Records a stream of native events to a compact binary log.
+ * <p>
+ * Each native event is recorded with the time elapsed since the previous event, its type and the raw bytes of its
+ * payload, so that the log can subsequently be fed back through an event manager by a {@link NativeEventReplayer}
+ * without LibVLC.
+ * <p>
+ * Only payloads consisting solely of primitive values can be replayed, since any native pointer in a payload would be
+ * meaningless later. For other events only the type and timing is recorded, a replayer skips them.
+ * <p>
+ * The log format is a header (a magic number and a format version) followed by one record per event - the elapsed time
+ * in nanoseconds, the event type and the payload length plus one (zero signifying the payload was not recorded) are each
+ * written as unsigned variable-length integers, followed by the payload bytes. Trailing zero bytes of a payload are not
+ * written. A typical event occupies only a handful of bytes.
+ * <p>
+ * Recording is invoked on the native event thread, it does not allocate. If writing fails, recording stops and the
+ * failure is available via {@link #failure()}.
+ * <p>
+ * The recorder must be closed to flush the log.
+ */
+public final class NativeEventRecorder {
+
+    /**
+     * Magic number identifying an event log.
+     */
+    static final int MAGIC = 0x564c4a45;
+
+    /**
+     * Log format version.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Size of the event payload, i.e. the native event union.
+     */
+    static final int PAYLOAD_SIZE = libvlc_event_t.SIZE - libvlc_event_t.U_OFFSET;
+
+    private final DataOutputStream out;
+
+    /**
+     * Buffer used to read each payload from native memory.
+     */
+    private final byte[] payload = new byte[PAYLOAD_SIZE];
+
+    /**
+     * Time at which the previous event was recorded.
+     */
+    private long lastNanos;
+
+    private long recordedCount;
+
+    private IOException failure;
+
+    private boolean closed;
+
+    /**
+     * Create a recorder.
+     *
+     * @param out stream to write the log to, this is buffered by the recorder
+     * @throws IOException if the log header could not be written
+     */
+    public NativeEventRecorder(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        this.lastNanos = System.nanoTime();
+    }
+
+    /**
+     * Record a native event.
+     * <p>
+     * This is generally invoked by an event manager, but may also be used to synthesise a log.
+     *
+     * @param type native event type
+     * @param event native event
+     * @param primitive <code>true</code> if the event payload consists only of primitive values and should be recorded
+     */
+    public synchronized void record(int type, Pointer event, boolean primitive) {
+        if (closed || failure != null) {
+            return;
+        }
+        long now = System.nanoTime();
+        try {
+            writeVarLong(now - lastNanos);
+            writeVarLong(type);
+            if (primitive) {
+                event.read(libvlc_event_t.U_OFFSET, payload, 0, PAYLOAD_SIZE);
+                int length = PAYLOAD_SIZE;
+                while (length > 0 && payload[length - 1] == 0) {
+                    length--;
+                }
+                writeVarLong(length + 1);
+                out.write(payload, 0, length);
+            } else {
+                writeVarLong(0);
+            }
+            recordedCount++;
+        }
+        catch (IOException e) {
+            failure = e;
+        }
+        lastNanos = now;
+    }
+
+    /**
+     * Get the number of events recorded.
+     *
+     * @return recorded event count
+     */
+    public synchronized long recordedCount() {
+        return recordedCount;
+    }
+
+    /**
+     * Get the failure that stopped recording.
+     *
+     * @return failure, or <code>null</code> if there has been no failure
+     */
+    public synchronized IOException failure() {
+        return failure;
+    }
+
+    /**
+     * Flush any buffered events.
+     *
+     * @throws IOException if an error occurs
+     */
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Stop recording, flush and close the log.
+     *
+     * @throws IOException if an error occurs
+     */
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            out.close();
+        }
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(60);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("recordedCount=").append(recordedCount()).append(',');
+        sb.append("failure=").append(failure()).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.eventmanager;
+
+import com.sun.jna.Memory;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a binary log of native events, previously captured by a {@link NativeEventRecorder}, through an event
+ * manager.
+ * <p>
+ * Each event is rebuilt in native memory and raised exactly as if it had come from the native library, on the thread
+ * invoking {@link #replay(NativeEventManager, double)} - so the full event pipeline is exercised, including direct
+ * dispatch, asynchronous dispatch, metrics and listeners, but LibVLC itself is not needed.
+ * <p>
+ * Events recorded without their payload are skipped.
+ * <p>
+ * A replayer reads its log once, to replay the same log again create a new replayer. For benchmarks it is preferable to
+ * read the log into memory first so that the replay measures only the event pipeline.
+ */
+public final class NativeEventReplayer {
+
+    private final DataInputStream in;
+
+    /**
+     * Native memory used to rebuild each event, allocated once and reused.
+     */
+    private final Memory event = new Memory(libvlc_event_t.SIZE);
+
+    private final byte[] payload = new byte[NativeEventRecorder.PAYLOAD_SIZE];
+
+    private long replayedCount;
+
+    private long skippedCount;
+
+    /**
+     * Create a replayer.
+     *
+     * @param in stream to read the log from, this is buffered by the replayer
+     * @throws IOException if the stream does not contain a supported event log
+     */
+    public NativeEventReplayer(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        if (this.in.readInt() != NativeEventRecorder.MAGIC) {
+            throw new IOException("Not a native event log");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != NativeEventRecorder.VERSION) {
+            throw new IOException("Unsupported native event log version " + version);
+        }
+    }
+
+    /**
+     * Replay the log through an event manager.
+     * <p>
+     * This call will <strong>block</strong> until the whole log has been replayed.
+     *
+     * @param eventManager event manager
+     * @param speed replay speed relative to the original timing, e.g. 1.0 for the original speed, 10.0 for ten times
+     *              faster, or zero (or less) to replay as fast as possible
+     * @return number of events replayed
+     * @throws IOException if the log could not be read
+     */
+    public long replay(NativeEventManager<?, ?> eventManager, double speed) throws IOException {
+        long start = System.nanoTime();
+        long elapsed = 0;
+        try {
+            for (;;) {
+                long delta;
+                try {
+                    delta = readVarLong();
+                }
+                catch (EOFException e) {
+                    break;
+                }
+                int type = (int) readVarLong();
+                int length = (int) readVarLong() - 1;
+                elapsed += delta;
+                if (length < 0) {
+                    skippedCount++;
+                    continue;
+                }
+                if (length > payload.length) {
+                    throw new IOException("Invalid payload length " + length);
+                }
+                in.readFully(payload, 0, length);
+                if (speed > 0) {
+                    awaitTime(start + (long) (elapsed / speed));
+                }
+                event.clear();
+                event.setInt(libvlc_event_t.TYPE_OFFSET, type);
+                event.write(libvlc_event_t.U_OFFSET, payload, 0, length);
+                eventManager.replayNativeEvent(event);
+                replayedCount++;
+            }
+        }
+        finally {
+            in.close();
+        }
+        return replayedCount;
+    }
+
+    /**
+     * Get the number of events replayed.
+     *
+     * @return replayed event count
+     */
+    public long replayedCount() {
+        return replayedCount;
+    }
+
+    /**
+     * Get the number of events skipped because their payload was not recorded.
+     *
+     * @return skipped event count
+     */
+    public long skippedCount() {
+        return skippedCount;
+    }
+
+    private void awaitTime(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private long readVarLong() throws IOException {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 63) {
+                throw new IOException("Malformed native event log");
+            }
+            b = shift == 0 ? in.readUnsignedByte() : readByte();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    /**
+     * Read a byte within a variable-length integer, where the end of the stream is always an error.
+     *
+     * @return byte
+     * @throws IOException if an error occurs
+     */
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new IOException("Truncated native event log");
+        }
+        return b;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(60);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("replayedCount=").append(replayedCount).append(',');
+        sb.append("skippedCount=").append(skippedCount).append(']');
+        return sb.toString();
+    }
+
+}
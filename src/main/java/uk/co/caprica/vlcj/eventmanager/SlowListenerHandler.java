@@ -0,0 +1,40 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.eventmanager;
+
+/**
+ * Specification for a component that is notified when an event listener exceeds its time budget on the native event
+ * thread.
+ * <p>
+ * This is invoked on the native event thread, so implementations must execute quickly, must never block, and must
+ * not call back into LibVLC.
+ */
+public interface SlowListenerHandler {
+
+    /**
+     * A listener took longer than the permitted budget to handle an event on the native event thread.
+     *
+     * @param listener listener
+     * @param type event type, or -1 for a synthetic event
+     * @param nanos time taken by the listener, in nanoseconds
+     * @param quarantined <code>true</code> if the listener has now been quarantined; <code>false</code> otherwise
+     */
+    void budgetExceeded(Object listener, int type, long nanos, boolean quarantined);
+}
@@ -0,0 +1,205 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.executor;
+
+import java.util.LinkedList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor that runs tasks one at a time, in submission order, using threads borrowed from another (usually shared)
+ * executor.
+ * <p>
+ * This gives each component the ordering guarantees of its own single-threaded executor without the cost of a
+ * dedicated thread - no thread is used at all when there are no tasks to run.
+ * <p>
+ * Only one task for this executor is ever submitted to the underlying executor at a time, and each task is submitted
+ * separately so that a busy component can not monopolise a shared executor.
+ */
+public final class SerialExecutor implements Executor {
+
+    /**
+     * Executor that provides the threads to run tasks.
+     */
+    private final Executor executor;
+
+    /**
+     * Tasks waiting to run.
+     */
+    private final LinkedList<Runnable> tasks = new LinkedList<Runnable>();
+
+    /**
+     * Runs the next waiting task.
+     */
+    private final Runnable runNext = new RunNextTask();
+
+    /**
+     * Thread currently running a task, <code>null</code> if no task is running or scheduled.
+     */
+    private Thread activeThread;
+
+    /**
+     * Flag tracking whether or not a task is currently scheduled or running.
+     */
+    private boolean active;
+
+    /**
+     * Flag tracking whether or not this executor has been shut down.
+     */
+    private boolean shutdown;
+
+    /**
+     * Create a serial executor.
+     *
+     * @param executor executor that provides the threads to run tasks
+     */
+    public SerialExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor has been shut down");
+            }
+            tasks.add(task);
+            if (active) {
+                return;
+            }
+            active = true;
+        }
+        try {
+            executor.execute(runNext);
+        }
+        catch (RejectedExecutionException e) {
+            // Otherwise this executor would stay active with nothing scheduled, and never run another task
+            synchronized (this) {
+                tasks.removeLastOccurrence(task);
+                finished();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Shut down this executor.
+     * <p>
+     * Tasks that are waiting to run are discarded, and no new tasks will be accepted.
+     * <p>
+     * If a task is currently running, wait for it to finish - up to the specified timeout. A running task is not
+     * interrupted since the thread belongs to the underlying executor. If this method is invoked from the task that is
+     * currently running then there is no wait.
+     *
+     * @param timeout maximum time to wait for a running task to finish
+     * @param unit unit of the timeout
+     * @return <code>true</code> if no task is running; <code>false</code> if the wait timed out
+     */
+    public synchronized boolean shutdown(long timeout, TimeUnit unit) {
+        shutdown = true;
+        tasks.clear();
+        if (activeThread == Thread.currentThread()) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            while (active) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Has this executor been shut down?
+     *
+     * @return <code>true</code> if shut down; <code>false</code> otherwise
+     */
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Task that runs the next waiting task, then schedules itself again if there are more tasks waiting.
+     */
+    private class RunNextTask implements Runnable {
+
+        @Override
+        public void run() {
+            Runnable task;
+            synchronized (SerialExecutor.this) {
+                task = tasks.poll();
+                if (task == null) {
+                    finished();
+                    return;
+                }
+                activeThread = Thread.currentThread();
+            }
+            try {
+                task.run();
+            }
+            finally {
+                boolean more;
+                synchronized (SerialExecutor.this) {
+                    activeThread = null;
+                    more = !tasks.isEmpty();
+                    if (!more) {
+                        finished();
+                    }
+                }
+                if (more) {
+                    try {
+                        executor.execute(this);
+                    }
+                    catch (RejectedExecutionException e) {
+                        // The waiting tasks are kept, the next task submitted schedules them again
+                        synchronized (SerialExecutor.this) {
+                            finished();
+                        }
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Mark this executor as having no task scheduled or running, waking up any thread waiting in shutdown.
+     * <p>
+     * Must be invoked while holding the lock on this executor.
+     */
+    private void finished() {
+        active = false;
+        notifyAll();
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.executor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the default executor shared by all media players.
+ * <p>
+ * The default executor creates daemon threads on demand and retires them when they have been idle for a short time, so
+ * when nothing is happening no threads are used at all.
+ * <p>
+ * Media players wrap the shared executor with a {@link SerialExecutor} to guarantee that their own tasks run in order.
+ */
+public final class SharedExecutors {
+
+    /**
+     * Time after which an idle thread is retired, in seconds.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * Lazily created default executor.
+     */
+    private static Executor defaultExecutor;
+
+    /**
+     * Get the default shared executor.
+     *
+     * @return executor
+     */
+    public static synchronized Executor defaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new DaemonThreadFactory("vlcj-task"));
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Factory that creates named daemon threads.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final String name;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private SharedExecutors() {
+    }
+
+}
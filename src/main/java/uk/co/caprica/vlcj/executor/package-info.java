@@ -0,0 +1,4 @@
+/**
+ * Executor components used to run tasks off of native callback threads.
+ */
+package uk.co.caprica.vlcj.executor;
@@ -0,0 +1,63 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+import java.util.List;
+
+/**
+ * Shard policy that always selects the same shard for equal affinity keys.
+ * <p>
+ * The shard is selected by the hash code of the key, e.g. an application might use a channel or customer identifier so
+ * that related media players share a native library instance.
+ * <p>
+ * If there is no key, the selection is delegated to another policy.
+ */
+public final class AffinityShardPolicy implements ShardPolicy {
+
+    /**
+     * Policy used when there is no affinity key.
+     */
+    private final ShardPolicy fallbackPolicy;
+
+    /**
+     * Create an affinity policy that selects shards in turn when there is no affinity key.
+     */
+    public AffinityShardPolicy() {
+        this(new RoundRobinShardPolicy());
+    }
+
+    /**
+     * Create an affinity policy.
+     *
+     * @param fallbackPolicy policy used when there is no affinity key
+     */
+    public AffinityShardPolicy(ShardPolicy fallbackPolicy) {
+        this.fallbackPolicy = fallbackPolicy;
+    }
+
+    @Override
+    public Shard select(List<Shard> shards, Object key) {
+        if (key != null) {
+            return shards.get((key.hashCode() & Integer.MAX_VALUE) % shards.size());
+        } else {
+            return fallbackPolicy.select(shards, null);
+        }
+    }
+
+}
@@ -94,6 +94,18 @@ public final class ApplicationService extends BaseService {
         return new NativeLog(libvlc, instance);
     }
 
+    /**
+     * Create a new native log component that notifies listeners on a dedicated thread.
+     * <p>
+     * See {@link NativeLog}.
+     *
+     * @param queueCapacity maximum number of messages waiting to be dispatched to listeners
+     * @return native log component
+     */
+    public NativeLog newLog(int queueCapacity) {
+        return new NativeLog(libvlc, instance, queueCapacity);
+    }
+
     /**
      * Get the time as defined by LibVLC.
      * <p>
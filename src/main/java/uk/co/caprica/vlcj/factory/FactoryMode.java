@@ -0,0 +1,45 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+/**
+ * Enumeration of media player factory modes.
+ */
+public enum FactoryMode {
+
+    /**
+     * The factory can create any type of media player, including those that embed video in AWT or Swing components.
+     * <p>
+     * On Linux the native AWT and X11 libraries are initialised before the native library is loaded.
+     */
+    DEFAULT,
+
+    /**
+     * The factory is only used to create media players that need no user interface, e.g. a
+     * {@link uk.co.caprica.vlcj.player.directaudio.DirectAudioPlayer} or a
+     * {@link uk.co.caprica.vlcj.player.direct.DirectMediaPlayer}.
+     * <p>
+     * No AWT, Swing or X11 classes or native libraries are loaded, reducing start-up time and memory use. Media players
+     * that embed video must not be created by a headless factory.
+     * <p>
+     * On Linux, a {@link #DEFAULT} factory can not be created after a headless factory has loaded the native library.
+     */
+    HEADLESS
+
+}
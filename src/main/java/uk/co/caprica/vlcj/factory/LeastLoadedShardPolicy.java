@@ -0,0 +1,44 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+import java.util.List;
+
+/**
+ * Shard policy that selects the shard with the fewest live media players, ignoring any affinity key.
+ * <p>
+ * If more than one shard has the fewest media players, the first of them is selected.
+ */
+public final class LeastLoadedShardPolicy implements ShardPolicy {
+
+    @Override
+    public Shard select(List<Shard> shards, Object key) {
+        Shard result = null;
+        int resultLoad = Integer.MAX_VALUE;
+        for (Shard shard : shards) {
+            int load = shard.load();
+            if (load < resultLoad) {
+                result = shard;
+                resultLoad = load;
+            }
+        }
+        return result;
+    }
+
+}
@@ -20,10 +20,13 @@
 package uk.co.caprica.vlcj.factory;
 
 import com.sun.jna.Native;
+import uk.co.caprica.vlcj.async.AsyncResult;
+import uk.co.caprica.vlcj.binding.DirectLibVlc;
 import uk.co.caprica.vlcj.binding.LibVlc;
 import uk.co.caprica.vlcj.binding.RuntimeUtil;
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
 import uk.co.caprica.vlcj.discovery.NativeDiscovery;
+import uk.co.caprica.vlcj.executor.SharedExecutors;
 import uk.co.caprica.vlcj.player.base.MediaPlayer;
 import uk.co.caprica.vlcj.version.LibVlcVersion;
 
@@ -56,14 +59,28 @@ import java.util.Collection;
  * <p>
  * It is always a better strategy to reuse media player instances, rather than repeatedly creating
  * and destroying instances.
+ * <p>
+ * Creating a factory loads and initialises the native library, this can take a significant amount of time (especially
+ * the first time, when nothing is cached by the operating system). A factory can be created without blocking the calling
+ * thread by {@link #createAsync(NativeDiscovery, NativeMapping, FactoryMode, String...)}, and the time taken by each phase of creating
+ * the factory is reported by {@link #startupReport()}.
+ * <p>
+ * On Linux, the native initialisation needed by a {@link FactoryMode#DEFAULT} factory must be done before the native
+ * library is loaded. If an application uses both modes, the first factory it creates must therefore be a default
+ * factory - creating a default factory after a {@link FactoryMode#HEADLESS} factory has loaded the native library
+ * fails with an {@link IllegalStateException}.
  */
 public class MediaPlayerFactory {
 
-    static {
-        if (RuntimeUtil.isNix()) {
-            LinuxNativeInit.init();
-        }
-    }
+    /**
+     * Flag if the one-off native initialisation has been done.
+     */
+    private static boolean nativeInitDone;
+
+    /**
+     * Flag if the native library has been loaded by this class.
+     */
+    private static boolean nativeLibraryLoaded;
 
     private final LibVlc libvlc; // FIXME maybe just protected and get rid of the getter?
 
@@ -89,6 +106,16 @@ public class MediaPlayerFactory {
 
     private final VideoSurfaceService videoSurfaceService;
 
+    /**
+     * Time taken by each phase of creating this factory.
+     */
+    private final StartupReport startupReport;
+
+    /**
+     * Factory mode.
+     */
+    private final FactoryMode mode;
+
     /**
      * Create a new media player factory.
      *
@@ -96,9 +123,82 @@ public class MediaPlayerFactory {
      * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
      */
     public MediaPlayerFactory(NativeDiscovery discovery, String... libvlcArgs) {
-        this.libvlc         = discoverNativeLibrary(discovery);
+        this(discovery, NativeMapping.INTERFACE, libvlcArgs);
+    }
+
+    /**
+     * Create a new media player factory, choosing how the native library functions are bound.
+     * <p>
+     * {@link NativeMapping#DIRECT} reduces the per-call overhead of the most frequently invoked functions, e.g. those
+     * used to poll the time, position and state of media players.
+     *
+     * @param discovery optional native discovery implementation, used to locate the native LibVLC library, may be <code>null</code>
+     * @param mapping how the native library functions are bound
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     */
+    public MediaPlayerFactory(NativeDiscovery discovery, NativeMapping mapping, String... libvlcArgs) {
+        this(discovery, mapping, FactoryMode.DEFAULT, libvlcArgs);
+    }
+
+    /**
+     * Create a new media player factory, choosing how the native library functions are bound and the factory mode.
+     * <p>
+     * A {@link FactoryMode#HEADLESS} factory does not load any AWT, Swing or X11 classes or native libraries, but it
+     * must only be used to create media players that need no user interface.
+     *
+     * @param discovery optional native discovery implementation, used to locate the native LibVLC library, may be <code>null</code>
+     * @param mapping how the native library functions are bound
+     * @param mode factory mode
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     */
+    public MediaPlayerFactory(NativeDiscovery discovery, NativeMapping mapping, FactoryMode mode, String... libvlcArgs) {
+        this(new StartupReport(), discovery, mapping, mode, libvlcArgs);
+    }
+
+    private MediaPlayerFactory(StartupReport startupReport, NativeDiscovery discovery, NativeMapping mapping, FactoryMode mode, String[] libvlcArgs) {
+        this(startupReport, discoverNativeLibrary(startupReport, discovery, mapping, mode), mode, libvlcArgs);
+    }
+
+    /**
+     * Create a new media player factory using a particular native library implementation.
+     * <p>
+     * No native library discovery is performed. This is primarily intended to enable an alternative implementation of
+     * {@link LibVlc} to be used, for example a simulation for testing without LibVLC installed.
+     *
+     * @param libvlc native library implementation
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     */
+    public MediaPlayerFactory(LibVlc libvlc, String... libvlcArgs) {
+        this(libvlc, FactoryMode.DEFAULT, libvlcArgs);
+    }
+
+    /**
+     * Create a new media player factory using a particular native library implementation and factory mode.
+     * <p>
+     * A {@link FactoryMode#HEADLESS} factory is usually the right choice for a simulation, since it skips the native
+     * AWT and X11 initialisation.
+     *
+     * @param libvlc native library implementation
+     * @param mode factory mode
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     */
+    public MediaPlayerFactory(LibVlc libvlc, FactoryMode mode, String... libvlcArgs) {
+        this(new StartupReport(), libvlc, mode, libvlcArgs);
+    }
+
+    private MediaPlayerFactory(StartupReport startupReport, LibVlc libvlc, FactoryMode mode, String[] libvlcArgs) {
+        nativeInit(startupReport, mode);
+
+        long start = System.nanoTime();
+        checkVersion(libvlc);
+        startupReport.add(StartupPhase.VERSION_CHECK, start);
+
+        this.libvlc         = libvlc;
+        start = System.nanoTime();
         this.libvlcInstance = newLibVlcInstance(libvlcArgs != null ? libvlcArgs : new String[0]);
+        startupReport.add(StartupPhase.INSTANCE, start);
 
+        start = System.nanoTime();
         this.applicationService  = new ApplicationService (this);
         this.audioService        = new AudioService       (this);
         this.dialogsService      = new DialogsService     (this);
@@ -109,6 +209,10 @@ public class MediaPlayerFactory {
         this.moduleService       = new ModuleService      (this);
         this.rendererService     = new RendererService    (this);
         this.videoSurfaceService = new VideoSurfaceService(this);
+        startupReport.add(StartupPhase.SERVICES, start);
+
+        this.startupReport = startupReport;
+        this.mode          = mode;
     }
 
     /**
@@ -141,18 +245,122 @@ public class MediaPlayerFactory {
         this(new NativeDiscovery(), libvlcArgs);
     }
 
-    private LibVlc discoverNativeLibrary(NativeDiscovery discovery) {
+    /**
+     * Create a new media player factory without blocking the calling thread.
+     * <p>
+     * See {@link #createAsync(NativeDiscovery, NativeMapping, String...)}.
+     *
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     * @return result, completed with the new factory
+     */
+    public static AsyncResult<MediaPlayerFactory> createAsync(String... libvlcArgs) {
+        return createAsync(new NativeDiscovery(), NativeMapping.INTERFACE, FactoryMode.DEFAULT, libvlcArgs);
+    }
+
+    /**
+     * Create a new media player factory without blocking the calling thread.
+     * <p>
+     * See {@link #createAsync(NativeDiscovery, NativeMapping, FactoryMode, String...)}.
+     *
+     * @param discovery optional native discovery implementation, used to locate the native LibVLC library, may be <code>null</code>
+     * @param mapping how the native library functions are bound
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     * @return result, completed with the new factory
+     */
+    public static AsyncResult<MediaPlayerFactory> createAsync(NativeDiscovery discovery, NativeMapping mapping, String... libvlcArgs) {
+        return createAsync(discovery, mapping, FactoryMode.DEFAULT, libvlcArgs);
+    }
+
+    /**
+     * Create a new media player factory without blocking the calling thread.
+     * <p>
+     * The native initialisation, native library discovery, loading of the native library and creation of the native
+     * library instance all happen on a background thread, so this work can overlap with other application start-up.
+     * <p>
+     * If the factory can not be created, the result fails with the exception that prevented it. If the result is
+     * cancelled before the factory has been created, the factory is released when it has been created.
+     *
+     * @param discovery optional native discovery implementation, used to locate the native LibVLC library, may be <code>null</code>
+     * @param mapping how the native library functions are bound
+     * @param mode factory mode
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     * @return result, completed with the new factory
+     */
+    public static AsyncResult<MediaPlayerFactory> createAsync(final NativeDiscovery discovery, final NativeMapping mapping, final FactoryMode mode, final String... libvlcArgs) {
+        final AsyncResult<MediaPlayerFactory> result = new AsyncResult<MediaPlayerFactory>();
+        SharedExecutors.defaultExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                if (result.isDone()) {
+                    return;
+                }
+                MediaPlayerFactory factory;
+                try {
+                    factory = new MediaPlayerFactory(discovery, mapping, mode, libvlcArgs);
+                }
+                catch (Throwable t) {
+                    result.fail(t);
+                    return;
+                }
+                if (!result.complete(factory)) {
+                    factory.release();
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Perform the one-off native initialisation required on some platforms.
+     * <p>
+     * This must be done before the native library is loaded. It is not needed at all by a headless factory.
+     *
+     * @param startupReport report to record the time taken
+     * @param mode factory mode
+     * @throws IllegalStateException if the native library was already loaded by a headless factory, so the native
+     *                               initialisation would be done too late
+     */
+    private static synchronized void nativeInit(StartupReport startupReport, FactoryMode mode) {
+        if (!nativeInitDone && mode != FactoryMode.HEADLESS) {
+            long start = System.nanoTime();
+            if (RuntimeUtil.isNix()) {
+                if (nativeLibraryLoaded) {
+                    throw new IllegalStateException("A DEFAULT factory must not be created after a HEADLESS factory has loaded the native library");
+                }
+                LinuxNativeInit.init();
+            }
+            nativeInitDone = true;
+            startupReport.add(StartupPhase.NATIVE_INIT, start);
+        }
+    }
+
+    private static LibVlc discoverNativeLibrary(StartupReport startupReport, NativeDiscovery discovery, NativeMapping mapping, FactoryMode mode) {
+        nativeInit(startupReport, mode);
         if (discovery != null) {
+            long start = System.nanoTime();
             // The discover method return value is not currently used, since we try and load the native library whether
             // discovery worked or not
             discovery.discover();
+            startupReport.add(StartupPhase.DISCOVERY, start);
+            startupReport.discovery(discovery);
+        }
+        long start = System.nanoTime();
+        String libraryName = RuntimeUtil.getLibVlcLibraryName();
+        LibVlc nativeLibrary = loadNativeLibrary(libraryName);
+        if (mapping == NativeMapping.DIRECT) {
+            DirectLibVlc.enable(nativeLibrary, libraryName);
         }
-        LibVlc nativeLibrary = Native.load(RuntimeUtil.getLibVlcLibraryName(), LibVlc.class);
-        checkVersion(nativeLibrary);
+        startupReport.add(StartupPhase.LOAD, start);
         // FIXME likely we must use a synchronized instance
         return nativeLibrary;
     }
 
+    private static synchronized LibVlc loadNativeLibrary(String libraryName) {
+        LibVlc nativeLibrary = Native.load(libraryName, LibVlc.class);
+        nativeLibraryLoaded = true;
+        return nativeLibrary;
+    }
+
     /**
      *
      *
@@ -162,7 +370,7 @@ public class MediaPlayerFactory {
      *
      * @param nativeLibrary
      */
-    private void checkVersion(LibVlc nativeLibrary) {
+    private static void checkVersion(LibVlc nativeLibrary) {
         LibVlcVersion version = new LibVlcVersion(nativeLibrary);
         if (!version.isSupported()) {
             throw new RuntimeException(String.format("Failed to find minimum required VLC version %s, found %s in %s",
@@ -221,6 +429,24 @@ public class MediaPlayerFactory {
         return videoSurfaceService;
     }
 
+    /**
+     * Get the factory mode.
+     *
+     * @return mode
+     */
+    public final FactoryMode mode() {
+        return mode;
+    }
+
+    /**
+     * Get the report of the time taken by each phase of creating this factory.
+     *
+     * @return startup report
+     */
+    public final StartupReport startupReport() {
+        return startupReport;
+    }
+
     /**
      *
      * @return
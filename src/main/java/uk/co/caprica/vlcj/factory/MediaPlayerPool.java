@@ -0,0 +1,421 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+import uk.co.caprica.vlcj.enums.MediaPlayerRole;
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
+import uk.co.caprica.vlcj.model.Equalizer;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+
+import java.util.Arrays;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of pre-built media players that can be leased and returned.
+ * <p>
+ * Creating a media player allocates a native media player, the various media player services, event registrations and
+ * so on. For workloads that repeatedly need a media player for a short time, e.g. channel-zapping or ad-insertion, a
+ * pool keeps a fixed number of media players "warm" so that a media player is available without that cost:
+ * <pre>
+ *   MediaPlayerPool&lt;EmbeddedMediaPlayer&gt; pool = factory.mediaPlayers().newEmbeddedMediaPlayerPool(4);
+ *   EmbeddedMediaPlayer mediaPlayer = pool.lease(100, TimeUnit.MILLISECONDS);
+ *   if (mediaPlayer != null) {
+ *       try {
+ *           mediaPlayer.media().playMedia(mrl);
+ *           ...
+ *       }
+ *       finally {
+ *           pool.recycle(mediaPlayer);
+ *       }
+ *   }
+ * </pre>
+ * The settings of each media player are captured when it is created, after it has been configured by the
+ * {@link Creator}. When a media player is returned to the pool it is reset: play-back is stopped, the media is cleared,
+ * all application listeners are removed (and pending asynchronous results cancelled), and the volume, mute, rate,
+ * audio delay, equalizer, role, repeat and play sub-items settings are restored.
+ * <p>
+ * Settings not in that list (e.g. video adjustments, logo and marquee) are <em>not</em> restored, an application that
+ * changes them must restore them itself before returning the media player.
+ * <p>
+ * The most recently returned media player is leased first, so that with a light load the same few media players are
+ * reused.
+ * <p>
+ * The pool should be released when it is no longer needed, this releases all of the idle media players - any media
+ * player still leased is released when it is returned.
+ *
+ * @param <T> type of media player
+ */
+public final class MediaPlayerPool<T extends MediaPlayer> {
+
+    /**
+     * Component used to create, and optionally configure, the media players for a pool.
+     *
+     * @param <T> type of media player
+     */
+    public interface Creator<T extends MediaPlayer> {
+
+        /**
+         * Create a new media player.
+         *
+         * @return media player
+         */
+        T create();
+    }
+
+    /**
+     * Component used to create the media players.
+     */
+    private final Creator<T> creator;
+
+    /**
+     * Number of media players in the pool.
+     */
+    private final int size;
+
+    /**
+     * Idle media players, most recently returned first.
+     */
+    private final BlockingDeque<T> idle = new LinkedBlockingDeque<T>();
+
+    /**
+     * Settings captured when each media player was created, for both idle and leased media players.
+     */
+    private final ConcurrentMap<T, Settings> settings = new ConcurrentHashMap<T, Settings>();
+
+    /**
+     * Media players currently leased.
+     */
+    private final ConcurrentMap<T, Boolean> leased = new ConcurrentHashMap<T, Boolean>();
+
+    /**
+     * Time taken to lease a media player, including time spent waiting for one to become available.
+     */
+    private final LatencyHistogram leaseLatency = new LatencyHistogram();
+
+    /**
+     * Number of leases that timed out (or found no idle media player) without obtaining a media player.
+     */
+    private final AtomicLong leaseTimeouts = new AtomicLong();
+
+    /**
+     * Largest number of media players leased at the same time.
+     */
+    private final AtomicInteger peakLeased = new AtomicInteger();
+
+    /**
+     * Flag if the pool has been released.
+     */
+    private volatile boolean released;
+
+    /**
+     * Create a media player pool, all of the media players are created immediately.
+     *
+     * @param size number of media players
+     * @param creator component used to create the media players
+     */
+    public MediaPlayerPool(int size, Creator<T> creator) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be at least 1");
+        }
+        if (creator == null) {
+            throw new IllegalArgumentException("Creator must not be null");
+        }
+        this.creator = creator;
+        this.size = size;
+        for (int i = 0; i < size; i++) {
+            idle.addLast(newMediaPlayer());
+        }
+    }
+
+    /**
+     * Lease a media player, waiting if necessary until one is available.
+     *
+     * @return media player
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T lease() throws InterruptedException {
+        checkReleased();
+        long start = System.nanoTime();
+        return leased(idle.takeFirst(), start);
+    }
+
+    /**
+     * Lease a media player, waiting up to a time-out for one to be available.
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of the time-out
+     * @return media player, or <code>null</code> if no media player became available before the time-out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T lease(long timeout, TimeUnit unit) throws InterruptedException {
+        checkReleased();
+        long start = System.nanoTime();
+        return leased(idle.pollFirst(timeout, unit), start);
+    }
+
+    /**
+     * Lease a media player only if one is immediately available.
+     *
+     * @return media player, or <code>null</code> if no media player is available
+     */
+    public T tryLease() {
+        checkReleased();
+        long start = System.nanoTime();
+        return leased(idle.pollFirst(), start);
+    }
+
+    /**
+     * Return a leased media player to the pool.
+     * <p>
+     * The media player is reset before it is made available to be leased again, if the reset fails the media player is
+     * released and replaced with a new one.
+     * <p>
+     * The media player must not be used by the caller after it has been returned.
+     *
+     * @param mediaPlayer media player to return
+     */
+    public void recycle(T mediaPlayer) {
+        if (mediaPlayer == null || leased.remove(mediaPlayer) == null) {
+            throw new IllegalArgumentException("Media player was not leased from this pool");
+        }
+        if (released) {
+            discard(mediaPlayer);
+            return;
+        }
+        T result;
+        try {
+            reset(mediaPlayer, settings.get(mediaPlayer));
+            result = mediaPlayer;
+        }
+        catch (RuntimeException e) {
+            discard(mediaPlayer);
+            result = newMediaPlayer();
+        }
+        idle.addFirst(result);
+        // The pool may have been released while the media player was being reset
+        if (released && idle.remove(result)) {
+            discard(result);
+        }
+    }
+
+    /**
+     * Get the number of media players in the pool.
+     *
+     * @return number of media players, leased or idle
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of media players available to be leased.
+     *
+     * @return number of idle media players
+     */
+    public int available() {
+        return idle.size();
+    }
+
+    /**
+     * Get the number of media players currently leased.
+     *
+     * @return number of leased media players
+     */
+    public int leased() {
+        return leased.size();
+    }
+
+    /**
+     * Get the largest number of media players that have been leased at the same time.
+     *
+     * @return peak number of leased media players
+     */
+    public int peakLeased() {
+        return peakLeased.get();
+    }
+
+    /**
+     * Get the lease latency histogram.
+     * <p>
+     * Only successful leases are recorded.
+     *
+     * @return histogram of the time taken to lease a media player
+     */
+    public LatencyHistogram leaseLatency() {
+        return leaseLatency;
+    }
+
+    /**
+     * Get the number of leases that did not obtain a media player.
+     *
+     * @return number of timed out leases
+     */
+    public long leaseTimeouts() {
+        return leaseTimeouts.get();
+    }
+
+    /**
+     * Release the pool.
+     * <p>
+     * All idle media players are released immediately, leased media players are released when they are returned.
+     */
+    public void release() {
+        released = true;
+        T mediaPlayer;
+        while ((mediaPlayer = idle.pollFirst()) != null) {
+            discard(mediaPlayer);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(80).append(getClass().getSimpleName()).append('[')
+            .append("size=").append(size).append(',')
+            .append("available=").append(available()).append(',')
+            .append("leased=").append(leased()).append(',')
+            .append("peakLeased=").append(peakLeased()).append(',')
+            .append("leaseTimeouts=").append(leaseTimeouts()).append(',')
+            .append("leaseLatency=").append(leaseLatency).append(']')
+            .toString();
+    }
+
+    private T leased(T mediaPlayer, long start) {
+        if (mediaPlayer != null) {
+            leaseLatency.record(System.nanoTime() - start);
+            leased.put(mediaPlayer, Boolean.TRUE);
+            int count = leased.size();
+            int peak;
+            do {
+                peak = peakLeased.get();
+            } while (count > peak && !peakLeased.compareAndSet(peak, count));
+        } else {
+            leaseTimeouts.incrementAndGet();
+        }
+        return mediaPlayer;
+    }
+
+    private T newMediaPlayer() {
+        T mediaPlayer = creator.create();
+        settings.put(mediaPlayer, new Settings(mediaPlayer));
+        return mediaPlayer;
+    }
+
+    private void discard(T mediaPlayer) {
+        settings.remove(mediaPlayer);
+        mediaPlayer.release();
+    }
+
+    private void checkReleased() {
+        if (released) {
+            throw new IllegalStateException("Pool has been released");
+        }
+    }
+
+    private static void reset(MediaPlayer mediaPlayer, Settings settings) {
+        mediaPlayer.controls().stop();
+        mediaPlayer.media().clear();
+        mediaPlayer.events().removeUserListeners();
+        settings.restore(mediaPlayer);
+    }
+
+    /**
+     * Media player settings restored when a media player is returned to the pool.
+     */
+    private static final class Settings {
+
+        /**
+         * Volume of a new audio output.
+         */
+        private static final int DEFAULT_VOLUME = 100;
+
+        private final int volume;
+
+        private final boolean mute;
+
+        private final float rate;
+
+        private final long audioDelay;
+
+        private final Equalizer equalizer;
+
+        /**
+         * Values of the equalizer when the settings were captured, the equalizer itself may be changed while leased.
+         */
+        private final Equalizer equalizerValues;
+
+        private final MediaPlayerRole role;
+
+        private final boolean repeat;
+
+        private final boolean playSubItems;
+
+        private Settings(MediaPlayer mediaPlayer) {
+            int volume = mediaPlayer.audio().getVolume();
+            // A negative volume means there is no audio output yet, in which case the native defaults apply
+            if (volume >= 0) {
+                this.volume = volume;
+                this.mute   = mediaPlayer.audio().isMute();
+            } else {
+                this.volume = DEFAULT_VOLUME;
+                this.mute   = false;
+            }
+            this.rate         = mediaPlayer.status().getRate();
+            this.audioDelay   = mediaPlayer.audio().getAudioDelay();
+            this.equalizer    = mediaPlayer.audio().getEqualizer();
+            if (equalizer != null) {
+                this.equalizerValues = new Equalizer(equalizer.getBandCount());
+                this.equalizerValues.setEqualizer(equalizer);
+            } else {
+                this.equalizerValues = null;
+            }
+            this.role         = mediaPlayer.role().get();
+            this.repeat       = mediaPlayer.media().getRepeat();
+            this.playSubItems = mediaPlayer.subItems().getPlaySubItems();
+        }
+
+        private void restore(MediaPlayer mediaPlayer) {
+            mediaPlayer.audio().setVolume(volume);
+            mediaPlayer.audio().mute(mute);
+            if (mediaPlayer.status().getRate() != rate) {
+                mediaPlayer.controls().setRate(rate);
+            }
+            if (mediaPlayer.audio().getAudioDelay() != audioDelay) {
+                mediaPlayer.audio().setAudioDelay(audioDelay);
+            }
+            if (equalizer != null && (equalizer.getPreamp() != equalizerValues.getPreamp() || !Arrays.equals(equalizer.getAmps(), equalizerValues.getAmps()))) {
+                equalizer.setEqualizer(equalizerValues);
+            }
+            if (mediaPlayer.audio().getEqualizer() != equalizer) {
+                mediaPlayer.audio().setEqualizer(equalizer);
+            }
+            if (role != null && mediaPlayer.role().get() != role) {
+                mediaPlayer.role().set(role);
+            }
+            mediaPlayer.media().setRepeat(repeat);
+            mediaPlayer.subItems().setPlaySubItems(playSubItems);
+        }
+    }
+
+}
@@ -19,26 +19,67 @@
 
 package uk.co.caprica.vlcj.factory;
 
+import uk.co.caprica.vlcj.executor.SharedExecutors;
 import uk.co.caprica.vlcj.player.base.DefaultMediaPlayer;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
 import uk.co.caprica.vlcj.player.direct.BufferFormatCallback;
 import uk.co.caprica.vlcj.player.direct.DefaultDirectMediaPlayer;
 import uk.co.caprica.vlcj.player.direct.DirectMediaPlayer;
 import uk.co.caprica.vlcj.player.direct.RenderCallback;
+import uk.co.caprica.vlcj.player.direct.allocator.BufferAllocator;
 import uk.co.caprica.vlcj.player.directaudio.AudioCallback;
 import uk.co.caprica.vlcj.player.directaudio.DefaultDirectAudioPlayer;
+import uk.co.caprica.vlcj.player.directaudio.DefaultEmbeddedDirectAudioPlayer;
 import uk.co.caprica.vlcj.player.directaudio.DirectAudioPlayer;
+import uk.co.caprica.vlcj.player.directaudio.EmbeddedDirectAudioPlayer;
 import uk.co.caprica.vlcj.player.embedded.DefaultEmbeddedMediaPlayer;
 import uk.co.caprica.vlcj.player.embedded.EmbeddedMediaPlayer;
 import uk.co.caprica.vlcj.player.embedded.fullscreen.FullScreenStrategy;
 import uk.co.caprica.vlcj.player.list.DefaultMediaListPlayer;
 import uk.co.caprica.vlcj.player.list.MediaListPlayer;
 
+import java.util.concurrent.Executor;
+
 public final class MediaPlayerService extends BaseService {
 
+    /**
+     * Executor shared by all media players created by this service.
+     */
+    private volatile Executor executor = SharedExecutors.defaultExecutor();
+
     MediaPlayerService(MediaPlayerFactory factory) {
         super(factory);
     }
 
+    /**
+     * Set the executor shared by all media players subsequently created by this service.
+     * <p>
+     * Each media player uses this executor to run tasks that must be off-loaded from native callback threads, tasks for
+     * any one media player are still always run in order and one at a time.
+     * <p>
+     * By default, an executor is used that creates daemon threads only while there are tasks to run.
+     * <p>
+     * The application remains responsible for shutting down any executor it provides here, and must not do so until all
+     * media players using it have been released.
+     *
+     * @param executor executor, must not be <code>null</code>
+     */
+    public void setExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Get the executor shared by all media players created by this service.
+     *
+     * @return executor
+     */
+    public Executor executor() {
+        return executor;
+    }
+
     /**
      * Create a new media player.
      * <p>
@@ -51,7 +92,7 @@ public final class MediaPlayerService extends BaseService {
      * @return media player instance
      */
     public DefaultMediaPlayer newMediaPlayer() {
-        return new DefaultMediaPlayer(libvlc, instance);
+        return new DefaultMediaPlayer(libvlc, instance, executor);
     }
 
     /**
@@ -60,7 +101,7 @@ public final class MediaPlayerService extends BaseService {
      * @return media player instance
      */
     public EmbeddedMediaPlayer newEmbeddedMediaPlayer() {
-        return new DefaultEmbeddedMediaPlayer(libvlc, instance);
+        return new DefaultEmbeddedMediaPlayer(libvlc, instance, executor);
     }
 
     /**
@@ -72,7 +113,20 @@ public final class MediaPlayerService extends BaseService {
      * @return media player instance
      */
     public DirectMediaPlayer newDirectMediaPlayer(BufferFormatCallback bufferFormatCallback, RenderCallback renderCallback, boolean lockBuffers) {
-        return new DefaultDirectMediaPlayer(libvlc, instance, bufferFormatCallback, renderCallback, lockBuffers);
+        return new DefaultDirectMediaPlayer(libvlc, instance, executor, bufferFormatCallback, renderCallback, lockBuffers);
+    }
+
+    /**
+     * Create a new direct video rendering media player, with a particular allocator for the native video buffers.
+     *
+     * @param bufferFormatCallback callback to set the desired buffer format
+     * @param renderCallback callback to receive the video frame data
+     * @param lockBuffers
+     * @param bufferAllocator allocator for the native video buffers
+     * @return media player instance
+     */
+    public DirectMediaPlayer newDirectMediaPlayer(BufferFormatCallback bufferFormatCallback, RenderCallback renderCallback, boolean lockBuffers, BufferAllocator bufferAllocator) {
+        return new DefaultDirectMediaPlayer(libvlc, instance, executor, bufferFormatCallback, renderCallback, lockBuffers, bufferAllocator);
     }
 
     /**
@@ -85,7 +139,52 @@ public final class MediaPlayerService extends BaseService {
      * @return media player instance
      */
     public DirectAudioPlayer newDirectAudioPlayer(String format, int rate, int channels, AudioCallback audioCallback) {
-        return new DefaultDirectAudioPlayer(libvlc, instance, format, rate, channels, audioCallback);
+        return new DefaultDirectAudioPlayer(libvlc, instance, executor, format, rate, channels, audioCallback);
+    }
+
+    /**
+     * Create a new media player that plays embedded video and provides direct access to the audio buffer data.
+     *
+     * @param format decoded audio format
+     * @param rate decoded audio sample rate
+     * @param channels decoded audio channel count
+     * @param audioCallback callback
+     * @return media player instance
+     */
+    public EmbeddedDirectAudioPlayer newEmbeddedDirectAudioPlayer(String format, int rate, int channels, AudioCallback audioCallback) {
+        return new DefaultEmbeddedDirectAudioPlayer(libvlc, instance, executor, format, rate, channels, audioCallback);
+    }
+
+    /**
+     * Create a new pool of media players.
+     *
+     * @param size number of media players
+     * @return media player pool
+     */
+    public MediaPlayerPool<MediaPlayer> newMediaPlayerPool(int size) {
+        return new MediaPlayerPool<MediaPlayer>(size, new MediaPlayerPool.Creator<MediaPlayer>() {
+            @Override
+            public MediaPlayer create() {
+                return newMediaPlayer();
+            }
+        });
+    }
+
+    /**
+     * Create a new pool of embedded media players.
+     * <p>
+     * The video surface for each media player, if needed, should be set when the media player is leased.
+     *
+     * @param size number of media players
+     * @return media player pool
+     */
+    public MediaPlayerPool<EmbeddedMediaPlayer> newEmbeddedMediaPlayerPool(int size) {
+        return new MediaPlayerPool<EmbeddedMediaPlayer>(size, new MediaPlayerPool.Creator<EmbeddedMediaPlayer>() {
+            @Override
+            public EmbeddedMediaPlayer create() {
+                return newEmbeddedMediaPlayer();
+            }
+        });
     }
 
     /**
@@ -94,7 +193,7 @@ public final class MediaPlayerService extends BaseService {
      * @return media player instance
      */
     public MediaListPlayer newMediaListPlayer() {
-        return new DefaultMediaListPlayer(libvlc, instance);
+        return new DefaultMediaListPlayer(libvlc, instance, executor);
     }
 
 }
@@ -0,0 +1,42 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.factory;
+
+import uk.co.caprica.vlcj.binding.DirectLibVlc;
+
+/**
+ * How the native library functions are bound by a {@link MediaPlayerFactory}.
+ */
+public enum NativeMapping {
+
+    /**
+     * Bind all functions via a JNA interface mapping (the default).
+     */
+    INTERFACE,
+
+    /**
+     * Additionally bind the most frequently polled functions via JNA direct mapping, see {@link DirectLibVlc}.
+     * <p>
+     * If direct mapping can not be enabled, e.g. because it is already registered against a different native library,
+     * the interface mapping is used.
+     */
+    DIRECT
+
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shard policy that selects each shard in turn, ignoring any affinity key.
+ */
+public final class RoundRobinShardPolicy implements ShardPolicy {
+
+    /**
+     * Number of selections made.
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Shard select(List<Shard> shards, Object key) {
+        return shards.get((count.getAndIncrement() & Integer.MAX_VALUE) % shards.size());
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.medialist.MediaList;
+import uk.co.caprica.vlcj.player.base.DefaultMediaPlayer;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.direct.BufferFormatCallback;
+import uk.co.caprica.vlcj.player.direct.DefaultDirectMediaPlayer;
+import uk.co.caprica.vlcj.player.direct.DirectMediaPlayer;
+import uk.co.caprica.vlcj.player.direct.RenderCallback;
+import uk.co.caprica.vlcj.player.directaudio.AudioCallback;
+import uk.co.caprica.vlcj.player.directaudio.DefaultDirectAudioPlayer;
+import uk.co.caprica.vlcj.player.directaudio.DirectAudioPlayer;
+import uk.co.caprica.vlcj.player.embedded.DefaultEmbeddedMediaPlayer;
+import uk.co.caprica.vlcj.player.embedded.EmbeddedMediaPlayer;
+import uk.co.caprica.vlcj.player.list.DefaultMediaListPlayer;
+import uk.co.caprica.vlcj.player.list.MediaListPlayer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One shard of a {@link ShardedMediaPlayerFactory}, i.e. one native library instance.
+ * <p>
+ * Media players created by a shard are counted until they are released, this count is the load used by
+ * {@link LeastLoadedShardPolicy}. Media and media lists used by a media player should be created by the same shard as
+ * the media player, see {@link ShardedMediaPlayerFactory#shardOf(Object)}.
+ */
+public final class Shard {
+
+    /**
+     * Sharded factory that owns this shard.
+     */
+    private final ShardedMediaPlayerFactory owner;
+
+    /**
+     * Index of this shard.
+     */
+    private final int index;
+
+    /**
+     * Media player factory for this shard.
+     */
+    private final MediaPlayerFactory factory;
+
+    /**
+     * Number of live media players created by this shard.
+     */
+    private final AtomicInteger load = new AtomicInteger();
+
+    Shard(ShardedMediaPlayerFactory owner, int index, MediaPlayerFactory factory) {
+        this.owner   = owner;
+        this.index   = index;
+        this.factory = factory;
+    }
+
+    /**
+     * Get the index of this shard.
+     *
+     * @return index
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Get the media player factory for this shard.
+     * <p>
+     * Media players created directly by this factory are not counted in the load of this shard.
+     *
+     * @return factory
+     */
+    public MediaPlayerFactory factory() {
+        return factory;
+    }
+
+    /**
+     * Get the number of live media players (and media list players) created by this shard.
+     *
+     * @return number of media players
+     */
+    public int load() {
+        return load.get();
+    }
+
+    /**
+     * Create a new media player.
+     *
+     * @return media player instance
+     */
+    public MediaPlayer newMediaPlayer() {
+        return placed(new DefaultMediaPlayer(factory.libvlc(), factory.instance(), factory.mediaPlayers().executor()) {
+            @Override
+            protected void onAfterRelease() {
+                super.onAfterRelease();
+                onReleased(this);
+            }
+        });
+    }
+
+    /**
+     * Create a new embedded media player.
+     *
+     * @return media player instance
+     */
+    public EmbeddedMediaPlayer newEmbeddedMediaPlayer() {
+        return placed(new DefaultEmbeddedMediaPlayer(factory.libvlc(), factory.instance(), factory.mediaPlayers().executor()) {
+            @Override
+            protected void onAfterRelease() {
+                super.onAfterRelease();
+                onReleased(this);
+            }
+        });
+    }
+
+    /**
+     * Create a new direct video rendering media player.
+     *
+     * @param bufferFormatCallback callback to set the desired buffer format
+     * @param renderCallback callback to receive the video frame data
+     * @param lockBuffers <code>true</code> if the native video buffer should be locked; <code>false</code> if not
+     * @return media player instance
+     */
+    public DirectMediaPlayer newDirectMediaPlayer(BufferFormatCallback bufferFormatCallback, RenderCallback renderCallback, boolean lockBuffers) {
+        return placed(new DefaultDirectMediaPlayer(factory.libvlc(), factory.instance(), factory.mediaPlayers().executor(), bufferFormatCallback, renderCallback, lockBuffers) {
+            @Override
+            protected void onAfterRelease() {
+                super.onAfterRelease();
+                onReleased(this);
+            }
+        });
+    }
+
+    /**
+     * Create a new direct audio media player.
+     *
+     * @param format decoded audio format
+     * @param rate decoded audio sample rate
+     * @param channels decoded audio channels
+     * @param audioCallback callback
+     * @return media player instance
+     */
+    public DirectAudioPlayer newDirectAudioPlayer(String format, int rate, int channels, AudioCallback audioCallback) {
+        return placed(new DefaultDirectAudioPlayer(factory.libvlc(), factory.instance(), factory.mediaPlayers().executor(), format, rate, channels, audioCallback) {
+            @Override
+            protected void onAfterRelease() {
+                super.onAfterRelease();
+                onReleased(this);
+            }
+        });
+    }
+
+    /**
+     * Create a new play-list media player.
+     *
+     * @return media player instance
+     */
+    public MediaListPlayer newMediaListPlayer() {
+        return placed(new DefaultMediaListPlayer(factory.libvlc(), factory.instance(), factory.mediaPlayers().executor()) {
+            @Override
+            protected void onAfterRelease() {
+                super.onAfterRelease();
+                onReleased(this);
+            }
+        });
+    }
+
+    /**
+     * Create a new media on this shard.
+     *
+     * @param mrl media resource locator
+     * @param options zero or more media options
+     * @return media, or <code>null</code> on error
+     */
+    public Media newMedia(String mrl, String... options) {
+        return factory.media().newMedia(mrl, options);
+    }
+
+    /**
+     * Create a new media list on this shard.
+     *
+     * @return media list
+     */
+    public MediaList newMediaList() {
+        return factory.media().newMediaList();
+    }
+
+    private <T> T placed(T mediaPlayer) {
+        load.incrementAndGet();
+        owner.placed(mediaPlayer, this);
+        return mediaPlayer;
+    }
+
+    /**
+     * Invoked by each media player created by this shard after it has been released.
+     * <p>
+     * The load is decremented only when the media player was still placed, so releasing a media player more than once
+     * does not count it more than once.
+     *
+     * @param mediaPlayer media player that was released
+     */
+    private void onReleased(Object mediaPlayer) {
+        if (owner.released(mediaPlayer)) {
+            load.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(40)
+            .append(getClass().getSimpleName()).append('[')
+            .append("index=").append(index).append(',')
+            .append("load=").append(load).append(']')
+            .toString();
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+import java.util.List;
+
+/**
+ * Specification for a component that decides which shard of a {@link ShardedMediaPlayerFactory} is used for a new media
+ * player.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface ShardPolicy {
+
+    /**
+     * Select a shard.
+     *
+     * @param shards all shards, never empty
+     * @param key optional affinity key, may be <code>null</code>
+     * @return selected shard, must be one of the given shards
+     */
+    Shard select(List<Shard> shards, Object key);
+
+}
@@ -0,0 +1,274 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+import uk.co.caprica.vlcj.async.AsyncResult;
+import uk.co.caprica.vlcj.discovery.NativeDiscovery;
+import uk.co.caprica.vlcj.log.NativeLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Factory that spreads media players across a number of native library instances.
+ * <p>
+ * All media players created by a {@link MediaPlayerFactory} share a single native library instance, and some native
+ * operations are serialised per instance (e.g. by locks protecting the object tree, logging, and the media parsing and
+ * thumbnailing queues). With very many media players these locks may become contended. A sharded factory owns a
+ * number of factories, its "shards", each with its own native library instance, all created in parallel with the same
+ * arguments.
+ * <p>
+ * New media players are placed on a shard selected by a {@link ShardPolicy}, e.g. {@link RoundRobinShardPolicy},
+ * {@link LeastLoadedShardPolicy} or {@link AffinityShardPolicy}:
+ * <pre>
+ *   ShardedMediaPlayerFactory factory = new ShardedMediaPlayerFactory(4, new LeastLoadedShardPolicy());
+ *   MediaPlayer mediaPlayer = factory.shard().newMediaPlayer();
+ * </pre>
+ * Native media and media lists must be used with media players from the same native library instance, so media and
+ * media lists for a particular media player should be created by that media player's shard:
+ * <pre>
+ *   Media media = factory.shardOf(mediaPlayer).newMedia(mrl);
+ * </pre>
+ * Dialog handlers, user agent and application identification can be configured for all shards at once, native logs
+ * must be created per shard, see {@link #newLogs()}.
+ * <p>
+ * You should explicitly {@link #release()} the factory, after releasing all of the media players, when your application
+ * terminates to properly clean up native resources.
+ */
+public final class ShardedMediaPlayerFactory {
+
+    /**
+     * Shards.
+     */
+    private final List<Shard> shards;
+
+    /**
+     * Policy used to select a shard for new media players.
+     */
+    private final ShardPolicy policy;
+
+    /**
+     * Shard of each live media player (and media list player) created by this factory.
+     */
+    private final Map<Object, Shard> placements = new WeakHashMap<Object, Shard>();
+
+    /**
+     * Create a new sharded media player factory using the default native discovery.
+     *
+     * @param shardCount number of shards (native library instances)
+     * @param policy policy used to select a shard for new media players
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     */
+    public ShardedMediaPlayerFactory(int shardCount, ShardPolicy policy, String... libvlcArgs) {
+        this(shardCount, policy, new NativeDiscovery(), NativeMapping.INTERFACE, FactoryMode.DEFAULT, libvlcArgs);
+    }
+
+    /**
+     * Create a new sharded media player factory.
+     * <p>
+     * Native discovery, if any, is performed once on the calling thread, then the shards are created in parallel.
+     * <p>
+     * If any shard can not be created, the shards that were created are released and a {@link RuntimeException} is
+     * thrown.
+     *
+     * @param shardCount number of shards (native library instances)
+     * @param policy policy used to select a shard for new media players
+     * @param discovery optional native discovery implementation, used to locate the native LibVLC library, may be <code>null</code>
+     * @param mapping how the native library functions are bound
+     * @param mode factory mode
+     * @param libvlcArgs array of options/arguments to pass to LibVLC for initialisation of the native library
+     */
+    public ShardedMediaPlayerFactory(int shardCount, ShardPolicy policy, NativeDiscovery discovery, NativeMapping mapping, FactoryMode mode, String... libvlcArgs) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy must not be null");
+        }
+        if (discovery != null) {
+            discovery.discover();
+        }
+        List<AsyncResult<MediaPlayerFactory>> results = new ArrayList<AsyncResult<MediaPlayerFactory>>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            results.add(MediaPlayerFactory.createAsync(null, mapping, mode, libvlcArgs));
+        }
+        List<Shard> shards = new ArrayList<Shard>(shardCount);
+        Throwable failure = null;
+        for (AsyncResult<MediaPlayerFactory> result : results) {
+            try {
+                shards.add(new Shard(this, shards.size(), result.get()));
+            }
+            catch (ExecutionException e) {
+                failure = e.getCause();
+            }
+            catch (InterruptedException e) {
+                failure = e;
+                result.cancel(false);
+            }
+        }
+        if (failure != null) {
+            for (Shard shard : shards) {
+                shard.factory().release();
+            }
+            throw new RuntimeException("Failed to create media player factory shards", failure);
+        }
+        this.shards = Collections.unmodifiableList(shards);
+        this.policy = policy;
+    }
+
+    /**
+     * Get all of the shards.
+     *
+     * @return shards
+     */
+    public List<Shard> shards() {
+        return shards;
+    }
+
+    /**
+     * Select a shard for a new media player.
+     *
+     * @return shard
+     */
+    public Shard shard() {
+        return policy.select(shards, null);
+    }
+
+    /**
+     * Select a shard for a new media player, with an affinity key.
+     * <p>
+     * Whether or not the key is used depends on the policy, see {@link AffinityShardPolicy}.
+     *
+     * @param key affinity key, may be <code>null</code>
+     * @return shard
+     */
+    public Shard shard(Object key) {
+        return policy.select(shards, key);
+    }
+
+    /**
+     * Get the shard of a media player (or media list player) created by this factory.
+     *
+     * @param mediaPlayer media player
+     * @return shard, or <code>null</code> if the media player was not created by this factory or has been released
+     */
+    public Shard shardOf(Object mediaPlayer) {
+        synchronized (placements) {
+            return placements.get(mediaPlayer);
+        }
+    }
+
+    /**
+     * Enable the same dialog handlers for all shards.
+     *
+     * @param dialogs dialog handlers
+     */
+    public void enableDialogs(Dialogs dialogs) {
+        for (Shard shard : shards) {
+            shard.factory().dialogs().enable(dialogs);
+        }
+    }
+
+    /**
+     * Disable dialog handlers for all shards.
+     */
+    public void disableDialogs() {
+        for (Shard shard : shards) {
+            shard.factory().dialogs().disable();
+        }
+    }
+
+    /**
+     * Set the application name for all shards.
+     *
+     * @param userAgent application name
+     * @param httpUserAgent application name for HTTP
+     */
+    public void setUserAgent(String userAgent, String httpUserAgent) {
+        for (Shard shard : shards) {
+            shard.factory().application().setUserAgent(userAgent, httpUserAgent);
+        }
+    }
+
+    /**
+     * Set the application identification information for all shards.
+     *
+     * @param id application id, e.g. com.somecompany.myapp
+     * @param version application version
+     * @param icon path to application icon
+     */
+    public void setApplicationId(String id, String version, String icon) {
+        for (Shard shard : shards) {
+            shard.factory().application().setApplicationId(id, version, icon);
+        }
+    }
+
+    /**
+     * Create a new native log component for each shard.
+     *
+     * @return native log components, in shard order
+     */
+    public List<NativeLog> newLogs() {
+        return newLogs(0);
+    }
+
+    /**
+     * Create a new native log component for each shard.
+     * <p>
+     * See {@link ApplicationService#newLog(int)}.
+     *
+     * @param queueCapacity maximum number of messages waiting to be dispatched to listeners, or zero to not queue messages
+     * @return native log components, in shard order
+     */
+    public List<NativeLog> newLogs(int queueCapacity) {
+        List<NativeLog> result = new ArrayList<NativeLog>(shards.size());
+        for (Shard shard : shards) {
+            result.add(shard.factory().application().newLog(queueCapacity));
+        }
+        return result;
+    }
+
+    /**
+     * Release all native resources associated with this factory.
+     * <p>
+     * The factory must not be used again after it has been released.
+     */
+    public void release() {
+        for (Shard shard : shards) {
+            shard.factory().release();
+        }
+    }
+
+    void placed(Object mediaPlayer, Shard shard) {
+        synchronized (placements) {
+            placements.put(mediaPlayer, shard);
+        }
+    }
+
+    boolean released(Object mediaPlayer) {
+        synchronized (placements) {
+            return placements.remove(mediaPlayer) != null;
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+/**
+ * Enumeration of the phases of creating a {@link MediaPlayerFactory}, used to report how long each phase took.
+ */
+public enum StartupPhase {
+
+    /**
+     * One-off native initialisation required on some platforms (e.g. initialising X on Linux), this happens only once
+     * for the life of the JVM.
+     */
+    NATIVE_INIT,
+
+    /**
+     * Discovering the native library, see {@link uk.co.caprica.vlcj.discovery.NativeDiscovery}.
+     */
+    DISCOVERY,
+
+    /**
+     * Loading and binding the native library.
+     */
+    LOAD,
+
+    /**
+     * Checking the version of the native library.
+     */
+    VERSION_CHECK,
+
+    /**
+     * Creating the native library instance, this loads the native plugins.
+     */
+    INSTANCE,
+
+    /**
+     * Creating the factory services.
+     */
+    SERVICES
+
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.factory;
+
+import uk.co.caprica.vlcj.discovery.DiscoveryPhase;
+import uk.co.caprica.vlcj.discovery.NativeDiscovery;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Report of the time taken by each phase of creating a {@link MediaPlayerFactory}.
+ * <p>
+ * Phases that did not happen (e.g. discovery, if the factory was created with a native library instance) are not
+ * present. If a native discovery component was used, the time taken by each phase of the discovery is also reported.
+ * <p>
+ * All times are in nanoseconds.
+ */
+public final class StartupReport {
+
+    /**
+     * Time taken by each phase.
+     */
+    private final Map<StartupPhase, Long> timings = new EnumMap<StartupPhase, Long>(StartupPhase.class);
+
+    /**
+     * Time taken by each phase of native discovery.
+     */
+    private final Map<DiscoveryPhase, Long> discoveryTimings = new EnumMap<DiscoveryPhase, Long>(DiscoveryPhase.class);
+
+    /**
+     * Flag if native discovery used a cached result.
+     */
+    private boolean discoveryFromCache;
+
+    StartupReport() {
+    }
+
+    /**
+     * Get the time taken by each phase.
+     *
+     * @return time taken by each phase, in the order the phases happen
+     */
+    public Map<StartupPhase, Long> timings() {
+        return Collections.unmodifiableMap(timings);
+    }
+
+    /**
+     * Get the time taken by a particular phase.
+     *
+     * @param phase phase
+     * @return time taken, or zero if the phase did not happen
+     */
+    public long time(StartupPhase phase) {
+        Long result = timings.get(phase);
+        return result != null ? result : 0;
+    }
+
+    /**
+     * Get the total time taken by all phases.
+     *
+     * @return total time
+     */
+    public long total() {
+        long result = 0;
+        for (Long time : timings.values()) {
+            result += time;
+        }
+        return result;
+    }
+
+    /**
+     * Get the time taken by each phase of native discovery.
+     *
+     * @return time taken by each discovery phase, in the order the phases happen
+     */
+    public Map<DiscoveryPhase, Long> discoveryTimings() {
+        return Collections.unmodifiableMap(discoveryTimings);
+    }
+
+    /**
+     * Did native discovery use the cached result of an earlier discovery?
+     *
+     * @return <code>true</code> if the cache was used; <code>false</code> otherwise
+     */
+    public boolean discoveryFromCache() {
+        return discoveryFromCache;
+    }
+
+    void add(StartupPhase phase, long start) {
+        timings.put(phase, time(phase) + System.nanoTime() - start);
+    }
+
+    void discovery(NativeDiscovery discovery) {
+        discoveryTimings.putAll(discovery.timings());
+        discoveryFromCache = discovery.fromCache();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(200);
+        sb.append(getClass().getSimpleName()).append('[');
+        for (Map.Entry<StartupPhase, Long> entry : timings.entrySet()) {
+            sb.append(entry.getKey()).append('=').append(millis(entry.getValue())).append("ms,");
+        }
+        if (!discoveryTimings.isEmpty()) {
+            sb.append("discovery=[");
+            for (Map.Entry<DiscoveryPhase, Long> entry : discoveryTimings.entrySet()) {
+                sb.append(entry.getKey()).append('=').append(millis(entry.getValue())).append("ms,");
+            }
+            sb.append("fromCache=").append(discoveryFromCache).append("],");
+        }
+        sb.append("total=").append(millis(total())).append("ms]");
+        return sb.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1000000.0);
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.log;
+
+import uk.co.caprica.vlcj.enums.LogLevel;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Log event listener that bridges native log messages to the standard Java logging API.
+ * <p>
+ * Each native module logs to its own logger, the name of which is a common prefix followed by the module name (e.g.
+ * "vlc.avcodec") so the usual logging configuration can be used to select the modules of interest.
+ * <p>
+ * Native log levels are mapped as follows:
+ * <ul>
+ *     <li>{@link LogLevel#DEBUG} to {@link Level#FINE};</li>
+ *     <li>{@link LogLevel#NOTICE} to {@link Level#INFO};</li>
+ *     <li>{@link LogLevel#WARNING} to {@link Level#WARNING};</li>
+ *     <li>{@link LogLevel#ERROR} to {@link Level#SEVERE}.</li>
+ * </ul>
+ * Other logging frameworks generally provide their own bridge from the standard Java logging API.
+ */
+public class JavaLoggingLogEventListener implements LogEventListener {
+
+    /**
+     * Default prefix for logger names.
+     */
+    public static final String DEFAULT_PREFIX = "vlc";
+
+    /**
+     * Prefix for logger names.
+     */
+    private final String prefix;
+
+    /**
+     * Create a log event listener using the default logger name prefix.
+     */
+    public JavaLoggingLogEventListener() {
+        this(DEFAULT_PREFIX);
+    }
+
+    /**
+     * Create a log event listener.
+     *
+     * @param prefix prefix for logger names
+     */
+    public JavaLoggingLogEventListener(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void log(LogLevel level, String module, String file, Integer line, String name, String header, Integer id, String message) {
+        Logger logger = Logger.getLogger(module != null ? prefix + "." + module : prefix);
+        Level loggerLevel = level(level);
+        if (logger.isLoggable(loggerLevel)) {
+            logger.logp(loggerLevel, module, name, message);
+        }
+    }
+
+    private static Level level(LogLevel level) {
+        if (level == null) {
+            return Level.FINEST;
+        }
+        switch (level) {
+            case DEBUG:
+                return Level.FINE;
+            case NOTICE:
+                return Level.INFO;
+            case WARNING:
+                return Level.WARNING;
+            default:
+                return Level.SEVERE;
+        }
+    }
+
+}
@@ -22,19 +22,20 @@ package uk.co.caprica.vlcj.log;
 import com.sun.jna.CallbackThreadInitializer;
 import com.sun.jna.Native;
 import com.sun.jna.Pointer;
-import com.sun.jna.ptr.IntByReference;
-import com.sun.jna.ptr.PointerByReference;
-import uk.co.caprica.vlcj.binding.LibC;
 import uk.co.caprica.vlcj.binding.LibVlc;
-import uk.co.caprica.vlcj.binding.NativeString;
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_log_cb;
-import uk.co.caprica.vlcj.binding.internal.libvlc_log_t;
 import uk.co.caprica.vlcj.enums.LogLevel;
 
-import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Encapsulation of the vlc native log.
@@ -45,16 +46,25 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * The default log level is {@link LogLevel#NOTICE}, this can be changed
  * by invoking {@link #setLevel(LogLevel)}.
  * <p>
+ * The log level can be overridden for particular modules (e.g. "avcodec") and particular object types (e.g. "decoder"),
+ * see {@link #setModuleLevel(String, LogLevel)} and {@link #setObjectLevel(String, LogLevel)}. These rules are applied
+ * before the message is formatted, so rejected messages cost very little.
+ * <p>
+ * By default listeners are notified on the native thread that emitted the message. If a queue capacity is given when
+ * the log is created, messages are instead queued and listeners are notified on a dedicated thread - this prevents
+ * slow listeners from delaying native threads. If the queue is full, messages are dropped and counted, see
+ * {@link #getDroppedCount()}.
+ * <p>
+ * The number of messages accepted from each module can also be limited, see {@link #setRateLimit(int)}.
+ * <p>
  * <strong>The native log requires vlc 2.1.0 or later.</strong>
  */
 public final class NativeLog {
 
     /**
-     * Default string buffer size.
-     * <p>
-     * Plus one for the null terminator.
+     * Threshold value used to suppress all messages.
      */
-    private static final int BUFFER_SIZE = 200 + 1;
+    private static final int SUPPRESSED = Integer.MAX_VALUE;
 
     /**
      * Collection of media event listeners.
@@ -75,6 +85,19 @@ public final class NativeLog {
      */
     private final libvlc_instance_t instance;
 
+    /**
+     * Per-thread native log message capture.
+     * <p>
+     * The native log callback is invoked on many different native threads, each one has its own buffers so messages can
+     * be captured without synchronisation and without allocating new buffers for every message.
+     */
+    private final ThreadLocal<NativeLogCapture> capture = new ThreadLocal<NativeLogCapture>() {
+        @Override
+        protected NativeLogCapture initialValue() {
+            return new NativeLogCapture();
+        }
+    };
+
     /**
      * Native log callback.
      */
@@ -87,16 +110,90 @@ public final class NativeLog {
      */
     private LogLevel logLevel = LogLevel.NOTICE;
 
+    /**
+     * Log threshold levels for particular modules, by module name.
+     */
+    private final ConcurrentMap<String, Integer> moduleLevels = new ConcurrentHashMap<String, Integer>();
+
+    /**
+     * Log threshold levels for particular object types, by object type name.
+     */
+    private final ConcurrentMap<String, Integer> objectLevels = new ConcurrentHashMap<String, Integer>();
+
+    /**
+     * Lowest threshold of the log level and all of the module and object levels.
+     * <p>
+     * Messages below this threshold can not be accepted by any rule and are rejected before anything else is done.
+     */
+    private volatile int minimumLevel = logLevel.intValue();
+
+    /**
+     * Maximum number of messages accepted from each module in each second, or zero for no limit.
+     */
+    private volatile int rateLimit;
+
+    /**
+     * Rate limiters, by module name.
+     */
+    private final ConcurrentMap<String, NativeLogRateLimiter> rateLimiters = new ConcurrentHashMap<String, NativeLogRateLimiter>();
+
+    /**
+     * Queue of messages waiting to be dispatched to listeners, <code>null</code> if listeners are notified on the native
+     * thread.
+     */
+    private final BlockingQueue<NativeLogRecord> queue;
+
+    /**
+     * Thread that dispatches queued messages to listeners, <code>null</code> if listeners are notified on the native
+     * thread.
+     */
+    private final Thread dispatchThread;
+
+    /**
+     * Number of messages dropped because the queue was full.
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+
     /**
      * Create a new native log component.
+     * <p>
+     * Listeners are notified on the native thread that emitted the message.
      *
      * @param libvlc native library instance
      * @param instance libvlc instance
      */
     public NativeLog(LibVlc libvlc, libvlc_instance_t instance) {
+        this(libvlc, instance, 0);
+    }
+
+    /**
+     * Create a new native log component.
+     * <p>
+     * If the queue capacity is greater than zero, messages are queued and listeners are notified on a dedicated thread,
+     * otherwise listeners are notified on the native thread that emitted the message.
+     *
+     * @param libvlc native library instance
+     * @param instance libvlc instance
+     * @param queueCapacity maximum number of messages waiting to be dispatched to listeners, or zero to not queue messages
+     */
+    public NativeLog(LibVlc libvlc, libvlc_instance_t instance, int queueCapacity) {
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("Queue capacity must not be negative");
+        }
+
         this.libvlc   = libvlc;
         this.instance = instance;
 
+        if (queueCapacity > 0) {
+            this.queue          = new ArrayBlockingQueue<NativeLogRecord>(queueCapacity);
+            this.dispatchThread = new Thread(new DispatchRunnable(), "vlcj-log-dispatch");
+            this.dispatchThread.setDaemon(true);
+            this.dispatchThread.start();
+        } else {
+            this.queue          = null;
+            this.dispatchThread = null;
+        }
+
         libvlc.libvlc_log_set(instance, callback, null);
     }
 
@@ -128,6 +225,7 @@ public final class NativeLog {
      */
     public final void setLevel(LogLevel logLevel) {
         this.logLevel = logLevel;
+        updateMinimumLevel();
     }
 
     /**
@@ -139,13 +237,162 @@ public final class NativeLog {
         return logLevel;
     }
 
+    /**
+     * Set the log threshold level for a particular module, overriding the log level set by {@link #setLevel(LogLevel)}.
+     *
+     * @param module name of the module, e.g. "avcodec"
+     * @param logLevel log threshold level, or <code>null</code> to suppress all messages from the module
+     */
+    public final void setModuleLevel(String module, LogLevel logLevel) {
+        moduleLevels.put(module, threshold(logLevel));
+        updateMinimumLevel();
+    }
+
+    /**
+     * Remove a log threshold level previously set for a particular module.
+     *
+     * @param module name of the module
+     */
+    public final void removeModuleLevel(String module) {
+        moduleLevels.remove(module);
+        updateMinimumLevel();
+    }
+
+    /**
+     * Set the log threshold level for a particular object type, overriding both the log level set by
+     * {@link #setLevel(LogLevel)} and any module log levels.
+     *
+     * @param objectName name of the object type, e.g. "decoder"
+     * @param logLevel log threshold level, or <code>null</code> to suppress all messages from the object type
+     */
+    public final void setObjectLevel(String objectName, LogLevel logLevel) {
+        objectLevels.put(objectName, threshold(logLevel));
+        updateMinimumLevel();
+    }
+
+    /**
+     * Remove a log threshold level previously set for a particular object type.
+     *
+     * @param objectName name of the object type
+     */
+    public final void removeObjectLevel(String objectName) {
+        objectLevels.remove(objectName);
+        updateMinimumLevel();
+    }
+
+    /**
+     * Set the maximum number of messages accepted from each module in each second.
+     * <p>
+     * Messages in excess of this limit are dropped and counted, see {@link #getRateLimitedCounts()}.
+     *
+     * @param messagesPerSecond maximum number of messages, or zero for no limit
+     */
+    public final void setRateLimit(int messagesPerSecond) {
+        if (messagesPerSecond < 0) {
+            throw new IllegalArgumentException("Rate limit must not be negative");
+        }
+        this.rateLimit = messagesPerSecond;
+    }
+
+    /**
+     * Get the maximum number of messages accepted from each module in each second.
+     *
+     * @return maximum number of messages, or zero for no limit
+     */
+    public final int getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Get the number of messages dropped because the dispatch queue was full.
+     *
+     * @return number of messages
+     */
+    public final long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Get the number of messages dropped by rate limiting, by module name.
+     *
+     * @return number of messages, by module name
+     */
+    public final Map<String, Long> getRateLimitedCounts() {
+        Map<String, Long> result = new HashMap<String, Long>();
+        for (Map.Entry<String, NativeLogRateLimiter> entry : rateLimiters.entrySet()) {
+            long rejected = entry.getValue().rejected();
+            if (rejected > 0) {
+                result.put(entry.getKey(), rejected);
+            }
+        }
+        return result;
+    }
+
     /**
      * Release the native log component.
+     * <p>
+     * Any messages still waiting to be dispatched are discarded.
      */
     public final void release() {
         eventListenerList.clear();
 
         libvlc.libvlc_log_unset(instance);
+
+        if (dispatchThread != null) {
+            dispatchThread.interrupt();
+        }
+    }
+
+    private static int threshold(LogLevel logLevel) {
+        return logLevel != null ? logLevel.intValue() : SUPPRESSED;
+    }
+
+    private synchronized void updateMinimumLevel() {
+        int result = threshold(logLevel);
+        for (Integer level : moduleLevels.values()) {
+            result = Math.min(result, level);
+        }
+        for (Integer level : objectLevels.values()) {
+            result = Math.min(result, level);
+        }
+        minimumLevel = result;
+    }
+
+    /**
+     * Get the log threshold level that applies to a message.
+     * <p>
+     * An object type level takes precedence over a module level, which takes precedence over the log level.
+     *
+     * @param module name of the module that emitted the message
+     * @param objectName name of the type of object that emitted the message
+     * @return threshold
+     */
+    private int threshold(String module, String objectName) {
+        Integer result;
+        if (objectName != null && (result = objectLevels.get(objectName)) != null) {
+            return result;
+        }
+        if (module != null && (result = moduleLevels.get(module)) != null) {
+            return result;
+        }
+        return threshold(logLevel);
+    }
+
+    private boolean acquireRate(String module) {
+        int limit = rateLimit;
+        if (limit == 0) {
+            return true;
+        }
+        String key = module != null ? module : "";
+        NativeLogRateLimiter rateLimiter = rateLimiters.get(key);
+        if (rateLimiter == null) {
+            NativeLogRateLimiter newRateLimiter = new NativeLogRateLimiter();
+            rateLimiter = rateLimiters.putIfAbsent(key, newRateLimiter);
+            if (rateLimiter == null) {
+                rateLimiter = newRateLimiter;
+            }
+        }
+        return rateLimiter.acquire(limit);
     }
 
     /**
@@ -160,59 +407,71 @@ public final class NativeLog {
         }
 
         @Override
-        public void log(Pointer data, int level, libvlc_log_t ctx, String format, Pointer args) {
-            // If the log is not being suppressed...
-            if (logLevel != null && level >= logLevel.intValue()) {
-                // Allocate a new buffer to hold the formatted log message
-                ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
-                // Delegate to the native library to format the log message
-                int size = LibC.INSTANCE.vsnprintf(byteBuffer, byteBuffer.capacity(), format, args);
-                // If the message was formatted without error...
-                if (size >= 0) {
-                    // FIXME could reallocate a new buffer here and try again if size > capacity?
-                    // Determine the number of available characters (actually number of bytes)
-                    size = Math.min(size, BUFFER_SIZE);
-                    // Create a new string from the byte buffer contents
-                    byte[] bytes = new byte[size];
-                    byteBuffer.get(bytes);
-                    String message = new String(bytes);
-                    if (message.length() > 0) {
-                        // Get the information about the object that emitted the log statement
-                        PointerByReference modulePointer = new PointerByReference();
-                        PointerByReference filePointer = new PointerByReference();
-                        IntByReference linePointer = new IntByReference();
-                        libvlc.libvlc_log_get_context(ctx, modulePointer, filePointer, linePointer);
-                        PointerByReference namePointer = new PointerByReference();
-                        PointerByReference headerPointer = new PointerByReference();
-                        IntByReference idPointer = new IntByReference();
-                        libvlc.libvlc_log_get_object(ctx, namePointer, headerPointer, idPointer);
-                        String module = getString(modulePointer);
-                        String file = getString(filePointer);
-                        Integer line = linePointer.getValue();
-                        String name = getString(namePointer);
-                        String header = getString(headerPointer);
-                        Integer id = idPointer.getValue();
-                        // ...send the event
-                        raiseLogEvent(LogLevel.level(level), module, file, line, name, header, id, message);
-                    }
+        public void log(Pointer data, int level, Pointer ctx, Pointer format, Pointer args) {
+            // If the message could not be accepted by any rule, reject it without doing anything else
+            if (level < minimumLevel) {
+                return;
+            }
+            NativeLogCapture capture = NativeLog.this.capture.get();
+            // Get the information about the object that emitted the log statement first, this is much cheaper than
+            // formatting the message, the strings are copied but not freed, the native strings will be reclaimed when
+            // the native callback returns
+            capture.context(libvlc, ctx);
+            if (level < threshold(capture.module, capture.name) || !acquireRate(capture.module)) {
+                return;
+            }
+            // Delegate to the native library to format the log message
+            String message = capture.format(format, args);
+            // If the message was formatted without error...
+            if (message != null) {
+                if (message.length() > 0) {
+                    // ...send the event
+                    dispatchLogEvent(LogLevel.level(level), capture.module, capture.file, capture.line, capture.name, capture.header, capture.id, message);
                 }
-                else {
-                    raiseLogEvent(LogLevel.ERROR, null, null, null, null, null, null, "Failed to format native log message");
+            }
+            else {
+                dispatchLogEvent(LogLevel.ERROR, null, null, null, null, null, null, "Failed to format native log message");
+            }
+        }
+    }
+
+    /**
+     * Dispatches queued messages to listeners.
+     */
+    private final class DispatchRunnable implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                for (;;) {
+                    NativeLogRecord record = queue.take();
+                    raiseLogEvent(record.level, record.module, record.file, record.line, record.name, record.header, record.id, record.message);
                 }
             }
+            catch (InterruptedException e) {
+                // Log released
+            }
         }
     }
 
     /**
-     * Dereference a pointer (that may be <code>null</code>) to get a string.
+     * Dispatch a log event, either immediately or by queueing it.
      *
-     * @param pointer pointer
-     * @return string, or <code>null</code> if the pointer is <code>null</code>
+     * @param level log level
+     * @param module module
+     * @param file file
+     * @param line line number
+     * @param name name
+     * @param header header
+     * @param id object identifier
+     * @param message log message
      */
-    private String getString(PointerByReference pointer) {
-        // The string is copied but not freed, the native string will be reclaimed when the native callback returns
-        Pointer value = pointer.getValue();
-        return value != null ? NativeString.copyNativeString(value) : null;
+    private void dispatchLogEvent(LogLevel level, String module, String file, Integer line, String name, String header, Integer id, String message) {
+        if (queue == null) {
+            raiseLogEvent(level, module, file, line, name, header, id, message);
+        } else if (!queue.offer(new NativeLogRecord(level, module, file, line, name, header, id, message))) {
+            droppedCount.incrementAndGet();
+        }
     }
 
     /**
@@ -0,0 +1,179 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.log;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import uk.co.caprica.vlcj.binding.LibC;
+import uk.co.caprica.vlcj.binding.LibVlc;
+import uk.co.caprica.vlcj.binding.internal.libvlc_log_t;
+
+/**
+ * Captures a native log message, and the context of that message, reusing the same native buffers and by-reference
+ * holders for every message.
+ * <p>
+ * The native log callback may be invoked on many different native threads, so there is one instance of this class per
+ * thread.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class NativeLogCapture {
+
+    /**
+     * Initial size of the native buffer used to format messages, including the NUL terminator.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    /**
+     * Maximum size of the native buffer used to format messages, longer messages are truncated.
+     */
+    private static final int MAXIMUM_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Size of the native va_list structure that must be copied before formatting a message so that the message can be
+     * formatted again, zero if the va_list is a simple pointer that is passed by value, or -1 if this is not known for
+     * the current platform (in which case messages that do not fit in the buffer are truncated).
+     */
+    private static final int VA_LIST_SIZE = vaListSize();
+
+    /**
+     * Reusable log context.
+     */
+    private final libvlc_log_t context = new libvlc_log_t();
+
+    private final PointerByReference modulePointer = new PointerByReference();
+
+    private final PointerByReference filePointer = new PointerByReference();
+
+    private final IntByReference linePointer = new IntByReference();
+
+    private final PointerByReference namePointer = new PointerByReference();
+
+    private final PointerByReference headerPointer = new PointerByReference();
+
+    private final IntByReference idPointer = new IntByReference();
+
+    /**
+     * Cache for the strings that describe the log context.
+     */
+    private final NativeStringCache strings = new NativeStringCache();
+
+    /**
+     * Copy of the native va_list structure, if needed.
+     */
+    private final byte[] vaList = new byte[Math.max(VA_LIST_SIZE, 0)];
+
+    /**
+     * Native buffer used to format messages, this grows as needed.
+     */
+    private Memory buffer = new Memory(INITIAL_BUFFER_SIZE);
+
+    /**
+     * Buffer used to copy the formatted message bytes.
+     */
+    private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+
+    String module;
+
+    String file;
+
+    Integer line;
+
+    String name;
+
+    String header;
+
+    Integer id;
+
+    /**
+     * Format a native log message.
+     * <p>
+     * If the message does not fit in the current buffer, the buffer is enlarged and the message is formatted again.
+     *
+     * @param format native format string
+     * @param args native format arguments
+     * @return formatted message, or <code>null</code> if the message could not be formatted
+     */
+    String format(Pointer format, Pointer args) {
+        if (VA_LIST_SIZE > 0) {
+            args.read(0, vaList, 0, VA_LIST_SIZE);
+        }
+        int size = LibC.INSTANCE.vsnprintf(buffer, (int) buffer.size(), format, args);
+        if (size < 0) {
+            return null;
+        }
+        if (size >= buffer.size() && VA_LIST_SIZE >= 0 && size < MAXIMUM_BUFFER_SIZE) {
+            buffer = new Memory(Math.max(size + 1, buffer.size() * 2));
+            if (VA_LIST_SIZE > 0) {
+                args.write(0, vaList, 0, VA_LIST_SIZE);
+            }
+            size = LibC.INSTANCE.vsnprintf(buffer, (int) buffer.size(), format, args);
+            if (size < 0) {
+                return null;
+            }
+        }
+        int length = (int) Math.min(size, buffer.size() - 1);
+        if (length > bytes.length) {
+            bytes = new byte[(int) buffer.size()];
+        }
+        buffer.read(0, bytes, 0, length);
+        return new String(bytes, 0, length, NativeStringCache.CHARSET);
+    }
+
+    /**
+     * Get the context of a native log message.
+     * <p>
+     * The context is made available via the fields of this class.
+     *
+     * @param libvlc native library instance
+     * @param ctx native log context
+     */
+    void context(LibVlc libvlc, Pointer ctx) {
+        context.setPointer(ctx);
+        libvlc.libvlc_log_get_context(context, modulePointer, filePointer, linePointer);
+        libvlc.libvlc_log_get_object(context, namePointer, headerPointer, idPointer);
+        module = strings.get(modulePointer.getValue());
+        file = strings.get(filePointer.getValue());
+        line = linePointer.getValue();
+        name = strings.get(namePointer.getValue());
+        header = strings.get(headerPointer.getValue());
+        id = idPointer.getValue();
+    }
+
+    private static int vaListSize() {
+        if (Platform.isWindows()) {
+            return 0;
+        }
+        if ("x86-64".equals(Platform.ARCH)) {
+            return 24;
+        }
+        if ("aarch64".equals(Platform.ARCH)) {
+            return Platform.isMac() ? 0 : 32;
+        }
+        if ("x86".equals(Platform.ARCH)) {
+            return 0;
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.log;
+
+/**
+ * Limits the number of native log messages accepted from a single module in each one second period.
+ * <p>
+ * This class is thread-safe.
+ */
+final class NativeLogRateLimiter {
+
+    /**
+     * Length of the rate limiting period, in nanoseconds.
+     */
+    private static final long PERIOD = 1000000000L;
+
+    /**
+     * Start of the current period.
+     */
+    private long periodStart = System.nanoTime();
+
+    /**
+     * Number of messages accepted in the current period.
+     */
+    private int accepted;
+
+    /**
+     * Total number of messages rejected.
+     */
+    private long rejected;
+
+    /**
+     * Try to accept a message.
+     *
+     * @param limit maximum number of messages to accept in each period
+     * @return <code>true</code> if the message was accepted; <code>false</code> if the limit has been reached
+     */
+    synchronized boolean acquire(int limit) {
+        long now = System.nanoTime();
+        if (now - periodStart >= PERIOD) {
+            periodStart = now;
+            accepted = 0;
+        }
+        if (accepted < limit) {
+            accepted++;
+            return true;
+        } else {
+            rejected++;
+            return false;
+        }
+    }
+
+    /**
+     * Get the total number of messages rejected.
+     *
+     * @return number of messages
+     */
+    synchronized long rejected() {
+        return rejected;
+    }
+
+}
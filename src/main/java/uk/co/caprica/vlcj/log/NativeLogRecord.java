@@ -0,0 +1,55 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.log;
+
+import uk.co.caprica.vlcj.enums.LogLevel;
+
+/**
+ * A native log message waiting to be dispatched to listeners.
+ */
+final class NativeLogRecord {
+
+    final LogLevel level;
+
+    final String module;
+
+    final String file;
+
+    final Integer line;
+
+    final String name;
+
+    final String header;
+
+    final Integer id;
+
+    final String message;
+
+    NativeLogRecord(LogLevel level, String module, String file, Integer line, String name, String header, Integer id, String message) {
+        this.level   = level;
+        this.module  = module;
+        this.file    = file;
+        this.line    = line;
+        this.name    = name;
+        this.header  = header;
+        this.id      = id;
+        this.message = message;
+    }
+
+}
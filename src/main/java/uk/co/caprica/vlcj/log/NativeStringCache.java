@@ -0,0 +1,113 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.log;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A small cache of strings copied from native memory.
+ * <p>
+ * Native log messages repeatedly report the same few module names, source file names, object names and headers, so
+ * rather than create a new string for each one every time, a native string is compared with the cached copy and the
+ * cached string is returned if it is the same.
+ * <p>
+ * This is a direct-mapped cache, a string with the same hash as a cached string simply replaces it, so the cache never
+ * grows.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class NativeStringCache {
+
+    /**
+     * Number of cached strings, must be a power of two.
+     */
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * Character set used to decode native strings, the same one used by JNA.
+     */
+    static final Charset CHARSET = Charset.forName(Native.getDefaultStringEncoding());
+
+    /**
+     * Native bytes for each cached string.
+     */
+    private final byte[][] keys = new byte[CACHE_SIZE][];
+
+    /**
+     * Cached strings.
+     */
+    private final String[] values = new String[CACHE_SIZE];
+
+    /**
+     * Buffer used to copy the native string bytes.
+     */
+    private byte[] bytes = new byte[64];
+
+    /**
+     * Get a string from native memory.
+     *
+     * @param pointer pointer to a native NUL-terminated string, may be <code>null</code>
+     * @return string, or <code>null</code> if the pointer is <code>null</code>
+     */
+    String get(Pointer pointer) {
+        if (pointer == null) {
+            return null;
+        }
+        int length = (int) pointer.indexOf(0, (byte) 0);
+        if (length > bytes.length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+        }
+        pointer.read(0, bytes, 0, length);
+        int index = hash(bytes, length) & (CACHE_SIZE - 1);
+        byte[] key = keys[index];
+        if (key != null && equals(key, bytes, length)) {
+            return values[index];
+        }
+        String value = new String(bytes, 0, length, CHARSET);
+        keys[index] = Arrays.copyOf(bytes, length);
+        values[index] = value;
+        return value;
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + bytes[i];
+        }
+        return result ^ (result >>> 16);
+    }
+
+    private static boolean equals(byte[] key, byte[] bytes, int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media;
+
+import uk.co.caprica.vlcj.async.PendingResults;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.enums.MediaParsedStatus;
+import uk.co.caprica.vlcj.media.events.MediaEventAdapter;
+import uk.co.caprica.vlcj.model.Picture;
+
+/**
+ * Event listener implementation that completes pending asynchronous results.
+ * <p>
+ * All pending results for a media are multiplexed through this one listener, which is registered only while at least
+ * one result is pending.
+ */
+final class AsyncResultEventHandler extends MediaEventAdapter {
+
+    /**
+     * Native events required by this handler.
+     */
+    static final libvlc_event_e[] EVENTS = {
+        libvlc_event_e.libvlc_MediaParsedChanged,
+        libvlc_event_e.libvlc_MediaThumbnailGenerated
+    };
+
+    private final PendingResults<MediaResult<?>> results;
+
+    AsyncResultEventHandler(final EventService eventService) {
+        this.results = new PendingResults<MediaResult<?>>() {
+            @Override
+            protected void onRegister() {
+                eventService.addMediaEventListener(AsyncResultEventHandler.this, EVENTS);
+            }
+
+            @Override
+            protected void onUnregister() {
+                eventService.removeMediaEventListener(AsyncResultEventHandler.this);
+            }
+        };
+    }
+
+    void add(MediaResult<?> result) {
+        result.pending(this);
+        results.add(result);
+    }
+
+    void remove(MediaResult<?> result) {
+        results.remove(result);
+    }
+
+    void cancelAll() {
+        results.cancelAll();
+    }
+
+    @Override
+    public void mediaParsedChanged(Media media, MediaParsedStatus newStatus) {
+        for (MediaResult<?> result : results.results()) {
+            result.parsedChanged(newStatus);
+        }
+    }
+
+    @Override
+    public void mediaThumbnailGenerated(Media media, Picture picture) {
+        for (MediaResult<?> result : results.results()) {
+            if (result.thumbnailGenerated(picture)) {
+                break;
+            }
+        }
+    }
+
+}
@@ -19,16 +19,25 @@
 
 package uk.co.caprica.vlcj.media;
 
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
 import uk.co.caprica.vlcj.media.events.MediaEventListener;
 
 public class EventService extends BaseService {
 
     private final MediaNativeEventManager eventManager;
 
+    /**
+     * Event handler used to complete pending asynchronous results.
+     */
+    private final AsyncResultEventHandler asyncResultEventHandler;
+
     EventService(Media media) {
         super(media);
 
         this.eventManager = new MediaNativeEventManager(libvlc, media);
+
+        // The asynchronous result handler registers itself only while there are pending results
+        this.asyncResultEventHandler = new AsyncResultEventHandler(this);
     }
 
     /**
@@ -40,6 +49,18 @@ public class EventService extends BaseService {
         eventManager.addEventListener(listener);
     }
 
+    /**
+     * Add a component to be notified of only specific media events.
+     * <p>
+     * Native events are only delivered from the native library if at least one listener is interested in them.
+     *
+     * @param listener component to notify
+     * @param events native events to be notified of
+     */
+    public void addMediaEventListener(MediaEventListener listener, libvlc_event_e... events) {
+        eventManager.addEventListener(listener, events);
+    }
+
     /**
      * Remove a component that was previously interested in notifications of media events.
      *
@@ -49,8 +70,13 @@ public class EventService extends BaseService {
         eventManager.removeEventListener(listener);
     }
 
+    void addAsyncResult(MediaResult<?> result) {
+        asyncResultEventHandler.add(result);
+    }
+
     @Override
     protected void release() {
+        asyncResultEventHandler.cancelAll();
         eventManager.release();
     }
 
@@ -19,6 +19,7 @@
 
 package uk.co.caprica.vlcj.media;
 
+import uk.co.caprica.vlcj.binding.DirectLibVlc;
 import uk.co.caprica.vlcj.binding.NativeString;
 import uk.co.caprica.vlcj.enums.State;
 import uk.co.caprica.vlcj.enums.TrackType;
@@ -32,8 +33,14 @@ public class InfoService extends BaseService {
 
     private final libvlc_media_stats_t statsInstance = new libvlc_media_stats_t();
 
+    /**
+     * Flag if the frequently polled functions are invoked via direct mapping.
+     */
+    private final boolean direct;
+
     InfoService(Media media) {
         super(media);
+        this.direct = DirectLibVlc.isEnabled(libvlc);
     }
 
     public String mrl() {
@@ -72,7 +79,7 @@ public class InfoService extends BaseService {
     }
 
     public boolean statistics(MediaStatistics mediaStatistics) {
-        if (libvlc.libvlc_media_get_stats(mediaInstance, statsInstance) != 0) {
+        if ((direct ? DirectLibVlc.libvlc_media_get_stats(mediaInstance, statsInstance) : libvlc.libvlc_media_get_stats(mediaInstance, statsInstance)) != 0) {
             mediaStatistics.apply(statsInstance);
             return true;
         } else {
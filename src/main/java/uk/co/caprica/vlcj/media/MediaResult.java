@@ -0,0 +1,66 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media;
+
+import uk.co.caprica.vlcj.async.AsyncResult;
+import uk.co.caprica.vlcj.enums.MediaParsedStatus;
+import uk.co.caprica.vlcj.model.Picture;
+
+/**
+ * An asynchronous result completed by media events.
+ * <p>
+ * Sub-classes override whichever of the event methods they need, the default implementations do nothing.
+ *
+ * @param <T> type of result
+ */
+abstract class MediaResult<T> extends AsyncResult<T> {
+
+    /**
+     * Event handler that this result is pending with.
+     */
+    private volatile AsyncResultEventHandler handler;
+
+    final void pending(AsyncResultEventHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    protected void onDone() {
+        AsyncResultEventHandler handler = this.handler;
+        if (handler != null) {
+            handler.remove(this);
+        }
+    }
+
+    void parsedChanged(MediaParsedStatus newStatus) {
+    }
+
+    /**
+     * Thumbnail events do not identify the request, so each one is offered to pending results in request order until
+     * one of them accepts it.
+     *
+     * @param picture thumbnail picture, or <code>null</code> if the thumbnail could not be generated
+     * @return <code>true</code> if this result accepted the thumbnail; <code>false</code> otherwise
+     */
+    boolean thumbnailGenerated(Picture picture) {
+        return false;
+    }
+
+}
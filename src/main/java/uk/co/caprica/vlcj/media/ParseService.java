@@ -19,6 +19,8 @@
 
 package uk.co.caprica.vlcj.media;
 
+import uk.co.caprica.vlcj.async.AsyncResult;
+import uk.co.caprica.vlcj.condition.BeforeConditionAbortedException;
 import uk.co.caprica.vlcj.enums.ParseFlag;
 import uk.co.caprica.vlcj.enums.MediaParsedStatus;
 
@@ -70,6 +72,49 @@ public class ParseService extends BaseService {
         return libvlc.libvlc_media_parse_with_options(mediaInstance, flagsToInt(flags), timeout) == 0;
     }
 
+    /**
+     * Parse the media without waiting for parsing to finish.
+     *
+     * @return result, completed with the parsed status
+     */
+    public AsyncResult<MediaParsedStatus> parseAsync() {
+        return parseAsync(-1, (ParseFlag[]) null);
+    }
+
+    /**
+     * Parse the media without waiting for parsing to finish.
+     * <p>
+     * The result is completed when the parsed changed event is received, whatever the parsed status - a time-out is
+     * reported as {@link MediaParsedStatus#TIMEOUT} rather than as a failure.
+     * <p>
+     * If the media has already been parsed, the returned result is already completed with the existing parsed status.
+     * <p>
+     * If parsing could not be started, the result fails with {@link BeforeConditionAbortedException}.
+     * <p>
+     * This method must not be invoked from a native event callback.
+     *
+     * @param timeout parse time-out, in milliseconds, 0 to wait indefinitely, -1 for the default time-out
+     * @param flags parse flags
+     * @return result, completed with the parsed status
+     */
+    public AsyncResult<MediaParsedStatus> parseAsync(int timeout, ParseFlag... flags) {
+        MediaParsedStatus status = status();
+        if (status != null) {
+            return AsyncResult.completed(status);
+        }
+        MediaResult<MediaParsedStatus> result = new MediaResult<MediaParsedStatus>() {
+            @Override
+            void parsedChanged(MediaParsedStatus newStatus) {
+                complete(newStatus);
+            }
+        };
+        media.events().addAsyncResult(result);
+        if (!parse(timeout, flags)) {
+            result.fail(new BeforeConditionAbortedException());
+        }
+        return result;
+    }
+
     public void stop() {
         libvlc.libvlc_media_parse_stop(mediaInstance);
     }
@@ -19,9 +19,14 @@
 
 package uk.co.caprica.vlcj.media;
 
+import uk.co.caprica.vlcj.async.AsyncResult;
 import uk.co.caprica.vlcj.binding.internal.libvlc_media_thumbnail_request_t;
+import uk.co.caprica.vlcj.condition.BeforeConditionAbortedException;
 import uk.co.caprica.vlcj.enums.PictureType;
 import uk.co.caprica.vlcj.enums.ThumbnailerSeekSpeed;
+import uk.co.caprica.vlcj.model.Picture;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ThumbnailService extends BaseService {
 
@@ -51,4 +56,129 @@ public class ThumbnailService extends BaseService {
         libvlc.libvlc_media_thumbnail_cancel(request.instance());
     }
 
+    /**
+     * Request a thumbnail at a particular time without waiting for it to be generated.
+     * <p>
+     * See {@link #requestByPositionAsync(float, ThumbnailerSeekSpeed, int, int, PictureType, long)}.
+     *
+     * @param time time, in milliseconds
+     * @param speed seek speed
+     * @param width thumbnail width
+     * @param height thumbnail height
+     * @param pictureType thumbnail picture type
+     * @param timeout time-out, in milliseconds, or zero for no time-out
+     * @return result, completed with the thumbnail picture
+     */
+    public AsyncResult<Picture> requestByTimeAsync(long time, ThumbnailerSeekSpeed speed, int width, int height, PictureType pictureType, long timeout) {
+        ThumbnailResult result = new ThumbnailResult();
+        media.events().addAsyncResult(result);
+        return result.request(libvlc.libvlc_media_thumbnail_request_by_time(mediaInstance, time, speed.intValue(), width, height, pictureType.intValue(), timeout));
+    }
+
+    /**
+     * Request a thumbnail at a particular position without waiting for it to be generated.
+     * <p>
+     * The native thumbnail event does not identify the request it belongs to, so results are completed in the order in
+     * which they were requested.
+     * <p>
+     * If the thumbnail could not be requested, the result fails with {@link BeforeConditionAbortedException}, if the
+     * thumbnail could not be generated (e.g. it timed out) the result fails with an {@link IllegalStateException}.
+     * <p>
+     * Cancelling the result, or the result timing out, also cancels the native request.
+     * <p>
+     * This method must not be invoked from a native event callback.
+     *
+     * @param position position, a percentage (e.g. 0.15 is 15%)
+     * @param speed seek speed
+     * @param width thumbnail width
+     * @param height thumbnail height
+     * @param pictureType thumbnail picture type
+     * @param timeout time-out, in milliseconds, or zero for no time-out
+     * @return result, completed with the thumbnail picture
+     */
+    public AsyncResult<Picture> requestByPositionAsync(float position, ThumbnailerSeekSpeed speed, int width, int height, PictureType pictureType, long timeout) {
+        ThumbnailResult result = new ThumbnailResult();
+        media.events().addAsyncResult(result);
+        return result.request(libvlc.libvlc_media_thumbnail_request_by_pos(mediaInstance, position, speed.intValue(), width, height, pictureType.intValue(), timeout));
+    }
+
+    /**
+     * A pending thumbnail result.
+     * <p>
+     * A result that ends early, i.e. is cancelled or times out, cancels its native request but stays pending until its
+     * own thumbnail event arrives - the native library still raises that event, and since thumbnail events are matched
+     * to results only by request order, removing the result any earlier would give its event to the next result.
+     */
+    private final class ThumbnailResult extends MediaResult<Picture> {
+
+        /**
+         * Native request, set once the request has been made.
+         */
+        private volatile libvlc_media_thumbnail_request_t request;
+
+        /**
+         * Flag if the native request could not be made, so no thumbnail event will ever arrive for this result.
+         */
+        private volatile boolean requestFailed;
+
+        /**
+         * Flag if the thumbnail event for this result has arrived.
+         * <p>
+         * Once set, the native request must not be cancelled.
+         */
+        private final AtomicBoolean eventReceived = new AtomicBoolean();
+
+        /**
+         * Flag if the native request has been cancelled, ensuring it is cancelled at most once.
+         */
+        private final AtomicBoolean requestCancelled = new AtomicBoolean();
+
+        private ThumbnailResult request(libvlc_media_thumbnail_request_t request) {
+            if (request != null) {
+                this.request = request;
+                if (isDone()) {
+                    cancelRequest();
+                }
+            } else {
+                requestFailed = true;
+                if (!fail(new BeforeConditionAbortedException())) {
+                    // Already ended early, and there is no event to wait for
+                    super.onDone();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        boolean thumbnailGenerated(Picture picture) {
+            eventReceived.set(true);
+            boolean completed;
+            if (picture != null) {
+                completed = complete(picture);
+            } else {
+                completed = fail(new IllegalStateException("Thumbnail was not generated"));
+            }
+            if (!completed) {
+                // This result already ended early, this was the event it was waiting for
+                super.onDone();
+            }
+            return true;
+        }
+
+        @Override
+        protected void onDone() {
+            if (eventReceived.get() || requestFailed) {
+                super.onDone();
+            } else if (request != null) {
+                cancelRequest();
+            }
+        }
+
+        private void cancelRequest() {
+            if (!eventReceived.get() && requestCancelled.compareAndSet(false, true)) {
+                libvlc.libvlc_media_thumbnail_cancel(request);
+            }
+        }
+    }
+
 }
@@ -35,7 +35,8 @@ final class MediaThumbnailGeneratedEvent extends MediaEvent {
 
     @Override
     public void notify(MediaEventListener listener) {
-        Picture picture = new Picture(libvlc, thumbnail);
+        // The native picture is null if the thumbnail could not be generated
+        Picture picture = thumbnail != null ? new Picture(libvlc, thumbnail) : null;
         listener.mediaThumbnailGenerated(media, picture);
     }
 
@@ -0,0 +1,191 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies, measured in nanoseconds.
+ * <p>
+ * Values are recorded into power-of-two buckets, so any percentile reported is approximate - it is the upper bound of
+ * the bucket that contains the requested percentile, and is therefore accurate to within a factor of two. This is more
+ * than good enough to tell a fifty microsecond operation from a fifty millisecond stall.
+ * <p>
+ * Recording a value is lock-free and does not allocate, so it is safe to use on a native callback thread. Values may be
+ * read from any thread at any time, but since there is no global lock a reading taken while values are still being
+ * recorded is not guaranteed to be an atomic snapshot.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of buckets, enough to cover any positive long value.
+     */
+    private static final int BUCKET_COUNT = 64;
+
+    /**
+     * Bucket counts, bucket n contains values in the range [2^(n-1), 2^n).
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Number of recorded values.
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * Sum of all recorded values.
+     */
+    private final AtomicLong total = new AtomicLong();
+
+    /**
+     * Largest recorded value.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a value.
+     *
+     * @param nanos value to record, in nanoseconds, negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(nanos));
+        count.incrementAndGet();
+        total.addAndGet(nanos);
+        long currentMax;
+        do {
+            currentMax = max.get();
+        } while (nanos > currentMax && !max.compareAndSet(currentMax, nanos));
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return count
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * Get the sum of all recorded values.
+     *
+     * @return total, in nanoseconds
+     */
+    public long totalNanos() {
+        return total.get();
+    }
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return maximum, in nanoseconds
+     */
+    public long maxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Get the mean of all recorded values.
+     *
+     * @return mean, in nanoseconds, or zero if nothing has been recorded
+     */
+    public long meanNanos() {
+        long n = count.get();
+        return n > 0 ? total.get() / n : 0;
+    }
+
+    /**
+     * Get an approximate percentile value.
+     *
+     * @param percentile percentile, in the range 0.0 to 100.0
+     * @return approximate percentile value, in nanoseconds, or zero if nothing has been recorded
+     */
+    public long percentileNanos(double percentile) {
+        long[] counts = bucketCounts();
+        long n = 0;
+        for (long bucketCount : counts) {
+            n += bucketCount;
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(n * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target && counts[i] > 0) {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Get a copy of the raw bucket counts.
+     * <p>
+     * Bucket zero contains values of zero, bucket n (for n &gt; 0) contains values in the range [2^(n-1), 2^n).
+     *
+     * @return bucket counts
+     */
+    public long[] bucketCounts() {
+        long[] result = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            result[i] = buckets.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Reset the histogram, discarding all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        total.set(0);
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(100);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("count=").append(count()).append(',');
+        sb.append("mean=").append(meanNanos()).append(',');
+        sb.append("p50=").append(percentileNanos(50)).append(',');
+        sb.append("p99=").append(percentileNanos(99)).append(',');
+        sb.append("max=").append(maxNanos()).append(']');
+        return sb.toString();
+    }
+
+    private static int bucketIndex(long nanos) {
+        return Math.min(BUCKET_COUNT - Long.numberOfLeadingZeros(nanos), BUCKET_COUNT - 1);
+    }
+
+    private static long bucketUpperBound(int index) {
+        return index >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << index) - 1;
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Lightweight metrics components, suitable for use on native callback threads.
+ */
+package uk.co.caprica.vlcj.metrics;
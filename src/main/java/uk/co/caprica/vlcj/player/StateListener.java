@@ -0,0 +1,46 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player;
+
+import uk.co.caprica.vlcj.enums.State;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+
+/**
+ * Specification for a component that is interested only in media player state changes.
+ * <p>
+ * A single notification replaces the separate opening, playing, paused, stopped, finished and error notifications of
+ * {@link MediaPlayerEventListener}, notification requires no event object and the handler can be inlined by the JIT.
+ * <p>
+ * Buffering progress is not a state change, see {@link BufferingListener}.
+ * <p>
+ * Notifications are always raised on the native event thread, so implementations must return quickly, must never block,
+ * and must not call back into the native library.
+ */
+public interface StateListener {
+
+    /**
+     * Media player state changed.
+     *
+     * @param mediaPlayer media player that raised the event
+     * @param newState new state
+     */
+    void stateChanged(MediaPlayer mediaPlayer, State newState);
+
+}
@@ -0,0 +1,43 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player;
+
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+
+/**
+ * Specification for a component that is interested only in media player time changes.
+ * <p>
+ * This is a lightweight alternative to {@link MediaPlayerEventListener} for this one high frequency event, notification
+ * requires no event object and the handler can be inlined by the JIT.
+ * <p>
+ * Notifications are always raised on the native event thread, so implementations must return quickly, must never block,
+ * and must not call back into the native library.
+ */
+public interface TimeListener {
+
+    /**
+     * Media play-back time changed.
+     *
+     * @param mediaPlayer media player that raised the event
+     * @param newTime new time, milliseconds
+     */
+    void timeChanged(MediaPlayer mediaPlayer, long newTime);
+
+}
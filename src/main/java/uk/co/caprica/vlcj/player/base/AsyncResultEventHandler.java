@@ -0,0 +1,143 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base;
+
+import uk.co.caprica.vlcj.async.PendingResults;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+
+/**
+ * Event listener implementation that completes pending asynchronous results.
+ * <p>
+ * All pending results for a media player are multiplexed through this one listener, which is registered only while at
+ * least one result is pending.
+ * <p>
+ * Time changed events are frequent, so they are handled by a separate listener that is registered only while at least
+ * one pending result needs them.
+ */
+final class AsyncResultEventHandler extends MediaPlayerEventAdapter {
+
+    /**
+     * Native events required by this handler.
+     */
+    static final libvlc_event_e[] EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerPlaying,
+        libvlc_event_e.libvlc_MediaPlayerEncounteredError,
+        libvlc_event_e.libvlc_MediaPlayerEndReached,
+        libvlc_event_e.libvlc_MediaPlayerSnapshotTaken
+    };
+
+    /**
+     * Native events required by the time changed listener.
+     */
+    static final libvlc_event_e[] TIME_CHANGED_EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerTimeChanged
+    };
+
+    /**
+     * All pending results.
+     */
+    private final PendingResults<MediaPlayerResult<?>> results;
+
+    /**
+     * Pending results that need time changed events, each of these is also in {@link #results}.
+     */
+    private final PendingResults<MediaPlayerResult<?>> timeChangedResults;
+
+    private final MediaPlayerEventAdapter timeChangedListener = new MediaPlayerEventAdapter() {
+        @Override
+        public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+            for (MediaPlayerResult<?> result : timeChangedResults.results()) {
+                result.timeChanged(newTime);
+            }
+        }
+    };
+
+    AsyncResultEventHandler(final EventService eventService) {
+        this.results = new PendingResults<MediaPlayerResult<?>>() {
+            @Override
+            protected void onRegister() {
+                eventService.addMediaPlayerEventListener(AsyncResultEventHandler.this, EVENTS);
+            }
+
+            @Override
+            protected void onUnregister() {
+                eventService.removeMediaPlayerEventListener(AsyncResultEventHandler.this);
+            }
+        };
+        this.timeChangedResults = new PendingResults<MediaPlayerResult<?>>() {
+            @Override
+            protected void onRegister() {
+                eventService.addMediaPlayerEventListener(timeChangedListener, TIME_CHANGED_EVENTS);
+            }
+
+            @Override
+            protected void onUnregister() {
+                eventService.removeMediaPlayerEventListener(timeChangedListener);
+            }
+        };
+    }
+
+    void add(MediaPlayerResult<?> result) {
+        result.pending(this);
+        results.add(result);
+        if (result.timeChangedRequired()) {
+            timeChangedResults.add(result);
+        }
+    }
+
+    void remove(MediaPlayerResult<?> result) {
+        timeChangedResults.remove(result);
+        results.remove(result);
+    }
+
+    void cancelAll() {
+        results.cancelAll();
+    }
+
+    @Override
+    public void playing(MediaPlayer mediaPlayer) {
+        for (MediaPlayerResult<?> result : results.results()) {
+            result.playing();
+        }
+    }
+
+    @Override
+    public void error(MediaPlayer mediaPlayer) {
+        for (MediaPlayerResult<?> result : results.results()) {
+            result.error();
+        }
+    }
+
+    @Override
+    public void finished(MediaPlayer mediaPlayer) {
+        for (MediaPlayerResult<?> result : results.results()) {
+            result.finished();
+        }
+    }
+
+    @Override
+    public void snapshotTaken(MediaPlayer mediaPlayer, String filename) {
+        for (MediaPlayerResult<?> result : results.results()) {
+            result.snapshotTaken(filename);
+        }
+    }
+
+}
@@ -19,6 +19,8 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import uk.co.caprica.vlcj.async.AsyncResult;
+
 public final class ControlsService extends BaseService {
 
     ControlsService(DefaultMediaPlayer mediaPlayer) {
@@ -48,6 +50,37 @@ public final class ControlsService extends BaseService {
         return new MediaPlayerLatch(mediaPlayer).play();
     }
 
+    /**
+     * Begin play-back without waiting for the media to start playing.
+     * <p>
+     * This is the non-blocking equivalent of {@link #start()}, no thread is blocked while waiting for the outcome.
+     * <p>
+     * If the media player is already playing, the returned result is already completed.
+     * <p>
+     * This method must not be invoked from a native event callback.
+     *
+     * @return result, completed with <code>true</code> if the media started playing, <code>false</code> if the media failed to start because of an error
+     */
+    public AsyncResult<Boolean> playAsync() {
+        if (mediaPlayer.status().isPlaying()) {
+            return AsyncResult.completed(Boolean.TRUE);
+        }
+        MediaPlayerResult<Boolean> result = new MediaPlayerResult<Boolean>() {
+            @Override
+            void playing() {
+                complete(Boolean.TRUE);
+            }
+
+            @Override
+            void error() {
+                complete(Boolean.FALSE);
+            }
+        };
+        mediaPlayer.events().addAsyncResult(result);
+        play();
+        return result;
+    }
+
     /**
      * Stop play-back.
      * <p>
@@ -23,9 +23,10 @@ package uk.co.caprica.vlcj.player.base;
 
 import uk.co.caprica.vlcj.binding.LibVlc;
 import uk.co.caprica.vlcj.binding.internal.*;
+import uk.co.caprica.vlcj.executor.SerialExecutor;
+import uk.co.caprica.vlcj.executor.SharedExecutors;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 // FIXME
@@ -54,7 +55,12 @@ public class DefaultMediaPlayer implements MediaPlayer {
     private final libvlc_media_player_t mediaPlayerInstance;
 
     /**
-     * Single-threaded service to execute tasks that need to be off-loaded from a native callback thread.
+     * Shared executor, used to run tasks for this media player and for any components it creates.
+     */
+    private final Executor sharedExecutor;
+
+    /**
+     * Serial executor to execute tasks that need to be off-loaded from a native callback thread.
      * <p>
      * Native events are generated on a native event callback thread. It is not allowed to call back into LibVLC from
      * this thread, if you do either the call will be ineffective, strange behaviour will happen, or a fatal JVM crash
@@ -62,9 +68,12 @@ public class DefaultMediaPlayer implements MediaPlayer {
      * <p>
      * To mitigate this, tasks can be serialised and executed using this service.
      * <p>
+     * Tasks run in submission order, one at a time, on threads borrowed from the shared executor - so an idle media
+     * player uses no thread at all.
+     * <p>
      * See {@link #submit(Runnable)}.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SerialExecutor executor;
 
     private final AudioService      audioService;
     private final ChapterService    chapterService;
@@ -87,13 +96,28 @@ public class DefaultMediaPlayer implements MediaPlayer {
 
     /**
      * Create a new media player.
+     * <p>
+     * Tasks will be executed using the default shared executor.
      *
      * @param libvlc native library interface
      * @param instance libvlc instance
      */
     public DefaultMediaPlayer(LibVlc libvlc, libvlc_instance_t instance) {
+        this(libvlc, instance, SharedExecutors.defaultExecutor());
+    }
+
+    /**
+     * Create a new media player.
+     *
+     * @param libvlc native library interface
+     * @param instance libvlc instance
+     * @param executor shared executor used to run tasks, tasks for this media player will still run in order
+     */
+    public DefaultMediaPlayer(LibVlc libvlc, libvlc_instance_t instance, Executor executor) {
         this.libvlc         = libvlc;
         this.libvlcInstance = instance;
+        this.sharedExecutor = executor;
+        this.executor       = new SerialExecutor(executor);
 
         this.mediaPlayerInstance = newNativeMediaPlayer();
 
@@ -242,27 +266,22 @@ public class DefaultMediaPlayer implements MediaPlayer {
     }
 
     /**
-     * Shutdown the task executor service.
+     * Shutdown the task executor.
      * <p>
      * Care must be taken to prevent fatal JVM crashes during shutdown due to tasks that may be still be waiting in the
      * queue to be executed (e.g. we do not want to destroy the native media player if a task is running that is going
      * to invoke a call on the native media player).
      * <p>
-     * So, we first shutdown the executor service then await termination of all tasks. If there are no pending tasks we
-     * will terminate immediately as normal. If there are tasks, we wait for a short timeout period before forcing a
-     * termination anyway.
+     * So, we first shutdown the executor, discarding any pending tasks, then await completion of any running task. If
+     * there is no running task we will terminate immediately as normal. If there is, we wait for a short timeout period
+     * before carrying on anyway.
      * <p>
      * We should never really be waiting any significant amount of time for the queued tasks to terminate because they
      * will be very few in number, and should execute very quickly anyway. Even the short wait before timeout may be
      * useful to avoid any hard crashes during clean-up.
      */
     private void shutdownExecutor() {
-        executor.shutdownNow();
-        try {
-            executor.awaitTermination(5, TimeUnit.SECONDS);
-        }
-        catch (InterruptedException e) {
-        }
+        executor.shutdown(5, TimeUnit.SECONDS);
     }
 
     /**
@@ -272,7 +291,16 @@ public class DefaultMediaPlayer implements MediaPlayer {
      */
     @Override
     public final void submit(Runnable r) {
-        executor.submit(r);
+        executor.execute(r);
+    }
+
+    /**
+     * Get the shared executor, for use by components created by this media player.
+     *
+     * @return shared executor
+     */
+    final Executor sharedExecutor() {
+        return sharedExecutor;
     }
 
     /**
@@ -19,37 +19,302 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.eventmanager.AsyncEventDispatcher;
+import uk.co.caprica.vlcj.eventmanager.EventMetrics;
+import uk.co.caprica.vlcj.eventmanager.NativeEventRecorder;
+import uk.co.caprica.vlcj.eventmanager.NativeEventReplayer;
+import uk.co.caprica.vlcj.eventmanager.SlowListenerHandler;
+import uk.co.caprica.vlcj.player.BufferingListener;
 import uk.co.caprica.vlcj.player.MediaPlayerEventListener;
+import uk.co.caprica.vlcj.player.PositionListener;
+import uk.co.caprica.vlcj.player.StateListener;
+import uk.co.caprica.vlcj.player.TimeListener;
 import uk.co.caprica.vlcj.player.base.events.MediaPlayerEvent;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
 public final class EventService extends BaseService {
 
     private final MediaPlayerNativeEventManager eventManager;
 
+    /**
+     * Event handler used to complete pending asynchronous results.
+     */
+    private final AsyncResultEventHandler asyncResultEventHandler;
+
+    /**
+     * Event handlers used for internal implementation, these are never removed by {@link #removeUserListeners()}.
+     */
+    private final List<MediaPlayerEventListener> internalListeners;
+
     EventService(DefaultMediaPlayer mediaPlayer) {
         super(mediaPlayer);
 
         eventManager = new MediaPlayerNativeEventManager(libvlc, mediaPlayer);
 
-        // Add event handlers used for internal implementation
-        addMediaPlayerEventListener(new RepeatPlayEventHandler      ());
-        addMediaPlayerEventListener(new MediaPlayerReadyEventHandler());
+        RepeatPlayEventHandler       repeatPlayEventHandler       = new RepeatPlayEventHandler();
+        MediaPlayerReadyEventHandler mediaPlayerReadyEventHandler = new MediaPlayerReadyEventHandler();
+
+        // Add event handlers used for internal implementation, these register only for the native events they need so
+        // as not to force every native event to be attached
+        addMediaPlayerEventListener(repeatPlayEventHandler      , RepeatPlayEventHandler      .EVENTS);
+        addMediaPlayerEventListener(mediaPlayerReadyEventHandler, MediaPlayerReadyEventHandler.EVENTS);
+
+        // The asynchronous result handler registers itself only while there are pending results
+        asyncResultEventHandler = new AsyncResultEventHandler(this);
+
+        internalListeners = Arrays.<MediaPlayerEventListener>asList(repeatPlayEventHandler, mediaPlayerReadyEventHandler, asyncResultEventHandler);
     }
 
+    /**
+     * Add a component to be notified of all media player events.
+     *
+     * @param listener component to notify
+     */
     public void addMediaPlayerEventListener(MediaPlayerEventListener listener) {
         eventManager.addEventListener(listener);
     }
 
+    /**
+     * Add a component to be notified of only specific media player events.
+     * <p>
+     * Native events are only delivered from the native library if at least one listener is interested in them, so for
+     * high frequency events like time and position changes registering only for the required events can significantly
+     * reduce overhead.
+     * <p>
+     * Synthetic events, like {@link MediaPlayerEventListener#mediaPlayerReady(MediaPlayer)}, are always delivered.
+     *
+     * @param listener component to notify
+     * @param events native events to be notified of
+     */
+    public void addMediaPlayerEventListener(MediaPlayerEventListener listener, libvlc_event_e... events) {
+        eventManager.addEventListener(listener, events);
+    }
+
+    /**
+     * Remove a component previously added to be notified of media player events.
+     *
+     * @param listener component to stop notifying
+     */
     public void removeMediaPlayerEventListener(MediaPlayerEventListener listener) {
         eventManager.removeEventListener(listener);
     }
 
+    /**
+     * Add a lightweight component to be notified of media player time changes.
+     * <p>
+     * Lightweight listeners are notified on the native event thread, before any other listeners, even if asynchronous
+     * dispatch is enabled.
+     *
+     * @param listener component to notify
+     */
+    public void addTimeListener(TimeListener listener) {
+        eventManager.addTimeListener(listener);
+    }
+
+    /**
+     * Remove a component previously added to be notified of media player time changes.
+     *
+     * @param listener component to stop notifying
+     */
+    public void removeTimeListener(TimeListener listener) {
+        eventManager.removeTimeListener(listener);
+    }
+
+    /**
+     * Add a lightweight component to be notified of media player position changes.
+     * <p>
+     * Lightweight listeners are notified on the native event thread, before any other listeners, even if asynchronous
+     * dispatch is enabled.
+     *
+     * @param listener component to notify
+     */
+    public void addPositionListener(PositionListener listener) {
+        eventManager.addPositionListener(listener);
+    }
+
+    /**
+     * Remove a component previously added to be notified of media player position changes.
+     *
+     * @param listener component to stop notifying
+     */
+    public void removePositionListener(PositionListener listener) {
+        eventManager.removePositionListener(listener);
+    }
+
+    /**
+     * Add a lightweight component to be notified of media player buffering progress.
+     * <p>
+     * Lightweight listeners are notified on the native event thread, before any other listeners, even if asynchronous
+     * dispatch is enabled.
+     *
+     * @param listener component to notify
+     */
+    public void addBufferingListener(BufferingListener listener) {
+        eventManager.addBufferingListener(listener);
+    }
+
+    /**
+     * Remove a component previously added to be notified of media player buffering progress.
+     *
+     * @param listener component to stop notifying
+     */
+    public void removeBufferingListener(BufferingListener listener) {
+        eventManager.removeBufferingListener(listener);
+    }
+
+    /**
+     * Add a lightweight component to be notified of media player state changes.
+     * <p>
+     * Lightweight listeners are notified on the native event thread, before any other listeners, even if asynchronous
+     * dispatch is enabled.
+     *
+     * @param listener component to notify
+     */
+    public void addStateListener(StateListener listener) {
+        eventManager.addStateListener(listener);
+    }
+
+    /**
+     * Remove a component previously added to be notified of media player state changes.
+     *
+     * @param listener component to stop notifying
+     */
+    public void removeStateListener(StateListener listener) {
+        eventManager.removeStateListener(listener);
+    }
+
+    /**
+     * Remove all listeners added by the application, including lightweight listeners, and cancel any pending
+     * asynchronous results.
+     * <p>
+     * This is used to return a media player to a clean state so that it can be reused, e.g. by a
+     * {@link uk.co.caprica.vlcj.factory.MediaPlayerPool}.
+     */
+    public void removeUserListeners() {
+        asyncResultEventHandler.cancelAll();
+        eventManager.removeLightweightListeners();
+        eventManager.removeEventListeners(internalListeners);
+    }
+
+    /**
+     * Dispatch media player events to listeners asynchronously, rather than on the native event thread.
+     * <p>
+     * Events are queued, up to the given capacity, and dispatched in order using the media player's shared executor - no
+     * thread is dedicated to this media player. A slow listener will
+     * then no longer delay the native library, and listeners may safely call back into the native library.
+     * <p>
+     * Time, position, buffering and volume changes are coalesced so that only the latest value is dispatched. When the
+     * queue is full purely informational events (video output and scrambled changes) are dropped, state transitions are
+     * never dropped.
+     *
+     * @param capacity queue capacity
+     * @return dispatcher, this can be used to monitor the queue depth, and the dropped and coalesced event counts
+     */
+    public AsyncEventDispatcher<MediaPlayerEventListener> enableAsyncDispatch(int capacity) {
+        return eventManager.enableAsyncDispatch(mediaPlayer.sharedExecutor(), capacity);
+    }
+
+    /**
+     * Revert to dispatching media player events to listeners on the native event thread.
+     */
+    public void disableAsyncDispatch() {
+        eventManager.disableAsyncDispatch();
+    }
+
+    /**
+     * Get the asynchronous event dispatcher.
+     *
+     * @return dispatcher, or <code>null</code> if events are dispatched on the native event thread
+     */
+    public AsyncEventDispatcher<MediaPlayerEventListener> asyncDispatcher() {
+        return eventManager.asyncDispatcher();
+    }
+
+    /**
+     * Record metrics for media player events, e.g. via a {@link uk.co.caprica.vlcj.eventmanager.DefaultEventMetrics}.
+     * <p>
+     * This records the number of each type of native event received, and how long listeners take to handle them on the
+     * native event thread.
+     *
+     * @param eventMetrics metrics, or <code>null</code> to stop recording
+     */
+    public void setEventMetrics(EventMetrics eventMetrics) {
+        eventManager.setEventMetrics(eventMetrics);
+    }
+
+    /**
+     * Watch for listeners that take longer than a time budget to handle an event on the native event thread.
+     * <p>
+     * A quarantined listener is moved off the native event thread, its events are subsequently dispatched, in order, via
+     * the media player executor.
+     *
+     * @param budget time budget for a single listener to handle a single event
+     * @param unit unit of the budget
+     * @param quarantine <code>true</code> to quarantine listeners that exceed the budget; <code>false</code> to only report them
+     * @param handler handler notified of listeners that exceed the budget, may be <code>null</code>
+     */
+    public void enableWatchdog(long budget, TimeUnit unit, boolean quarantine, SlowListenerHandler handler) {
+        eventManager.enableWatchdog(budget, unit, quarantine, handler, mediaPlayer.sharedExecutor());
+    }
+
+    /**
+     * Stop watching for slow listeners, any quarantined listeners revert to being notified on the native event thread.
+     */
+    public void disableWatchdog() {
+        eventManager.disableWatchdog();
+    }
+
+    /**
+     * Get the listeners currently quarantined by the watchdog.
+     *
+     * @return copy of the quarantined listeners
+     */
+    public Set<MediaPlayerEventListener> quarantinedListeners() {
+        return eventManager.quarantinedListeners();
+    }
+
+    /**
+     * Record the native events received by this media player, e.g. to capture an event storm for later replay.
+     *
+     * @param eventRecorder recorder, or <code>null</code> to stop recording
+     */
+    public void setEventRecorder(NativeEventRecorder eventRecorder) {
+        eventManager.setEventRecorder(eventRecorder);
+    }
+
+    /**
+     * Replay a recording of native events to the listeners of this media player.
+     * <p>
+     * The events are raised on the calling thread exactly as if they had come from the native library, this call will
+     * <strong>block</strong> until the whole recording has been replayed.
+     *
+     * @param eventReplayer replayer
+     * @param speed replay speed relative to the original timing, or zero (or less) to replay as fast as possible
+     * @return number of events replayed
+     * @throws IOException if the recording could not be read
+     */
+    public long replay(NativeEventReplayer eventReplayer, double speed) throws IOException {
+        return eventReplayer.replay(eventManager, speed);
+    }
+
     void raiseEvent(MediaPlayerEvent event) {
         eventManager.raiseEvent(event);
     }
 
+    void addAsyncResult(MediaPlayerResult<?> result) {
+        asyncResultEventHandler.add(result);
+    }
+
     @Override
     protected void release() {
+        asyncResultEventHandler.cancelAll();
+        eventManager.releaseListeners();
         eventManager.release();
     }
 
@@ -19,21 +19,165 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import com.sun.jna.Pointer;
 import uk.co.caprica.vlcj.binding.LibVlc;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_manager_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+import uk.co.caprica.vlcj.enums.State;
 import uk.co.caprica.vlcj.eventmanager.EventNotification;
 import uk.co.caprica.vlcj.eventmanager.NativeEventManager;
+import uk.co.caprica.vlcj.player.BufferingListener;
 import uk.co.caprica.vlcj.player.MediaPlayerEventListener;
+import uk.co.caprica.vlcj.player.PositionListener;
+import uk.co.caprica.vlcj.player.StateListener;
+import uk.co.caprica.vlcj.player.TimeListener;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventDispatcher;
 import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventFactory;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static uk.co.caprica.vlcj.binding.internal.libvlc_event_t.U_OFFSET;
+
 final class MediaPlayerNativeEventManager extends NativeEventManager<MediaPlayer, MediaPlayerEventListener> {
 
+    /**
+     * Events that report a current value, only the latest of which need be dispatched asynchronously.
+     */
+    private static final int[] COALESCED_EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerTimeChanged    .intValue(),
+        libvlc_event_e.libvlc_MediaPlayerPositionChanged.intValue(),
+        libvlc_event_e.libvlc_MediaPlayerBuffering      .intValue(),
+        libvlc_event_e.libvlc_MediaPlayerAudioVolume    .intValue()
+    };
+
+    private static final int FIRST_EVENT      = libvlc_event_e.libvlc_MediaPlayerMediaChanged   .intValue();
+    private static final int LAST_EVENT       = libvlc_event_e.libvlc_MediaPlayerChapterChanged .intValue();
+    private static final int TIME_CHANGED     = libvlc_event_e.libvlc_MediaPlayerTimeChanged    .intValue();
+    private static final int POSITION_CHANGED = libvlc_event_e.libvlc_MediaPlayerPositionChanged.intValue();
+    private static final int BUFFERING        = libvlc_event_e.libvlc_MediaPlayerBuffering      .intValue();
+
+    /**
+     * Media player state for each native event that signifies a state change, indexed by native event type relative to
+     * the first event.
+     */
+    private static final State[] STATES = new State[LAST_EVENT - FIRST_EVENT + 1];
+
+    static {
+        STATES[libvlc_event_e.libvlc_MediaPlayerNothingSpecial  .intValue() - FIRST_EVENT] = State.NOTHING_SPECIAL;
+        STATES[libvlc_event_e.libvlc_MediaPlayerOpening         .intValue() - FIRST_EVENT] = State.OPENING;
+        STATES[libvlc_event_e.libvlc_MediaPlayerPlaying         .intValue() - FIRST_EVENT] = State.PLAYING;
+        STATES[libvlc_event_e.libvlc_MediaPlayerPaused          .intValue() - FIRST_EVENT] = State.PAUSED;
+        STATES[libvlc_event_e.libvlc_MediaPlayerStopped         .intValue() - FIRST_EVENT] = State.STOPPED;
+        STATES[libvlc_event_e.libvlc_MediaPlayerEndReached      .intValue() - FIRST_EVENT] = State.ENDED;
+        STATES[libvlc_event_e.libvlc_MediaPlayerEncounteredError.intValue() - FIRST_EVENT] = State.ERROR;
+    }
+
+    /**
+     * Purely informational events that may be dropped when the asynchronous dispatch queue is full.
+     */
+    private static final int[] DROPPABLE_EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerVout            .intValue(),
+        libvlc_event_e.libvlc_MediaPlayerScrambledChanged.intValue()
+    };
+
+    /**
+     * Events with a payload that contains a native pointer, all other events carry only primitive values.
+     */
+    private static final int[] POINTER_EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerMediaChanged .intValue(),
+        libvlc_event_e.libvlc_MediaPlayerSnapshotTaken.intValue(),
+        libvlc_event_e.libvlc_MediaPlayerAudioDevice  .intValue()
+    };
+
+    /**
+     * Lightweight listeners, each held in a copy-on-write array of its own type so that dispatch is a simple loop with
+     * a monomorphic call site.
+     */
+    private volatile TimeListener[]      timeListeners      = new TimeListener[0];
+    private volatile PositionListener[]  positionListeners  = new PositionListener[0];
+    private volatile BufferingListener[] bufferingListeners = new BufferingListener[0];
+    private volatile StateListener[]     stateListeners     = new StateListener[0];
+
     MediaPlayerNativeEventManager(LibVlc libvlc, MediaPlayer eventObject) {
         super(libvlc, eventObject, libvlc_event_e.libvlc_MediaPlayerMediaChanged, libvlc_event_e.libvlc_MediaPlayerChapterChanged, "media-player-events");
     }
 
+    void addTimeListener(TimeListener listener) {
+        synchronized (this) {
+            timeListeners = add(timeListeners, listener);
+        }
+        refreshNativeEvents();
+    }
+
+    void removeTimeListener(TimeListener listener) {
+        synchronized (this) {
+            timeListeners = remove(timeListeners, listener);
+        }
+        refreshNativeEvents();
+    }
+
+    void addPositionListener(PositionListener listener) {
+        synchronized (this) {
+            positionListeners = add(positionListeners, listener);
+        }
+        refreshNativeEvents();
+    }
+
+    void removePositionListener(PositionListener listener) {
+        synchronized (this) {
+            positionListeners = remove(positionListeners, listener);
+        }
+        refreshNativeEvents();
+    }
+
+    void addBufferingListener(BufferingListener listener) {
+        synchronized (this) {
+            bufferingListeners = add(bufferingListeners, listener);
+        }
+        refreshNativeEvents();
+    }
+
+    void removeBufferingListener(BufferingListener listener) {
+        synchronized (this) {
+            bufferingListeners = remove(bufferingListeners, listener);
+        }
+        refreshNativeEvents();
+    }
+
+    void addStateListener(StateListener listener) {
+        synchronized (this) {
+            stateListeners = add(stateListeners, listener);
+        }
+        refreshNativeEvents();
+    }
+
+    void removeStateListener(StateListener listener) {
+        synchronized (this) {
+            stateListeners = remove(stateListeners, listener);
+        }
+        refreshNativeEvents();
+    }
+
+    /**
+     * Remove all of the lightweight listeners, the listeners registered with the base class are removed separately.
+     */
+    void removeLightweightListeners() {
+        releaseListeners();
+        refreshNativeEvents();
+    }
+
+    /**
+     * Release the lightweight listeners, the listeners registered with the base class are released separately.
+     */
+    synchronized void releaseListeners() {
+        timeListeners      = new TimeListener[0];
+        positionListeners  = new PositionListener[0];
+        bufferingListeners = new BufferingListener[0];
+        stateListeners     = new StateListener[0];
+    }
+
     @Override
     protected libvlc_event_manager_t onGetEventManager(LibVlc libvlc, MediaPlayer eventObject) {
         return libvlc.libvlc_media_player_event_manager(eventObject.mediaPlayerInstance());
@@ -44,4 +188,107 @@ final class MediaPlayerNativeEventManager extends NativeEventManager<MediaPlayer
         return MediaPlayerEventFactory.createEvent(eventObject, event);
     }
 
+    @Override
+    protected boolean isEventRequired(int type) {
+        if (type == TIME_CHANGED) {
+            return timeListeners.length > 0;
+        } else if (type == POSITION_CHANGED) {
+            return positionListeners.length > 0;
+        } else if (type == BUFFERING) {
+            return bufferingListeners.length > 0;
+        } else {
+            return stateListeners.length > 0 && STATES[type - FIRST_EVENT] != null;
+        }
+    }
+
+    @Override
+    protected void onNativeEvent(int type, Pointer event, MediaPlayer eventObject) {
+        if (type == TIME_CHANGED) {
+            TimeListener[] listeners = timeListeners;
+            if (listeners.length > 0) {
+                long newTime = event.getLong(U_OFFSET);
+                for (TimeListener listener : listeners) {
+                    listener.timeChanged(eventObject, newTime);
+                }
+            }
+        } else if (type == POSITION_CHANGED) {
+            PositionListener[] listeners = positionListeners;
+            if (listeners.length > 0) {
+                float newPosition = event.getFloat(U_OFFSET);
+                for (PositionListener listener : listeners) {
+                    listener.positionChanged(eventObject, newPosition);
+                }
+            }
+        } else if (type == BUFFERING) {
+            BufferingListener[] listeners = bufferingListeners;
+            if (listeners.length > 0) {
+                float newCache = event.getFloat(U_OFFSET);
+                for (BufferingListener listener : listeners) {
+                    listener.buffering(eventObject, newCache);
+                }
+            }
+        } else {
+            State newState = STATES[type - FIRST_EVENT];
+            if (newState != null) {
+                for (StateListener listener : stateListeners) {
+                    listener.stateChanged(eventObject, newState);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected EventNotification<MediaPlayerEventListener> onDecodeEvent(LibVlc libvlc, int type, Pointer event, MediaPlayer eventObject) {
+        return MediaPlayerEventFactory.createEvent(eventObject, type, event);
+    }
+
+    @Override
+    protected boolean isCoalescedEvent(int type) {
+        return contains(COALESCED_EVENTS, type);
+    }
+
+    @Override
+    protected boolean isDroppableEvent(int type) {
+        return contains(DROPPABLE_EVENTS, type);
+    }
+
+    @Override
+    protected boolean isPrimitiveEvent(int type) {
+        return !contains(POINTER_EVENTS, type);
+    }
+
+    @Override
+    protected boolean onDispatchEvent(int type, Pointer event, MediaPlayer eventObject, List<MediaPlayerEventListener> listeners) {
+        return MediaPlayerEventDispatcher.dispatchEvent(eventObject, type, event, listeners);
+    }
+
+    private static boolean contains(int[] events, int type) {
+        for (int event : events) {
+            if (event == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> T[] add(T[] listeners, T listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+        T[] result = Arrays.copyOf(listeners, listeners.length + 1);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    private static <T> T[] remove(T[] listeners, T listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                T[] result = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, result, i, listeners.length - i - 1);
+                return result;
+            }
+        }
+        return listeners;
+    }
+
 }
@@ -19,6 +19,8 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
 import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
 import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventFactory;
 
@@ -28,30 +30,80 @@ import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventFactory;
  * <p>
  * Some media player operations require that the media be definitively playing before they are effective (things like
  * setting logo and marquee amongst others) and the playing event itself does not guarantee this.
+ * <p>
+ * Position changed is a high frequency event, so this handler is registered for it only while it is waiting for the
+ * ready event - once that has fired, the native event need not stay attached unless some other listener wants it. The
+ * handler is registered for it again when the media changes, or play-back stops or finishes.
  */
 final class MediaPlayerReadyEventHandler extends MediaPlayerEventAdapter {
 
+    /**
+     * Native events required by this handler while waiting for the ready event.
+     */
+    static final libvlc_event_e[] EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerMediaChanged,
+        libvlc_event_e.libvlc_MediaPlayerPositionChanged,
+        libvlc_event_e.libvlc_MediaPlayerStopped,
+        libvlc_event_e.libvlc_MediaPlayerEndReached
+    };
+
+    /**
+     * Native events required by this handler after the ready event has fired.
+     */
+    private static final libvlc_event_e[] FIRED_EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerMediaChanged,
+        libvlc_event_e.libvlc_MediaPlayerStopped,
+        libvlc_event_e.libvlc_MediaPlayerEndReached
+    };
+
     /**
      * Flag if the event has fired since the media was last started or not.
      */
     private boolean fired;
 
+    @Override
+    public void mediaChanged(MediaPlayer mediaPlayer, libvlc_media_t media) {
+        reset(mediaPlayer);
+    }
+
     @Override
     public void positionChanged(MediaPlayer mediaPlayer, float newPosition) {
         if (!fired && newPosition > 0) {
             fired = true;
+            register(mediaPlayer, FIRED_EVENTS);
             mediaPlayer.events().raiseEvent(MediaPlayerEventFactory.createMediaPlayerReadyEvent(mediaPlayer));
         }
     }
 
     @Override
     public void stopped(MediaPlayer mediaPlayer) {
-        fired = false;
+        reset(mediaPlayer);
     }
 
     @Override
     public void finished(MediaPlayer mediaPlayer) {
-        fired = false;
+        reset(mediaPlayer);
+    }
+
+    private void reset(MediaPlayer mediaPlayer) {
+        if (fired) {
+            fired = false;
+            register(mediaPlayer, EVENTS);
+        }
+    }
+
+    /**
+     * Change the native events this handler is registered for.
+     * <p>
+     * The listeners are updated immediately, any native attach or detach is deferred since this is invoked from a native
+     * event callback.
+     *
+     * @param mediaPlayer media player
+     * @param events native events
+     */
+    private void register(MediaPlayer mediaPlayer, libvlc_event_e[] events) {
+        mediaPlayer.events().removeMediaPlayerEventListener(this);
+        mediaPlayer.events().addMediaPlayerEventListener(this, events);
     }
 
 }
@@ -0,0 +1,76 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base;
+
+import uk.co.caprica.vlcj.async.AsyncResult;
+
+/**
+ * An asynchronous result completed by media player events.
+ * <p>
+ * Sub-classes override whichever of the event methods they need, the default implementations do nothing.
+ *
+ * @param <T> type of result
+ */
+abstract class MediaPlayerResult<T> extends AsyncResult<T> {
+
+    /**
+     * Event handler that this result is pending with.
+     */
+    private volatile AsyncResultEventHandler handler;
+
+    final void pending(AsyncResultEventHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    protected final void onDone() {
+        AsyncResultEventHandler handler = this.handler;
+        if (handler != null) {
+            handler.remove(this);
+        }
+    }
+
+    /**
+     * Does this result need time changed events?
+     * <p>
+     * These events are frequent, so they are only requested from the native library while a result needs them.
+     *
+     * @return <code>true</code> if {@link #timeChanged(long)} must be invoked; <code>false</code> if not
+     */
+    boolean timeChangedRequired() {
+        return false;
+    }
+
+    void playing() {
+    }
+
+    void error() {
+    }
+
+    void finished() {
+    }
+
+    void timeChanged(long newTime) {
+    }
+
+    void snapshotTaken(String filename) {
+    }
+
+}
@@ -152,6 +152,20 @@ public final class MediaService extends BaseService {
         }
     }
 
+    /**
+     * Clear the current media, if there is one.
+     * <p>
+     * If this component created the current media it is released, media supplied by the caller is not released.
+     * <p>
+     * The media player should be stopped first.
+     */
+    public void clear() {
+        if (this.media != null) {
+            libvlc.libvlc_media_player_set_media(mediaPlayerInstance, null);
+            changeMedia(null, false);
+        }
+    }
+
     /**
      * Set whether or not the media player should automatically repeat playing the media when it has
      * finished playing.
@@ -19,6 +19,7 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
 import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
 
 /**
@@ -26,6 +27,13 @@ import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
  */
 final class RepeatPlayEventHandler extends MediaPlayerEventAdapter {
 
+    /**
+     * Native events required by this handler.
+     */
+    static final libvlc_event_e[] EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerEndReached
+    };
+
     @Override
     public void finished(MediaPlayer mediaPlayer) {
         if (mediaPlayer.media().getRepeat()) {
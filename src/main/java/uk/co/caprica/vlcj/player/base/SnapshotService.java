@@ -19,6 +19,9 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import uk.co.caprica.vlcj.async.AsyncCallback;
+import uk.co.caprica.vlcj.async.AsyncResult;
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
 import uk.co.caprica.vlcj.player.MediaPlayerEventListener;
 import uk.co.caprica.vlcj.condition.BeforeConditionAbortedException;
 
@@ -26,9 +29,21 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public final class SnapshotService extends BaseService {
 
+    /**
+     * Time to keep waiting for a temporary snapshot file after its result ended early, in seconds.
+     * <p>
+     * The native library may still write the file after the result was cancelled or timed out.
+     */
+    private static final long ORPHANED_SNAPSHOT_TIMEOUT = 30;
+
     /**
      * Optional name of the directory to save video snapshots to.
      * <p>
@@ -36,6 +51,17 @@ public final class SnapshotService extends BaseService {
      */
     private String snapshotDirectoryName;
 
+    /**
+     * In-memory snapshot capture latency.
+     */
+    private final LatencyHistogram captureLatency = new LatencyHistogram();
+
+    /**
+     * Temporary snapshot files that may still be written by the native library even though nothing is waiting for them
+     * any more, with the time (from {@link System#nanoTime()}) after which they can safely be deleted.
+     */
+    private final Map<File, Long> orphanedFiles = new HashMap<File, Long>();
+
     SnapshotService(DefaultMediaPlayer mediaPlayer) {
         super(mediaPlayer);
     }
@@ -98,9 +124,7 @@ public final class SnapshotService extends BaseService {
      * @return <code>true</code> if the snapshot was saved, otherwise <code>false</code>
      */
     public boolean saveSnapshot(int width, int height) {
-        File snapshotDirectory = new File(snapshotDirectoryName == null ? System.getProperty("user.home") : snapshotDirectoryName);
-        File snapshotFile = new File(snapshotDirectory, "vlcj-snapshot-" + System.currentTimeMillis() + ".png");
-        return saveSnapshot(snapshotFile, width, height);
+        return saveSnapshot(defaultSnapshotFile(), width, height);
     }
 
     /**
@@ -181,7 +205,7 @@ public final class SnapshotService extends BaseService {
      * <p>
      * This implementation uses the native libvlc method to save a snapshot of the currently playing
      * video. This snapshot is saved to a temporary file and then the resultant image is loaded from
-     * the file.
+     * the file - where a memory-backed file system is available, the temporary file is created there.
      * <p>
      * If one of width or height is zero the original image aspect ratio will be preserved.
      * <p>
@@ -199,7 +223,7 @@ public final class SnapshotService extends BaseService {
     public BufferedImage getSnapshot(int width, int height) {
         File file = null;
         try {
-            file = File.createTempFile("vlcj-snapshot-", ".png");
+            file = File.createTempFile("vlcj-snapshot-", ".png", memoryDirectory());
             return ImageIO.read(new File(new WaitForSnapshot(mediaPlayer, file, width, height).await()));
         }
         catch(IOException e) {
@@ -218,4 +242,220 @@ public final class SnapshotService extends BaseService {
         }
     }
 
+    /**
+     * Save a snapshot of the currently playing video without waiting for it to be taken.
+     * <p>
+     * The snapshot will be created in the directory set via {@link #setSnapshotDirectory(String)},
+     * unless that directory has not been set in which case the snapshot will be created in the
+     * user's home directory, obtained via the "user.home" system property.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio will be preserved.
+     * <p>
+     * This method must not be invoked from a native event callback.
+     *
+     * @param width desired image width
+     * @param height desired image height
+     * @return result, completed with the snapshot file
+     */
+    public AsyncResult<File> snapshotAsync(int width, int height) {
+        return snapshotAsync(defaultSnapshotFile(), width, height);
+    }
+
+    /**
+     * Save a snapshot of the currently playing video without waiting for it to be taken.
+     * <p>
+     * This is the non-blocking equivalent of {@link #getSnapshot(int, int)}, the result is completed when the
+     * corresponding {@link MediaPlayerEventListener#snapshotTaken(MediaPlayer, String)} event is received.
+     * <p>
+     * If the snapshot could not be requested, the result fails with {@link BeforeConditionAbortedException}.
+     * <p>
+     * The native library does not report snapshots that fail after being requested, so applications should generally
+     * apply a {@link AsyncResult#timeout(long, java.util.concurrent.TimeUnit) timeout} to the result.
+     * <p>
+     * This method must not be invoked from a native event callback.
+     *
+     * @param file file to contain the snapshot
+     * @param width desired image width
+     * @param height desired image height
+     * @return result, completed with the snapshot file
+     */
+    public AsyncResult<File> snapshotAsync(final File file, int width, int height) {
+        final String filename = file.getAbsolutePath();
+        MediaPlayerResult<File> result = new MediaPlayerResult<File>() {
+            @Override
+            void snapshotTaken(String snapshotFilename) {
+                if (filename.equals(snapshotFilename)) {
+                    complete(file);
+                }
+            }
+        };
+        mediaPlayer.events().addAsyncResult(result);
+        try {
+            if (!saveSnapshot(file, width, height)) {
+                result.fail(new BeforeConditionAbortedException());
+            }
+        }
+        catch (RuntimeException e) {
+            result.fail(e);
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Get a snapshot of the currently playing video as an image, without waiting for it to be taken.
+     * <p>
+     * This is the non-blocking equivalent of {@link #getSnapshot(int, int)}. The native library can only write snapshots
+     * to a file, so the snapshot is written to a temporary file (on a memory-backed file system where one is available),
+     * loaded off the native event thread, and the file deleted.
+     * <p>
+     * If the result is cancelled or times out, the native library may still write the file later - the file is then
+     * deleted when the snapshot taken event arrives, or swept up later if that event never arrives.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio will be preserved.
+     * <p>
+     * The time taken from requesting the snapshot to the image being loaded is recorded in {@link #captureLatency()}.
+     * <p>
+     * The native library does not report snapshots that fail after being requested, so applications should generally
+     * apply a {@link AsyncResult#timeout(long, java.util.concurrent.TimeUnit) timeout} to the result.
+     * <p>
+     * This method must not be invoked from a native event callback.
+     *
+     * @param width desired image width
+     * @param height desired image height
+     * @return result, completed with the snapshot image
+     */
+    public AsyncResult<BufferedImage> snapshotImageAsync(int width, int height) {
+        sweepOrphanedFiles(false);
+        final long requested = System.nanoTime();
+        final File file;
+        try {
+            file = File.createTempFile("vlcj-snapshot-", ".png", memoryDirectory());
+        }
+        catch (IOException e) {
+            return AsyncResult.failed(new RuntimeException("Failed to create snapshot file", e));
+        }
+        final AsyncResult<File> snapshotResult;
+        try {
+            snapshotResult = snapshotAsync(file, width, height);
+        }
+        catch (RuntimeException e) {
+            file.delete();
+            throw e;
+        }
+        final AsyncResult<BufferedImage> result = new AsyncResult<BufferedImage>() {
+            @Override
+            protected void onDone() {
+                // If this result ended early, keep waiting for the snapshot only so that the file can be deleted
+                snapshotResult.timeout(ORPHANED_SNAPSHOT_TIMEOUT, TimeUnit.SECONDS);
+            }
+        };
+        snapshotResult.addCallback(new AsyncCallback<File>() {
+            @Override
+            public void completed(File snapshotFile) {
+                if (result.isDone()) {
+                    file.delete();
+                    return;
+                }
+                // Decoding the image must not delay the native event thread
+                mediaPlayer.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        BufferedImage image;
+                        try {
+                            image = ImageIO.read(file);
+                        }
+                        catch (IOException e) {
+                            result.fail(new RuntimeException("Failed to read snapshot image", e));
+                            return;
+                        }
+                        finally {
+                            file.delete();
+                        }
+                        if (image != null) {
+                            if (result.complete(image)) {
+                                captureLatency.record(System.nanoTime() - requested);
+                            }
+                        } else {
+                            result.fail(new RuntimeException("Failed to read snapshot image"));
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void failed(Throwable cause) {
+                if (cause instanceof BeforeConditionAbortedException || cause instanceof TimeoutException) {
+                    // The snapshot was never requested, or was waited for long enough
+                    file.delete();
+                } else {
+                    orphaned(file);
+                }
+                result.fail(cause);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    protected void release() {
+        sweepOrphanedFiles(true);
+    }
+
+    /**
+     * Remember a temporary snapshot file that was requested but never reported as taken.
+     * <p>
+     * The file is not deleted immediately since the native library may still write it.
+     *
+     * @param file temporary snapshot file
+     */
+    private void orphaned(File file) {
+        synchronized (orphanedFiles) {
+            orphanedFiles.put(file, System.nanoTime() + TimeUnit.SECONDS.toNanos(ORPHANED_SNAPSHOT_TIMEOUT));
+        }
+    }
+
+    /**
+     * Delete orphaned temporary snapshot files.
+     *
+     * @param all <code>true</code> to delete all orphaned files; <code>false</code> to delete only those that the native
+     *            library can no longer be expected to write
+     */
+    private void sweepOrphanedFiles(boolean all) {
+        long now = System.nanoTime();
+        synchronized (orphanedFiles) {
+            for (Iterator<Map.Entry<File, Long>> it = orphanedFiles.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<File, Long> entry = it.next();
+                if (all || now - entry.getValue() >= 0) {
+                    entry.getKey().delete();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the in-memory snapshot capture latency histogram.
+     *
+     * @return capture latency, see {@link #snapshotImageAsync(int, int)}
+     */
+    public LatencyHistogram captureLatency() {
+        return captureLatency;
+    }
+
+    private File defaultSnapshotFile() {
+        File snapshotDirectory = new File(snapshotDirectoryName == null ? System.getProperty("user.home") : snapshotDirectoryName);
+        return new File(snapshotDirectory, "vlcj-snapshot-" + System.currentTimeMillis() + ".png");
+    }
+
+    /**
+     * Get a memory-backed directory for temporary snapshot files, if there is one.
+     *
+     * @return directory, or <code>null</code> to use the default temporary directory
+     */
+    private static File memoryDirectory() {
+        File directory = new File("/dev/shm");
+        return directory.isDirectory() && directory.canWrite() ? directory : null;
+    }
+
 }
@@ -19,12 +19,22 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import uk.co.caprica.vlcj.async.AsyncResult;
+import uk.co.caprica.vlcj.binding.DirectLibVlc;
+import uk.co.caprica.vlcj.condition.UnexpectedErrorConditionException;
+import uk.co.caprica.vlcj.condition.UnexpectedFinishedConditionException;
 import uk.co.caprica.vlcj.enums.State;
 
 public final class StatusService extends BaseService {
 
+    /**
+     * Flag if the frequently polled functions are invoked via direct mapping.
+     */
+    private final boolean direct;
+
     StatusService(DefaultMediaPlayer mediaPlayer) {
         super(mediaPlayer);
+        this.direct = DirectLibVlc.isEnabled(libvlc);
     }
 
     /**
@@ -42,7 +52,7 @@ public final class StatusService extends BaseService {
      * @return <code>true</code> if the media player is playing, otherwise <code>false</code>
      */
     public boolean isPlaying() {
-        return libvlc.libvlc_media_player_is_playing(mediaPlayerInstance) == 1;
+        return (direct ? DirectLibVlc.libvlc_media_player_is_playing(mediaPlayerInstance) : libvlc.libvlc_media_player_is_playing(mediaPlayerInstance)) == 1;
     }
 
     /**
@@ -87,7 +97,7 @@ public final class StatusService extends BaseService {
      * @return current time, expressed as a number of milliseconds
      */
     public long getTime() {
-        return libvlc.libvlc_media_player_get_time(mediaPlayerInstance);
+        return direct ? DirectLibVlc.libvlc_media_player_get_time(mediaPlayerInstance) : libvlc.libvlc_media_player_get_time(mediaPlayerInstance);
     }
 
     /**
@@ -96,7 +106,7 @@ public final class StatusService extends BaseService {
      * @return current position, expressed as a percentage (e.g. 0.15 is returned for 15% complete)
      */
     public float getPosition() {
-        return libvlc.libvlc_media_player_get_position(mediaPlayerInstance);
+        return direct ? DirectLibVlc.libvlc_media_player_get_position(mediaPlayerInstance) : libvlc.libvlc_media_player_get_position(mediaPlayerInstance);
     }
 
     /**
@@ -123,7 +133,52 @@ public final class StatusService extends BaseService {
      * @return state current media player state
      */
     public State getMediaPlayerState() {
-        return State.state(libvlc.libvlc_media_player_get_state(mediaPlayerInstance));
+        return State.state(direct ? DirectLibVlc.libvlc_media_player_get_state(mediaPlayerInstance) : libvlc.libvlc_media_player_get_state(mediaPlayerInstance));
+    }
+
+    /**
+     * Get a result that completes when the play-back time reaches a particular value.
+     * <p>
+     * If the current time has already reached the target time, the returned result is already completed.
+     * <p>
+     * The result fails with {@link UnexpectedErrorConditionException} if an error occurs, or with
+     * {@link UnexpectedFinishedConditionException} if the media finishes, before the target time is reached.
+     * <p>
+     * This method must not be invoked from a native event callback.
+     *
+     * @param targetTime target time, in milliseconds
+     * @return result, completed with the time that was actually reached
+     */
+    public AsyncResult<Long> timeReachedAsync(final long targetTime) {
+        long time = getTime();
+        if (time >= targetTime) {
+            return AsyncResult.completed(time);
+        }
+        MediaPlayerResult<Long> result = new MediaPlayerResult<Long>() {
+            @Override
+            boolean timeChangedRequired() {
+                return true;
+            }
+
+            @Override
+            void timeChanged(long newTime) {
+                if (newTime >= targetTime) {
+                    complete(newTime);
+                }
+            }
+
+            @Override
+            void error() {
+                fail(new UnexpectedErrorConditionException());
+            }
+
+            @Override
+            void finished() {
+                fail(new UnexpectedFinishedConditionException());
+            }
+        };
+        mediaPlayer.events().addAsyncResult(result);
+        return result;
     }
 
 }
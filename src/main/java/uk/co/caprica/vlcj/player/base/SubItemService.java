@@ -32,8 +32,10 @@ public final class SubItemService extends BaseService {
 
     /**
      * Media list player used to play the sub-items.
+     * <p>
+     * This is created only when it is first needed, since it requires its own native media list player.
      */
-    private final MediaListPlayer mediaListPlayer;
+    private MediaListPlayer mediaListPlayer;
 
     /**
      * Flag whether or not to automatically play media sub-items if there are any.
@@ -42,10 +44,6 @@ public final class SubItemService extends BaseService {
 
     SubItemService(DefaultMediaPlayer mediaPlayer) {
         super(mediaPlayer);
-
-        this.mediaListPlayer = new DefaultMediaListPlayer(libvlc, libvlcInstance);
-
-        mediaListPlayer.mediaPlayer().setMediaPlayer(mediaPlayer);
     }
 
     /**
@@ -61,7 +59,18 @@ public final class SubItemService extends BaseService {
         return this.playSubItems;
     }
 
-    public MediaListPlayer player() {
+    /**
+     * Get the media list player used to play the sub-items.
+     * <p>
+     * The media list player is created on first use.
+     *
+     * @return media list player
+     */
+    public synchronized MediaListPlayer player() {
+        if (mediaListPlayer == null) {
+            mediaListPlayer = new DefaultMediaListPlayer(libvlc, libvlcInstance, mediaPlayer.sharedExecutor());
+            mediaListPlayer.mediaPlayer().setMediaPlayer(mediaPlayer);
+        }
         return mediaListPlayer;
     }
 
@@ -78,21 +87,25 @@ public final class SubItemService extends BaseService {
 
         if (playSubItems) {
             // Simply setting the media list on a media list player with attached media player will play the list
-            mediaListPlayer.list().setMediaList(media.subitems().get());
+            player().list().setMediaList(media.subitems().get());
         }
     }
 
-    private void releaseMediaList() {
-        MediaList oldList = mediaListPlayer.list().getMediaList();
-        if (oldList != null) {
-            oldList.release();
+    private synchronized void releaseMediaList() {
+        if (mediaListPlayer != null) {
+            MediaList oldList = mediaListPlayer.list().getMediaList();
+            if (oldList != null) {
+                oldList.release();
+            }
         }
     }
 
     @Override
-    protected void release() {
+    protected synchronized void release() {
         releaseMediaList();
-        mediaListPlayer.release();
+        if (mediaListPlayer != null) {
+            mediaListPlayer.release();
+        }
     }
 
 }
@@ -33,6 +33,11 @@ final class MediaPlayerAudioVolumeEvent extends MediaPlayerEvent {
         this.volume = ((media_player_audio_volume )event.u.getTypedValue(media_player_audio_volume.class)).volume;
     }
 
+    MediaPlayerAudioVolumeEvent(MediaPlayer mediaPlayer, float volume) {
+        super(mediaPlayer);
+        this.volume = volume;
+    }
+
     @Override
     public void notify(MediaPlayerEventListener listener) {
         listener.volumeChanged(mediaPlayer, volume);
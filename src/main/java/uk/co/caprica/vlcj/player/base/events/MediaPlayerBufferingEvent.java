@@ -33,6 +33,11 @@ final class MediaPlayerBufferingEvent extends MediaPlayerEvent {
         this.newCache = ((media_player_buffering) event.u.getTypedValue(media_player_buffering.class)).new_cache;
     }
 
+    MediaPlayerBufferingEvent(MediaPlayer mediaPlayer, float newCache) {
+        super(mediaPlayer);
+        this.newCache = newCache;
+    }
+
     @Override
     public void notify(MediaPlayerEventListener listener) {
         listener.buffering(mediaPlayer, newCache);
@@ -0,0 +1,206 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base.events;
+
+import com.sun.jna.Pointer;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.player.MediaPlayerEventListener;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+
+import java.util.List;
+
+import static uk.co.caprica.vlcj.binding.internal.libvlc_event_t.U_OFFSET;
+
+/**
+ * A dispatcher that delivers native media player events directly to listeners without creating event objects.
+ * <p>
+ * Primitive event values are read straight from native memory, so the frequent events during playback (time, position,
+ * buffering and so on) cause no allocation and no structure reflection.
+ * <p>
+ * Events that carry non-primitive values (media, strings) are not handled here and must be created via the
+ * {@link MediaPlayerEventFactory} instead.
+ */
+public final class MediaPlayerEventDispatcher {
+
+    private static final int NOTHING_SPECIAL  = libvlc_event_e.libvlc_MediaPlayerNothingSpecial  .intValue();
+    private static final int OPENING          = libvlc_event_e.libvlc_MediaPlayerOpening         .intValue();
+    private static final int BUFFERING        = libvlc_event_e.libvlc_MediaPlayerBuffering       .intValue();
+    private static final int PLAYING          = libvlc_event_e.libvlc_MediaPlayerPlaying         .intValue();
+    private static final int PAUSED           = libvlc_event_e.libvlc_MediaPlayerPaused          .intValue();
+    private static final int STOPPED          = libvlc_event_e.libvlc_MediaPlayerStopped         .intValue();
+    private static final int FORWARD          = libvlc_event_e.libvlc_MediaPlayerForward         .intValue();
+    private static final int BACKWARD         = libvlc_event_e.libvlc_MediaPlayerBackward        .intValue();
+    private static final int END_REACHED      = libvlc_event_e.libvlc_MediaPlayerEndReached      .intValue();
+    private static final int ERROR            = libvlc_event_e.libvlc_MediaPlayerEncounteredError.intValue();
+    private static final int TIME_CHANGED     = libvlc_event_e.libvlc_MediaPlayerTimeChanged     .intValue();
+    private static final int POSITION_CHANGED = libvlc_event_e.libvlc_MediaPlayerPositionChanged .intValue();
+    private static final int SEEKABLE_CHANGED = libvlc_event_e.libvlc_MediaPlayerSeekableChanged .intValue();
+    private static final int PAUSABLE_CHANGED = libvlc_event_e.libvlc_MediaPlayerPausableChanged .intValue();
+    private static final int TITLE_CHANGED    = libvlc_event_e.libvlc_MediaPlayerTitleChanged    .intValue();
+    private static final int LENGTH_CHANGED   = libvlc_event_e.libvlc_MediaPlayerLengthChanged   .intValue();
+    private static final int VOUT             = libvlc_event_e.libvlc_MediaPlayerVout            .intValue();
+    private static final int SCRAMBLED        = libvlc_event_e.libvlc_MediaPlayerScrambledChanged.intValue();
+    private static final int ES_ADDED         = libvlc_event_e.libvlc_MediaPlayerESAdded         .intValue();
+    private static final int ES_DELETED       = libvlc_event_e.libvlc_MediaPlayerESDeleted       .intValue();
+    private static final int ES_SELECTED      = libvlc_event_e.libvlc_MediaPlayerESSelected      .intValue();
+    private static final int CORKED           = libvlc_event_e.libvlc_MediaPlayerCorked          .intValue();
+    private static final int UNCORKED         = libvlc_event_e.libvlc_MediaPlayerUncorked        .intValue();
+    private static final int MUTED            = libvlc_event_e.libvlc_MediaPlayerMuted           .intValue();
+    private static final int UNMUTED          = libvlc_event_e.libvlc_MediaPlayerUnmuted         .intValue();
+    private static final int AUDIO_VOLUME     = libvlc_event_e.libvlc_MediaPlayerAudioVolume     .intValue();
+    private static final int CHAPTER_CHANGED  = libvlc_event_e.libvlc_MediaPlayerChapterChanged  .intValue();
+
+    /**
+     * Dispatch a native media player event directly to listeners.
+     * <p>
+     * The listeners are iterated by index, the list must therefore support efficient random access.
+     *
+     * @param mediaPlayer media player that generated the event
+     * @param type native event type
+     * @param event native event
+     * @param listeners listeners to notify
+     * @return <code>true</code> if the event was dispatched; <code>false</code> if the event type is not handled here
+     */
+    public static boolean dispatchEvent(MediaPlayer mediaPlayer, int type, Pointer event, List<MediaPlayerEventListener> listeners) {
+        int size = listeners.size();
+        // Most frequent events first
+        if (type == TIME_CHANGED) {
+            long newTime = event.getLong(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).timeChanged(mediaPlayer, newTime);
+            }
+        } else if (type == POSITION_CHANGED) {
+            float newPosition = event.getFloat(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).positionChanged(mediaPlayer, newPosition);
+            }
+        } else if (type == BUFFERING) {
+            float newCache = event.getFloat(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).buffering(mediaPlayer, newCache);
+            }
+        } else if (type == AUDIO_VOLUME) {
+            float volume = event.getFloat(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).volumeChanged(mediaPlayer, volume);
+            }
+        } else if (type == LENGTH_CHANGED) {
+            long newLength = event.getLong(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).lengthChanged(mediaPlayer, newLength);
+            }
+        } else if (type == SEEKABLE_CHANGED) {
+            int newSeekable = event.getInt(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).seekableChanged(mediaPlayer, newSeekable);
+            }
+        } else if (type == PAUSABLE_CHANGED) {
+            int newPausable = event.getInt(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).pausableChanged(mediaPlayer, newPausable);
+            }
+        } else if (type == SCRAMBLED) {
+            int newScrambled = event.getInt(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).scrambledChanged(mediaPlayer, newScrambled);
+            }
+        } else if (type == TITLE_CHANGED) {
+            int newTitle = event.getInt(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).titleChanged(mediaPlayer, newTitle);
+            }
+        } else if (type == CHAPTER_CHANGED) {
+            int newChapter = event.getInt(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).chapterChanged(mediaPlayer, newChapter);
+            }
+        } else if (type == VOUT) {
+            int newCount = event.getInt(U_OFFSET);
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).videoOutput(mediaPlayer, newCount);
+            }
+        } else if (type == ES_ADDED || type == ES_DELETED || type == ES_SELECTED) {
+            int esType = event.getInt(U_OFFSET);
+            int esId = event.getInt(U_OFFSET + 4);
+            for (int i = 0; i < size; i++) {
+                MediaPlayerEventListener listener = listeners.get(i);
+                if (type == ES_ADDED) {
+                    listener.elementaryStreamAdded(mediaPlayer, esType, esId);
+                } else if (type == ES_DELETED) {
+                    listener.elementaryStreamDeleted(mediaPlayer, esType, esId);
+                } else {
+                    listener.elementaryStreamSelected(mediaPlayer, esType, esId);
+                }
+            }
+        } else if (type == NOTHING_SPECIAL) {
+            // There is no listener method for this event
+        } else if (type == OPENING) {
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).opening(mediaPlayer);
+            }
+        } else if (type == PLAYING) {
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).playing(mediaPlayer);
+            }
+        } else if (type == PAUSED) {
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).paused(mediaPlayer);
+            }
+        } else if (type == STOPPED) {
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).stopped(mediaPlayer);
+            }
+        } else if (type == FORWARD) {
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).forward(mediaPlayer);
+            }
+        } else if (type == BACKWARD) {
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).backward(mediaPlayer);
+            }
+        } else if (type == END_REACHED) {
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).finished(mediaPlayer);
+            }
+        } else if (type == ERROR) {
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).error(mediaPlayer);
+            }
+        } else if (type == CORKED || type == UNCORKED) {
+            boolean corked = type == CORKED;
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).corked(mediaPlayer, corked);
+            }
+        } else if (type == MUTED || type == UNMUTED) {
+            boolean muted = type == MUTED;
+            for (int i = 0; i < size; i++) {
+                listeners.get(i).muted(mediaPlayer, muted);
+            }
+        } else {
+            // Media changed, snapshot taken and audio device events carry non-primitive values
+            return false;
+        }
+        return true;
+    }
+
+    private MediaPlayerEventDispatcher() {
+    }
+
+}
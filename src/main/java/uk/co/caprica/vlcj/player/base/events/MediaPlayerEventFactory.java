@@ -19,10 +19,13 @@
 
 package uk.co.caprica.vlcj.player.base.events;
 
+import com.sun.jna.Pointer;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
 import uk.co.caprica.vlcj.player.base.MediaPlayer;
 
+import static uk.co.caprica.vlcj.binding.internal.libvlc_event_t.U_OFFSET;
+
 /**
  * A factory that creates a media player event instance for a native media player event.
  */
@@ -76,6 +79,46 @@ public final class MediaPlayerEventFactory {
         }
     }
 
+    /**
+     * Create a new media player event directly from native memory.
+     * <p>
+     * Events that carry only primitive values are created without reading a native structure, all other events are
+     * created via {@link #createEvent(MediaPlayer, libvlc_event_t)}.
+     *
+     * @param mediaPlayer
+     * @param type native event type
+     * @param event native event
+     * @return media player event, or <code>null</code> if the native event type is not enabled or otherwise could not be handled
+     */
+    public static MediaPlayerEvent createEvent(MediaPlayer mediaPlayer, int type, Pointer event) {
+        libvlc_event_e eventType = libvlc_event_e.event(type);
+        if (eventType == null) {
+            return null;
+        }
+        switch(eventType) {
+            case libvlc_MediaPlayerTimeChanged     : return new MediaPlayerTimeChangedEvent     (mediaPlayer, event.getLong(U_OFFSET));
+            case libvlc_MediaPlayerPositionChanged : return new MediaPlayerPositionChangedEvent (mediaPlayer, event.getFloat(U_OFFSET));
+            case libvlc_MediaPlayerBuffering       : return new MediaPlayerBufferingEvent       (mediaPlayer, event.getFloat(U_OFFSET));
+            case libvlc_MediaPlayerLengthChanged   : return new MediaPlayerLengthChangedEvent   (mediaPlayer, event.getLong(U_OFFSET));
+            case libvlc_MediaPlayerAudioVolume     : return new MediaPlayerAudioVolumeEvent     (mediaPlayer, event.getFloat(U_OFFSET));
+            case libvlc_MediaPlayerNothingSpecial  : return new MediaPlayerNothingSpecialEvent  (mediaPlayer);
+            case libvlc_MediaPlayerOpening         : return new MediaPlayerOpeningEvent         (mediaPlayer);
+            case libvlc_MediaPlayerPlaying         : return new MediaPlayerPlayingEvent         (mediaPlayer);
+            case libvlc_MediaPlayerPaused          : return new MediaPlayerPausedEvent          (mediaPlayer);
+            case libvlc_MediaPlayerStopped         : return new MediaPlayerStoppedEvent         (mediaPlayer);
+            case libvlc_MediaPlayerForward         : return new MediaPlayerForwardEvent         (mediaPlayer);
+            case libvlc_MediaPlayerBackward        : return new MediaPlayerBackwardEvent        (mediaPlayer);
+            case libvlc_MediaPlayerEndReached      : return new MediaPlayerEndReachedEvent      (mediaPlayer);
+            case libvlc_MediaPlayerEncounteredError: return new MediaPlayerEncounteredErrorEvent(mediaPlayer);
+            case libvlc_MediaPlayerCorked          : return new MediaPlayerCorkedEvent          (mediaPlayer);
+            case libvlc_MediaPlayerUncorked        : return new MediaPlayerUncorkedEvent        (mediaPlayer);
+            case libvlc_MediaPlayerMuted           : return new MediaPlayerMutedEvent           (mediaPlayer);
+            case libvlc_MediaPlayerUnmuted         : return new MediaPlayerUnmutedEvent         (mediaPlayer);
+
+            default                                : return createEvent(mediaPlayer, new libvlc_event_t(event));
+        }
+    }
+
     public static MediaPlayerEvent createMediaPlayerReadyEvent(MediaPlayer mediaPlayer) {
         return new MediaPlayerReadyEvent(mediaPlayer);
     }
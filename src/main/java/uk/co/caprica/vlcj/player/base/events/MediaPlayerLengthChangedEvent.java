@@ -33,6 +33,11 @@ final class MediaPlayerLengthChangedEvent extends MediaPlayerEvent {
         this.newLength = ((media_player_length_changed) event.u.getTypedValue(media_player_length_changed.class)).new_length;
     }
 
+    MediaPlayerLengthChangedEvent(MediaPlayer mediaPlayer, long newLength) {
+        super(mediaPlayer);
+        this.newLength = newLength;
+    }
+
     @Override
     public void notify(MediaPlayerEventListener listener) {
         listener.lengthChanged(mediaPlayer, newLength);
@@ -36,6 +36,11 @@ final class MediaPlayerPositionChangedEvent extends MediaPlayerEvent {
         this.newPosition = ((media_player_position_changed) event.u.getTypedValue(media_player_position_changed.class)).new_position;
     }
 
+    MediaPlayerPositionChangedEvent(MediaPlayer mediaPlayer, float newPosition) {
+        super(mediaPlayer);
+        this.newPosition = newPosition;
+    }
+
     @Override
     public void notify(MediaPlayerEventListener listener) {
         listener.positionChanged(mediaPlayer, newPosition);
@@ -33,6 +33,11 @@ final class MediaPlayerTimeChangedEvent extends MediaPlayerEvent {
         this.newTime = ((media_player_time_changed) event.u.getTypedValue(media_player_time_changed.class)).new_time;
     }
 
+    MediaPlayerTimeChangedEvent(MediaPlayer mediaPlayer, long newTime) {
+        super(mediaPlayer);
+        this.newTime = newTime;
+    }
+
     @Override
     public void notify(MediaPlayerEventListener listener) {
         listener.timeChanged(mediaPlayer, newTime);
@@ -19,19 +19,32 @@
 
 package uk.co.caprica.vlcj.player.direct;
 
+import com.sun.jna.CallbackThreadInitializer;
+import com.sun.jna.Native;
 import com.sun.jna.NativeLong;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
+import uk.co.caprica.vlcj.async.AsyncCallback;
+import uk.co.caprica.vlcj.async.AsyncResult;
 import uk.co.caprica.vlcj.binding.Kernel32;
 import uk.co.caprica.vlcj.binding.LibC;
 import uk.co.caprica.vlcj.binding.LibVlc;
 import uk.co.caprica.vlcj.binding.RuntimeUtil;
 import uk.co.caprica.vlcj.binding.internal.*;
 import uk.co.caprica.vlcj.binding.support.size_t;
+import uk.co.caprica.vlcj.executor.SharedExecutors;
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
 import uk.co.caprica.vlcj.player.base.DefaultMediaPlayer;
+import uk.co.caprica.vlcj.player.direct.allocator.BufferAllocator;
+import uk.co.caprica.vlcj.player.direct.allocator.DirectByteBufferAllocator;
+import uk.co.caprica.vlcj.player.direct.allocator.NativeBuffer;
 
+import java.awt.image.BufferedImage;
 import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
 
 /**
@@ -115,11 +128,39 @@ public class DefaultDirectMediaPlayer extends DefaultMediaPlayer implements Dire
      */
     private final boolean lockBuffers;
 
+    /**
+     * Allocator for the native video buffers.
+     */
+    private final BufferAllocator bufferAllocator;
+
+    /**
+     * Pending requests to capture the next video frame.
+     */
+    private final Queue<FrameResult> frameResults = new ConcurrentLinkedQueue<FrameResult>();
+
+    /**
+     * Frame capture latency.
+     */
+    private final LatencyHistogram frameLatency = new LatencyHistogram();
+
+    /**
+     * Initialiser for the native video output thread that invokes the callbacks.
+     * <p>
+     * The native thread is kept attached to the JVM, rather than being attached and detached again for every callback,
+     * i.e. several times for every frame.
+     */
+    private final CallbackThreadInitializer callbackThreadInitializer = new CallbackThreadInitializer(true, false, "video-callbacks");
+
     /**
      * Format of the native buffers.
      */
     private BufferFormat bufferFormat;
 
+    /**
+     * Allocated native buffers, one for each plane.
+     */
+    private NativeBuffer[] buffers;
+
     /**
      * Native memory buffers, one for each plane.
      */
@@ -158,15 +199,60 @@ public class DefaultDirectMediaPlayer extends DefaultMediaPlayer implements Dire
      * @param lockBuffers
      */
     public DefaultDirectMediaPlayer(LibVlc libvlc, libvlc_instance_t instance, BufferFormatCallback bufferFormatCallback, RenderCallback renderCallback, boolean lockBuffers) {
-        super(libvlc, instance);
+        this(libvlc, instance, SharedExecutors.defaultExecutor(), bufferFormatCallback, renderCallback, lockBuffers);
+    }
+
+    /**
+     * Create a new media player.
+     *
+     * @param libvlc native library interface
+     * @param instance libvlc instance
+     * @param executor shared executor used to run tasks
+     * @param bufferFormatCallback callback to set the desired buffer format
+     * @param renderCallback callback to receive the video frame data
+     * @param lockBuffers
+     */
+    public DefaultDirectMediaPlayer(LibVlc libvlc, libvlc_instance_t instance, Executor executor, BufferFormatCallback bufferFormatCallback, RenderCallback renderCallback, boolean lockBuffers) {
+        this(libvlc, instance, executor, bufferFormatCallback, renderCallback, lockBuffers, new DirectByteBufferAllocator());
+    }
+
+    /**
+     * Create a new media player.
+     * <p>
+     * The video buffers are allocated when the video format is set up and freed when the native video output is cleaned
+     * up, e.g. when the media player is stopped or the media or video format changes.
+     * <p>
+     * With an allocator that frees its memory immediately, like {@link uk.co.caprica.vlcj.player.direct.allocator.MemoryBufferAllocator}
+     * or {@link uk.co.caprica.vlcj.player.direct.allocator.AlignedMallocBufferAllocator}, an application must not keep
+     * the buffers passed to the {@link RenderCallback} (or returned by {@link #lock()}) beyond that callback (or the
+     * matching {@link #unlock()}) - using a buffer after its memory was freed will crash the JVM. The default allocator,
+     * {@link DirectByteBufferAllocator}, leaves the memory to be reclaimed by the garbage collector so does not have
+     * this restriction.
+     *
+     * @param libvlc native library interface
+     * @param instance libvlc instance
+     * @param executor shared executor used to run tasks
+     * @param bufferFormatCallback callback to set the desired buffer format
+     * @param renderCallback callback to receive the video frame data
+     * @param lockBuffers
+     * @param bufferAllocator allocator for the native video buffers
+     */
+    public DefaultDirectMediaPlayer(LibVlc libvlc, libvlc_instance_t instance, Executor executor, BufferFormatCallback bufferFormatCallback, RenderCallback renderCallback, boolean lockBuffers, BufferAllocator bufferAllocator) {
+        super(libvlc, instance, executor);
         this.bufferFormatCallback = bufferFormatCallback;
         this.renderCallback = renderCallback;
+        this.bufferAllocator = bufferAllocator;
         // Create the callbacks
         this.setup = new SetupCallback();
         this.cleanup = new CleanupCallback();
         this.lock = new LockCallback();
         this.unlock = new UnlockCallback();
         this.display = new DisplayCallback();
+        Native.setCallbackThreadInitializer(this.setup, callbackThreadInitializer);
+        Native.setCallbackThreadInitializer(this.cleanup, callbackThreadInitializer);
+        Native.setCallbackThreadInitializer(this.lock, callbackThreadInitializer);
+        Native.setCallbackThreadInitializer(this.unlock, callbackThreadInitializer);
+        Native.setCallbackThreadInitializer(this.display, callbackThreadInitializer);
         this.lockBuffers = lockBuffers;
         // Install the native video callbacks
         libvlc.libvlc_video_set_format_callbacks(mediaPlayerInstance(), setup, cleanup);
@@ -182,6 +268,17 @@ public class DefaultDirectMediaPlayer extends DefaultMediaPlayer implements Dire
         return bufferFormat;
     }
 
+    /**
+     * Get the allocator used for the native video buffers.
+     * <p>
+     * This can be used for example to account for the native memory used by the video buffers.
+     *
+     * @return buffer allocator
+     */
+    public final BufferAllocator getBufferAllocator() {
+        return bufferAllocator;
+    }
+
     @Override
     public final ByteBuffer[] lock() {
         semaphore.acquireUninterruptibly();
@@ -193,6 +290,111 @@ public class DefaultDirectMediaPlayer extends DefaultMediaPlayer implements Dire
         semaphore.release();
     }
 
+    @Override
+    public final AsyncResult<Frame> frameAsync() {
+        FrameResult result = new FrameResult();
+        frameResults.add(result);
+        return result;
+    }
+
+    @Override
+    public final AsyncResult<BufferedImage> frameImageAsync(final int width, final int height) {
+        final AsyncResult<Frame> frameResult = frameAsync();
+        final AsyncResult<BufferedImage> result = new AsyncResult<BufferedImage>() {
+            @Override
+            protected void onDone() {
+                // If this result ended early, e.g. timed out, the frame is no longer needed
+                frameResult.cancel(false);
+            }
+        };
+        frameResult.addCallback(new AsyncCallback<Frame>() {
+            @Override
+            public void completed(final Frame frame) {
+                // Conversion must not delay the native video thread
+                submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            result.complete(frame.image(width, height));
+                        }
+                        catch (RuntimeException e) {
+                            result.fail(e);
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void failed(Throwable cause) {
+                result.fail(cause);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public final LatencyHistogram frameLatency() {
+        return frameLatency;
+    }
+
+    @Override
+    protected void onBeforeRelease() {
+        super.onBeforeRelease();
+        FrameResult result;
+        while ((result = frameResults.poll()) != null) {
+            result.cancel(false);
+        }
+    }
+
+    /**
+     * Check whether any pending frame request has not yet completed.
+     * <p>
+     * Requests remove themselves when they complete, but may still be queued briefly afterwards.
+     *
+     * @return <code>true</code> if at least one frame request is still open; <code>false</code> otherwise
+     */
+    private boolean hasOpenFrameResult() {
+        for (FrameResult result : frameResults) {
+            if (!result.isDone()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy the current frame and complete all of the pending frame requests with it.
+     */
+    private void captureFrame() {
+        byte[][] planes;
+        BufferFormat format;
+        semaphore.acquireUninterruptibly();
+        try {
+            if (nativeBuffers == null) {
+                return;
+            }
+            format = bufferFormat;
+            planes = new byte[nativeBuffers.length][];
+            for (int i = 0; i < nativeBuffers.length; i++) {
+                ByteBuffer buffer = nativeBuffers[i].duplicate();
+                buffer.clear();
+                planes[i] = new byte[buffer.remaining()];
+                buffer.get(planes[i]);
+            }
+        }
+        finally {
+            semaphore.release();
+        }
+        Frame frame = new Frame(format, planes);
+        long now = System.nanoTime();
+        FrameResult result;
+        while ((result = frameResults.poll()) != null) {
+            if (result.complete(frame)) {
+                frameLatency.record(now - result.requested);
+            }
+        }
+    }
+
     /**
      * Implementation of a callback invoked by the native library to set up the required video buffer characteristics.
      *
@@ -214,14 +416,17 @@ public class DefaultDirectMediaPlayer extends DefaultMediaPlayer implements Dire
             int[] lineValues = bufferFormat.getLines();
             pitches.getPointer().write(0, pitchValues, 0, pitchValues.length);
             lines.getPointer().write(0, lineValues, 0, lineValues.length);
-            // Memory must be aligned correctly (on a 32-byte boundary) for the libvlc API functions (extra bytes are
-            // allocated to allow for enough memory if the alignment needs to be changed)
+            // Any buffers from a previous format that were not cleaned up are no longer needed
+            freeBuffers();
+            // Memory must be aligned correctly (on a 32-byte boundary) for the libvlc API functions
+            buffers = new NativeBuffer[bufferFormat.getPlaneCount()];
             nativeBuffers = new ByteBuffer[bufferFormat.getPlaneCount()];
             pointers = new Pointer[bufferFormat.getPlaneCount()];
             for (int i = 0; i < bufferFormat.getPlaneCount(); i ++ ) {
-                ByteBuffer buffer = ByteBufferFactory.allocateAlignedBuffer(pitchValues[i] * lineValues[i]);
-                nativeBuffers[i] = buffer;
-                pointers[i] = Pointer.createConstant(ByteBufferFactory.getAddress(buffer));
+                NativeBuffer buffer = bufferAllocator.allocate(pitchValues[i] * lineValues[i], BufferAllocator.LIBVLC_ALIGNMENT);
+                buffers[i] = buffer;
+                nativeBuffers[i] = buffer.buffer();
+                pointers[i] = buffer.pointer();
                 if (lockBuffers) {
                     if (!RuntimeUtil.isWindows()) {
                         LibC.INSTANCE.mlock(pointers[i], new NativeLong(buffer.capacity()));
@@ -242,17 +447,35 @@ public class DefaultDirectMediaPlayer extends DefaultMediaPlayer implements Dire
     private final class CleanupCallback implements libvlc_video_cleanup_cb {
         @Override
         public void cleanup(Pointer opaque) {
-            if (nativeBuffers != null) {
-                if (lockBuffers) {
-                    for (int i = 0; i < nativeBuffers.length; i++) {
+            freeBuffers();
+        }
+    }
+
+    /**
+     * Free the native video buffers, if there are any.
+     * <p>
+     * The buffers are not freed while an application holds them via {@link #lock()}.
+     */
+    private void freeBuffers() {
+        if (buffers != null) {
+            semaphore.acquireUninterruptibly();
+            try {
+                for (int i = 0; i < buffers.length; i++) {
+                    if (lockBuffers) {
                         if (!RuntimeUtil.isWindows()) {
-                            LibC.INSTANCE.munlock(pointers[i], new NativeLong(nativeBuffers[i].capacity()));
+                            LibC.INSTANCE.munlock(pointers[i], new NativeLong(buffers[i].capacity()));
                         } else {
-                            Kernel32.INSTANCE.VirtualUnlock(pointers[i], new size_t(nativeBuffers[i].capacity()));
+                            Kernel32.INSTANCE.VirtualUnlock(pointers[i], new size_t(buffers[i].capacity()));
                         }
                     }
+                    buffers[i].free();
                 }
+                buffers = null;
                 nativeBuffers = null;
+                pointers = null;
+            }
+            finally {
+                semaphore.release();
             }
         }
     }
@@ -265,12 +488,12 @@ public class DefaultDirectMediaPlayer extends DefaultMediaPlayer implements Dire
      */
     private final class LockCallback implements libvlc_lock_callback_t {
         @Override
-        public Pointer lock(Pointer opaque, PointerByReference planes) {
+        public Pointer lock(Pointer opaque, Pointer planes) {
             // Acquire the single permit from the semaphore to ensure that the memory buffer is not trashed while
             // display() is invoked
             semaphore.acquireUninterruptibly();
             // Set the pre-allocated buffers to use for each plane
-            planes.getPointer().write(0, pointers, 0, pointers.length);
+            planes.write(0, pointers, 0, pointers.length);
             return null;
         }
     }
@@ -300,6 +523,29 @@ public class DefaultDirectMediaPlayer extends DefaultMediaPlayer implements Dire
         public void display(Pointer opaque, Pointer picture) {
             // Invoke the callback
             DefaultDirectMediaPlayer.this.renderCallback.display(DefaultDirectMediaPlayer.this, nativeBuffers, bufferFormat);
+            // Capture the frame only if it is still wanted
+            if (!frameResults.isEmpty() && hasOpenFrameResult()) {
+                captureFrame();
+            }
+        }
+    }
+
+    /**
+     * A pending request to capture the next video frame.
+     * <p>
+     * A request that is cancelled or times out removes itself from the pending requests, so that frames are not copied,
+     * and requests do not accumulate (e.g. while paused), when nothing is waiting for them.
+     */
+    private final class FrameResult extends AsyncResult<Frame> {
+
+        /**
+         * Time the frame was requested.
+         */
+        private final long requested = System.nanoTime();
+
+        @Override
+        protected void onDone() {
+            frameResults.remove(this);
         }
     }
 
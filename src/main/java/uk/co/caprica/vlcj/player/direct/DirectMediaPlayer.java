@@ -19,10 +19,13 @@
 
 package uk.co.caprica.vlcj.player.direct;
 
+import uk.co.caprica.vlcj.async.AsyncResult;
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
 import uk.co.caprica.vlcj.player.base.MediaPlayer;
 
 import com.sun.jna.Memory;
 
+import java.awt.image.BufferedImage;
 import java.nio.ByteBuffer;
 
 /**
@@ -60,4 +63,37 @@ public interface DirectMediaPlayer extends MediaPlayer {
      * Unlock the native memory buffers.
      */
     void unlock();
+
+    /**
+     * Capture a copy of the next video frame, in memory.
+     * <p>
+     * The result is completed, on the native video thread, when the next frame is displayed - so it is never completed if
+     * no more video frames are displayed, applications should generally apply a
+     * {@link AsyncResult#timeout(long, java.util.concurrent.TimeUnit) timeout} to the result.
+     *
+     * @return result, completed with the frame
+     */
+    AsyncResult<Frame> frameAsync();
+
+    /**
+     * Capture the next video frame, in memory, as an image.
+     * <p>
+     * The frame is captured as per {@link #frameAsync()}, and then converted (and scaled if necessary) to an image off the
+     * native video thread, see {@link Frame#image(int, int)}.
+     *
+     * @param width desired image width
+     * @param height desired image height
+     * @return result, completed with the image
+     */
+    AsyncResult<BufferedImage> frameImageAsync(int width, int height);
+
+    /**
+     * Get the frame capture latency histogram.
+     * <p>
+     * This records the time from requesting a frame to the frame being captured, excluding any conversion to an image.
+     *
+     * @return capture latency
+     */
+    LatencyHistogram frameLatency();
+
 }
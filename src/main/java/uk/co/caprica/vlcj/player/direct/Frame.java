@@ -0,0 +1,141 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.player.direct;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * A copy of a single video frame captured from a direct media player.
+ * <p>
+ * The frame data is held in memory exactly as it was rendered by the native library, one array per plane, laid out
+ * according to the buffer format.
+ */
+public final class Frame {
+
+    /**
+     * Chroma of the only buffer format that can be converted to an image.
+     */
+    private static final String RV32 = "RV32";
+
+    /**
+     * Buffer format of the frame.
+     */
+    private final BufferFormat bufferFormat;
+
+    /**
+     * Frame data, one array per plane.
+     */
+    private final byte[][] planes;
+
+    /**
+     * Create a frame.
+     *
+     * @param bufferFormat buffer format of the frame
+     * @param planes frame data, one array per plane
+     */
+    Frame(BufferFormat bufferFormat, byte[][] planes) {
+        this.bufferFormat = bufferFormat;
+        this.planes = planes;
+    }
+
+    /**
+     * Get the buffer format of the frame.
+     *
+     * @return buffer format
+     */
+    public BufferFormat bufferFormat() {
+        return bufferFormat;
+    }
+
+    /**
+     * Get the frame data.
+     * <p>
+     * The returned arrays are not copied.
+     *
+     * @return frame data, one array per plane
+     */
+    public byte[][] planes() {
+        return planes;
+    }
+
+    /**
+     * Convert the frame to an image, at its original size.
+     *
+     * @return image
+     */
+    public BufferedImage image() {
+        return image(0, 0);
+    }
+
+    /**
+     * Convert the frame to an image.
+     * <p>
+     * Only frames with the "RV32" chroma can be converted.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio will be preserved.
+     * <p>
+     * If both width and height are zero, the original image size will be used.
+     *
+     * @param width desired image width
+     * @param height desired image height
+     * @return image
+     * @throws IllegalStateException if the frame does not have the "RV32" chroma
+     */
+    public BufferedImage image(int width, int height) {
+        if (!RV32.equals(bufferFormat.getChroma())) {
+            throw new IllegalStateException("Only " + RV32 + " frames can be converted to an image, not " + bufferFormat.getChroma());
+        }
+        int frameWidth = bufferFormat.getWidth();
+        int frameHeight = bufferFormat.getHeight();
+        int pitch = bufferFormat.getPitches()[0] / 4;
+        BufferedImage image = new BufferedImage(frameWidth, frameHeight, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        // RV32 pixels are B, G, R, X bytes, i.e. little-endian XRGB integers
+        IntBuffer source = ByteBuffer.wrap(planes[0]).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        for (int y = 0; y < frameHeight; y++) {
+            source.position(y * pitch);
+            source.get(pixels, y * frameWidth, frameWidth);
+        }
+        if (width == 0 && height == 0) {
+            return image;
+        }
+        if (width == 0) {
+            width = Math.max(1, (int) ((long) frameWidth * height / frameHeight));
+        } else if (height == 0) {
+            height = Math.max(1, (int) ((long) frameHeight * width / frameWidth));
+        }
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = result.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, width, height, null);
+        }
+        finally {
+            g.dispose();
+        }
+        return result;
+    }
+
+}
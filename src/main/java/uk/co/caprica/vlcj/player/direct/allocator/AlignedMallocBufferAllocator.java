@@ -0,0 +1,87 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.direct.allocator;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
+import uk.co.caprica.vlcj.binding.LibC;
+import uk.co.caprica.vlcj.binding.RuntimeUtil;
+import uk.co.caprica.vlcj.binding.support.size_t;
+
+/**
+ * Buffer allocator using the aligned memory allocation functions of the native C library, i.e.
+ * <code>posix_memalign</code> and <code>free</code>, or <code>_aligned_malloc</code> and <code>_aligned_free</code> on
+ * Windows.
+ * <p>
+ * No extra memory is allocated to align the buffer, and the memory is freed immediately when the buffer is freed - a
+ * buffer that is never freed is never reclaimed.
+ * <p>
+ * Since the memory is freed immediately, any byte buffer for it that is still in use afterwards refers to freed memory
+ * and using it will crash the JVM.
+ */
+public final class AlignedMallocBufferAllocator extends BaseBufferAllocator {
+
+    /**
+     * Minimum alignment accepted by posix_memalign, it requires a multiple of the pointer size.
+     */
+    private static final int MINIMUM_ALIGNMENT = 16;
+
+    @Override
+    protected NativeBuffer onAllocate(int capacity, int alignment) {
+        // A zero size allocation may return null, which is not distinguishable from failure on all platforms
+        long size = capacity > 0 ? capacity : 1;
+        int nativeAlignment = Math.max(alignment, MINIMUM_ALIGNMENT);
+        Pointer pointer;
+        if (!RuntimeUtil.isWindows()) {
+            PointerByReference memptr = new PointerByReference();
+            int result = LibC.INSTANCE.posix_memalign(memptr, new size_t(nativeAlignment), new size_t(size));
+            if (result != 0) {
+                throw new RuntimeException(String.format("Failed to allocate %d bytes aligned to %d, error %d", size, nativeAlignment, result));
+            }
+            pointer = memptr.getValue();
+        } else {
+            pointer = LibC.INSTANCE._aligned_malloc(new size_t(size), new size_t(nativeAlignment));
+            if (pointer == null) {
+                throw new RuntimeException(String.format("Failed to allocate %d bytes aligned to %d", size, nativeAlignment));
+            }
+        }
+        return new AlignedMallocBuffer(pointer, capacity);
+    }
+
+    /**
+     * Buffer backed by native C library memory.
+     */
+    private static final class AlignedMallocBuffer extends NativeBuffer {
+
+        private AlignedMallocBuffer(Pointer pointer, int capacity) {
+            super(pointer, capacity);
+        }
+
+        @Override
+        protected void onFree() {
+            if (!RuntimeUtil.isWindows()) {
+                LibC.INSTANCE.free(pointer());
+            } else {
+                LibC.INSTANCE._aligned_free(pointer());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.direct.allocator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base implementation for buffer allocators, validating requests and accounting for allocated buffers.
+ */
+public abstract class BaseBufferAllocator implements BufferAllocator {
+
+    /**
+     * Total size of the buffers currently allocated.
+     */
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    /**
+     * Number of buffers currently allocated.
+     */
+    private final AtomicInteger allocatedBuffers = new AtomicInteger();
+
+    @Override
+    public final NativeBuffer allocate(int capacity, int alignment) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        if (alignment <= 0 || (alignment & (alignment - 1)) != 0) {
+            throw new IllegalArgumentException("Alignment must be a power of two: " + alignment);
+        }
+        NativeBuffer buffer = onAllocate(capacity, alignment);
+        buffer.allocator(this);
+        allocatedBytes.addAndGet(buffer.capacity());
+        allocatedBuffers.incrementAndGet();
+        return buffer;
+    }
+
+    @Override
+    public final long allocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    @Override
+    public final int allocatedBuffers() {
+        return allocatedBuffers.get();
+    }
+
+    /**
+     * Account for a freed buffer.
+     *
+     * @param buffer buffer that was freed
+     */
+    final void freed(NativeBuffer buffer) {
+        allocatedBytes.addAndGet(-buffer.capacity());
+        allocatedBuffers.decrementAndGet();
+    }
+
+    /**
+     * Allocate an aligned native memory buffer.
+     * <p>
+     * The capacity and alignment have already been validated.
+     *
+     * @param capacity required size of the buffer, in bytes
+     * @param alignment required alignment of the buffer address, a power of two
+     * @return buffer
+     */
+    protected abstract NativeBuffer onAllocate(int capacity, int alignment);
+
+    /**
+     * Get the offset from an address to the next aligned address.
+     *
+     * @param address address
+     * @param alignment alignment, a power of two
+     * @return offset, in bytes
+     */
+    protected static int alignmentOffset(long address, int alignment) {
+        return (int) ((alignment - (address & (alignment - 1))) & (alignment - 1));
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.direct.allocator;
+
+/**
+ * Specification for a component that allocates aligned native memory buffers.
+ * <p>
+ * The direct media player allocates a buffer for each video plane whenever the video format is set up, and frees them
+ * when the native video output is cleaned up. Whether freeing a buffer releases its memory immediately, or leaves it to
+ * the garbage collector, depends on the implementation.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface BufferAllocator {
+
+    /**
+     * Alignment suitable for use by LibVLC video callbacks.
+     */
+    int LIBVLC_ALIGNMENT = 32;
+
+    /**
+     * Allocate an aligned native memory buffer.
+     *
+     * @param capacity required size of the buffer, in bytes
+     * @param alignment required alignment of the buffer address, must be a power of two
+     * @return buffer
+     * @throws IllegalArgumentException if the capacity is negative, or the alignment is not a power of two
+     */
+    NativeBuffer allocate(int capacity, int alignment);
+
+    /**
+     * Get the total size of the buffers currently allocated by this allocator, i.e. not yet freed.
+     *
+     * @return number of bytes
+     */
+    long allocatedBytes();
+
+    /**
+     * Get the number of buffers currently allocated by this allocator, i.e. not yet freed.
+     *
+     * @return number of buffers
+     */
+    int allocatedBuffers();
+
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.direct.allocator;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Buffer allocator using direct NIO byte buffers.
+ * <p>
+ * Enough extra memory is allocated to be able to align the buffer. Freeing the buffer only updates the accounting, the
+ * memory itself is reclaimed some time later when the byte buffer is garbage collected, and counts towards the limit
+ * set by the "-XX:MaxDirectMemorySize" JVM option.
+ * <p>
+ * Since the memory stays valid for as long as any byte buffer for it is reachable, an application may safely keep the
+ * video buffers after they have been freed. This is the default allocator, and was the only allocation strategy in
+ * previous versions of vlcj.
+ */
+public final class DirectByteBufferAllocator extends BaseBufferAllocator {
+
+    @Override
+    protected NativeBuffer onAllocate(int capacity, int alignment) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(capacity + alignment);
+        int offset = alignmentOffset(Pointer.nativeValue(Native.getDirectBufferPointer(buffer)), alignment);
+        buffer.position(offset);
+        buffer.limit(offset + capacity);
+        return new DirectByteBuffer(buffer.slice());
+    }
+
+    /**
+     * Buffer backed by a direct byte buffer.
+     */
+    private static final class DirectByteBuffer extends NativeBuffer {
+
+        private DirectByteBuffer(ByteBuffer buffer) {
+            super(buffer);
+        }
+
+        @Override
+        protected void onFree() {
+        }
+    }
+
+}
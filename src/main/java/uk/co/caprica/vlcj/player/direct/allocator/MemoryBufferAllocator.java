@@ -0,0 +1,78 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.direct.allocator;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+/**
+ * Buffer allocator using JNA {@link Memory}.
+ * <p>
+ * Enough extra memory is allocated to be able to align the buffer. The memory is freed immediately when the buffer is
+ * freed, if a buffer is never freed the memory is eventually freed when the {@link Memory} is garbage collected.
+ * <p>
+ * Since the memory is freed immediately, any byte buffer for it that is still in use afterwards refers to freed memory
+ * and using it will crash the JVM - see {@link DirectByteBufferAllocator} for an allocator without this restriction.
+ */
+public final class MemoryBufferAllocator extends BaseBufferAllocator {
+
+    @Override
+    protected NativeBuffer onAllocate(int capacity, int alignment) {
+        FreeableMemory memory = new FreeableMemory(capacity + alignment);
+        int offset = alignmentOffset(Pointer.nativeValue(memory), alignment);
+        return new MemoryBuffer(memory, offset, capacity);
+    }
+
+    /**
+     * Buffer backed by JNA memory.
+     */
+    private static final class MemoryBuffer extends NativeBuffer {
+
+        /**
+         * Memory, a hard reference must be kept to prevent it being garbage collected (and freed) while in use.
+         */
+        private final FreeableMemory memory;
+
+        private MemoryBuffer(FreeableMemory memory, int offset, int capacity) {
+            super(memory.share(offset, capacity), capacity);
+            this.memory = memory;
+        }
+
+        @Override
+        protected void onFree() {
+            memory.free();
+        }
+    }
+
+    /**
+     * JNA memory that can be explicitly freed.
+     */
+    private static final class FreeableMemory extends Memory {
+
+        private FreeableMemory(long size) {
+            super(size);
+        }
+
+        private void free() {
+            dispose();
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.direct.allocator;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * An aligned native memory buffer.
+ * <p>
+ * The buffer must be freed exactly once by {@link #free()}, freeing it again has no effect. The buffer (and anything
+ * derived from it) must not be used after it has been freed.
+ */
+public abstract class NativeBuffer {
+
+    /**
+     * Byte buffer for the aligned native memory, in native byte order.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Aligned native memory address.
+     */
+    private final Pointer pointer;
+
+    /**
+     * Allocator that accounts for this buffer, may be <code>null</code>.
+     */
+    private BaseBufferAllocator allocator;
+
+    /**
+     * Flag if this buffer has been freed.
+     */
+    private boolean freed;
+
+    /**
+     * Create a native buffer.
+     *
+     * @param pointer aligned native memory address
+     * @param capacity size of the buffer, in bytes
+     */
+    protected NativeBuffer(Pointer pointer, int capacity) {
+        this.pointer = pointer;
+        this.buffer = pointer.getByteBuffer(0, capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Create a native buffer for an existing direct byte buffer.
+     *
+     * @param buffer aligned direct byte buffer
+     */
+    protected NativeBuffer(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.nativeOrder());
+        this.pointer = Native.getDirectBufferPointer(buffer);
+    }
+
+    /**
+     * Get the byte buffer for the native memory.
+     *
+     * @return byte buffer
+     */
+    public final ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Get the native memory address.
+     *
+     * @return address
+     */
+    public final Pointer pointer() {
+        return pointer;
+    }
+
+    /**
+     * Get the size of the buffer.
+     *
+     * @return size, in bytes
+     */
+    public final int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Free the native memory.
+     */
+    public final void free() {
+        synchronized (this) {
+            if (freed) {
+                return;
+            }
+            freed = true;
+        }
+        try {
+            onFree();
+        }
+        finally {
+            if (allocator != null) {
+                allocator.freed(this);
+            }
+        }
+    }
+
+    /**
+     * Set the allocator that accounts for this buffer.
+     *
+     * @param allocator allocator
+     */
+    final void allocator(BaseBufferAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * Release the native memory.
+     * <p>
+     * This is invoked at most once.
+     */
+    protected abstract void onFree();
+
+}
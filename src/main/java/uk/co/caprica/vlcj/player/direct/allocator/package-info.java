@@ -0,0 +1,5 @@
+/**
+ * Provides allocators for the aligned native video buffers used by the direct
+ * video rendering media player.
+ */
+package uk.co.caprica.vlcj.player.direct.allocator;
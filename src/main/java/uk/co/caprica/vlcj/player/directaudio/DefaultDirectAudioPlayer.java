@@ -19,14 +19,19 @@
 
 package uk.co.caprica.vlcj.player.directaudio;
 
-import com.sun.jna.Pointer;
 import uk.co.caprica.vlcj.binding.LibVlc;
-import uk.co.caprica.vlcj.binding.internal.*;
-import uk.co.caprica.vlcj.player.embedded.DefaultEmbeddedMediaPlayer;
+import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
+import uk.co.caprica.vlcj.executor.SharedExecutors;
+import uk.co.caprica.vlcj.player.base.DefaultMediaPlayer;
+
+import java.util.concurrent.Executor;
 
 /**
  * Media player implementation that provides direct access to the audio buffer data.
  * <p>
+ * This media player has no video surface and uses no AWT, Swing or X11 classes, see
+ * {@link EmbeddedDirectAudioPlayer} for a media player that can also play embedded video.
+ * <p>
  * Client applications specify the decoded audio buffer format, the sample rate (in Hz) and the
  * number of audio channels.
  * <p>
@@ -43,52 +48,15 @@ import uk.co.caprica.vlcj.player.embedded.DefaultEmbeddedMediaPlayer;
  * number of audio samples does <em>not</em> equate to the size of the audio buffer, the "block
  * size" for a sample must also be considered.
  */
-public class DefaultDirectAudioPlayer extends DefaultEmbeddedMediaPlayer implements DirectAudioPlayer {
-
-    /**
-     * Play callback.
-     * <p>
-     * A hard reference to the callback must be kept otherwise the callback will get garbage
-     * collected and cause a native crash.
-     */
-    private final libvlc_audio_play_cb playCallback;
+public class DefaultDirectAudioPlayer extends DefaultMediaPlayer implements DirectAudioPlayer {
 
     /**
-     * Pause callback.
+     * Native audio callbacks.
      * <p>
-     * A hard reference to the callback must be kept otherwise the callback will get garbage
+     * A hard reference to the callbacks must be kept otherwise the callbacks will get garbage
      * collected and cause a native crash.
      */
-    private final libvlc_audio_pause_cb pauseCallback;
-
-    /**
-     * Resume callback.
-     * <p>
-     * A hard reference to the callback must be kept otherwise the callback will get garbage
-     * collected and cause a native crash.
-     */
-    private final libvlc_audio_resume_cb resumeCallback;
-
-    /**
-     * Flush callback.
-     * <p>
-     * A hard reference to the callback must be kept otherwise the callback will get garbage
-     * collected and cause a native crash.
-     */
-    private final libvlc_audio_flush_cb flushCallback;
-
-    /**
-     * Drain callback.
-     * <p>
-     * A hard reference to the callback must be kept otherwise the callback will get garbage
-     * collected and cause a native crash.
-     */
-    private final libvlc_audio_drain_cb drainCallback;
-
-    /**
-     * Audio callback receives native callback events.
-     */
-    private final AudioCallback audioCallback;
+    private final DirectAudioCallbacks callbacks;
 
     /**
      * Create a direct audio player.
@@ -101,70 +69,23 @@ public class DefaultDirectAudioPlayer extends DefaultEmbeddedMediaPlayer impleme
      * @param audioCallback audio callback
      */
     public DefaultDirectAudioPlayer(LibVlc libvlc, libvlc_instance_t instance, String format, int rate, int channels, AudioCallback audioCallback) {
-        super(libvlc, instance);
-        this.audioCallback = audioCallback;
-        this.playCallback = new PlayCallback();
-        this.pauseCallback = new PauseCallback();
-        this.resumeCallback = new ResumeCallback();
-        this.flushCallback = new FlushCallback();
-        this.drainCallback = new DrainCallback();
-        libvlc.libvlc_audio_set_format(mediaPlayerInstance(), format, rate, channels);
-        libvlc.libvlc_audio_set_callbacks(mediaPlayerInstance(), playCallback, pauseCallback, resumeCallback, flushCallback, drainCallback, null);
-    }
-
-    /**
-     * Implementation of a callback invoked by the native library to play a series of samples.
-     */
-    private final class PlayCallback implements libvlc_audio_play_cb {
-
-        @Override
-        public void play(Pointer data, Pointer samples, int count, long pts) {
-            audioCallback.play(DefaultDirectAudioPlayer.this, samples, count, pts);
-        }
-    }
-
-    /**
-     * Implementation of a callback invoked by the native library when audio is paused.
-     */
-    private final class PauseCallback implements libvlc_audio_pause_cb {
-
-        @Override
-        public void pause(Pointer data, long pts) {
-            audioCallback.pause(DefaultDirectAudioPlayer.this, pts);
-        }
+        this(libvlc, instance, SharedExecutors.defaultExecutor(), format, rate, channels, audioCallback);
     }
 
     /**
-     * Implementation of a callback invoked by the native library when audio is resumed.
-     */
-    private final class ResumeCallback implements libvlc_audio_resume_cb {
-
-        @Override
-        public void resume(Pointer data, long pts) {
-            audioCallback.resume(DefaultDirectAudioPlayer.this, pts);
-        }
-    }
-
-    /**
-     * Implementation of a callback invoked by the native library when audio is flushed.
-     */
-    private final class FlushCallback implements libvlc_audio_flush_cb {
-
-        @Override
-        public void flush(Pointer data, long pts) {
-            audioCallback.flush(DefaultDirectAudioPlayer.this, pts);
-        }
-    }
-
-    /**
-     * Implementation of a callback invoked by the native library when audio is drained.
+     * Create a direct audio player.
+     *
+     * @param libvlc native library instance
+     * @param instance libvlc instance
+     * @param executor shared executor used to run tasks
+     * @param format decoded buffer format
+     * @param rate decoded buffer sample rate
+     * @param channels decoded buffer channel count
+     * @param audioCallback audio callback
      */
-    private final class DrainCallback implements libvlc_audio_drain_cb {
-
-        @Override
-        public void drain(Pointer data) {
-            audioCallback.drain(DefaultDirectAudioPlayer.this);
-        }
+    public DefaultDirectAudioPlayer(LibVlc libvlc, libvlc_instance_t instance, Executor executor, String format, int rate, int channels, AudioCallback audioCallback) {
+        super(libvlc, instance, executor);
+        this.callbacks = new DirectAudioCallbacks(libvlc, mediaPlayerInstance(), this, format, rate, channels, audioCallback);
     }
 
 }
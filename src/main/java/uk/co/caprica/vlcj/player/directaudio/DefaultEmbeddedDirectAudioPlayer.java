@@ -0,0 +1,89 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.directaudio;
+
+import uk.co.caprica.vlcj.binding.LibVlc;
+import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
+import uk.co.caprica.vlcj.executor.SharedExecutors;
+import uk.co.caprica.vlcj.player.embedded.DefaultEmbeddedMediaPlayer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Media player implementation that plays embedded video and provides direct access to the audio
+ * buffer data.
+ * <p>
+ * Client applications specify the decoded audio buffer format, the sample rate (in Hz) and the
+ * number of audio channels.
+ * <p>
+ * The standard format for the decoded audio is "S16N".
+ * <p>
+ * Client applications respond to native callbacks by providing an implementation of
+ * {@link AudioCallback} or {@link AudioCallbackAdapter}.
+ * <p>
+ * When using the direct audio player then obviously the audio is not played - if a client
+ * application needs the audio to be heard then the client application must play the audio samples
+ * itself (e.g. via JavaSound or some other library).
+ * <p>
+ * The main callback is "play", whereby a number of decoded audio samples are presented - the
+ * number of audio samples does <em>not</em> equate to the size of the audio buffer, the "block
+ * size" for a sample must also be considered.
+ */
+public class DefaultEmbeddedDirectAudioPlayer extends DefaultEmbeddedMediaPlayer implements EmbeddedDirectAudioPlayer {
+
+    /**
+     * Native audio callbacks.
+     * <p>
+     * A hard reference to the callbacks must be kept otherwise the callbacks will get garbage
+     * collected and cause a native crash.
+     */
+    private final DirectAudioCallbacks callbacks;
+
+    /**
+     * Create a direct audio player.
+     *
+     * @param libvlc native library instance
+     * @param instance libvlc instance
+     * @param format decoded buffer format
+     * @param rate decoded buffer sample rate
+     * @param channels decoded buffer channel count
+     * @param audioCallback audio callback
+     */
+    public DefaultEmbeddedDirectAudioPlayer(LibVlc libvlc, libvlc_instance_t instance, String format, int rate, int channels, AudioCallback audioCallback) {
+        this(libvlc, instance, SharedExecutors.defaultExecutor(), format, rate, channels, audioCallback);
+    }
+
+    /**
+     * Create a direct audio player.
+     *
+     * @param libvlc native library instance
+     * @param instance libvlc instance
+     * @param executor shared executor used to run tasks
+     * @param format decoded buffer format
+     * @param rate decoded buffer sample rate
+     * @param channels decoded buffer channel count
+     * @param audioCallback audio callback
+     */
+    public DefaultEmbeddedDirectAudioPlayer(LibVlc libvlc, libvlc_instance_t instance, Executor executor, String format, int rate, int channels, AudioCallback audioCallback) {
+        super(libvlc, instance, executor);
+        this.callbacks = new DirectAudioCallbacks(libvlc, mediaPlayerInstance(), this, format, rate, channels, audioCallback);
+    }
+
+}
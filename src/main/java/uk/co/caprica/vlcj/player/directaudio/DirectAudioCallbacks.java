@@ -0,0 +1,161 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.player.directaudio;
+
+import com.sun.jna.CallbackThreadInitializer;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import uk.co.caprica.vlcj.binding.LibVlc;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_drain_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_flush_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_pause_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_play_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_resume_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_player_t;
+
+/**
+ * Native audio callbacks for a direct audio player.
+ * <p>
+ * The media player must keep a hard reference to this component, otherwise the callbacks will get garbage collected
+ * and cause a native crash.
+ */
+final class DirectAudioCallbacks {
+
+    /**
+     * Play callback.
+     */
+    private final libvlc_audio_play_cb playCallback = new PlayCallback();
+
+    /**
+     * Pause callback.
+     */
+    private final libvlc_audio_pause_cb pauseCallback = new PauseCallback();
+
+    /**
+     * Resume callback.
+     */
+    private final libvlc_audio_resume_cb resumeCallback = new ResumeCallback();
+
+    /**
+     * Flush callback.
+     */
+    private final libvlc_audio_flush_cb flushCallback = new FlushCallback();
+
+    /**
+     * Drain callback.
+     */
+    private final libvlc_audio_drain_cb drainCallback = new DrainCallback();
+
+    /**
+     * Initialiser for the native audio output thread that invokes the callbacks.
+     * <p>
+     * The native thread is kept attached to the JVM, rather than being attached and detached again for every block of
+     * samples.
+     */
+    private final CallbackThreadInitializer callbackThreadInitializer = new CallbackThreadInitializer(true, false, "audio-callbacks");
+
+    /**
+     * Media player passed to the audio callback.
+     */
+    private final DirectAudioPlayer mediaPlayer;
+
+    /**
+     * Audio callback receives native callback events.
+     */
+    private final AudioCallback audioCallback;
+
+    /**
+     * Create the audio callbacks and register them with the native media player.
+     *
+     * @param libvlc native library instance
+     * @param mediaPlayerInstance native media player instance
+     * @param mediaPlayer media player passed to the audio callback
+     * @param format decoded buffer format
+     * @param rate decoded buffer sample rate
+     * @param channels decoded buffer channel count
+     * @param audioCallback audio callback
+     */
+    DirectAudioCallbacks(LibVlc libvlc, libvlc_media_player_t mediaPlayerInstance, DirectAudioPlayer mediaPlayer, String format, int rate, int channels, AudioCallback audioCallback) {
+        this.mediaPlayer = mediaPlayer;
+        this.audioCallback = audioCallback;
+        Native.setCallbackThreadInitializer(playCallback, callbackThreadInitializer);
+        Native.setCallbackThreadInitializer(pauseCallback, callbackThreadInitializer);
+        Native.setCallbackThreadInitializer(resumeCallback, callbackThreadInitializer);
+        Native.setCallbackThreadInitializer(flushCallback, callbackThreadInitializer);
+        Native.setCallbackThreadInitializer(drainCallback, callbackThreadInitializer);
+        libvlc.libvlc_audio_set_format(mediaPlayerInstance, format, rate, channels);
+        libvlc.libvlc_audio_set_callbacks(mediaPlayerInstance, playCallback, pauseCallback, resumeCallback, flushCallback, drainCallback, null);
+    }
+
+    /**
+     * Implementation of a callback invoked by the native library to play a series of samples.
+     */
+    private final class PlayCallback implements libvlc_audio_play_cb {
+
+        @Override
+        public void play(Pointer data, Pointer samples, int count, long pts) {
+            audioCallback.play(mediaPlayer, samples, count, pts);
+        }
+    }
+
+    /**
+     * Implementation of a callback invoked by the native library when audio is paused.
+     */
+    private final class PauseCallback implements libvlc_audio_pause_cb {
+
+        @Override
+        public void pause(Pointer data, long pts) {
+            audioCallback.pause(mediaPlayer, pts);
+        }
+    }
+
+    /**
+     * Implementation of a callback invoked by the native library when audio is resumed.
+     */
+    private final class ResumeCallback implements libvlc_audio_resume_cb {
+
+        @Override
+        public void resume(Pointer data, long pts) {
+            audioCallback.resume(mediaPlayer, pts);
+        }
+    }
+
+    /**
+     * Implementation of a callback invoked by the native library when audio is flushed.
+     */
+    private final class FlushCallback implements libvlc_audio_flush_cb {
+
+        @Override
+        public void flush(Pointer data, long pts) {
+            audioCallback.flush(mediaPlayer, pts);
+        }
+    }
+
+    /**
+     * Implementation of a callback invoked by the native library when audio is drained.
+     */
+    private final class DrainCallback implements libvlc_audio_drain_cb {
+
+        @Override
+        public void drain(Pointer data) {
+            audioCallback.drain(mediaPlayer);
+        }
+    }
+
+}
@@ -16,18 +16,18 @@
  *
  * Copyright 2009-2019 Caprica Software Limited.
  */
-
 package uk.co.caprica.vlcj.player.directaudio;
 
-import uk.co.caprica.vlcj.player.embedded.EmbeddedMediaPlayer;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
 
 /**
  * Specification for a media player that provides direct access to the audio buffer data.
  * <p>
- * It is possible to use a direct audio player to also play embedded video - in this case
- * the video will be played like a regular EmbeddedMediaPlayer but the raw audio buffer
- * will be made available (e.g. for analysis) before it is sent to a Java API (e.g.
- * JavaSound) to actually play the audio.
+ * A direct audio player has no video surface and uses no AWT, Swing or X11 classes, so it is suitable for headless
+ * applications, e.g. audio servers - see also {@link uk.co.caprica.vlcj.factory.FactoryMode#HEADLESS}.
+ * <p>
+ * To play embedded video and also have direct access to the audio buffer data (e.g. for analysis before the audio is
+ * played via JavaSound), use an {@link EmbeddedDirectAudioPlayer}.
  */
-public interface DirectAudioPlayer extends EmbeddedMediaPlayer {
+public interface DirectAudioPlayer extends MediaPlayer {
 }
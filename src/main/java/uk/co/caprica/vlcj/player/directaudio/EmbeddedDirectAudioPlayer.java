@@ -0,0 +1,30 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.player.directaudio;
+
+import uk.co.caprica.vlcj.player.embedded.EmbeddedMediaPlayer;
+
+/**
+ * Specification for a media player that plays embedded video and provides direct access to the audio buffer data.
+ * <p>
+ * The video will be played like a regular {@link EmbeddedMediaPlayer} but the raw audio buffer will be made available
+ * (e.g. for analysis) before it is sent to a Java API (e.g. JavaSound) to actually play the audio.
+ */
+public interface EmbeddedDirectAudioPlayer extends DirectAudioPlayer, EmbeddedMediaPlayer {
+}
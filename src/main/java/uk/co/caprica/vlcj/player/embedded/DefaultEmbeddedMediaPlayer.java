@@ -21,8 +21,11 @@ package uk.co.caprica.vlcj.player.embedded;
 
 import uk.co.caprica.vlcj.binding.LibVlc;
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
+import uk.co.caprica.vlcj.executor.SharedExecutors;
 import uk.co.caprica.vlcj.player.base.DefaultMediaPlayer;
 
+import java.util.concurrent.Executor;
+
 /**
  * Implementation of a media player that renders video to an embedded Canvas component.
  * <p>
@@ -84,7 +87,20 @@ public class DefaultEmbeddedMediaPlayer extends DefaultMediaPlayer implements Em
      * @param instance libvlc instance
      */
     public DefaultEmbeddedMediaPlayer(LibVlc libvlc, libvlc_instance_t instance) {
-        super(libvlc, instance);
+        this(libvlc, instance, SharedExecutors.defaultExecutor());
+    }
+
+    /**
+     * Create a new media player.
+     * <p>
+     * Full-screen will not be supported.
+     *
+     * @param libvlc native interface
+     * @param instance libvlc instance
+     * @param executor shared executor used to run tasks
+     */
+    public DefaultEmbeddedMediaPlayer(LibVlc libvlc, libvlc_instance_t instance, Executor executor) {
+        super(libvlc, instance, executor);
 
         this.libvlc = libvlc;
         this.libvlcInstance = instance;
@@ -22,11 +22,12 @@ package uk.co.caprica.vlcj.player.list;
 import uk.co.caprica.vlcj.binding.LibVlc;
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_media_list_player_t;
+import uk.co.caprica.vlcj.executor.SerialExecutor;
+import uk.co.caprica.vlcj.executor.SharedExecutors;
 import uk.co.caprica.vlcj.player.base.MediaPlayer;
 import uk.co.caprica.vlcj.player.embedded.EmbeddedMediaPlayer;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -53,7 +54,7 @@ public class DefaultMediaListPlayer implements MediaListPlayer {
     private libvlc_media_list_player_t mediaListPlayerInstance;
 
     /**
-     * Single-threaded service to execute tasks that need to be off-loaded from a native callback thread.
+     * Serial executor to execute tasks that need to be off-loaded from a native callback thread.
      * <p>
      * Native events are generated on a native event callback thread. It is not allowed to call back into LibVLC from
      * this thread, if you do either the call will be ineffective, strange behaviour will happen, or a fatal JVM crash
@@ -61,12 +62,16 @@ public class DefaultMediaListPlayer implements MediaListPlayer {
      * <p>
      * To mitigate this, tasks can be serialised and executed using this service.
      * <p>
+     * Tasks run in submission order, one at a time, on threads borrowed from a shared executor - so an idle media list
+     * player uses no thread at all.
+     * <p>
      * See {@link #submit(Runnable)}.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SerialExecutor executor;
 
     private final ControlsService    controlsService;
     private final EventService       eventService;
+    private final GaplessService     gaplessService;
     private final ListService        listService;
     private final MediaPlayerService mediaPlayerService;
     private final ModeService        modeService;
@@ -75,13 +80,27 @@ public class DefaultMediaListPlayer implements MediaListPlayer {
 
     /**
      * Create a new media list player.
+     * <p>
+     * Tasks will be executed using the default shared executor.
      *
      * @param libvlc native library interface
      * @param libvlcInstance libvlc instance
      */
     public DefaultMediaListPlayer(LibVlc libvlc, libvlc_instance_t libvlcInstance) {
+        this(libvlc, libvlcInstance, SharedExecutors.defaultExecutor());
+    }
+
+    /**
+     * Create a new media list player.
+     *
+     * @param libvlc native library interface
+     * @param libvlcInstance libvlc instance
+     * @param executor shared executor used to run tasks, tasks for this media list player will still run in order
+     */
+    public DefaultMediaListPlayer(LibVlc libvlc, libvlc_instance_t libvlcInstance, Executor executor) {
         this.libvlc         = libvlc;
         this.libvlcInstance = libvlcInstance;
+        this.executor       = new SerialExecutor(executor);
 
         // Add event handlers for internal implementation - the order in which these are added (and therefore the order
         // in which they execute) is important in some cases (as per the individual class Javadoc)
@@ -89,6 +108,7 @@ public class DefaultMediaListPlayer implements MediaListPlayer {
 
         this.controlsService    = new ControlsService   (this);
         this.eventService       = new EventService      (this);
+        this.gaplessService     = new GaplessService    (this);
         this.listService        = new ListService       (this);
         this.mediaPlayerService = new MediaPlayerService(this);
         this.modeService        = new ModeService       (this);
@@ -115,6 +135,11 @@ public class DefaultMediaListPlayer implements MediaListPlayer {
         return eventService;
     }
 
+    @Override
+    public GaplessService gapless() {
+        return gaplessService;
+    }
+
     @Override
     public ListService list() {
         return listService;
@@ -146,6 +171,7 @@ public class DefaultMediaListPlayer implements MediaListPlayer {
 
         onBeforeRelease();
 
+        gaplessService    .release();
         controlsService   .release();
         eventService      .release();
         listService       .release();
@@ -160,27 +186,22 @@ public class DefaultMediaListPlayer implements MediaListPlayer {
     }
 
     /**
-     * Shutdown the task executor service.
+     * Shutdown the task executor.
      * <p>
      * Care must be taken to prevent fatal JVM crashes during shutdown due to tasks that may be still be waiting in the
      * queue to be executed (e.g. we do not want to destroy the native media player if a task is running that is going
      * to invoke a call on the native media player).
      * <p>
-     * So, we first shutdown the executor service then await termination of all tasks. If there are no pending tasks we
-     * will terminate immediately as normal. If there are tasks, we wait for a short timeout period before forcing a
-     * termination anyway.
+     * So, we first shutdown the executor, discarding any pending tasks, then await completion of any running task. If
+     * there is no running task we will terminate immediately as normal. If there is, we wait for a short timeout period
+     * before carrying on anyway.
      * <p>
      * We should never really be waiting any significant amount of time for the queued tasks to terminate because they
      * will be very few in number, and should execute very quickly anyway. Even the short wait before timeout may be
      * useful to avoid any hard crashes during clean-up.
      */
     private void shutdownExecutor() {
-        executor.shutdownNow();
-        try {
-            executor.awaitTermination(5, TimeUnit.SECONDS);
-        }
-        catch (InterruptedException e) {
-        }
+        executor.shutdown(5, TimeUnit.SECONDS);
     }
 
     /**
@@ -190,7 +211,7 @@ public class DefaultMediaListPlayer implements MediaListPlayer {
      */
     @Override
     public final void submit(Runnable r) {
-        executor.submit(r);
+        executor.execute(r);
     }
 
     /**
@@ -19,6 +19,8 @@
 
 package uk.co.caprica.vlcj.player.list;
 
+import uk.co.caprica.vlcj.eventmanager.EventNotification;
+
 public final class EventService extends BaseService {
 
     private final MediaListPlayerNativeEventManager eventManager;
@@ -47,6 +49,10 @@ public final class EventService extends BaseService {
         eventManager.removeEventListener(listener);
     }
 
+    void raiseEvent(EventNotification<MediaListPlayerEventListener> event) {
+        eventManager.raiseEvent(event);
+    }
+
     @Override
     protected void release() {
         eventManager.release();
@@ -0,0 +1,521 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.player.list;
+
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
+import uk.co.caprica.vlcj.enums.ParseFlag;
+import uk.co.caprica.vlcj.enums.PlaybackMode;
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.medialist.MediaList;
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.list.events.MediaListPlayerEventFactory;
+
+/**
+ * Gapless play-back of the media list.
+ * <p>
+ * The native media list player only opens the next item in the list after the current item has finished, so there is a
+ * visible and audible gap between items. Gapless play-back is instead driven from Java: while an item is playing the
+ * next item is prepared ahead of time ("lookahead") and the switch is made as soon as the current item ends.
+ * <p>
+ * With lookahead, the next item is parsed in advance. If a second media player is provided via
+ * {@link #setPreRollMediaPlayer(MediaPlayer)}, the next item is also opened on that media player, started paused, so
+ * that switching only requires un-pausing it - the two media players then alternate. Since the native library can not
+ * move video output between media players, with video the application must switch between the outputs of the two media
+ * players itself, e.g. when it receives the {@link MediaListPlayerEventListener#nextItem(MediaListPlayer, libvlc_media_t)}
+ * event, see {@link #mediaPlayer()}. Pre-roll is most useful for audio play-lists.
+ * <p>
+ * The media list and the (first) media player are those set on the media list player, the play mode is respected, and
+ * the usual {@link MediaListPlayerEventListener} events are raised. When using gapless play-back, the methods provided
+ * here must be used instead of those of the {@link ControlsService}.
+ * <p>
+ * The gap between one item ending and the next item playing is recorded, separately for transitions made with and
+ * without lookahead, so the benefit can be measured.
+ * <p>
+ * These methods must not be invoked from a native event callback.
+ */
+public final class GaplessService extends BaseService {
+
+    /**
+     * Native events required by the event handler.
+     */
+    private static final libvlc_event_e[] EVENTS = {
+        libvlc_event_e.libvlc_MediaPlayerPlaying,
+        libvlc_event_e.libvlc_MediaPlayerEndReached,
+        libvlc_event_e.libvlc_MediaPlayerEncounteredError
+    };
+
+    /**
+     * Option used to open a pre-rolled item without starting play-back.
+     */
+    private static final String START_PAUSED_OPTION = ":start-paused";
+
+    /**
+     * Gaps between items for transitions made with lookahead.
+     */
+    private final LatencyHistogram lookaheadGaps = new LatencyHistogram();
+
+    /**
+     * Gaps between items for transitions made without lookahead.
+     */
+    private final LatencyHistogram plainGaps = new LatencyHistogram();
+
+    /**
+     * Event handler, registered with the media players only during play-back.
+     */
+    private final GaplessEventHandler eventHandler = new GaplessEventHandler();
+
+    /**
+     * Optional second media player used to pre-roll the next item.
+     */
+    private MediaPlayer preRollMediaPlayer;
+
+    /**
+     * Flag whether or not to prepare the next item ahead of time.
+     */
+    private boolean lookahead = true;
+
+    /**
+     * Flag if gapless play-back is in progress.
+     */
+    private boolean playing;
+
+    /**
+     * Index of the current item.
+     */
+    private int index = -1;
+
+    /**
+     * Media player playing the current item, read on the native event thread.
+     */
+    private volatile MediaPlayer current;
+
+    /**
+     * Current item.
+     */
+    private Media currentItem;
+
+    /**
+     * Media set on the current media player, if different from the current item.
+     */
+    private Media currentMedia;
+
+    /**
+     * Index of the next item, or -1 if there is no next item.
+     */
+    private int nextIndex = -1;
+
+    /**
+     * Next item, if it has been prepared.
+     */
+    private Media nextItem;
+
+    /**
+     * Media pre-rolled on the next media player.
+     */
+    private Media nextMedia;
+
+    /**
+     * Media player with the next item pre-rolled, if any.
+     */
+    private MediaPlayer nextPlayer;
+
+    /**
+     * Time the current item ended.
+     */
+    private volatile long gapStart;
+
+    /**
+     * Histogram to record the pending gap to, or <code>null</code> if there is no pending gap.
+     */
+    private volatile LatencyHistogram pendingGap;
+
+    GaplessService(DefaultMediaListPlayer mediaListPlayer) {
+        super(mediaListPlayer);
+    }
+
+    /**
+     * Set the media player used to pre-roll the next item.
+     * <p>
+     * This must be a different media player, from the same factory, as the one set on the media list player. It must not
+     * be changed during play-back.
+     *
+     * @param preRollMediaPlayer media player, or <code>null</code> to not pre-roll
+     */
+    public synchronized void setPreRollMediaPlayer(MediaPlayer preRollMediaPlayer) {
+        if (playing) {
+            throw new IllegalStateException("Can not change the pre-roll media player during play-back");
+        }
+        this.preRollMediaPlayer = preRollMediaPlayer;
+    }
+
+    /**
+     * Set whether or not to prepare the next item ahead of time.
+     * <p>
+     * The change takes effect from the next item.
+     *
+     * @param lookahead <code>true</code> to prepare the next item ahead of time; <code>false</code> to open it only when the current item ends
+     */
+    public synchronized void setLookahead(boolean lookahead) {
+        this.lookahead = lookahead;
+    }
+
+    /**
+     * Get whether or not the next item is prepared ahead of time.
+     *
+     * @return <code>true</code> if the next item is prepared ahead of time
+     */
+    public synchronized boolean getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Play the media list from the first item.
+     *
+     * @return <code>true</code> if the item could be played, otherwise <code>false</code>
+     */
+    public boolean play() {
+        return playItem(0);
+    }
+
+    /**
+     * Play a particular item on the media list.
+     *
+     * @param itemIndex index of the item to play
+     * @return <code>true</code> if the item could be played, otherwise <code>false</code>
+     */
+    public synchronized boolean playItem(int itemIndex) {
+        MediaPlayer mediaPlayer = mediaListPlayer.mediaPlayer().mediaPlayer();
+        if (mediaPlayer == null) {
+            throw new IllegalStateException("No media player");
+        }
+        MediaList mediaList = mediaListPlayer.list().getMediaList();
+        if (mediaList == null) {
+            throw new IllegalStateException("No media list");
+        }
+        Media item = mediaList.items().getMedia(itemIndex);
+        if (item == null) {
+            return false;
+        }
+        if (playing) {
+            stopPlayback();
+        }
+        playing = true;
+        mediaPlayer.events().addMediaPlayerEventListener(eventHandler, EVENTS);
+        if (preRollMediaPlayer != null) {
+            preRollMediaPlayer.events().addMediaPlayerEventListener(eventHandler, EVENTS);
+        }
+        index = itemIndex;
+        currentItem = item;
+        current = mediaPlayer;
+        mediaPlayer.media().set(item);
+        mediaPlayer.controls().play();
+        mediaListPlayer.events().raiseEvent(MediaListPlayerEventFactory.createNextItemSetEvent(mediaListPlayer, item.mediaInstance()));
+        prepare();
+        return true;
+    }
+
+    /**
+     * Play the next item in the media list.
+     * <p>
+     * When the mode is {@link PlaybackMode#REPEAT} this method will replay the current item, not the next one.
+     *
+     * @return <code>true</code> if there was a next item to play, otherwise <code>false</code>
+     */
+    public synchronized boolean playNext() {
+        return playing && nextIndex >= 0 && advance(false);
+    }
+
+    /**
+     * Play the previous item in the media list.
+     * <p>
+     * When the mode is {@link PlaybackMode#REPEAT} this method will replay the current item, not the previous one.
+     *
+     * @return <code>true</code> if there was a previous item to play, otherwise <code>false</code>
+     */
+    public synchronized boolean playPrevious() {
+        if (!playing) {
+            return false;
+        }
+        int previous;
+        switch (mediaListPlayer.mode().getMode()) {
+            case REPEAT:
+                previous = index;
+                break;
+            case LOOP:
+                previous = index > 0 ? index - 1 : count() - 1;
+                break;
+            default:
+                previous = index - 1;
+                break;
+        }
+        return previous >= 0 && playItem(previous);
+    }
+
+    /**
+     * Stop gapless play-back.
+     */
+    public synchronized void stop() {
+        if (playing) {
+            stopPlayback();
+            mediaListPlayer.events().raiseEvent(MediaListPlayerEventFactory.createStoppedEvent(mediaListPlayer));
+        }
+    }
+
+    /**
+     * Get the index of the current item.
+     *
+     * @return index, or -1 if gapless play-back is not in progress
+     */
+    public synchronized int index() {
+        return playing ? index : -1;
+    }
+
+    /**
+     * Get the media player playing the current item.
+     * <p>
+     * With a pre-roll media player, this alternates between the two media players.
+     *
+     * @return media player, or <code>null</code> if gapless play-back is not in progress
+     */
+    public synchronized MediaPlayer mediaPlayer() {
+        return playing ? current : null;
+    }
+
+    /**
+     * Get the gaps recorded for transitions made with lookahead.
+     *
+     * @return histogram of the time between an item ending and the next item playing
+     */
+    public LatencyHistogram lookaheadGaps() {
+        return lookaheadGaps;
+    }
+
+    /**
+     * Get the gaps recorded for transitions made without lookahead.
+     *
+     * @return histogram of the time between an item ending and the next item playing
+     */
+    public LatencyHistogram plainGaps() {
+        return plainGaps;
+    }
+
+    @Override
+    protected synchronized void release() {
+        if (playing) {
+            stopPlayback();
+        }
+    }
+
+    /**
+     * Switch to the next item.
+     *
+     * @param endReached <code>true</code> if the current item ended; <code>false</code> if the switch was requested
+     * @return <code>true</code> if the next item is now playing
+     */
+    private boolean advance(boolean endReached) {
+        if (nextIndex < 0) {
+            stopPlayback();
+            mediaListPlayer.events().raiseEvent(MediaListPlayerEventFactory.createPlayedEvent(mediaListPlayer));
+            return false;
+        }
+        MediaPlayer previous = current;
+        Media previousItem = currentItem;
+        Media previousMedia = currentMedia;
+        if (nextPlayer != null) {
+            pendingGap = endReached ? lookaheadGaps : null;
+            current = nextPlayer;
+            currentItem = nextItem;
+            currentMedia = nextMedia;
+            nextPlayer.controls().setPause(false);
+            previous.controls().stop();
+            previous.media().clear();
+        } else {
+            Media item = nextItem;
+            if (item != null) {
+                pendingGap = endReached ? lookaheadGaps : null;
+            } else {
+                item = mediaListPlayer.list().getMediaList().items().getMedia(nextIndex);
+                if (item == null) {
+                    stopPlayback();
+                    return false;
+                }
+                pendingGap = endReached ? plainGaps : null;
+            }
+            currentItem = item;
+            currentMedia = null;
+            previous.media().set(item);
+            previous.controls().play();
+        }
+        release(previousMedia);
+        if (previousItem != currentItem) {
+            release(previousItem);
+        }
+        index = nextIndex;
+        nextIndex = -1;
+        nextItem = null;
+        nextMedia = null;
+        nextPlayer = null;
+        mediaListPlayer.events().raiseEvent(MediaListPlayerEventFactory.createNextItemSetEvent(mediaListPlayer, currentItem.mediaInstance()));
+        prepare();
+        return true;
+    }
+
+    /**
+     * Prepare the item after the current item, if lookahead is enabled.
+     */
+    private void prepare() {
+        nextIndex = nextIndex(index);
+        if (!lookahead || nextIndex < 0) {
+            return;
+        }
+        nextItem = nextIndex != index ? mediaListPlayer.list().getMediaList().items().getMedia(nextIndex) : currentItem;
+        if (nextItem == null) {
+            return;
+        }
+        MediaPlayer other = current == preRollMediaPlayer ? mediaListPlayer.mediaPlayer().mediaPlayer() : preRollMediaPlayer;
+        if (other != null) {
+            nextMedia = new Media(libvlc, libvlc.libvlc_media_duplicate(nextItem.mediaInstance()));
+            nextMedia.options().addOptions(START_PAUSED_OPTION);
+            other.media().set(nextMedia);
+            other.controls().play();
+            nextPlayer = other;
+        } else if (nextItem != currentItem) {
+            nextItem.parsing().parseAsync(-1, ParseFlag.PARSE_LOCAL);
+        }
+    }
+
+    /**
+     * Get the index of the item to play after an item, according to the play mode.
+     *
+     * @param itemIndex index of the item
+     * @return index of the next item, or -1 if there is no next item
+     */
+    private int nextIndex(int itemIndex) {
+        int count = count();
+        switch (mediaListPlayer.mode().getMode()) {
+            case REPEAT:
+                return itemIndex;
+            case LOOP:
+                return count > 0 ? (itemIndex + 1) % count : -1;
+            default:
+                return itemIndex + 1 < count ? itemIndex + 1 : -1;
+        }
+    }
+
+    private int count() {
+        return mediaListPlayer.list().getMediaList().items().count();
+    }
+
+    /**
+     * Stop both media players and release all of the media.
+     */
+    private void stopPlayback() {
+        playing = false;
+        pendingGap = null;
+        MediaPlayer mediaPlayer = mediaListPlayer.mediaPlayer().mediaPlayer();
+        mediaPlayer.events().removeMediaPlayerEventListener(eventHandler);
+        mediaPlayer.controls().stop();
+        mediaPlayer.media().clear();
+        if (preRollMediaPlayer != null) {
+            preRollMediaPlayer.events().removeMediaPlayerEventListener(eventHandler);
+            preRollMediaPlayer.controls().stop();
+            preRollMediaPlayer.media().clear();
+        }
+        if (nextItem != currentItem) {
+            release(nextItem);
+        }
+        release(nextMedia);
+        release(currentItem);
+        release(currentMedia);
+        current = null;
+        currentItem = null;
+        currentMedia = null;
+        nextItem = null;
+        nextMedia = null;
+        nextPlayer = null;
+        index = -1;
+        nextIndex = -1;
+    }
+
+    private void release(Media media) {
+        if (media != null) {
+            media.release();
+        }
+    }
+
+    /**
+     * Event handler for the media players.
+     * <p>
+     * Events arrive on a native thread so switching items is off-loaded to the media list player executor.
+     */
+    private final class GaplessEventHandler extends MediaPlayerEventAdapter {
+
+        @Override
+        public void playing(MediaPlayer mediaPlayer) {
+            LatencyHistogram gap = pendingGap;
+            if (gap != null && mediaPlayer == current) {
+                pendingGap = null;
+                gap.record(System.nanoTime() - gapStart);
+            }
+        }
+
+        @Override
+        public void finished(final MediaPlayer mediaPlayer) {
+            if (mediaPlayer == current) {
+                gapStart = System.nanoTime();
+                mediaListPlayer.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        synchronized (GaplessService.this) {
+                            if (playing && mediaPlayer == current) {
+                                advance(true);
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void error(final MediaPlayer mediaPlayer) {
+            mediaListPlayer.submit(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (GaplessService.this) {
+                        if (playing) {
+                            if (mediaPlayer == current) {
+                                advance(false);
+                            } else if (mediaPlayer == nextPlayer) {
+                                // The pre-roll failed, fall back to playing the next item on the current media player
+                                nextPlayer.media().clear();
+                                release(nextMedia);
+                                nextMedia = null;
+                                nextPlayer = null;
+                            }
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+}
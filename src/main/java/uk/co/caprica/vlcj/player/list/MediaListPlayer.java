@@ -60,6 +60,8 @@ public interface MediaListPlayer {
 
     EventService events();
 
+    GaplessService gapless();
+
     ListService list();
 
     MediaPlayerService mediaPlayer();
@@ -23,6 +23,11 @@ import uk.co.caprica.vlcj.enums.PlaybackMode;
 
 public final class ModeService extends BaseService {
 
+    /**
+     * Current play mode.
+     */
+    private volatile PlaybackMode mode = PlaybackMode.DEFAULT;
+
     ModeService(DefaultMediaListPlayer mediaListPlayer) {
         super(mediaListPlayer);
     }
@@ -38,10 +43,20 @@ public final class ModeService extends BaseService {
     public boolean setMode(PlaybackMode mode) {
         if (mode != null) {
             libvlc.libvlc_media_list_player_set_playback_mode(mediaListPlayerInstance, mode.intValue());
+            this.mode = mode;
             return true;
         } else {
             return false;
         }
     }
 
+    /**
+     * Get the media list play mode.
+     *
+     * @return mode
+     */
+    public PlaybackMode getMode() {
+        return mode;
+    }
+
 }
@@ -21,7 +21,10 @@ package uk.co.caprica.vlcj.player.list.events;
 
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
+import uk.co.caprica.vlcj.eventmanager.EventNotification;
 import uk.co.caprica.vlcj.player.list.MediaListPlayer;
+import uk.co.caprica.vlcj.player.list.MediaListPlayerEventListener;
 
 /**
  * A factory that creates a media list player event instance for a native media list player event.
@@ -44,6 +47,37 @@ public final class MediaListPlayerEventFactory {
         }
     }
 
+    /**
+     * Create a new media list player event for a played (i.e. finished) list, without a native event.
+     *
+     * @param mediaListPlayer media list player the event relates to
+     * @return media list player event
+     */
+    public static EventNotification<MediaListPlayerEventListener> createPlayedEvent(MediaListPlayer mediaListPlayer) {
+        return new MediaListPlayerPlayedEvent(mediaListPlayer);
+    }
+
+    /**
+     * Create a new media list player event for the next item being set, without a native event.
+     *
+     * @param mediaListPlayer media list player the event relates to
+     * @param item next item instance
+     * @return media list player event
+     */
+    public static EventNotification<MediaListPlayerEventListener> createNextItemSetEvent(MediaListPlayer mediaListPlayer, libvlc_media_t item) {
+        return new MediaListPlayerNextItemSetEvent(mediaListPlayer, item);
+    }
+
+    /**
+     * Create a new media list player event for a stopped list, without a native event.
+     *
+     * @param mediaListPlayer media list player the event relates to
+     * @return media list player event
+     */
+    public static EventNotification<MediaListPlayerEventListener> createStoppedEvent(MediaListPlayer mediaListPlayer) {
+        return new MediaListPlayerStoppedEvent(mediaListPlayer);
+    }
+
     private MediaListPlayerEventFactory() {
     }
 
@@ -46,6 +46,17 @@ final class MediaListPlayerNextItemSetEvent extends MediaListPlayerEvent {
         this.item = ((media_list_player_next_item_set) event.u.getTypedValue(media_list_player_next_item_set.class)).item;
     }
 
+    /**
+     * Create a media player event for an item that was set without a native event.
+     *
+     * @param mediaListPlayer media player the event relates to
+     * @param item next item instance
+     */
+    MediaListPlayerNextItemSetEvent(MediaListPlayer mediaListPlayer, libvlc_media_t item) {
+        super(mediaListPlayer);
+        this.item = item;
+    }
+
     @Override
     public void notify(MediaListPlayerEventListener listener) {
         listener.nextItem(mediaListPlayer, item);
@@ -0,0 +1,42 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.player.zapping;
+
+/**
+ * Specification for a component that maps channel numbers to media.
+ */
+public interface ChannelLineup {
+
+    /**
+     * Get the media resource locator for a channel.
+     *
+     * @param channel channel number
+     * @return media resource locator, or <code>null</code> if there is no such channel
+     */
+    String mrl(int channel);
+
+    /**
+     * Get the media options for a channel.
+     *
+     * @param channel channel number
+     * @return media options, may be <code>null</code>
+     */
+    String[] options(int channel);
+
+}
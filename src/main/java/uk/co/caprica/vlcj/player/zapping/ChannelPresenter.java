@@ -0,0 +1,52 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.player.zapping;
+
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+
+/**
+ * Specification for a component that makes the output of a media player visible, or hides it.
+ * <p>
+ * The native library can not move the video output of a media player that is already playing to a different window, so
+ * each media player used for zapping must render to its own output - e.g. each embedded media player may have its own
+ * video surface component in a shared container with a card layout, or each direct media player may render via its own
+ * callback that only paints when it is the visible media player. Showing and hiding is then a matter of switching
+ * between these outputs.
+ * <p>
+ * Methods are invoked on the thread that invoked the zapping controller.
+ *
+ * @param <T> type of media player
+ */
+public interface ChannelPresenter<T extends MediaPlayer> {
+
+    /**
+     * Make the output of a media player visible.
+     *
+     * @param mediaPlayer media player
+     */
+    void show(T mediaPlayer);
+
+    /**
+     * Hide the output of a media player.
+     *
+     * @param mediaPlayer media player
+     */
+    void hide(T mediaPlayer);
+
+}
@@ -0,0 +1,452 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.player.zapping;
+
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.factory.MediaPlayerPool;
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controller to switch quickly between live channels.
+ * <p>
+ * Opening and buffering a live stream commonly takes a few seconds. This controller keeps a number of additional media
+ * players, up to a budget, muted and hidden but already playing the channels most likely to be chosen next - the
+ * adjacent channel numbers, then the most recently watched channels. When one of those channels is chosen, the media
+ * player that is already playing it is simply un-muted and shown, the media player for the previous channel is kept
+ * as a prebuffered recent channel, and media players that are no longer needed are returned to the pool.
+ * <p>
+ * Media players are leased from a {@link MediaPlayerPool}, which should therefore be at least one larger than the
+ * budget. If the pool has no media player available, fewer channels are prebuffered.
+ * <p>
+ * The {@link ChannelPresenter} is responsible for switching between the outputs of the media players, see that class
+ * for why each media player must have its own output.
+ * <p>
+ * The controller records the zap latency, i.e. the time from requesting a channel until its media player is playing,
+ * together with how often the requested channel was already prebuffered.
+ * <p>
+ * The controller is not intended to be used from a native event callback.
+ *
+ * @param <T> type of media player
+ */
+public final class ZappingController<T extends MediaPlayer> {
+
+    /**
+     * Number of recently watched channels to remember.
+     */
+    private static final int RECENT_CHANNELS = 8;
+
+    /**
+     * Pool providing the media players.
+     */
+    private final MediaPlayerPool<T> pool;
+
+    /**
+     * Channel line-up.
+     */
+    private final ChannelLineup lineup;
+
+    /**
+     * Component used to show and hide the media player outputs.
+     */
+    private final ChannelPresenter<T> presenter;
+
+    /**
+     * Prebuffered media players, keyed by channel.
+     */
+    private final Map<Integer, T> prebuffered = new LinkedHashMap<Integer, T>();
+
+    /**
+     * Recently watched channels, most recent first.
+     */
+    private final LinkedList<Integer> recent = new LinkedList<Integer>();
+
+    /**
+     * Zap latency.
+     */
+    private final LatencyHistogram zapLatency = new LatencyHistogram();
+
+    /**
+     * Number of zaps to a prebuffered channel.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Number of zaps to a channel that was not prebuffered.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Maximum number of prebuffered media players, in addition to the current media player.
+     */
+    private int budget;
+
+    /**
+     * Current channel, only valid if there is a current media player.
+     */
+    private int channel;
+
+    /**
+     * Media player playing the current channel, may be <code>null</code>.
+     */
+    private T mediaPlayer;
+
+    /**
+     * Flag if this controller has been released.
+     */
+    private boolean released;
+
+    /**
+     * Listener used to mute a prebuffered media player when it starts playing.
+     * <p>
+     * A newly leased media player may have no audio output until it starts playing, and the native library ignores the
+     * mute state until then.
+     */
+    private final MediaPlayerEventAdapter prebufferMuteListener = new MediaPlayerEventAdapter() {
+        @Override
+        public void playing(final MediaPlayer mediaPlayer) {
+            mediaPlayer.events().removeMediaPlayerEventListener(this);
+            // Must not call back into the native library from the native event callback
+            mediaPlayer.submit(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (ZappingController.this) {
+                        // The media player may have been chosen, or recycled, before it started playing
+                        if (prebuffered.containsValue(mediaPlayer)) {
+                            mediaPlayer.audio().mute(true);
+                        }
+                    }
+                }
+            });
+        }
+    };
+
+    /**
+     * Create a zapping controller.
+     *
+     * @param pool pool providing the media players
+     * @param lineup channel line-up
+     * @param presenter component used to show and hide the media player outputs
+     * @param budget maximum number of prebuffered media players, in addition to the current media player
+     */
+    public ZappingController(MediaPlayerPool<T> pool, ChannelLineup lineup, ChannelPresenter<T> presenter, int budget) {
+        if (pool == null || lineup == null || presenter == null) {
+            throw new IllegalArgumentException("Pool, lineup and presenter must not be null");
+        }
+        if (budget < 0) {
+            throw new IllegalArgumentException("Budget must not be negative");
+        }
+        this.pool = pool;
+        this.lineup = lineup;
+        this.presenter = presenter;
+        this.budget = budget;
+    }
+
+    /**
+     * Switch to a channel.
+     * <p>
+     * If the channel is prebuffered, the switch is immediate, otherwise the channel is opened with a media player from
+     * the pool (releasing a prebuffered media player back to the pool first, if necessary).
+     *
+     * @param channel channel number
+     * @return <code>true</code> if the channel is now current; <code>false</code> if no media player was available or the media could not be played
+     */
+    public synchronized boolean zap(int channel) {
+        if (released) {
+            throw new IllegalStateException("Controller has been released");
+        }
+        if (lineup.mrl(channel) == null) {
+            throw new IllegalArgumentException("No such channel " + channel);
+        }
+        if (mediaPlayer != null && this.channel == channel) {
+            return true;
+        }
+        ZapLatencyListener zapLatencyListener = new ZapLatencyListener(System.nanoTime());
+        T next = prebuffered.remove(channel);
+        if (next != null) {
+            hits.incrementAndGet();
+            next.events().addMediaPlayerEventListener(zapLatencyListener, libvlc_event_e.libvlc_MediaPlayerPlaying);
+            if (next.status().isPlaying()) {
+                zapLatencyListener.playing(next);
+            }
+        } else {
+            misses.incrementAndGet();
+            next = pool.tryLease();
+            if (next == null && !prebuffered.isEmpty()) {
+                // Evict the least likely prebuffered channel, the last in prediction order
+                Integer last = null;
+                for (Integer prebufferedChannel : prebuffered.keySet()) {
+                    last = prebufferedChannel;
+                }
+                pool.recycle(prebuffered.remove(last));
+                next = pool.tryLease();
+            }
+            if (next == null) {
+                return false;
+            }
+            next.events().addMediaPlayerEventListener(zapLatencyListener, libvlc_event_e.libvlc_MediaPlayerPlaying);
+            if (!play(next, channel)) {
+                pool.recycle(next);
+                return false;
+            }
+        }
+        next.audio().mute(false);
+        presenter.show(next);
+        T previous = mediaPlayer;
+        if (previous != null) {
+            previous.audio().mute(true);
+            presenter.hide(previous);
+            prebuffered.put(this.channel, previous);
+            recent.remove(Integer.valueOf(this.channel));
+            recent.addFirst(this.channel);
+            if (recent.size() > RECENT_CHANNELS) {
+                recent.removeLast();
+            }
+        }
+        this.mediaPlayer = next;
+        this.channel = channel;
+        prebuffer();
+        return true;
+    }
+
+    /**
+     * Set the prebuffer budget.
+     *
+     * @param budget maximum number of prebuffered media players, in addition to the current media player
+     */
+    public synchronized void setBudget(int budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Budget must not be negative");
+        }
+        this.budget = budget;
+        if (mediaPlayer != null && !released) {
+            prebuffer();
+        }
+    }
+
+    /**
+     * Get the prebuffer budget.
+     *
+     * @return maximum number of prebuffered media players, in addition to the current media player
+     */
+    public synchronized int budget() {
+        return budget;
+    }
+
+    /**
+     * Get the media player playing the current channel.
+     *
+     * @return media player, or <code>null</code> if there is no current channel
+     */
+    public synchronized T mediaPlayer() {
+        return mediaPlayer;
+    }
+
+    /**
+     * Get the current channel.
+     *
+     * @return channel number, or -1 if there is no current channel
+     */
+    public synchronized int channel() {
+        return mediaPlayer != null ? channel : -1;
+    }
+
+    /**
+     * Get the channels currently prebuffered.
+     *
+     * @return copy of the prebuffered channel numbers, highest priority first
+     */
+    public synchronized Set<Integer> prebuffered() {
+        return new LinkedHashSet<Integer>(prebuffered.keySet());
+    }
+
+    /**
+     * Get the zap latency histogram.
+     * <p>
+     * A zap to a prebuffered channel that is already playing is recorded when the switch completes, a zap to any other
+     * channel is recorded when its media player starts playing.
+     *
+     * @return zap latency
+     */
+    public LatencyHistogram zapLatency() {
+        return zapLatency;
+    }
+
+    /**
+     * Get the number of zaps to a channel that was prebuffered.
+     *
+     * @return prebuffer hit count
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of zaps to a channel that was not prebuffered.
+     *
+     * @return prebuffer miss count
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Get the proportion of zaps to a channel that was prebuffered.
+     *
+     * @return hit rate, between 0 and 1, or 0 if there have been no zaps
+     */
+    public double hitRate() {
+        long hits = this.hits.get();
+        long total = hits + misses.get();
+        return total > 0 ? (double) hits / total : 0;
+    }
+
+    /**
+     * Release the controller, returning all of its media players to the pool.
+     * <p>
+     * The pool itself is not released.
+     */
+    public synchronized void release() {
+        if (!released) {
+            released = true;
+            for (T prebufferedMediaPlayer : prebuffered.values()) {
+                pool.recycle(prebufferedMediaPlayer);
+            }
+            prebuffered.clear();
+            if (mediaPlayer != null) {
+                presenter.hide(mediaPlayer);
+                pool.recycle(mediaPlayer);
+                mediaPlayer = null;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(80).append(getClass().getSimpleName()).append('[')
+            .append("channel=").append(channel()).append(',')
+            .append("prebuffered=").append(prebuffered()).append(',')
+            .append("hits=").append(hits()).append(',')
+            .append("misses=").append(misses()).append(',')
+            .append("zapLatency=").append(zapLatency).append(']')
+            .toString();
+    }
+
+    /**
+     * Bring the prebuffered media players in to line with the channels predicted to be chosen next.
+     */
+    private void prebuffer() {
+        List<Integer> predicted = predict();
+        Iterator<Map.Entry<Integer, T>> it = prebuffered.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, T> entry = it.next();
+            if (!predicted.contains(entry.getKey())) {
+                pool.recycle(entry.getValue());
+                it.remove();
+            }
+        }
+        Map<Integer, T> ordered = new LinkedHashMap<Integer, T>();
+        for (Integer predictedChannel : predicted) {
+            T prebufferedMediaPlayer = prebuffered.get(predictedChannel);
+            if (prebufferedMediaPlayer == null) {
+                prebufferedMediaPlayer = pool.tryLease();
+                if (prebufferedMediaPlayer == null) {
+                    break;
+                }
+                prebufferedMediaPlayer.events().addMediaPlayerEventListener(prebufferMuteListener, libvlc_event_e.libvlc_MediaPlayerPlaying);
+                presenter.hide(prebufferedMediaPlayer);
+                if (!play(prebufferedMediaPlayer, predictedChannel)) {
+                    pool.recycle(prebufferedMediaPlayer);
+                    continue;
+                }
+            }
+            ordered.put(predictedChannel, prebufferedMediaPlayer);
+        }
+        prebuffered.clear();
+        prebuffered.putAll(ordered);
+    }
+
+    /**
+     * Predict the channels most likely to be chosen next, up to the budget.
+     *
+     * @return predicted channels, most likely first
+     */
+    private List<Integer> predict() {
+        Set<Integer> candidates = new LinkedHashSet<Integer>();
+        candidates.add(channel + 1);
+        candidates.add(channel - 1);
+        candidates.addAll(recent);
+        candidates.remove(channel);
+        List<Integer> result = new ArrayList<Integer>(budget);
+        for (Integer candidate : candidates) {
+            if (result.size() == budget) {
+                break;
+            }
+            if (lineup.mrl(candidate) != null) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private boolean play(T mediaPlayer, int channel) {
+        return mediaPlayer.media().playMedia(lineup.mrl(channel), lineup.options(channel));
+    }
+
+    /**
+     * Listener used to record the zap latency when a media player that was not already playing starts playing.
+     */
+    private final class ZapLatencyListener extends MediaPlayerEventAdapter {
+
+        /**
+         * Time the zap was requested.
+         */
+        private final long start;
+
+        /**
+         * Flag if the latency has been recorded, it must be recorded only once.
+         */
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private ZapLatencyListener(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void playing(MediaPlayer mediaPlayer) {
+            if (recorded.compareAndSet(false, true)) {
+                zapLatency.record(System.nanoTime() - start);
+                mediaPlayer.events().removeMediaPlayerEventListener(this);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the classes necessary to switch quickly between live channels by playing the likely next channels in advance.
+ */
+package uk.co.caprica.vlcj.player.zapping;
@@ -4,7 +4,6 @@ import java.awt.BorderLayout;
 import java.awt.Canvas;
 import java.awt.Color;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.Semaphore;
 
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioSystem;
@@ -13,9 +12,12 @@ import javax.sound.sampled.SourceDataLine;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 
-import uk.co.caprica.vlcj.component.DirectAudioPlayerComponent;
+import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
 import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.directaudio.AudioCallbackAdapter;
 import uk.co.caprica.vlcj.player.directaudio.DirectAudioPlayer;
+import uk.co.caprica.vlcj.player.directaudio.EmbeddedDirectAudioPlayer;
 import uk.co.caprica.vlcj.test.VlcjTest;
 
 import com.sun.jna.Pointer;
@@ -30,7 +32,11 @@ public class EmbeddedJavaSoundTest extends VlcjTest {
 
     private final CountDownLatch sync = new CountDownLatch(1);
 
-    private final JavaSoundDirectAudioPlayerComponent audioPlayerComponent;
+    private final MediaPlayerFactory mediaPlayerFactory;
+
+    private final JavaSoundAudioCallback audioCallback;
+
+    private final EmbeddedDirectAudioPlayer mediaPlayer;
 
     public static void main(String[] args) throws Exception {
         if (args.length != 1) {
@@ -59,28 +65,38 @@ public class EmbeddedJavaSoundTest extends VlcjTest {
         f.setBounds(100, 100, 1000, 800);
         f.setVisible(true);
 
-        audioPlayerComponent = new JavaSoundDirectAudioPlayerComponent(FORMAT, RATE, CHANNELS);
-        audioPlayerComponent.getMediaPlayer().videoSurface().setVideoSurface(audioPlayerComponent.getMediaPlayerFactory().videoSurfaces().newVideoSurface(canvas));
+        mediaPlayerFactory = new MediaPlayerFactory("--quiet", "--intf=dummy");
+        audioCallback = new JavaSoundAudioCallback(FORMAT, RATE, CHANNELS);
+        mediaPlayer = mediaPlayerFactory.mediaPlayers().newEmbeddedDirectAudioPlayer(FORMAT, RATE, CHANNELS, audioCallback);
+        mediaPlayer.videoSurface().setVideoSurface(mediaPlayerFactory.videoSurfaces().newVideoSurface(canvas));
+        mediaPlayer.events().addMediaPlayerEventListener(new MediaPlayerEventAdapter() {
+            @Override
+            public void finished(MediaPlayer mediaPlayer) {
+                System.out.println("finished()");
+                sync.countDown();
+            }
+        });
     }
 
     private void play(String mrl) throws Exception {
-        audioPlayerComponent.start();
-        audioPlayerComponent.getMediaPlayer().media().playMedia(mrl);
-        audioPlayerComponent.getMediaPlayer().controls().setPosition(0.98f);
+        audioCallback.start();
+        mediaPlayer.media().playMedia(mrl);
+        mediaPlayer.controls().setPosition(0.98f);
         try {
             sync.await();
         }
         catch(InterruptedException e) {
             e.printStackTrace();
         }
-        audioPlayerComponent.stop();
-        audioPlayerComponent.release();
+        audioCallback.stop();
+        mediaPlayer.release();
+        mediaPlayerFactory.release();
     }
 
     /**
      *
      */
-    private class JavaSoundDirectAudioPlayerComponent extends DirectAudioPlayerComponent {
+    private static class JavaSoundAudioCallback extends AudioCallbackAdapter {
 
         private static final int BLOCK_SIZE = 4;
 
@@ -92,8 +108,7 @@ public class EmbeddedJavaSoundTest extends VlcjTest {
 
         private final SourceDataLine dataLine;
 
-        public JavaSoundDirectAudioPlayerComponent(String format, int rate, int channels) throws Exception {
-            super(format, rate, channels);
+        public JavaSoundAudioCallback(String format, int rate, int channels) throws Exception {
             this.audioFormat = new AudioFormat(rate, SAMPLE_BITS, channels, true, false);
             this.info = new Info(SourceDataLine.class, audioFormat);
             this.dataLine = (SourceDataLine)AudioSystem.getLine(info);
@@ -124,11 +139,5 @@ public class EmbeddedJavaSoundTest extends VlcjTest {
             System.out.println("drain()");
             dataLine.drain();
         }
-
-        @Override
-        public void finished(MediaPlayer mediaPlayer) {
-            System.out.println("finished()");
-            sync.countDown();
-        }
     }
 }
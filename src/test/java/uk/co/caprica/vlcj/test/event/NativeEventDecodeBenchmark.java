@@ -0,0 +1,165 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.event;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+import uk.co.caprica.vlcj.player.MediaPlayerEventListener;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEvent;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventDispatcher;
+import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark comparing the cost of decoding native media player events.
+ * <p>
+ * The "structure" path is what used to happen for every native event: a native structure instance is created and read
+ * from native memory and then an event object is created and dispatched. The "direct" path reads primitive values
+ * straight from native memory and invokes the listeners without creating any objects.
+ * <p>
+ * Native events are synthesised in native memory so no LibVLC installation is needed. The event mix is the one seen
+ * during normal playback, i.e. dominated by time and position changes.
+ * <p>
+ * Specify the number of events per round as an optional argument.
+ */
+public class NativeEventDecodeBenchmark {
+
+    private static final int ROUNDS = 10;
+
+    private static final libvlc_event_e[] EVENT_MIX = {
+        libvlc_event_e.libvlc_MediaPlayerTimeChanged,
+        libvlc_event_e.libvlc_MediaPlayerPositionChanged,
+        libvlc_event_e.libvlc_MediaPlayerTimeChanged,
+        libvlc_event_e.libvlc_MediaPlayerPositionChanged,
+        libvlc_event_e.libvlc_MediaPlayerBuffering,
+        libvlc_event_e.libvlc_MediaPlayerTimeChanged,
+        libvlc_event_e.libvlc_MediaPlayerPositionChanged,
+        libvlc_event_e.libvlc_MediaPlayerAudioVolume
+    };
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+
+        int eventSize = new libvlc_event_t().size();
+        Pointer[] events = new Pointer[EVENT_MIX.length];
+        for (int i = 0; i < events.length; i++) {
+            Memory memory = new Memory(eventSize);
+            memory.clear();
+            memory.setInt(libvlc_event_t.TYPE_OFFSET, EVENT_MIX[i].intValue());
+            memory.setLong(libvlc_event_t.U_OFFSET, 12345L + i);
+            events[i] = memory;
+        }
+
+        List<MediaPlayerEventListener> listeners = new ArrayList<MediaPlayerEventListener>();
+        listeners.add(new CountingListener());
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            Result structure = run(true, events, listeners, count);
+            Result direct = run(false, events, listeners, count);
+            System.out.printf("round %2d: structure %,12.0f events/s %8s bytes/event | direct %,12.0f events/s %8s bytes/event%n", round, structure.eventsPerSecond(), structure.bytesPerEvent(), direct.eventsPerSecond(), direct.bytesPerEvent());
+        }
+        System.out.println(sink);
+    }
+
+    private static Result run(boolean structure, Pointer[] events, List<MediaPlayerEventListener> listeners, int count) {
+        MediaPlayer mediaPlayer = null;
+        long startBytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            Pointer event = events[i & 7];
+            if (structure) {
+                MediaPlayerEvent mediaPlayerEvent = MediaPlayerEventFactory.createEvent(mediaPlayer, new libvlc_event_t(event));
+                for (int j = 0; j < listeners.size(); j++) {
+                    mediaPlayerEvent.notify(listeners.get(j));
+                }
+            } else {
+                MediaPlayerEventDispatcher.dispatchEvent(mediaPlayer, event.getInt(libvlc_event_t.TYPE_OFFSET), event, listeners);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long endBytes = allocatedBytes();
+        return new Result(count, elapsed, startBytes >= 0 ? endBytes - startBytes : -1);
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        } else {
+            return -1;
+        }
+    }
+
+    private static final class Result {
+
+        private final int count;
+
+        private final long nanos;
+
+        private final long bytes;
+
+        private Result(int count, long nanos, long bytes) {
+            this.count = count;
+            this.nanos = nanos;
+            this.bytes = bytes;
+        }
+
+        private double eventsPerSecond() {
+            return count * 1000000000.0 / nanos;
+        }
+
+        private String bytesPerEvent() {
+            return bytes >= 0 ? String.format("%.1f", (double) bytes / count) : "n/a";
+        }
+    }
+
+    private static final class CountingListener extends MediaPlayerEventAdapter {
+
+        @Override
+        public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+            sink += newTime;
+        }
+
+        @Override
+        public void positionChanged(MediaPlayer mediaPlayer, float newPosition) {
+            sink += (long) newPosition;
+        }
+
+        @Override
+        public void buffering(MediaPlayer mediaPlayer, float newCache) {
+            sink++;
+        }
+
+        @Override
+        public void volumeChanged(MediaPlayer mediaPlayer, float volume) {
+            sink++;
+        }
+    }
+
+}
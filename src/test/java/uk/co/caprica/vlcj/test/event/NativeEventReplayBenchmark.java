@@ -0,0 +1,178 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.event;
+
+import com.sun.jna.Memory;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+import uk.co.caprica.vlcj.eventmanager.DefaultEventMetrics;
+import uk.co.caprica.vlcj.eventmanager.NativeEventRecorder;
+import uk.co.caprica.vlcj.eventmanager.NativeEventReplayer;
+import uk.co.caprica.vlcj.factory.FactoryMode;
+import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.test.simulator.LibVlcSimulator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Load generator that replays a recording of native media player events through the event pipeline of a media player,
+ * without LibVLC - the media player is created by a {@link LibVlcSimulator}, but is never played.
+ * <p>
+ * By default a recording of a "flapping" stream is synthesised - a stream that repeatedly opens, buffers, plays for a
+ * while and then fails. Alternatively, specify the name of a file containing a recording captured from a real media
+ * player via {@link uk.co.caprica.vlcj.player.base.EventService#setEventRecorder(NativeEventRecorder)}.
+ * <p>
+ * Each round replays the recording as fast as possible, first with plain dispatch and then with event metrics enabled.
+ */
+public class NativeEventReplayBenchmark {
+
+    private static final int ROUNDS = 10;
+
+    private static final int CYCLES = 2000;
+
+    private static long sink;
+
+    public static void main(String[] args) throws Exception {
+        byte[] recording = args.length > 0 ? readFile(new File(args[0])) : synthesiseRecording();
+
+        LibVlcSimulator simulator = new LibVlcSimulator();
+        MediaPlayerFactory factory = new MediaPlayerFactory(simulator.libvlc(), FactoryMode.HEADLESS);
+        MediaPlayer mediaPlayer = factory.mediaPlayers().newMediaPlayer();
+        mediaPlayer.events().addMediaPlayerEventListener(new CountingListener());
+
+        DefaultEventMetrics eventMetrics = null;
+        for (int round = 1; round <= ROUNDS; round++) {
+            mediaPlayer.events().setEventMetrics(null);
+            long[] plain = replay(mediaPlayer, recording);
+            eventMetrics = new DefaultEventMetrics();
+            mediaPlayer.events().setEventMetrics(eventMetrics);
+            long[] monitored = replay(mediaPlayer, recording);
+            System.out.printf("round %2d: %,d bytes | plain %,12.0f events/s | metrics %,12.0f events/s%n", round, recording.length, plain[0] * 1000000000.0 / plain[1], monitored[0] * 1000000000.0 / monitored[1]);
+        }
+        System.out.println(eventMetrics);
+        System.out.println(sink);
+
+        mediaPlayer.release();
+        factory.release();
+        simulator.shutdown();
+    }
+
+    /**
+     * Replay the recording as fast as possible.
+     *
+     * @param mediaPlayer media player to replay the events to
+     * @param recording recording
+     * @return number of events replayed, and the time taken in nanoseconds
+     * @throws IOException if the recording could not be read
+     */
+    private static long[] replay(MediaPlayer mediaPlayer, byte[] recording) throws IOException {
+        long start = System.nanoTime();
+        long count = mediaPlayer.events().replay(new NativeEventReplayer(new ByteArrayInputStream(recording)), 0);
+        return new long[] {count, System.nanoTime() - start};
+    }
+
+    private static byte[] synthesiseRecording() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NativeEventRecorder recorder = new NativeEventRecorder(out);
+        Memory event = new Memory(libvlc_event_t.SIZE);
+        long time = 0;
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            record(recorder, event, libvlc_event_e.libvlc_MediaPlayerOpening, 0);
+            for (int i = 0; i <= 10; i++) {
+                event.clear();
+                event.setInt(libvlc_event_t.TYPE_OFFSET, libvlc_event_e.libvlc_MediaPlayerBuffering.intValue());
+                event.setFloat(libvlc_event_t.U_OFFSET, i * 10.0f);
+                recorder.record(libvlc_event_e.libvlc_MediaPlayerBuffering.intValue(), event, true);
+            }
+            record(recorder, event, libvlc_event_e.libvlc_MediaPlayerPlaying, 0);
+            record(recorder, event, libvlc_event_e.libvlc_MediaPlayerVout, 1);
+            for (int i = 0; i < 50; i++) {
+                time += 250;
+                record(recorder, event, libvlc_event_e.libvlc_MediaPlayerTimeChanged, time);
+                event.setFloat(libvlc_event_t.U_OFFSET, i / 50.0f);
+                event.setInt(libvlc_event_t.TYPE_OFFSET, libvlc_event_e.libvlc_MediaPlayerPositionChanged.intValue());
+                recorder.record(libvlc_event_e.libvlc_MediaPlayerPositionChanged.intValue(), event, true);
+            }
+            record(recorder, event, libvlc_event_e.libvlc_MediaPlayerEncounteredError, 0);
+            record(recorder, event, libvlc_event_e.libvlc_MediaPlayerStopped, 0);
+        }
+        recorder.close();
+        return out.toByteArray();
+    }
+
+    private static void record(NativeEventRecorder recorder, Memory event, libvlc_event_e type, long value) {
+        event.clear();
+        event.setInt(libvlc_event_t.TYPE_OFFSET, type.intValue());
+        event.setLong(libvlc_event_t.U_OFFSET, value);
+        recorder.record(type.intValue(), event, true);
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    private static final class CountingListener extends MediaPlayerEventAdapter {
+
+        @Override
+        public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+            sink += newTime;
+        }
+
+        @Override
+        public void positionChanged(MediaPlayer mediaPlayer, float newPosition) {
+            sink += (long) newPosition;
+        }
+
+        @Override
+        public void buffering(MediaPlayer mediaPlayer, float newCache) {
+            sink++;
+        }
+
+        @Override
+        public void playing(MediaPlayer mediaPlayer) {
+            sink++;
+        }
+
+        @Override
+        public void error(MediaPlayer mediaPlayer) {
+            sink++;
+        }
+    }
+
+}
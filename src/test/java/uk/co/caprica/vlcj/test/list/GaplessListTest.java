@@ -0,0 +1,119 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+package uk.co.caprica.vlcj.test.list;
+
+import uk.co.caprica.vlcj.factory.FactoryMode;
+import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.medialist.MediaList;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.list.MediaListPlayer;
+import uk.co.caprica.vlcj.player.list.MediaListPlayerEventAdapter;
+import uk.co.caprica.vlcj.test.VlcjTest;
+import uk.co.caprica.vlcj.test.simulator.LibVlcSimulator;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measure the gaps between items when playing a media list gaplessly, first without lookahead, then with lookahead
+ * and a pre-roll media player.
+ * <p>
+ * By default the simulated native library is used, where opening each item takes the simulated open delay plus the
+ * buffering steps. To run against LibVLC specify "native" and two or more (short) media files, audio files work best.
+ * <p>
+ * Usage:
+ * <pre>
+ *   GaplessListTest [simulated|native] [mrl...]
+ *   GaplessListTest simulated
+ *   GaplessListTest native /home/music/one.flac /home/music/two.flac /home/music/three.flac
+ * </pre>
+ */
+public class GaplessListTest extends VlcjTest {
+
+    public static void main(String[] args) throws Exception {
+        boolean simulated = args.length < 1 || !"native".equals(args[0]);
+
+        LibVlcSimulator simulator = null;
+        MediaPlayerFactory factory;
+        String[] mrls;
+        if (simulated) {
+            simulator = new LibVlcSimulator()
+                .mediaDuration(1000);
+            factory = new MediaPlayerFactory(simulator.libvlc(), FactoryMode.HEADLESS);
+            mrls = new String[10];
+            for (int i = 0; i < mrls.length; i++) {
+                mrls[i] = "simulated://media/" + i;
+            }
+        } else {
+            if (args.length < 3) {
+                System.out.println("Specify at least two media files");
+                System.exit(1);
+            }
+            factory = new MediaPlayerFactory("--no-video");
+            mrls = new String[args.length - 1];
+            System.arraycopy(args, 1, mrls, 0, mrls.length);
+        }
+
+        MediaPlayer mediaPlayer = factory.mediaPlayers().newMediaPlayer();
+        MediaPlayer preRollMediaPlayer = factory.mediaPlayers().newMediaPlayer();
+        MediaList mediaList = factory.media().newMediaList();
+        for (String mrl : mrls) {
+            Media media = factory.media().newMedia(mrl);
+            mediaList.items().addMedia(media);
+            media.release();
+        }
+
+        MediaListPlayer mediaListPlayer = factory.mediaPlayers().newMediaListPlayer();
+        mediaListPlayer.list().setMediaList(mediaList);
+        mediaListPlayer.mediaPlayer().setMediaPlayer(mediaPlayer);
+
+        mediaListPlayer.gapless().setLookahead(false);
+        playToEnd(mediaListPlayer);
+        System.out.println("Without lookahead: " + mediaListPlayer.gapless().plainGaps());
+
+        mediaListPlayer.gapless().setLookahead(true);
+        mediaListPlayer.gapless().setPreRollMediaPlayer(preRollMediaPlayer);
+        playToEnd(mediaListPlayer);
+        System.out.println("With lookahead:    " + mediaListPlayer.gapless().lookaheadGaps());
+
+        mediaListPlayer.release();
+        mediaList.release();
+        preRollMediaPlayer.release();
+        mediaPlayer.release();
+        factory.release();
+        if (simulator != null) {
+            simulator.shutdown();
+        }
+    }
+
+    private static void playToEnd(MediaListPlayer mediaListPlayer) throws InterruptedException {
+        final CountDownLatch finished = new CountDownLatch(1);
+        MediaListPlayerEventAdapter listener = new MediaListPlayerEventAdapter() {
+            @Override
+            public void mediaListPlayerFinished(MediaListPlayer mediaListPlayer) {
+                finished.countDown();
+            }
+        };
+        mediaListPlayer.events().addMediaListPlayerEventListener(listener);
+        mediaListPlayer.gapless().play();
+        finished.await();
+        mediaListPlayer.events().removeMediaListPlayerEventListener(listener);
+    }
+
+}
@@ -0,0 +1,518 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import com.sun.jna.PointerType;
+import uk.co.caprica.vlcj.binding.LibVlc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pure Java simulation of the native library, for load and performance testing of the vlcj Java layers without
+ * LibVLC, media or codecs.
+ * <p>
+ * The simulation models media, media players, media lists and media list players - including their state transitions,
+ * native event emission at configurable rates, video rendering via the lock/unlock/display callbacks with synthetic
+ * frames, audio rendering via the audio play callback with synthetic PCM samples, video snapshots, and callback media.
+ * <p>
+ * Native functions that are not simulated do nothing and return a zero/<code>null</code> value, the names of any such
+ * functions that are invoked are available via {@link #unsimulatedFunctions()}.
+ * <p>
+ * Callbacks are invoked directly rather than via native code, so the cost of crossing from native code to Java is not
+ * included in any measurement.
+ * <p>
+ * Configure the simulation before creating the factory, for example:
+ * <pre>
+ * LibVlcSimulator simulator = new LibVlcSimulator().videoFrameRate(30).mediaDuration(10000);
+ * MediaPlayerFactory factory = new MediaPlayerFactory(simulator.libvlc(), FactoryMode.HEADLESS);
+ * </pre>
+ */
+public final class LibVlcSimulator {
+
+    /**
+     * Version reported by the simulated native library.
+     */
+    static final String VERSION = "3.0.0-simulator";
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final LibVlc libvlc;
+
+    private final SimulatedFunctions functions;
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Simulated native objects, keyed by the address of their native handle.
+     */
+    private final ConcurrentMap<Long, SimulatedObject> objects = new ConcurrentHashMap<Long, SimulatedObject>();
+
+    /**
+     * Names of native functions invoked that are not simulated.
+     */
+    private final Set<String> unsimulatedFunctions = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    private final ConcurrentMap<Method, Method> methodCache = new ConcurrentHashMap<Method, Method>();
+
+    private final AtomicLong eventCount = new AtomicLong();
+
+    private final AtomicLong frameCount = new AtomicLong();
+
+    private final AtomicLong audioBlockCount = new AtomicLong();
+
+    private final AtomicLong callbackFailures = new AtomicLong();
+
+    private volatile long openDelay = 50;
+
+    private volatile int bufferingSteps = 5;
+
+    private volatile long timeChangedInterval = 250;
+
+    private volatile long mediaDuration = 60000;
+
+    private volatile double errorsPerMinute;
+
+    private volatile int videoFrameRate = 25;
+
+    private volatile int videoWidth = 320;
+
+    private volatile int videoHeight = 240;
+
+    private volatile boolean fillFrames = true;
+
+    private volatile long audioBlockDuration = 20;
+
+    private volatile int callbackMediaReadSize = 32768;
+
+    private volatile long snapshotDelay = 40;
+
+    /**
+     * Create a simulator, with a scheduler thread for each available processor.
+     */
+    public LibVlcSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a simulator.
+     *
+     * @param threads number of threads used to run all simulated players
+     */
+    public LibVlcSimulator(int threads) {
+        this.functions = new SimulatedFunctions(this);
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "libvlc-simulator-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.libvlc = (LibVlc) Proxy.newProxyInstance(LibVlc.class.getClassLoader(), new Class<?>[] {LibVlc.class}, new Handler());
+    }
+
+    /**
+     * Get the simulated native library.
+     *
+     * @return native library
+     */
+    public LibVlc libvlc() {
+        return libvlc;
+    }
+
+    /**
+     * Set the delay between a media player being asked to play and it starting to buffer.
+     *
+     * @param openDelay delay, in milliseconds
+     * @return this simulator
+     */
+    public LibVlcSimulator openDelay(long openDelay) {
+        this.openDelay = openDelay;
+        return this;
+    }
+
+    /**
+     * Set the number of buffering events emitted before a media player starts playing.
+     *
+     * @param bufferingSteps number of buffering events
+     * @return this simulator
+     */
+    public LibVlcSimulator bufferingSteps(int bufferingSteps) {
+        this.bufferingSteps = bufferingSteps;
+        return this;
+    }
+
+    /**
+     * Set the interval between time changed (and position changed) events while playing.
+     *
+     * @param timeChangedInterval interval, in milliseconds
+     * @return this simulator
+     */
+    public LibVlcSimulator timeChangedInterval(long timeChangedInterval) {
+        this.timeChangedInterval = timeChangedInterval;
+        return this;
+    }
+
+    /**
+     * Set the duration of all simulated media.
+     *
+     * @param mediaDuration duration, in milliseconds
+     * @return this simulator
+     */
+    public LibVlcSimulator mediaDuration(long mediaDuration) {
+        this.mediaDuration = mediaDuration;
+        return this;
+    }
+
+    /**
+     * Set the average rate at which a playing media player encounters an error, to simulate unreliable streams.
+     *
+     * @param errorsPerMinute average number of errors per minute of play-back, zero for none
+     * @return this simulator
+     */
+    public LibVlcSimulator errorsPerMinute(double errorsPerMinute) {
+        this.errorsPerMinute = errorsPerMinute;
+        return this;
+    }
+
+    /**
+     * Set the video frame rate for players using video callbacks.
+     *
+     * @param videoFrameRate frames per second, zero for no video
+     * @return this simulator
+     */
+    public LibVlcSimulator videoFrameRate(int videoFrameRate) {
+        this.videoFrameRate = videoFrameRate;
+        return this;
+    }
+
+    /**
+     * Set the source video size offered to the video format callback.
+     *
+     * @param videoWidth width
+     * @param videoHeight height
+     * @return this simulator
+     */
+    public LibVlcSimulator videoSize(int videoWidth, int videoHeight) {
+        this.videoWidth = videoWidth;
+        this.videoHeight = videoHeight;
+        return this;
+    }
+
+    /**
+     * Set whether or not every synthetic video frame is written to the video buffer.
+     *
+     * @param fillFrames <code>true</code> to write every frame; <code>false</code> to only invoke the callbacks
+     * @return this simulator
+     */
+    public LibVlcSimulator fillFrames(boolean fillFrames) {
+        this.fillFrames = fillFrames;
+        return this;
+    }
+
+    /**
+     * Set the duration of each block of samples delivered to the audio play callback.
+     *
+     * @param audioBlockDuration duration, in milliseconds
+     * @return this simulator
+     */
+    public LibVlcSimulator audioBlockDuration(long audioBlockDuration) {
+        this.audioBlockDuration = audioBlockDuration;
+        return this;
+    }
+
+    /**
+     * Set the number of bytes requested by each read of callback media.
+     *
+     * @param callbackMediaReadSize read size, in bytes
+     * @return this simulator
+     */
+    public LibVlcSimulator callbackMediaReadSize(int callbackMediaReadSize) {
+        this.callbackMediaReadSize = callbackMediaReadSize;
+        return this;
+    }
+
+    /**
+     * Set the delay between a snapshot being requested and the snapshot file being written.
+     *
+     * @param snapshotDelay delay, in milliseconds
+     * @return this simulator
+     */
+    public LibVlcSimulator snapshotDelay(long snapshotDelay) {
+        this.snapshotDelay = snapshotDelay;
+        return this;
+    }
+
+    long openDelay() {
+        return openDelay;
+    }
+
+    int bufferingSteps() {
+        return bufferingSteps;
+    }
+
+    long timeChangedInterval() {
+        return timeChangedInterval;
+    }
+
+    long mediaDuration() {
+        return mediaDuration;
+    }
+
+    double errorsPerMinute() {
+        return errorsPerMinute;
+    }
+
+    int videoFrameRate() {
+        return videoFrameRate;
+    }
+
+    int videoWidth() {
+        return videoWidth;
+    }
+
+    int videoHeight() {
+        return videoHeight;
+    }
+
+    boolean fillFrames() {
+        return fillFrames;
+    }
+
+    long audioBlockDuration() {
+        return audioBlockDuration;
+    }
+
+    int callbackMediaReadSize() {
+        return callbackMediaReadSize;
+    }
+
+    long snapshotDelay() {
+        return snapshotDelay;
+    }
+
+    ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Get the number of native events emitted.
+     *
+     * @return event count
+     */
+    public long eventCount() {
+        return eventCount.get();
+    }
+
+    /**
+     * Get the number of video frames rendered via the video callbacks.
+     *
+     * @return frame count
+     */
+    public long frameCount() {
+        return frameCount.get();
+    }
+
+    /**
+     * Get the number of audio sample blocks delivered via the audio callbacks.
+     *
+     * @return audio block count
+     */
+    public long audioBlockCount() {
+        return audioBlockCount.get();
+    }
+
+    /**
+     * Get the number of callbacks that threw an exception, the native library would ignore these.
+     *
+     * @return callback failure count
+     */
+    public long callbackFailures() {
+        return callbackFailures.get();
+    }
+
+    /**
+     * Get the number of simulated native objects that have not been released.
+     *
+     * @return object count
+     */
+    public int liveObjectCount() {
+        return objects.size();
+    }
+
+    /**
+     * Get the names of the native functions that were invoked but are not simulated.
+     *
+     * @return function names
+     */
+    public Set<String> unsimulatedFunctions() {
+        return Collections.unmodifiableSet(unsimulatedFunctions);
+    }
+
+    /**
+     * Stop the simulation, all simulated players stop immediately and no further callbacks are invoked.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void eventEmitted() {
+        eventCount.incrementAndGet();
+    }
+
+    void frameRendered() {
+        frameCount.incrementAndGet();
+    }
+
+    void audioBlockPlayed() {
+        audioBlockCount.incrementAndGet();
+    }
+
+    void callbackFailed(Throwable t) {
+        callbackFailures.incrementAndGet();
+    }
+
+    void register(SimulatedObject object) {
+        objects.put(Pointer.nativeValue(object.handle()), object);
+    }
+
+    void unregister(SimulatedObject object) {
+        objects.remove(Pointer.nativeValue(object.handle()));
+    }
+
+    /**
+     * Find the simulated object for a native handle.
+     *
+     * @param handle native handle
+     * @param type expected type of simulated object
+     * @param <T> type of simulated object
+     * @return simulated object, or <code>null</code> if there is no such object
+     */
+    <T extends SimulatedObject> T find(PointerType handle, Class<T> type) {
+        if (handle == null || handle.getPointer() == null) {
+            return null;
+        }
+        return find(handle.getPointer(), type);
+    }
+
+    <T extends SimulatedObject> T find(Pointer handle, Class<T> type) {
+        if (handle == null) {
+            return null;
+        }
+        SimulatedObject object = objects.get(Pointer.nativeValue(handle));
+        return type.isInstance(object) ? type.cast(object) : null;
+    }
+
+    /**
+     * Invocation handler that dispatches each native function to the method of the same name and signature in
+     * {@link SimulatedFunctions}, if there is one.
+     */
+    private final class Handler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            Method target = methodCache.get(method);
+            if (target == null) {
+                try {
+                    target = SimulatedFunctions.class.getDeclaredMethod(method.getName(), method.getParameterTypes());
+                    target.setAccessible(true);
+                }
+                catch (NoSuchMethodException e) {
+                    target = method;
+                }
+                methodCache.putIfAbsent(method, target);
+            }
+            if (target == method) {
+                unsimulatedFunctions.add(method.getName());
+                return defaultValue(method.getReturnType());
+            }
+            try {
+                return target.invoke(functions, args);
+            }
+            catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+            if ("equals".equals(method.getName())) {
+                return proxy == args[0];
+            } else if ("hashCode".equals(method.getName())) {
+                return System.identityHashCode(proxy);
+            } else {
+                return "Proxy interface to simulated native library <libvlc-simulator@" + System.identityHashCode(proxy) + ">";
+            }
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return Boolean.FALSE;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0.0f;
+        } else if (type == double.class) {
+            return 0.0d;
+        } else if (type == char.class) {
+            return (char) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Allocate native memory containing a NUL-terminated string.
+     *
+     * @param value string value
+     * @return native memory
+     */
+    static Memory nativeString(String value) {
+        byte[] bytes = value.getBytes();
+        Memory memory = new Memory(bytes.length + 1);
+        memory.write(0, bytes, 0, bytes.length);
+        memory.setByte(bytes.length, (byte) 0);
+        return memory;
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import uk.co.caprica.vlcj.binding.internal.libvlc_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simulated native event manager.
+ * <p>
+ * As with the native library, the event manager lock is held while callbacks are invoked - so a callback that attaches
+ * or detaches an event on its own thread would dead-lock, just as it would with LibVLC. Each event is built in reusable
+ * native memory that is valid only for the duration of the callbacks.
+ */
+final class SimulatedEventManager extends SimulatedObject {
+
+    private final Object lock = new Object();
+
+    private final List<Attachment> attachments = new ArrayList<Attachment>();
+
+    private final Memory event = new Memory(libvlc_event_t.SIZE);
+
+    SimulatedEventManager(LibVlcSimulator simulator) {
+        super(simulator);
+    }
+
+    int attach(int type, libvlc_callback_t callback, Pointer userData) {
+        synchronized (lock) {
+            attachments.add(new Attachment(type, callback, userData));
+            return 0;
+        }
+    }
+
+    void detach(int type, libvlc_callback_t callback, Pointer userData) {
+        synchronized (lock) {
+            for (int i = 0; i < attachments.size(); i++) {
+                Attachment attachment = attachments.get(i);
+                if (attachment.type == type && attachment.callback == callback) {
+                    attachments.remove(i);
+                    return;
+                }
+            }
+        }
+    }
+
+    void emit(int type) {
+        synchronized (lock) {
+            prepare(type);
+            dispatch(type);
+        }
+    }
+
+    void emitInt(int type, int value) {
+        synchronized (lock) {
+            prepare(type);
+            event.setInt(libvlc_event_t.U_OFFSET, value);
+            dispatch(type);
+        }
+    }
+
+    void emitInts(int type, int value1, int value2) {
+        synchronized (lock) {
+            prepare(type);
+            event.setInt(libvlc_event_t.U_OFFSET, value1);
+            event.setInt(libvlc_event_t.U_OFFSET + 4, value2);
+            dispatch(type);
+        }
+    }
+
+    void emitLong(int type, long value) {
+        synchronized (lock) {
+            prepare(type);
+            event.setLong(libvlc_event_t.U_OFFSET, value);
+            dispatch(type);
+        }
+    }
+
+    void emitFloat(int type, float value) {
+        synchronized (lock) {
+            prepare(type);
+            event.setFloat(libvlc_event_t.U_OFFSET, value);
+            dispatch(type);
+        }
+    }
+
+    void emitPointer(int type, Pointer value) {
+        synchronized (lock) {
+            prepare(type);
+            event.setPointer(libvlc_event_t.U_OFFSET, value);
+            dispatch(type);
+        }
+    }
+
+    void emitPointerInt(int type, Pointer value1, int value2) {
+        synchronized (lock) {
+            prepare(type);
+            event.setPointer(libvlc_event_t.U_OFFSET, value1);
+            event.setInt(libvlc_event_t.U_OFFSET + Native.POINTER_SIZE, value2);
+            dispatch(type);
+        }
+    }
+
+    private void prepare(int type) {
+        event.clear();
+        event.setInt(libvlc_event_t.TYPE_OFFSET, type);
+    }
+
+    private void dispatch(int type) {
+        for (int i = 0; i < attachments.size(); i++) {
+            Attachment attachment = attachments.get(i);
+            if (attachment.type == type) {
+                simulator.eventEmitted();
+                try {
+                    attachment.callback.callback(event, attachment.userData);
+                }
+                catch (Throwable t) {
+                    simulator.callbackFailed(t);
+                }
+            }
+        }
+    }
+
+    private static final class Attachment {
+
+        private final int type;
+
+        private final libvlc_callback_t callback;
+
+        private final Pointer userData;
+
+        private Attachment(int type, libvlc_callback_t callback, Pointer userData) {
+            this.type = type;
+            this.callback = callback;
+            this.userData = userData;
+        }
+    }
+
+}
@@ -0,0 +1,590 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_drain_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_flush_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_pause_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_play_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_resume_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_display_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_manager_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_lock_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_close_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_list_player_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_list_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_open_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_player_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_read_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_seek_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_unlock_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_video_cleanup_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_video_format_cb;
+
+/**
+ * Implementations of the simulated native functions.
+ * <p>
+ * Each method here has exactly the same name and signature as the corresponding method in
+ * {@link uk.co.caprica.vlcj.binding.LibVlc}, and is found by reflection - there is deliberately no compile-time link so
+ * that only the simulated functions need to be written here.
+ */
+@SuppressWarnings("unused")
+final class SimulatedFunctions {
+
+    private final LibVlcSimulator simulator;
+
+    SimulatedFunctions(LibVlcSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    // === Core =========================================================================================================
+
+    libvlc_instance_t libvlc_new(int argc, String[] argv) {
+        return new SimulatedObject(simulator) {}.as(libvlc_instance_t.class);
+    }
+
+    void libvlc_release(libvlc_instance_t p_instance) {
+        SimulatedObject instance = simulator.find(p_instance, SimulatedObject.class);
+        if (instance != null) {
+            instance.release();
+        }
+    }
+
+    String libvlc_get_version() {
+        return LibVlcSimulator.VERSION;
+    }
+
+    String libvlc_get_compiler() {
+        return "java";
+    }
+
+    String libvlc_get_changeset() {
+        return LibVlcSimulator.VERSION;
+    }
+
+    void libvlc_free(Pointer ptr) {
+        // Native strings are allocated as Java-managed memory, so there is nothing to free
+    }
+
+    int libvlc_event_attach(libvlc_event_manager_t p_event_manager, int i_event_type, libvlc_callback_t f_callback, Pointer user_data) {
+        SimulatedEventManager events = simulator.find(p_event_manager, SimulatedEventManager.class);
+        return events != null ? events.attach(i_event_type, f_callback, user_data) : -1;
+    }
+
+    void libvlc_event_detach(libvlc_event_manager_t p_event_manager, int i_event_type, libvlc_callback_t f_callback, Pointer p_user_data) {
+        SimulatedEventManager events = simulator.find(p_event_manager, SimulatedEventManager.class);
+        if (events != null) {
+            events.detach(i_event_type, f_callback, p_user_data);
+        }
+    }
+
+    // === Media ========================================================================================================
+
+    libvlc_media_t libvlc_media_new_location(libvlc_instance_t p_instance, String psz_mrl) {
+        return new SimulatedMedia(simulator, psz_mrl).as(libvlc_media_t.class);
+    }
+
+    libvlc_media_t libvlc_media_new_path(libvlc_instance_t p_instance, String path) {
+        return new SimulatedMedia(simulator, "file://" + path).as(libvlc_media_t.class);
+    }
+
+    libvlc_media_t libvlc_media_new_as_node(libvlc_instance_t p_instance, String psz_name) {
+        return new SimulatedMedia(simulator, psz_name).as(libvlc_media_t.class);
+    }
+
+    libvlc_media_t libvlc_media_new_callbacks(libvlc_instance_t instance, libvlc_media_open_cb open_cb, libvlc_media_read_cb read_cb, libvlc_media_seek_cb seek_cb, libvlc_media_close_cb close_cb, Pointer opaque) {
+        return new SimulatedMedia(simulator, "imem://", open_cb, read_cb, close_cb, opaque).as(libvlc_media_t.class);
+    }
+
+    libvlc_media_t libvlc_media_duplicate(libvlc_media_t p_md) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        return media != null ? new SimulatedMedia(simulator, media.mrl()).as(libvlc_media_t.class) : null;
+    }
+
+    void libvlc_media_add_option(libvlc_media_t p_md, String ppsz_options) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        if (media != null) {
+            media.option(ppsz_options);
+        }
+    }
+
+    void libvlc_media_add_option_flag(libvlc_media_t p_md, String ppsz_options, int i_flags) {
+        libvlc_media_add_option(p_md, ppsz_options);
+    }
+
+    void libvlc_media_retain(libvlc_media_t p_md) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        if (media != null) {
+            media.retain();
+        }
+    }
+
+    void libvlc_media_release(libvlc_media_t p_md) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        if (media != null) {
+            media.release();
+        }
+    }
+
+    Pointer libvlc_media_get_mrl(libvlc_media_t p_md) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        return media != null ? LibVlcSimulator.nativeString(media.mrl()) : null;
+    }
+
+    libvlc_event_manager_t libvlc_media_event_manager(libvlc_media_t p_md) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        return media != null ? media.events().as(libvlc_event_manager_t.class) : null;
+    }
+
+    int libvlc_media_parse_with_options(libvlc_media_t p_md, int parse_flag, int timeout) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        return media != null ? media.parse() : -1;
+    }
+
+    int libvlc_media_get_parsed_status(libvlc_media_t p_md) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        return media != null ? media.parsedStatus() : 0;
+    }
+
+    long libvlc_media_get_duration(libvlc_media_t p_md) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        return media != null ? media.duration() : -1;
+    }
+
+    int libvlc_media_get_state(libvlc_media_t p_meta_desc) {
+        SimulatedMedia media = simulator.find(p_meta_desc, SimulatedMedia.class);
+        return media != null ? media.state() : 0;
+    }
+
+    void libvlc_media_set_user_data(libvlc_media_t p_md, Pointer p_new_user_data) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        if (media != null) {
+            media.userData(p_new_user_data);
+        }
+    }
+
+    Pointer libvlc_media_get_user_data(libvlc_media_t p_md) {
+        SimulatedMedia media = simulator.find(p_md, SimulatedMedia.class);
+        return media != null ? media.userData() : null;
+    }
+
+    // === Media player =================================================================================================
+
+    libvlc_media_player_t libvlc_media_player_new(libvlc_instance_t p_libvlc_instance) {
+        return new SimulatedPlayer(simulator).as(libvlc_media_player_t.class);
+    }
+
+    void libvlc_media_player_release(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null) {
+            player.release();
+        }
+    }
+
+    void libvlc_media_player_set_media(libvlc_media_player_t p_mi, libvlc_media_t p_md) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null) {
+            player.media(simulator.find(p_md, SimulatedMedia.class));
+        }
+    }
+
+    libvlc_media_t libvlc_media_player_get_media(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        SimulatedMedia media = player != null ? player.media() : null;
+        if (media != null) {
+            media.retain();
+            return media.as(libvlc_media_t.class);
+        } else {
+            return null;
+        }
+    }
+
+    libvlc_event_manager_t libvlc_media_player_event_manager(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? player.events().as(libvlc_event_manager_t.class) : null;
+    }
+
+    int libvlc_media_player_is_playing(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null && player.isPlaying() ? 1 : 0;
+    }
+
+    int libvlc_media_player_play(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? player.play() : -1;
+    }
+
+    void libvlc_media_player_set_pause(libvlc_media_player_t mp, int do_pause) {
+        SimulatedPlayer player = player(mp);
+        if (player != null) {
+            player.pause(do_pause != 0);
+        }
+    }
+
+    void libvlc_media_player_pause(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null) {
+            player.togglePause();
+        }
+    }
+
+    void libvlc_media_player_stop(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null) {
+            player.stop();
+        }
+    }
+
+    int libvlc_media_player_get_state(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? player.state() : 0;
+    }
+
+    long libvlc_media_player_get_length(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? player.length() : -1;
+    }
+
+    long libvlc_media_player_get_time(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? player.time() : -1;
+    }
+
+    void libvlc_media_player_set_time(libvlc_media_player_t p_mi, long i_time) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null) {
+            player.time(i_time);
+        }
+    }
+
+    float libvlc_media_player_get_position(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? player.position() : -1.0f;
+    }
+
+    void libvlc_media_player_set_position(libvlc_media_player_t p_mi, float f_pos) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null) {
+            player.position(f_pos);
+        }
+    }
+
+    float libvlc_media_player_get_rate(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? player.rate() : 0.0f;
+    }
+
+    int libvlc_media_player_set_rate(libvlc_media_player_t p_mi, float rate) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null) {
+            player.rate(rate);
+            return 0;
+        } else {
+            return -1;
+        }
+    }
+
+    int libvlc_media_player_has_vout(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null && player.hasVideo() ? 1 : 0;
+    }
+
+    int libvlc_media_player_is_seekable(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null && player.media() != null ? 1 : 0;
+    }
+
+    int libvlc_media_player_can_pause(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null && player.media() != null ? 1 : 0;
+    }
+
+    int libvlc_video_get_size(libvlc_media_player_t p_mi, int num, IntByReference px, IntByReference py) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null && num == 0 && player.videoSize(px, py) ? 0 : -1;
+    }
+
+    int libvlc_video_take_snapshot(libvlc_media_player_t p_mi, int num, String psz_filepath, int i_width, int i_height) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null && num == 0 && player.snapshot(psz_filepath, i_width, i_height) ? 0 : -1;
+    }
+
+    int libvlc_audio_get_mute(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? (player.mute() ? 1 : 0) : -1;
+    }
+
+    void libvlc_audio_set_mute(libvlc_media_player_t p_mi, int status) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null) {
+            player.mute(status != 0);
+        }
+    }
+
+    int libvlc_audio_get_volume(libvlc_media_player_t p_mi) {
+        SimulatedPlayer player = player(p_mi);
+        return player != null ? player.volume() : -1;
+    }
+
+    int libvlc_audio_set_volume(libvlc_media_player_t p_mi, int i_volume) {
+        SimulatedPlayer player = player(p_mi);
+        if (player != null && i_volume >= 0 && i_volume <= 200) {
+            player.volume(i_volume);
+            return 0;
+        } else {
+            return -1;
+        }
+    }
+
+    void libvlc_video_set_callbacks(libvlc_media_player_t mp, libvlc_lock_callback_t lock, libvlc_unlock_callback_t unlock, libvlc_display_callback_t display, Pointer opaque) {
+        SimulatedPlayer player = player(mp);
+        if (player != null) {
+            player.videoCallbacks(lock, unlock, display, opaque);
+        }
+    }
+
+    void libvlc_video_set_format_callbacks(libvlc_media_player_t mp, libvlc_video_format_cb setup, libvlc_video_cleanup_cb cleanup) {
+        SimulatedPlayer player = player(mp);
+        if (player != null) {
+            player.videoFormatCallbacks(setup, cleanup);
+        }
+    }
+
+    void libvlc_video_set_format(libvlc_media_player_t mp, String chroma, int width, int height, int pitch) {
+        SimulatedPlayer player = player(mp);
+        if (player != null) {
+            player.videoFormat(width, height, pitch);
+        }
+    }
+
+    void libvlc_audio_set_callbacks(libvlc_media_player_t mp, libvlc_audio_play_cb play, libvlc_audio_pause_cb pause, libvlc_audio_resume_cb resume, libvlc_audio_flush_cb flush, libvlc_audio_drain_cb drain, Pointer opaque) {
+        SimulatedPlayer player = player(mp);
+        if (player != null) {
+            player.audioCallbacks(play, pause, resume, opaque);
+        }
+    }
+
+    void libvlc_audio_set_format(libvlc_media_player_t mp, String format, int rate, int channels) {
+        SimulatedPlayer player = player(mp);
+        if (player != null) {
+            player.audioFormat(rate, channels);
+        }
+    }
+
+    // === Media list ===================================================================================================
+
+    libvlc_media_list_t libvlc_media_list_new(libvlc_instance_t p_instance) {
+        return new SimulatedMediaList(simulator).as(libvlc_media_list_t.class);
+    }
+
+    void libvlc_media_list_release(libvlc_media_list_t p_ml) {
+        SimulatedMediaList list = list(p_ml);
+        if (list != null) {
+            list.release();
+        }
+    }
+
+    void libvlc_media_list_retain(libvlc_media_list_t p_ml) {
+        SimulatedMediaList list = list(p_ml);
+        if (list != null) {
+            list.retain();
+        }
+    }
+
+    int libvlc_media_list_add_media(libvlc_media_list_t p_ml, libvlc_media_t p_md) {
+        SimulatedMediaList list = list(p_ml);
+        return list != null ? list.add(simulator.find(p_md, SimulatedMedia.class)) : -1;
+    }
+
+    int libvlc_media_list_insert_media(libvlc_media_list_t p_ml, libvlc_media_t p_md, int i_pos) {
+        SimulatedMediaList list = list(p_ml);
+        return list != null ? list.insert(simulator.find(p_md, SimulatedMedia.class), i_pos) : -1;
+    }
+
+    int libvlc_media_list_remove_index(libvlc_media_list_t p_ml, int i_pos) {
+        SimulatedMediaList list = list(p_ml);
+        return list != null ? list.remove(i_pos) : -1;
+    }
+
+    int libvlc_media_list_count(libvlc_media_list_t p_ml) {
+        SimulatedMediaList list = list(p_ml);
+        return list != null ? list.count() : -1;
+    }
+
+    libvlc_media_t libvlc_media_list_item_at_index(libvlc_media_list_t p_ml, int i_pos) {
+        SimulatedMediaList list = list(p_ml);
+        SimulatedMedia media = list != null ? list.item(i_pos) : null;
+        if (media != null) {
+            media.retain();
+            return media.as(libvlc_media_t.class);
+        } else {
+            return null;
+        }
+    }
+
+    int libvlc_media_list_index_of_item(libvlc_media_list_t p_ml, libvlc_media_t p_md) {
+        SimulatedMediaList list = list(p_ml);
+        return list != null ? list.indexOf(simulator.find(p_md, SimulatedMedia.class)) : -1;
+    }
+
+    int libvlc_media_list_is_readonly(libvlc_media_list_t p_ml) {
+        return 0;
+    }
+
+    void libvlc_media_list_lock(libvlc_media_list_t p_ml) {
+        SimulatedMediaList list = list(p_ml);
+        if (list != null) {
+            list.lock();
+        }
+    }
+
+    void libvlc_media_list_unlock(libvlc_media_list_t p_ml) {
+        SimulatedMediaList list = list(p_ml);
+        if (list != null) {
+            list.unlock();
+        }
+    }
+
+    libvlc_event_manager_t libvlc_media_list_event_manager(libvlc_media_list_t p_ml) {
+        SimulatedMediaList list = list(p_ml);
+        return list != null ? list.events().as(libvlc_event_manager_t.class) : null;
+    }
+
+    // === Media list player ============================================================================================
+
+    libvlc_media_list_player_t libvlc_media_list_player_new(libvlc_instance_t p_instance) {
+        return new SimulatedMediaListPlayer(simulator).as(libvlc_media_list_player_t.class);
+    }
+
+    void libvlc_media_list_player_release(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        if (listPlayer != null) {
+            listPlayer.release();
+        }
+    }
+
+    libvlc_event_manager_t libvlc_media_list_player_event_manager(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        return listPlayer != null ? listPlayer.events().as(libvlc_event_manager_t.class) : null;
+    }
+
+    void libvlc_media_list_player_set_media_player(libvlc_media_list_player_t p_mlp, libvlc_media_player_t p_mi) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        if (listPlayer != null) {
+            listPlayer.player(player(p_mi));
+        }
+    }
+
+    libvlc_media_player_t libvlc_media_list_player_get_media_player(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        SimulatedPlayer player = listPlayer != null ? listPlayer.player() : null;
+        return player != null ? player.as(libvlc_media_player_t.class) : null;
+    }
+
+    void libvlc_media_list_player_set_media_list(libvlc_media_list_player_t p_mlp, libvlc_media_list_t p_mlist) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        if (listPlayer != null) {
+            listPlayer.list(list(p_mlist));
+        }
+    }
+
+    void libvlc_media_list_player_play(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        if (listPlayer != null) {
+            listPlayer.play();
+        }
+    }
+
+    void libvlc_media_list_player_pause(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        if (listPlayer != null) {
+            listPlayer.togglePause();
+        }
+    }
+
+    void libvlc_media_list_player_set_pause(libvlc_media_list_player_t p_mlp, int do_pause) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        if (listPlayer != null) {
+            listPlayer.pause(do_pause != 0);
+        }
+    }
+
+    int libvlc_media_list_player_is_playing(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        return listPlayer != null && listPlayer.isPlaying() ? 1 : 0;
+    }
+
+    int libvlc_media_list_player_get_state(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        return listPlayer != null ? listPlayer.state() : 0;
+    }
+
+    int libvlc_media_list_player_play_item_at_index(libvlc_media_list_player_t p_mlp, int i_index) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        return listPlayer != null ? listPlayer.playItem(i_index) : -1;
+    }
+
+    int libvlc_media_list_player_play_item(libvlc_media_list_player_t p_mlp, libvlc_media_t p_md) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        return listPlayer != null ? listPlayer.playItem(simulator.find(p_md, SimulatedMedia.class)) : -1;
+    }
+
+    void libvlc_media_list_player_stop(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        if (listPlayer != null) {
+            listPlayer.stop();
+        }
+    }
+
+    int libvlc_media_list_player_next(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        return listPlayer != null ? listPlayer.next() : -1;
+    }
+
+    int libvlc_media_list_player_previous(libvlc_media_list_player_t p_mlp) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        return listPlayer != null ? listPlayer.previous() : -1;
+    }
+
+    void libvlc_media_list_player_set_playback_mode(libvlc_media_list_player_t p_mlp, int e_mode) {
+        SimulatedMediaListPlayer listPlayer = listPlayer(p_mlp);
+        if (listPlayer != null) {
+            listPlayer.mode(e_mode);
+        }
+    }
+
+    private SimulatedPlayer player(libvlc_media_player_t handle) {
+        return simulator.find(handle, SimulatedPlayer.class);
+    }
+
+    private SimulatedMediaList list(libvlc_media_list_t handle) {
+        return simulator.find(handle, SimulatedMediaList.class);
+    }
+
+    private SimulatedMediaListPlayer listPlayer(libvlc_media_list_player_t handle) {
+        return simulator.find(handle, SimulatedMediaListPlayer.class);
+    }
+
+}
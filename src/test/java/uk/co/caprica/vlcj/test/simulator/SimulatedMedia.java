@@ -0,0 +1,200 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.LongByReference;
+import com.sun.jna.ptr.PointerByReference;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_close_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_open_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_media_read_cb;
+import uk.co.caprica.vlcj.binding.support.size_t;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Simulated native media.
+ */
+final class SimulatedMedia extends SimulatedObject {
+
+    private static final int PARSED_STATUS_DONE = 4;
+
+    private static final String START_PAUSED_OPTION = "start-paused";
+
+    private final String mrl;
+
+    private final SimulatedEventManager events;
+
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private final libvlc_media_open_cb openCallback;
+
+    private final libvlc_media_read_cb readCallback;
+
+    private final libvlc_media_close_cb closeCallback;
+
+    private final Pointer opaque;
+
+    private volatile Pointer userData;
+
+    private volatile int parsedStatus;
+
+    private volatile int state;
+
+    private volatile boolean startPaused;
+
+    /**
+     * Native buffer used to read callback media, and the opaque data returned by the open callback.
+     */
+    private Memory readBuffer;
+
+    private Pointer callbackData;
+
+    SimulatedMedia(LibVlcSimulator simulator, String mrl) {
+        this(simulator, mrl, null, null, null, null);
+    }
+
+    SimulatedMedia(LibVlcSimulator simulator, String mrl, libvlc_media_open_cb openCallback, libvlc_media_read_cb readCallback, libvlc_media_close_cb closeCallback, Pointer opaque) {
+        super(simulator);
+        this.mrl = mrl;
+        this.events = new SimulatedEventManager(simulator);
+        this.openCallback = openCallback;
+        this.readCallback = readCallback;
+        this.closeCallback = closeCallback;
+        this.opaque = opaque;
+    }
+
+    String mrl() {
+        return mrl;
+    }
+
+    SimulatedEventManager events() {
+        return events;
+    }
+
+    void retain() {
+        references.incrementAndGet();
+    }
+
+    @Override
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            events.release();
+            super.release();
+        }
+    }
+
+    void userData(Pointer userData) {
+        this.userData = userData;
+    }
+
+    Pointer userData() {
+        return userData;
+    }
+
+    /**
+     * Add a media option, only the start-paused option has any effect.
+     *
+     * @param option option, with or without the leading ':'
+     */
+    void option(String option) {
+        if (option != null && START_PAUSED_OPTION.equals(option.startsWith(":") ? option.substring(1) : option)) {
+            startPaused = true;
+        }
+    }
+
+    boolean startPaused() {
+        return startPaused;
+    }
+
+    long duration() {
+        return parsedStatus == PARSED_STATUS_DONE ? simulator.mediaDuration() : -1;
+    }
+
+    int parsedStatus() {
+        return parsedStatus;
+    }
+
+    int state() {
+        return state;
+    }
+
+    void state(int state) {
+        if (this.state != state) {
+            this.state = state;
+            events.emitInt(libvlc_event_e.libvlc_MediaStateChanged.intValue(), state);
+        }
+    }
+
+    int parse() {
+        if (parsedStatus == 0) {
+            simulator.scheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    parsedStatus = PARSED_STATUS_DONE;
+                    events.emitLong(libvlc_event_e.libvlc_MediaDurationChanged.intValue(), simulator.mediaDuration());
+                    events.emitInt(libvlc_event_e.libvlc_MediaParsedChanged.intValue(), PARSED_STATUS_DONE);
+                }
+            }, simulator.openDelay(), TimeUnit.MILLISECONDS);
+        }
+        return 0;
+    }
+
+    boolean isCallbackMedia() {
+        return openCallback != null;
+    }
+
+    /**
+     * Open callback media, as the native library does when play-back starts.
+     *
+     * @return <code>true</code> if the media was opened
+     */
+    boolean openCallbackMedia() {
+        PointerByReference datap = new PointerByReference();
+        LongByReference sizep = new LongByReference();
+        if (openCallback.open(opaque, datap, sizep) != 0) {
+            return false;
+        }
+        callbackData = datap.getValue();
+        readBuffer = new Memory(simulator.callbackMediaReadSize());
+        return true;
+    }
+
+    /**
+     * Read the next block of callback media.
+     *
+     * @return number of bytes read, zero at the end of the media, or less than zero on error
+     */
+    long readCallbackMedia() {
+        return readCallback.read(callbackData, readBuffer, new size_t(readBuffer.size())).longValue();
+    }
+
+    void closeCallbackMedia() {
+        if (readBuffer != null) {
+            closeCallback.close(callbackData);
+            readBuffer = null;
+            callbackData = null;
+        }
+    }
+
+}
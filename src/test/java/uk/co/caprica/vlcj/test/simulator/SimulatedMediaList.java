@@ -0,0 +1,161 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Simulated native media list.
+ * <p>
+ * As with the native library, callers are expected to hold the list lock when accessing the list.
+ */
+final class SimulatedMediaList extends SimulatedObject {
+
+    private final SimulatedEventManager events;
+
+    private final List<SimulatedMedia> items = new ArrayList<SimulatedMedia>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    SimulatedMediaList(LibVlcSimulator simulator) {
+        super(simulator);
+        this.events = new SimulatedEventManager(simulator);
+    }
+
+    SimulatedEventManager events() {
+        return events;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    void retain() {
+        references.incrementAndGet();
+    }
+
+    @Override
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            lock.lock();
+            try {
+                for (SimulatedMedia item : items) {
+                    item.release();
+                }
+                items.clear();
+            }
+            finally {
+                lock.unlock();
+            }
+            events.release();
+            super.release();
+        }
+    }
+
+    int count() {
+        lock.lock();
+        try {
+            return items.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    SimulatedMedia item(int index) {
+        lock.lock();
+        try {
+            return index >= 0 && index < items.size() ? items.get(index) : null;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    int indexOf(SimulatedMedia media) {
+        lock.lock();
+        try {
+            return items.indexOf(media);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    int insert(SimulatedMedia media, int index) {
+        if (media == null) {
+            return -1;
+        }
+        lock.lock();
+        try {
+            if (index < 0 || index > items.size()) {
+                return -1;
+            }
+            events.emitPointerInt(libvlc_event_e.libvlc_MediaListWillAddItem.intValue(), media.handle(), index);
+            media.retain();
+            items.add(index, media);
+            events.emitPointerInt(libvlc_event_e.libvlc_MediaListItemAdded.intValue(), media.handle(), index);
+            return 0;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    int add(SimulatedMedia media) {
+        lock.lock();
+        try {
+            return insert(media, items.size());
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    int remove(int index) {
+        lock.lock();
+        try {
+            if (index < 0 || index >= items.size()) {
+                return -1;
+            }
+            SimulatedMedia media = items.get(index);
+            events.emitPointerInt(libvlc_event_e.libvlc_MediaListWillDeleteItem.intValue(), media.handle(), index);
+            items.remove(index);
+            events.emitPointerInt(libvlc_event_e.libvlc_MediaListItemDeleted.intValue(), media.handle(), index);
+            media.release();
+            return 0;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+}
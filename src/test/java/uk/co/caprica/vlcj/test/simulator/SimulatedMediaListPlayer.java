@@ -0,0 +1,203 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+
+/**
+ * Simulated native media list player.
+ * <p>
+ * The list player drives its associated media player, advancing to the next item according to the play-back mode when
+ * the media player reaches the end of the current item or encounters an error. The played event is emitted when the
+ * end of the list is reached.
+ */
+final class SimulatedMediaListPlayer extends SimulatedObject {
+
+    private static final int MODE_DEFAULT = 0;
+    private static final int MODE_LOOP    = 1;
+    private static final int MODE_REPEAT  = 2;
+
+    private final SimulatedEventManager events;
+
+    private volatile SimulatedPlayer player;
+
+    private volatile SimulatedMediaList list;
+
+    private volatile int mode = MODE_DEFAULT;
+
+    private volatile int index = -1;
+
+    private volatile boolean active;
+
+    SimulatedMediaListPlayer(LibVlcSimulator simulator) {
+        super(simulator);
+        this.events = new SimulatedEventManager(simulator);
+    }
+
+    SimulatedEventManager events() {
+        return events;
+    }
+
+    SimulatedPlayer player() {
+        return player;
+    }
+
+    void player(SimulatedPlayer player) {
+        SimulatedPlayer oldPlayer = this.player;
+        if (oldPlayer != null) {
+            oldPlayer.owner(null);
+        }
+        this.player = player;
+        if (player != null) {
+            player.owner(this);
+        }
+    }
+
+    synchronized void list(SimulatedMediaList list) {
+        SimulatedMediaList oldList = this.list;
+        if (list != null) {
+            list.retain();
+        }
+        this.list = list;
+        this.index = -1;
+        if (oldList != null) {
+            oldList.release();
+        }
+    }
+
+    void mode(int mode) {
+        this.mode = mode;
+    }
+
+    int state() {
+        SimulatedPlayer player = this.player;
+        return player != null ? player.state() : SimulatedPlayer.STATE_NOTHING_SPECIAL;
+    }
+
+    boolean isPlaying() {
+        SimulatedPlayer player = this.player;
+        return player != null && player.isPlaying();
+    }
+
+    void play() {
+        SimulatedPlayer player = this.player;
+        if (player == null) {
+            return;
+        }
+        if (player.state() == SimulatedPlayer.STATE_PAUSED) {
+            player.pause(false);
+        } else if (!player.isPlaying()) {
+            playItem(index < 0 ? 0 : index);
+        }
+    }
+
+    void pause(boolean pause) {
+        SimulatedPlayer player = this.player;
+        if (player != null) {
+            player.pause(pause);
+        }
+    }
+
+    void togglePause() {
+        SimulatedPlayer player = this.player;
+        if (player != null) {
+            player.togglePause();
+        }
+    }
+
+    void stop() {
+        SimulatedPlayer player = this.player;
+        active = false;
+        if (player != null) {
+            player.stop();
+        }
+        events.emit(libvlc_event_e.libvlc_MediaListPlayerStopped.intValue());
+    }
+
+    int next() {
+        return playItem(nextIndex(index, 1));
+    }
+
+    int previous() {
+        return playItem(nextIndex(index, -1));
+    }
+
+    int playItem(SimulatedMedia media) {
+        SimulatedMediaList list = this.list;
+        return list != null ? playItem(list.indexOf(media)) : -1;
+    }
+
+    synchronized int playItem(int newIndex) {
+        SimulatedMediaList list = this.list;
+        SimulatedPlayer player = this.player;
+        if (list == null || player == null) {
+            return -1;
+        }
+        SimulatedMedia media = list.item(newIndex);
+        if (media == null) {
+            return -1;
+        }
+        index = newIndex;
+        active = true;
+        player.media(media);
+        events.emitPointer(libvlc_event_e.libvlc_MediaListPlayerNextItemSet.intValue(), media.handle());
+        player.play();
+        return 0;
+    }
+
+    /**
+     * Invoked by the media player when it reaches the end of an item, or encounters an error.
+     *
+     * @param finishedPlayer media player that finished
+     */
+    void playerFinished(SimulatedPlayer finishedPlayer) {
+        if (finishedPlayer != player || !active) {
+            return;
+        }
+        if (mode == MODE_REPEAT) {
+            playItem(index);
+        } else if (playItem(nextIndex(index, 1)) != 0) {
+            active = false;
+            events.emit(libvlc_event_e.libvlc_MediaListPlayerPlayed.intValue());
+        }
+    }
+
+    @Override
+    void release() {
+        player(null);
+        list(null);
+        events.release();
+        super.release();
+    }
+
+    private int nextIndex(int current, int delta) {
+        SimulatedMediaList list = this.list;
+        if (list == null) {
+            return -1;
+        }
+        int count = list.count();
+        int next = current + delta;
+        if (mode == MODE_LOOP && count > 0) {
+            next = (next + count) % count;
+        }
+        return next;
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import com.sun.jna.Memory;
+import com.sun.jna.PointerType;
+
+/**
+ * Base class for a simulated native object, identified by a native handle.
+ * <p>
+ * The handle is a small block of real native memory, so that any code that inadvertently dereferences it does not crash.
+ */
+abstract class SimulatedObject {
+
+    protected final LibVlcSimulator simulator;
+
+    private final Memory handle = new Memory(16);
+
+    protected SimulatedObject(LibVlcSimulator simulator) {
+        this.simulator = simulator;
+        this.handle.clear();
+        simulator.register(this);
+    }
+
+    final Memory handle() {
+        return handle;
+    }
+
+    /**
+     * Create a new native handle instance of a particular type for this object.
+     *
+     * @param type type of native handle
+     * @param <T> type of native handle
+     * @return native handle
+     */
+    final <T extends PointerType> T as(Class<T> type) {
+        try {
+            T result = type.newInstance();
+            result.setPointer(handle);
+            return result;
+        }
+        catch (Exception e) {
+            throw new RuntimeException("Failed to create native handle " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Release this object, after which its handle is no longer recognised.
+     */
+    void release() {
+        simulator.unregister(this);
+    }
+
+}
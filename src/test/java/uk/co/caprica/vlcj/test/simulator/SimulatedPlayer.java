@@ -0,0 +1,727 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_pause_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_play_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_audio_resume_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_display_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
+import uk.co.caprica.vlcj.binding.internal.libvlc_lock_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_unlock_callback_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_video_cleanup_cb;
+import uk.co.caprica.vlcj.binding.internal.libvlc_video_format_cb;
+import uk.co.caprica.vlcj.executor.SerialExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated native media player.
+ * <p>
+ * State transitions are run one at a time on a strand of the simulator's shared scheduler, as with the native library
+ * the functions that start, pause and stop play-back return before the corresponding transition has happened. Time,
+ * video and audio ticks run on the shared scheduler and are abandoned as soon as the player's generation changes.
+ */
+final class SimulatedPlayer extends SimulatedObject {
+
+    static final int STATE_NOTHING_SPECIAL = 0;
+    static final int STATE_OPENING         = 1;
+    static final int STATE_PLAYING         = 3;
+    static final int STATE_PAUSED          = 4;
+    static final int STATE_STOPPED         = 5;
+    static final int STATE_ENDED           = 6;
+    static final int STATE_ERROR           = 7;
+
+    private static final int MAX_PLANES = 5;
+
+    private final SimulatedEventManager events;
+
+    private final SerialExecutor strand;
+
+    private final Random random = new Random();
+
+    private final List<ScheduledFuture<?>> tickers = new ArrayList<ScheduledFuture<?>>(4);
+
+    private volatile SimulatedMedia media;
+
+    private volatile SimulatedMediaListPlayer owner;
+
+    private volatile int state = STATE_NOTHING_SPECIAL;
+
+    /**
+     * Incremented whenever play-back is (re)started or stopped, so that stale transitions and ticks can be ignored.
+     */
+    private volatile int generation;
+
+    private volatile long time;
+
+    private volatile float rate = 1.0f;
+
+    private volatile int volume = 100;
+
+    private volatile boolean mute;
+
+    private libvlc_video_format_cb videoSetup;
+
+    private libvlc_video_cleanup_cb videoCleanup;
+
+    private libvlc_lock_callback_t videoLock;
+
+    private libvlc_unlock_callback_t videoUnlock;
+
+    private libvlc_display_callback_t videoDisplay;
+
+    private Pointer videoOpaque;
+
+    private int videoWidth;
+
+    private int videoHeight;
+
+    private final int[] pitches = new int[MAX_PLANES];
+
+    private final int[] lines = new int[MAX_PLANES];
+
+    private int planeCount;
+
+    private final Memory planes = new Memory(MAX_PLANES * Native.POINTER_SIZE);
+
+    private boolean videoActive;
+
+    private libvlc_audio_play_cb audioPlay;
+
+    private libvlc_audio_pause_cb audioPause;
+
+    private libvlc_audio_resume_cb audioResume;
+
+    private Pointer audioOpaque;
+
+    private int audioRate = 44100;
+
+    private int audioChannels = 2;
+
+    private Memory audioSamples;
+
+    private int audioSampleCount;
+
+    SimulatedPlayer(LibVlcSimulator simulator) {
+        super(simulator);
+        this.events = new SimulatedEventManager(simulator);
+        this.strand = new SerialExecutor(simulator.scheduler());
+    }
+
+    SimulatedEventManager events() {
+        return events;
+    }
+
+    SimulatedMedia media() {
+        return media;
+    }
+
+    void owner(SimulatedMediaListPlayer owner) {
+        this.owner = owner;
+    }
+
+    void media(SimulatedMedia newMedia) {
+        reset();
+        SimulatedMedia oldMedia = this.media;
+        if (newMedia != null) {
+            newMedia.retain();
+        }
+        this.media = newMedia;
+        if (oldMedia != null) {
+            oldMedia.release();
+        }
+        events.emitPointer(libvlc_event_e.libvlc_MediaPlayerMediaChanged.intValue(), newMedia != null ? newMedia.handle() : null);
+    }
+
+    synchronized void videoCallbacks(libvlc_lock_callback_t lock, libvlc_unlock_callback_t unlock, libvlc_display_callback_t display, Pointer opaque) {
+        this.videoLock = lock;
+        this.videoUnlock = unlock;
+        this.videoDisplay = display;
+        this.videoOpaque = opaque;
+    }
+
+    synchronized void videoFormatCallbacks(libvlc_video_format_cb setup, libvlc_video_cleanup_cb cleanup) {
+        this.videoSetup = setup;
+        this.videoCleanup = cleanup;
+    }
+
+    synchronized void videoFormat(int width, int height, int pitch) {
+        this.videoWidth = width;
+        this.videoHeight = height;
+        this.pitches[0] = pitch;
+        this.lines[0] = height;
+        this.planeCount = 1;
+    }
+
+    synchronized void audioCallbacks(libvlc_audio_play_cb play, libvlc_audio_pause_cb pause, libvlc_audio_resume_cb resume, Pointer opaque) {
+        this.audioPlay = play;
+        this.audioPause = pause;
+        this.audioResume = resume;
+        this.audioOpaque = opaque;
+    }
+
+    synchronized void audioFormat(int rate, int channels) {
+        this.audioRate = rate;
+        this.audioChannels = channels;
+    }
+
+    int state() {
+        return state;
+    }
+
+    boolean isPlaying() {
+        return state == STATE_PLAYING;
+    }
+
+    boolean hasVideo() {
+        return videoActive;
+    }
+
+    synchronized boolean videoSize(IntByReference width, IntByReference height) {
+        if (videoActive) {
+            width.setValue(simulator.videoWidth());
+            height.setValue(simulator.videoHeight());
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Take a snapshot of the current video frame.
+     * <p>
+     * As with the native library the file is written, and the snapshot taken event emitted, some time after this method
+     * returns - and only if the player is still playing by then.
+     *
+     * @param filename name of the file to write
+     * @param width snapshot width, or zero
+     * @param height snapshot height, or zero
+     * @return <code>true</code> if the snapshot was requested; <code>false</code> if not
+     */
+    boolean snapshot(final String filename, int width, int height) {
+        if (state != STATE_PLAYING) {
+            return false;
+        }
+        final int current = generation;
+        final int snapshotWidth = width > 0 ? width : simulator.videoWidth();
+        final int snapshotHeight = height > 0 ? height : simulator.videoHeight();
+        simulator.scheduler().schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (current != generation) {
+                    return;
+                }
+                try {
+                    ImageIO.write(new BufferedImage(snapshotWidth, snapshotHeight, BufferedImage.TYPE_INT_RGB), "png", new File(filename));
+                }
+                catch (IOException e) {
+                    return;
+                }
+                Memory name = new Memory(filename.length() * 3L + 1);
+                name.setString(0, filename, "UTF-8");
+                events.emitPointer(libvlc_event_e.libvlc_MediaPlayerSnapshotTaken.intValue(), name);
+            }
+        }, simulator.snapshotDelay(), TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    long length() {
+        return media != null ? simulator.mediaDuration() : -1;
+    }
+
+    long time() {
+        return media != null ? time : -1;
+    }
+
+    float position() {
+        long length = length();
+        return length > 0 ? Math.min(1.0f, (float) time / length) : -1.0f;
+    }
+
+    void time(long newTime) {
+        if (media != null) {
+            this.time = Math.max(0, Math.min(newTime, simulator.mediaDuration()));
+            emitTime();
+        }
+    }
+
+    void position(float newPosition) {
+        time((long) (newPosition * simulator.mediaDuration()));
+    }
+
+    float rate() {
+        return rate;
+    }
+
+    void rate(float rate) {
+        this.rate = rate;
+    }
+
+    int volume() {
+        return volume;
+    }
+
+    void volume(int volume) {
+        this.volume = volume;
+        events.emitFloat(libvlc_event_e.libvlc_MediaPlayerAudioVolume.intValue(), volume / 100.0f);
+    }
+
+    boolean mute() {
+        return mute;
+    }
+
+    void mute(boolean mute) {
+        if (this.mute != mute) {
+            this.mute = mute;
+            events.emit(mute ? libvlc_event_e.libvlc_MediaPlayerMuted.intValue() : libvlc_event_e.libvlc_MediaPlayerUnmuted.intValue());
+        }
+    }
+
+    int play() {
+        if (media == null) {
+            return -1;
+        }
+        final int current = generation;
+        strand.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (current != generation) {
+                    return;
+                }
+                switch (state) {
+                    case STATE_PAUSED:
+                        resume(current);
+                        break;
+                    case STATE_OPENING:
+                    case STATE_PLAYING:
+                        break;
+                    default:
+                        open(++generation);
+                        break;
+                }
+            }
+        });
+        return 0;
+    }
+
+    void pause(final boolean pause) {
+        final int current = generation;
+        strand.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (current != generation) {
+                    return;
+                }
+                if (pause && state == STATE_PLAYING) {
+                    stopTickers();
+                    state(STATE_PAUSED, libvlc_event_e.libvlc_MediaPlayerPaused);
+                    libvlc_audio_pause_cb pauseCallback = audioPause;
+                    if (pauseCallback != null) {
+                        try {
+                            pauseCallback.pause(audioOpaque, time * 1000);
+                        }
+                        catch (Throwable t) {
+                            simulator.callbackFailed(t);
+                        }
+                    }
+                } else if (!pause && state == STATE_PAUSED) {
+                    resume(current);
+                }
+            }
+        });
+    }
+
+    void togglePause() {
+        pause(state == STATE_PLAYING);
+    }
+
+    void stop() {
+        final int current = ++generation;
+        strand.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (current != generation || state == STATE_NOTHING_SPECIAL) {
+                    return;
+                }
+                finish(STATE_STOPPED, libvlc_event_e.libvlc_MediaPlayerStopped);
+                time = 0;
+            }
+        });
+    }
+
+    /**
+     * Stop play-back without emitting a stopped event, as happens when the media is changed.
+     */
+    private void reset() {
+        final int current = ++generation;
+        strand.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (current != generation) {
+                    return;
+                }
+                finish(STATE_NOTHING_SPECIAL, null);
+                time = 0;
+            }
+        });
+    }
+
+    @Override
+    void release() {
+        generation++;
+        stopTickers();
+        // As with the native library, releasing a player closes its video output
+        stopVideo();
+        events.release();
+        SimulatedMedia media = this.media;
+        if (media != null) {
+            media.release();
+        }
+        super.release();
+    }
+
+    private void open(final int current) {
+        time = 0;
+        state(STATE_OPENING, libvlc_event_e.libvlc_MediaPlayerOpening);
+        simulator.scheduler().schedule(new Runnable() {
+            @Override
+            public void run() {
+                strand.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (current == generation) {
+                            start(current);
+                        }
+                    }
+                });
+            }
+        }, simulator.openDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    private void start(int current) {
+        int steps = simulator.bufferingSteps();
+        for (int i = 1; i <= steps; i++) {
+            events.emitFloat(libvlc_event_e.libvlc_MediaPlayerBuffering.intValue(), 100.0f * i / steps);
+        }
+        SimulatedMedia media = this.media;
+        if (media.isCallbackMedia() && !media.openCallbackMedia()) {
+            finish(STATE_ERROR, libvlc_event_e.libvlc_MediaPlayerEncounteredError);
+            return;
+        }
+        // Media opened with the start-paused option is ready to play but waits to be resumed
+        boolean paused = media.startPaused();
+        if (paused) {
+            state(STATE_PAUSED, libvlc_event_e.libvlc_MediaPlayerPaused);
+        } else {
+            state(STATE_PLAYING, libvlc_event_e.libvlc_MediaPlayerPlaying);
+        }
+        events.emitInt(libvlc_event_e.libvlc_MediaPlayerSeekableChanged.intValue(), 1);
+        events.emitInt(libvlc_event_e.libvlc_MediaPlayerPausableChanged.intValue(), 1);
+        events.emitLong(libvlc_event_e.libvlc_MediaPlayerLengthChanged.intValue(), simulator.mediaDuration());
+        if (startVideo()) {
+            events.emitInt(libvlc_event_e.libvlc_MediaPlayerVout.intValue(), 1);
+        }
+        if (!paused) {
+            startTickers(current);
+        }
+    }
+
+    private void resume(int current) {
+        state(STATE_PLAYING, libvlc_event_e.libvlc_MediaPlayerPlaying);
+        libvlc_audio_resume_cb resumeCallback = audioResume;
+        if (resumeCallback != null) {
+            try {
+                resumeCallback.resume(audioOpaque, time * 1000);
+            }
+            catch (Throwable t) {
+                simulator.callbackFailed(t);
+            }
+        }
+        startTickers(current);
+    }
+
+    private void finish(int newState, libvlc_event_e event) {
+        stopTickers();
+        stopVideo();
+        SimulatedMedia media = this.media;
+        if (media != null) {
+            media.closeCallbackMedia();
+        }
+        if (event == null) {
+            state = newState;
+        } else if (state != newState) {
+            state(newState, event);
+        }
+    }
+
+    private void state(int newState, libvlc_event_e event) {
+        state = newState;
+        events.emit(event.intValue());
+        SimulatedMedia media = this.media;
+        if (media != null) {
+            media.state(newState);
+        }
+    }
+
+    private void emitTime() {
+        long length = simulator.mediaDuration();
+        events.emitLong(libvlc_event_e.libvlc_MediaPlayerTimeChanged.intValue(), time);
+        events.emitFloat(libvlc_event_e.libvlc_MediaPlayerPositionChanged.intValue(), length > 0 ? (float) time / length : 0.0f);
+    }
+
+    private synchronized void startTickers(final int current) {
+        long interval = simulator.timeChangedInterval();
+        tickers.add(simulator.scheduler().scheduleAtFixedRate(new TimeTicker(current, interval), interval, interval, TimeUnit.MILLISECONDS));
+        if (videoActive && simulator.videoFrameRate() > 0) {
+            long frameInterval = TimeUnit.SECONDS.toMicros(1) / simulator.videoFrameRate();
+            tickers.add(simulator.scheduler().scheduleAtFixedRate(new VideoTicker(current), frameInterval, frameInterval, TimeUnit.MICROSECONDS));
+        }
+        if (audioPlay != null || media.isCallbackMedia()) {
+            long blockInterval = simulator.audioBlockDuration();
+            if (audioPlay != null && audioSamples == null) {
+                prepareAudio();
+            }
+            tickers.add(simulator.scheduler().scheduleAtFixedRate(new AudioTicker(current), blockInterval, blockInterval, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private synchronized void stopTickers() {
+        for (ScheduledFuture<?> ticker : tickers) {
+            ticker.cancel(false);
+        }
+        tickers.clear();
+    }
+
+    /**
+     * Negotiate the video format, as the native library does when the video output is created.
+     *
+     * @return <code>true</code> if there is video output
+     */
+    private synchronized boolean startVideo() {
+        if (videoLock == null) {
+            return false;
+        }
+        if (videoSetup != null) {
+            Memory chroma = new Memory(4);
+            chroma.write(0, "RV32".getBytes(), 0, 4);
+            Memory pitchMemory = new Memory(MAX_PLANES * 4);
+            Memory lineMemory = new Memory(MAX_PLANES * 4);
+            pitchMemory.clear();
+            lineMemory.clear();
+            PointerByReference opaque = new PointerByReference(videoOpaque);
+            PointerByReference chromaReference = new PointerByReference();
+            chromaReference.setPointer(chroma);
+            PointerByReference pitchReference = new PointerByReference();
+            pitchReference.setPointer(pitchMemory);
+            PointerByReference lineReference = new PointerByReference();
+            lineReference.setPointer(lineMemory);
+            IntByReference width = new IntByReference(simulator.videoWidth());
+            IntByReference height = new IntByReference(simulator.videoHeight());
+            try {
+                planeCount = Math.min(MAX_PLANES, videoSetup.format(opaque, chromaReference, width, height, pitchReference, lineReference));
+            }
+            catch (Throwable t) {
+                simulator.callbackFailed(t);
+                planeCount = 0;
+            }
+            if (planeCount <= 0) {
+                return false;
+            }
+            videoWidth = width.getValue();
+            videoHeight = height.getValue();
+            pitchMemory.read(0, pitches, 0, MAX_PLANES);
+            lineMemory.read(0, lines, 0, MAX_PLANES);
+        }
+        videoActive = true;
+        return true;
+    }
+
+    private synchronized void stopVideo() {
+        if (videoActive) {
+            videoActive = false;
+            if (videoCleanup != null) {
+                try {
+                    videoCleanup.cleanup(videoOpaque);
+                }
+                catch (Throwable t) {
+                    simulator.callbackFailed(t);
+                }
+            }
+        }
+    }
+
+    private void prepareAudio() {
+        audioSampleCount = (int) (audioRate * simulator.audioBlockDuration() / 1000);
+        audioSamples = new Memory((long) audioSampleCount * audioChannels * 2);
+        for (int i = 0; i < audioSampleCount; i++) {
+            short sample = (short) (Math.sin(2 * Math.PI * 440 * i / audioRate) * Short.MAX_VALUE / 4);
+            for (int channel = 0; channel < audioChannels; channel++) {
+                audioSamples.setShort(((long) i * audioChannels + channel) * 2, sample);
+            }
+        }
+    }
+
+    private void ended(final int current, final boolean error) {
+        strand.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (current != generation) {
+                    return;
+                }
+                generation++;
+                if (error) {
+                    finish(STATE_ERROR, libvlc_event_e.libvlc_MediaPlayerEncounteredError);
+                } else {
+                    finish(STATE_ENDED, libvlc_event_e.libvlc_MediaPlayerEndReached);
+                }
+                SimulatedMediaListPlayer owner = SimulatedPlayer.this.owner;
+                if (owner != null) {
+                    owner.playerFinished(SimulatedPlayer.this);
+                }
+            }
+        });
+    }
+
+    private final class TimeTicker implements Runnable {
+
+        private final int current;
+
+        private final long interval;
+
+        private final double errorProbability;
+
+        private TimeTicker(int current, long interval) {
+            this.current = current;
+            this.interval = interval;
+            this.errorProbability = simulator.errorsPerMinute() * interval / 60000.0;
+        }
+
+        @Override
+        public void run() {
+            if (current != generation) {
+                return;
+            }
+            time = Math.min(time + (long) (interval * rate), simulator.mediaDuration());
+            emitTime();
+            if (time >= simulator.mediaDuration()) {
+                ended(current, false);
+            } else if (errorProbability > 0 && random.nextDouble() < errorProbability) {
+                ended(current, true);
+            }
+        }
+    }
+
+    private final class VideoTicker implements Runnable {
+
+        private final int current;
+
+        private byte frame;
+
+        private VideoTicker(int current) {
+            this.current = current;
+        }
+
+        @Override
+        public void run() {
+            synchronized (SimulatedPlayer.this) {
+                if (current != generation || !videoActive) {
+                    return;
+                }
+                planes.clear();
+                try {
+                    Pointer picture = videoLock.lock(videoOpaque, planes);
+                    if (simulator.fillFrames()) {
+                        frame++;
+                        for (int i = 0; i < planeCount; i++) {
+                            Pointer plane = planes.getPointer((long) i * Native.POINTER_SIZE);
+                            if (plane != null) {
+                                plane.setMemory(0, (long) pitches[i] * lines[i], frame);
+                            }
+                        }
+                    }
+                    videoUnlock.unlock(videoOpaque, picture, planes);
+                    if (videoDisplay != null) {
+                        videoDisplay.display(videoOpaque, picture);
+                    }
+                    simulator.frameRendered();
+                }
+                catch (Throwable t) {
+                    simulator.callbackFailed(t);
+                }
+            }
+        }
+    }
+
+    private final class AudioTicker implements Runnable {
+
+        private final int current;
+
+        private AudioTicker(int current) {
+            this.current = current;
+        }
+
+        @Override
+        public void run() {
+            if (current != generation) {
+                return;
+            }
+            SimulatedMedia media = SimulatedPlayer.this.media;
+            if (media != null && media.isCallbackMedia()) {
+                long read;
+                try {
+                    read = media.readCallbackMedia();
+                }
+                catch (Throwable t) {
+                    simulator.callbackFailed(t);
+                    read = -1;
+                }
+                if (read <= 0) {
+                    ended(current, read < 0);
+                    return;
+                }
+            }
+            libvlc_audio_play_cb playCallback = audioPlay;
+            if (playCallback != null) {
+                try {
+                    playCallback.play(audioOpaque, audioSamples, audioSampleCount, time * 1000);
+                    simulator.audioBlockPlayed();
+                }
+                catch (Throwable t) {
+                    simulator.callbackFailed(t);
+                }
+            }
+        }
+    }
+
+}
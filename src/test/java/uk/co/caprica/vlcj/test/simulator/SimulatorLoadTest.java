@@ -0,0 +1,173 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.simulator;
+
+import com.sun.jna.Pointer;
+import uk.co.caprica.vlcj.factory.FactoryMode;
+import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+import uk.co.caprica.vlcj.player.TimeListener;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.direct.BufferFormat;
+import uk.co.caprica.vlcj.player.direct.BufferFormatCallback;
+import uk.co.caprica.vlcj.player.direct.DirectMediaPlayer;
+import uk.co.caprica.vlcj.player.direct.RenderCallback;
+import uk.co.caprica.vlcj.player.direct.format.RV32BufferFormat;
+import uk.co.caprica.vlcj.player.directaudio.AudioCallbackAdapter;
+import uk.co.caprica.vlcj.player.directaudio.DirectAudioPlayer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test that runs many media players concurrently against the simulated native library.
+ * <p>
+ * A third of the players render video via the direct rendering callbacks, a third render audio via the direct audio
+ * callbacks, and the remainder only generate events. Every player repeats its media, and may encounter errors if an
+ * error rate is specified.
+ * <p>
+ * Specify the number of players, the duration in seconds and the number of errors per minute on the command-line, e.g.
+ * <pre>
+ *   SimulatorLoadTest 1000 30 2
+ * </pre>
+ */
+public class SimulatorLoadTest {
+
+    private static final AtomicLong timeChanges = new AtomicLong();
+
+    private static final AtomicLong renderedFrames = new AtomicLong();
+
+    private static final AtomicLong audioSamples = new AtomicLong();
+
+    private static final AtomicInteger errors = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        int playerCount = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        double errorsPerMinute = args.length > 2 ? Double.parseDouble(args[2]) : 0;
+
+        LibVlcSimulator simulator = new LibVlcSimulator()
+            .mediaDuration(5000)
+            .timeChangedInterval(100)
+            .errorsPerMinute(errorsPerMinute);
+
+        MediaPlayerFactory factory = new MediaPlayerFactory(simulator.libvlc(), FactoryMode.HEADLESS);
+
+        List<MediaPlayer> mediaPlayers = new ArrayList<MediaPlayer>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            MediaPlayer mediaPlayer;
+            switch (i % 3) {
+                case 0:
+                    mediaPlayer = factory.mediaPlayers().newDirectMediaPlayer(new TestBufferFormatCallback(), new TestRenderCallback(), false);
+                    break;
+                case 1:
+                    mediaPlayer = factory.mediaPlayers().newDirectAudioPlayer("S16N", 44100, 2, new TestAudioCallback());
+                    break;
+                default:
+                    mediaPlayer = factory.mediaPlayers().newMediaPlayer();
+                    break;
+            }
+            mediaPlayer.events().addMediaPlayerEventListener(new TestEventListener());
+            mediaPlayer.events().addTimeListener(new TestTimeListener());
+            mediaPlayer.media().setRepeat(true);
+            mediaPlayers.add(mediaPlayer);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < playerCount; i++) {
+            mediaPlayers.get(i).media().playMedia("simulated://media/" + i);
+        }
+
+        for (int second = 1; second <= seconds; second++) {
+            Thread.sleep(1000);
+            int playing = 0;
+            for (MediaPlayer mediaPlayer : mediaPlayers) {
+                if (mediaPlayer.status().isPlaying()) {
+                    playing++;
+                }
+            }
+            System.out.printf("%3ds: playing %,6d | native events %,12d | time changes %,10d | frames %,10d | audio samples %,14d | errors %,6d%n", second, playing, simulator.eventCount(), timeChanges.get(), renderedFrames.get(), audioSamples.get(), errors.get());
+        }
+        double elapsed = (System.nanoTime() - start) / 1000000000.0;
+
+        for (MediaPlayer mediaPlayer : mediaPlayers) {
+            mediaPlayer.controls().stop();
+        }
+        for (MediaPlayer mediaPlayer : mediaPlayers) {
+            mediaPlayer.release();
+        }
+        factory.release();
+
+        System.out.println();
+        System.out.printf("players            : %,d%n", playerCount);
+        System.out.printf("native events/s    : %,.0f%n", simulator.eventCount() / elapsed);
+        System.out.printf("frames/s           : %,.0f%n", renderedFrames.get() / elapsed);
+        System.out.printf("audio blocks/s     : %,.0f%n", simulator.audioBlockCount() / elapsed);
+        System.out.printf("callback failures  : %,d%n", simulator.callbackFailures());
+        System.out.printf("unreleased objects : %,d%n", simulator.liveObjectCount());
+        System.out.printf("not simulated      : %s%n", simulator.unsimulatedFunctions());
+
+        simulator.shutdown();
+    }
+
+    private static final class TestEventListener extends MediaPlayerEventAdapter {
+
+        @Override
+        public void error(MediaPlayer mediaPlayer) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private static final class TestTimeListener implements TimeListener {
+
+        @Override
+        public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+            timeChanges.incrementAndGet();
+        }
+    }
+
+    private static final class TestBufferFormatCallback implements BufferFormatCallback {
+
+        @Override
+        public BufferFormat getBufferFormat(int sourceWidth, int sourceHeight) {
+            return new RV32BufferFormat(sourceWidth, sourceHeight);
+        }
+    }
+
+    private static final class TestRenderCallback implements RenderCallback {
+
+        @Override
+        public void display(DirectMediaPlayer mediaPlayer, ByteBuffer[] nativeBuffers, BufferFormat bufferFormat) {
+            renderedFrames.incrementAndGet();
+        }
+    }
+
+    private static final class TestAudioCallback extends AudioCallbackAdapter {
+
+        @Override
+        public void play(DirectAudioPlayer mediaPlayer, Pointer samples, int sampleCount, long pts) {
+            audioSamples.addAndGet(sampleCount);
+        }
+    }
+
+}
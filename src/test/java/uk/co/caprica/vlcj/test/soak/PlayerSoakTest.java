@@ -0,0 +1,466 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2019 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.test.soak;
+
+import uk.co.caprica.vlcj.factory.FactoryMode;
+import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.medialist.MediaList;
+import uk.co.caprica.vlcj.metrics.LatencyHistogram;
+import uk.co.caprica.vlcj.player.MediaPlayerEventAdapter;
+import uk.co.caprica.vlcj.player.TimeListener;
+import uk.co.caprica.vlcj.player.base.MediaPlayer;
+import uk.co.caprica.vlcj.player.direct.BufferFormat;
+import uk.co.caprica.vlcj.player.direct.BufferFormatCallback;
+import uk.co.caprica.vlcj.player.direct.DirectMediaPlayer;
+import uk.co.caprica.vlcj.player.direct.RenderCallback;
+import uk.co.caprica.vlcj.player.direct.allocator.BufferAllocator;
+import uk.co.caprica.vlcj.player.direct.allocator.DirectByteBufferAllocator;
+import uk.co.caprica.vlcj.player.direct.format.RV32BufferFormat;
+import uk.co.caprica.vlcj.player.list.MediaListPlayer;
+import uk.co.caprica.vlcj.test.simulator.LibVlcSimulator;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Soak test that measures the resources used by each media player as the number of media players grows.
+ * <p>
+ * For each type of media player ("media" for {@link uk.co.caprica.vlcj.player.base.DefaultMediaPlayer}, "direct" for
+ * {@link uk.co.caprica.vlcj.player.direct.DefaultDirectMediaPlayer} and "list" for
+ * {@link uk.co.caprica.vlcj.player.list.DefaultMediaListPlayer}, the latter including its media player and media list)
+ * the number of players is grown step by step. Every player has event listeners and is playing, and while each step
+ * runs a workload of random play/stop churn and seeks is applied.
+ * <p>
+ * After each step, the growth in threads, heap, video buffer memory (as accounted by the buffer allocator shared by the
+ * direct players) and native handles relative to the empty baseline is reported per player, together with the CPU used
+ * by each group of threads and latency percentiles for starting, stopping and seeking. After the last step all players are released and any resources not returned are reported, so
+ * that per-player regressions and leaks can be compared between releases. Heap figures for the smaller steps are
+ * dominated by measurement noise, the per-player figures for the larger steps are the ones to compare.
+ * <p>
+ * By default the simulated native library is used. To run against LibVLC specify "native" and a media MRL that plays
+ * for at least the duration of a step - generated test patterns are a good choice, e.g. a short looping clip.
+ * <p>
+ * Usage:
+ * <pre>
+ *   PlayerSoakTest [simulated|native] [types] [steps] [secondsPerStep] [opsPerSecond] [mrl]
+ *   PlayerSoakTest simulated media,direct,list 1,10,100,1000,5000 10 500
+ *   PlayerSoakTest native direct 1,4,16 30 20 /home/videos/test-pattern.mp4
+ * </pre>
+ */
+public class PlayerSoakTest {
+
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final boolean simulated;
+
+    private final int[] steps;
+
+    private final int secondsPerStep;
+
+    private final int opsPerSecond;
+
+    private final String mrl;
+
+    private final Random random = new Random();
+
+    private final LatencyHistogram startLatency = new LatencyHistogram();
+
+    private final LatencyHistogram stopLatency = new LatencyHistogram();
+
+    private final LatencyHistogram seekLatency = new LatencyHistogram();
+
+    /**
+     * Time at which each pending play request was made, keyed by media player.
+     */
+    private final ConcurrentMap<MediaPlayer, Long> playRequests = new ConcurrentHashMap<MediaPlayer, Long>();
+
+    private final AtomicLong listenerEvents = new AtomicLong();
+
+    private LibVlcSimulator simulator;
+
+    private MediaPlayerFactory factory;
+
+    /**
+     * Allocator shared by all direct players, so their video buffer memory can be accounted for.
+     */
+    private BufferAllocator bufferAllocator;
+
+    public static void main(String[] args) throws Exception {
+        boolean simulated = args.length < 1 || !"native".equals(args[0]);
+        String[] types = (args.length > 1 ? args[1] : "media,direct,list").split(",");
+        String[] stepValues = (args.length > 2 ? args[2] : "1,10,100,1000,5000").split(",");
+        int secondsPerStep = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int opsPerSecond = args.length > 4 ? Integer.parseInt(args[4]) : 500;
+        String mrl = args.length > 5 ? args[5] : "simulated://test-pattern";
+
+        if (!simulated && args.length < 6) {
+            System.err.println("Specify the MRL of media to play with the native library");
+            System.exit(1);
+        }
+
+        int[] steps = new int[stepValues.length];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = Integer.parseInt(stepValues[i]);
+        }
+
+        PlayerSoakTest test = new PlayerSoakTest(simulated, steps, secondsPerStep, opsPerSecond, mrl);
+        for (String type : types) {
+            test.run(type);
+        }
+    }
+
+    private PlayerSoakTest(boolean simulated, int[] steps, int secondsPerStep, int opsPerSecond, String mrl) {
+        this.simulated = simulated;
+        this.steps = steps;
+        this.secondsPerStep = secondsPerStep;
+        this.opsPerSecond = opsPerSecond;
+        this.mrl = mrl;
+    }
+
+    private void run(String type) throws Exception {
+        bufferAllocator = new DirectByteBufferAllocator();
+        if (simulated) {
+            // Frames are not filled, the cost of writing pixels is not the subject of this test
+            simulator = new LibVlcSimulator()
+                .mediaDuration(60000)
+                .timeChangedInterval(250)
+                .videoSize(160, 120)
+                .fillFrames(false);
+            factory = new MediaPlayerFactory(simulator.libvlc(), FactoryMode.HEADLESS);
+        } else {
+            factory = new MediaPlayerFactory("--quiet", "--no-audio");
+        }
+
+        System.out.println();
+        System.out.printf("=== %s players (%s) ===%n", type, simulated ? "simulated" : "native");
+        System.out.printf("%7s %8s %10s %10s %8s %9s %9s %9s %9s %9s %9s %9s %s%n",
+            "players", "threads", "heap/pl", "direct/pl", "handles", "start50", "start99", "stop50", "stop99", "seek50", "seek99", "events/s", "cpu ms/s by thread group");
+
+        Snapshot baseline = Snapshot.take(simulator, bufferAllocator);
+        List<Player> players = new ArrayList<Player>();
+        for (int step : steps) {
+            while (players.size() < step) {
+                Player player = newPlayer(type, players.size());
+                players.add(player);
+                play(player);
+            }
+            resetLatencies();
+            long eventsBefore = listenerEvents.get();
+            Map<String, Long> cpuBefore = threadCpu();
+            long start = System.nanoTime();
+            runWorkload(players);
+            long elapsed = System.nanoTime() - start;
+            Map<String, Long> cpu = threadCpu();
+            Snapshot snapshot = Snapshot.take(simulator, bufferAllocator);
+            int n = players.size();
+            System.out.printf("%,7d %8d %10s %10s %8d %9s %9s %9s %9s %9s %9s %,9.0f %s%n",
+                n,
+                snapshot.threads - baseline.threads,
+                bytes((snapshot.heap - baseline.heap) / n),
+                bytes((snapshot.direct - baseline.direct) / n),
+                snapshot.handles - baseline.handles,
+                millis(startLatency.percentileNanos(50)),
+                millis(startLatency.percentileNanos(99)),
+                millis(stopLatency.percentileNanos(50)),
+                millis(stopLatency.percentileNanos(99)),
+                millis(seekLatency.percentileNanos(50)),
+                millis(seekLatency.percentileNanos(99)),
+                (listenerEvents.get() - eventsBefore) * 1000000000.0 / elapsed,
+                cpuReport(cpuBefore, cpu, elapsed));
+        }
+
+        for (Player player : players) {
+            player.release();
+        }
+        players.clear();
+        playRequests.clear();
+        factory.release();
+        if (simulator != null) {
+            simulator.shutdown();
+        }
+        // Give any deferred clean-up a chance to run
+        Thread.sleep(1000);
+
+        Snapshot end = Snapshot.take(null, bufferAllocator);
+        System.out.printf("released: threads %+d, heap %s, direct %s, handles %+d%n",
+            end.threads - baseline.threads,
+            bytes(end.heap - baseline.heap),
+            bytes(end.direct - baseline.direct),
+            (simulator != null ? simulator.liveObjectCount() : end.handles) - baseline.handles);
+    }
+
+    private Player newPlayer(String type, int index) {
+        if ("direct".equals(type)) {
+            return new Player(factory.mediaPlayers().newDirectMediaPlayer(new SoakBufferFormatCallback(), new SoakRenderCallback(), false, bufferAllocator), null);
+        } else if ("list".equals(type)) {
+            MediaPlayer mediaPlayer = factory.mediaPlayers().newMediaPlayer();
+            MediaListPlayer listPlayer = factory.mediaPlayers().newMediaListPlayer();
+            MediaList mediaList = factory.media().newMediaList();
+            for (int i = 0; i < 3; i++) {
+                Media media = factory.media().newMedia(mrl);
+                mediaList.items().addMedia(media);
+                media.release();
+            }
+            listPlayer.mediaPlayer().setMediaPlayer(mediaPlayer);
+            listPlayer.list().setMediaList(mediaList);
+            return new Player(mediaPlayer, listPlayer, mediaList);
+        } else if ("media".equals(type)) {
+            return new Player(factory.mediaPlayers().newMediaPlayer(), null);
+        } else {
+            throw new IllegalArgumentException("Unknown player type " + type);
+        }
+    }
+
+    private void play(Player player) {
+        playRequests.put(player.mediaPlayer, System.nanoTime());
+        if (player.listPlayer != null) {
+            player.listPlayer.controls().play();
+        } else {
+            player.mediaPlayer.media().playMedia(mrl);
+        }
+    }
+
+    private void stop(Player player) {
+        long start = System.nanoTime();
+        if (player.listPlayer != null) {
+            player.listPlayer.controls().stop();
+        } else {
+            player.mediaPlayer.controls().stop();
+        }
+        stopLatency.record(System.nanoTime() - start);
+    }
+
+    private void seek(Player player) {
+        long start = System.nanoTime();
+        player.mediaPlayer.controls().setTime(random.nextInt(30000));
+        seekLatency.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Apply random play/stop churn and seeks for the duration of a step.
+     *
+     * @param players players
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void runWorkload(List<Player> players) throws InterruptedException {
+        long end = System.currentTimeMillis() + secondsPerStep * 1000L;
+        // No more than one operation per player per second, otherwise players may never get to start playing
+        long interval = 1000000000L / Math.max(1, Math.min(opsPerSecond, players.size()));
+        long next = System.nanoTime();
+        while (System.currentTimeMillis() < end) {
+            Player player = players.get(random.nextInt(players.size()));
+            if (random.nextInt(10) < 4) {
+                stop(player);
+                play(player);
+            } else {
+                seek(player);
+            }
+            next += interval;
+            long sleep = next - System.nanoTime();
+            if (sleep > 0) {
+                Thread.sleep(sleep / 1000000, (int) (sleep % 1000000));
+            }
+        }
+    }
+
+    private void resetLatencies() {
+        startLatency.reset();
+        stopLatency.reset();
+        seekLatency.reset();
+    }
+
+    private static Map<String, Long> threadCpu() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        long[] ids = threads.getAllThreadIds();
+        ThreadInfo[] infos = threads.getThreadInfo(ids);
+        for (int i = 0; i < ids.length; i++) {
+            long cpu = threads.getThreadCpuTime(ids[i]);
+            if (infos[i] != null && cpu > 0) {
+                String group = infos[i].getThreadName().replaceAll("[-_ #]*\\d+$", "");
+                Long total = result.get(group);
+                result.put(group, total != null ? total + cpu : cpu);
+            }
+        }
+        return result;
+    }
+
+    private static String cpuReport(Map<String, Long> before, Map<String, Long> after, long elapsed) {
+        StringBuilder sb = new StringBuilder(100);
+        for (Map.Entry<String, Long> entry : after.entrySet()) {
+            Long previous = before.get(entry.getKey());
+            long used = entry.getValue() - (previous != null ? previous : 0);
+            double perSecond = used / 1000000.0 / (elapsed / 1000000000.0);
+            if (perSecond >= 1.0) {
+                sb.append(entry.getKey()).append('=').append(String.format("%.0f", perSecond)).append(' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String bytes(long value) {
+        if (Math.abs(value) < 10 * 1024) {
+            return value + "B";
+        } else if (Math.abs(value) < 10 * 1024 * 1024) {
+            return value / 1024 + "KB";
+        } else {
+            return value / (1024 * 1024) + "MB";
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2fms", nanos / 1000000.0);
+    }
+
+    /**
+     * A media player under test, with its listeners.
+     */
+    private final class Player {
+
+        private final MediaPlayer mediaPlayer;
+
+        private final MediaListPlayer listPlayer;
+
+        private final MediaList mediaList;
+
+        private Player(MediaPlayer mediaPlayer, MediaListPlayer listPlayer) {
+            this(mediaPlayer, listPlayer, null);
+        }
+
+        private Player(MediaPlayer mediaPlayer, MediaListPlayer listPlayer, MediaList mediaList) {
+            this.mediaPlayer = mediaPlayer;
+            this.listPlayer = listPlayer;
+            this.mediaList = mediaList;
+            mediaPlayer.events().addMediaPlayerEventListener(new SoakEventListener());
+            mediaPlayer.events().addTimeListener(new SoakTimeListener());
+        }
+
+        private void release() {
+            if (listPlayer != null) {
+                listPlayer.controls().stop();
+                listPlayer.release();
+                mediaList.release();
+            } else {
+                mediaPlayer.controls().stop();
+            }
+            mediaPlayer.release();
+        }
+    }
+
+    private final class SoakEventListener extends MediaPlayerEventAdapter {
+
+        @Override
+        public void playing(MediaPlayer mediaPlayer) {
+            listenerEvents.incrementAndGet();
+            Long requested = playRequests.remove(mediaPlayer);
+            if (requested != null) {
+                startLatency.record(System.nanoTime() - requested);
+            }
+        }
+
+        @Override
+        public void positionChanged(MediaPlayer mediaPlayer, float newPosition) {
+            listenerEvents.incrementAndGet();
+        }
+
+        @Override
+        public void stopped(MediaPlayer mediaPlayer) {
+            listenerEvents.incrementAndGet();
+        }
+    }
+
+    private final class SoakTimeListener implements TimeListener {
+
+        @Override
+        public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+            listenerEvents.incrementAndGet();
+        }
+    }
+
+    private static final class SoakBufferFormatCallback implements BufferFormatCallback {
+
+        @Override
+        public BufferFormat getBufferFormat(int sourceWidth, int sourceHeight) {
+            return new RV32BufferFormat(sourceWidth, sourceHeight);
+        }
+    }
+
+    private static final class SoakRenderCallback implements RenderCallback {
+
+        @Override
+        public void display(DirectMediaPlayer mediaPlayer, ByteBuffer[] nativeBuffers, BufferFormat bufferFormat) {
+        }
+    }
+
+    /**
+     * Resource usage at a point in time.
+     */
+    private static final class Snapshot {
+
+        private final int threads;
+
+        private final long heap;
+
+        private final long direct;
+
+        private final int handles;
+
+        private Snapshot(int threads, long heap, long direct, int handles) {
+            this.threads = threads;
+            this.heap = heap;
+            this.direct = direct;
+            this.handles = handles;
+        }
+
+        private static Snapshot take(LibVlcSimulator simulator, BufferAllocator bufferAllocator) {
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return new Snapshot(
+                PlayerSoakTest.threads.getThreadCount(),
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                bufferAllocator.allocatedBytes(),
+                simulator != null ? simulator.liveObjectCount() : fileDescriptors()
+            );
+        }
+
+        /**
+         * Get the number of open file descriptors, as a proxy for native handles, where available.
+         *
+         * @return number of open file descriptors, or zero if not available
+         */
+        private static int fileDescriptors() {
+            String[] fds = new File("/proc/self/fd").list();
+            return fds != null ? fds.length : 0;
+        }
+    }
+
+}